@@ -43,6 +43,7 @@ import static dev.langchain4j.model.anthropic.internal.sanitizer.MessageSanitize
 public class AnthropicChatModel implements ChatLanguageModel {
 
     private final AnthropicClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Double temperature;
     private final Double topP;
@@ -84,8 +85,9 @@ public class AnthropicChatModel implements ChatLanguageModel {
                                Integer maxRetries,
                                Boolean logRequests,
                                Boolean logResponses) {
+        this.baseUrl = getOrDefault(baseUrl, "https://api.anthropic.com/v1/");
         this.client = AnthropicClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://api.anthropic.com/v1/"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .version(getOrDefault(version, "2023-06-01"))
                 .beta(getOrDefault(beta, "tools-2024-04-04"))
@@ -148,7 +150,7 @@ public class AnthropicChatModel implements ChatLanguageModel {
                 .tools(toAnthropicTools(toolSpecifications))
                 .build();
 
-        AnthropicCreateMessageResponse response = withRetry(() -> client.createMessage(request), maxRetries);
+        AnthropicCreateMessageResponse response = withRetry(() -> client.createMessage(request), maxRetries, baseUrl);
 
         return Response.from(
                 toAiMessage(response.content),
@@ -1,18 +1,16 @@
 package dev.langchain4j.model.anthropic.internal.client;
 
-public class AnthropicHttpException extends RuntimeException {
+import dev.langchain4j.internal.HttpException;
 
-    private final Integer statusCode;
+import java.time.Duration;
+
+public class AnthropicHttpException extends HttpException {
 
     public AnthropicHttpException(Integer statusCode, String message) {
-        super(message);
-        this.statusCode = statusCode;
+        super(statusCode, message);
     }
 
-    /**
-     * HTTP response status code. Can be {@code null}.
-     */
-    public Integer statusCode() {
-        return statusCode;
+    public AnthropicHttpException(Integer statusCode, String message, Duration retryAfter) {
+        super(statusCode, message, retryAfter);
     }
-}
\ No newline at end of file
+}
@@ -19,12 +19,14 @@ import retrofit2.Retrofit;
 import retrofit2.converter.jackson.JacksonConverterFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.model.anthropic.internal.mapper.AnthropicMapper.toFinishReason;
@@ -99,12 +101,13 @@ public class DefaultAnthropicClient extends AnthropicClient {
             if (retrofitResponse.isSuccessful()) {
                 return retrofitResponse.body();
             } else {
+                Duration retryAfter = parseRetryAfter(retrofitResponse.headers().get("Retry-After"));
                 try (ResponseBody errorBody = retrofitResponse.errorBody()) {
                     if (errorBody != null) {
-                        throw new AnthropicHttpException(retrofitResponse.code(), errorBody.string());
+                        throw new AnthropicHttpException(retrofitResponse.code(), errorBody.string(), retryAfter);
                     }
                 }
-                throw new AnthropicHttpException(retrofitResponse.code(), null);
+                throw new AnthropicHttpException(retrofitResponse.code(), null, retryAfter);
             }
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -3,6 +3,7 @@ package dev.langchain4j.store.embedding.azure.search;
 import com.azure.core.credential.AzureKeyCredential;
 import com.azure.core.credential.TokenCredential;
 import com.azure.core.util.Context;
+import com.azure.search.documents.SearchAsyncClient;
 import com.azure.search.documents.SearchClient;
 import com.azure.search.documents.SearchClientBuilder;
 import com.azure.search.documents.SearchDocument;
@@ -21,8 +22,10 @@ import dev.langchain4j.store.embedding.*;
 import dev.langchain4j.store.embedding.filter.Filter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Utils.*;
@@ -30,7 +33,12 @@ import static dev.langchain4j.internal.ValidationUtils.*;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 
-public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingStore<TextSegment> {
+/**
+ * Base class of the Azure AI Search embedding store and content retriever.
+ * <br>
+ * The {@link AsyncEmbeddingStore} methods use the {@link SearchAsyncClient} of the Azure AI Search SDK.
+ */
+public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     private static final Logger log = LoggerFactory.getLogger(AbstractAzureAiSearchEmbeddingStore.class);
 
@@ -60,6 +68,8 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
 
     protected SearchClient searchClient;
 
+    protected SearchAsyncClient searchAsyncClient;
+
     private String indexName;
 
     protected AzureAiSearchFilterMapper filterMapper;
@@ -83,6 +93,7 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
             this.indexName = getOrDefault(indexName, DEFAULT_INDEX_NAME);
         }
         this.createOrUpdateIndex = createOrUpdateIndex;
+        SearchClientBuilder searchClientBuilder;
         if (keyCredential != null) {
             if (createOrUpdateIndex) {
                 searchIndexClient = new SearchIndexClientBuilder()
@@ -91,11 +102,10 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
                         .buildClient();
             }
 
-            searchClient = new SearchClientBuilder()
+            searchClientBuilder = new SearchClientBuilder()
                     .endpoint(endpoint)
                     .credential(keyCredential)
-                    .indexName(this.indexName)
-                    .buildClient();
+                    .indexName(this.indexName);
         } else {
             if (createOrUpdateIndex) {
                 searchIndexClient = new SearchIndexClientBuilder()
@@ -104,12 +114,13 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
                         .buildClient();
             }
 
-            searchClient = new SearchClientBuilder()
+            searchClientBuilder = new SearchClientBuilder()
                     .endpoint(endpoint)
                     .credential(tokenCredential)
-                    .indexName(this.indexName)
-                    .buildClient();
+                    .indexName(this.indexName);
         }
+        searchClient = searchClientBuilder.buildClient();
+        searchAsyncClient = searchClientBuilder.buildAsyncClient();
 
         if (createOrUpdateIndex) {
             if (index == null) {
@@ -272,6 +283,10 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
 
     @Override
     public void removeAll(Collection<String> ids){
+        searchClient.deleteDocuments(toDocumentsToDelete(ids));
+    }
+
+    private static List<Map<String, String>> toDocumentsToDelete(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
         List<Map<String, String>> documentsToDelete = new ArrayList<>();
         for (String id : ids) {
@@ -280,7 +295,7 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
             documents.put(DEFAULT_FIELD_ID, id);
             documentsToDelete.add(documents);
         }
-        searchClient.deleteDocuments(documentsToDelete);
+        return documentsToDelete;
     }
 
     @Override
@@ -308,23 +323,93 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
 
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+        SearchPagedIterable searchResults = searchClient.search(null, toVectorSearchOptions(request), Context.NONE);
+
+        return  new EmbeddingSearchResult<>(getEmbeddingMatches(searchResults, request.minScore(), AzureAiSearchQueryType.VECTOR));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+        return addAllAsync(embeddings, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<TextSegment> embedded) {
+        try {
+            List<String> ids = embeddings.stream().map(ignored -> randomUUID()).collect(toList());
+            if (isNullOrEmpty(embeddings)) {
+                log.info("Empty embeddings - no ops");
+                return CompletableFuture.completedFuture(ids);
+            }
+            List<Document> documents = toDocuments(ids, embeddings, embedded);
+            return searchAsyncClient.uploadDocuments(documents)
+                    .toFuture()
+                    .thenApply(indexDocumentsResult -> {
+                        checkIndexingResults(indexDocumentsResult.getResults());
+                        return ids;
+                    });
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest request) {
+        try {
+            return searchAsyncClient.search(null, toVectorSearchOptions(request))
+                    .collectList()
+                    .toFuture()
+                    .thenApply(searchResults -> new EmbeddingSearchResult<>(
+                            getEmbeddingMatches(searchResults, request.minScore(), AzureAiSearchQueryType.VECTOR)));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
 
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        try {
+            return deleteDocumentsAsync(ids).toFuture();
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        try {
+            ensureNotNull(filter, "filter");
+            SearchOptions searchOptions = new SearchOptions().setSelect(DEFAULT_FIELD_ID).setFilter(filterMapper.map(filter));
+            return searchAsyncClient.search("*", searchOptions)
+                    .map(searchResult -> (String) searchResult.getDocument(SearchDocument.class).get(DEFAULT_FIELD_ID))
+                    .collectList()
+                    .flatMap(ids -> ids.isEmpty() ? Mono.<Void>empty() : deleteDocumentsAsync(ids))
+                    .toFuture();
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    private Mono<Void> deleteDocumentsAsync(Collection<String> ids) {
+        return searchAsyncClient.deleteDocuments(toDocumentsToDelete(ids)).then();
+    }
+
+    private SearchOptions toVectorSearchOptions(EmbeddingSearchRequest request) {
         List<Float> vector = request.queryEmbedding().vectorAsList();
         VectorizedQuery vectorizedQuery = new VectorizedQuery(vector)
                 .setFields(DEFAULT_FIELD_CONTENT_VECTOR)
                 .setKNearestNeighborsCount(request.maxResults());
 
-        SearchPagedIterable searchResults =
-                searchClient.search(null,
-                        new SearchOptions()
-                                .setFilter(filterMapper.map(request.filter()))
-                                .setVectorSearchOptions(new VectorSearchOptions().setQueries(vectorizedQuery)),
-                        Context.NONE);
-
-        return  new EmbeddingSearchResult<>(getEmbeddingMatches(searchResults, request.minScore(), AzureAiSearchQueryType.VECTOR));
+        return new SearchOptions()
+                .setFilter(filterMapper.map(request.filter()))
+                .setVectorSearchOptions(new VectorSearchOptions().setQueries(vectorizedQuery));
     }
 
     protected List<EmbeddingMatch<TextSegment>> getEmbeddingMatches(SearchPagedIterable searchResults, Double minScore, AzureAiSearchQueryType azureAiSearchQueryType) {
+        return getEmbeddingMatches((Iterable<SearchResult>) searchResults, minScore, azureAiSearchQueryType);
+    }
+
+    private List<EmbeddingMatch<TextSegment>> getEmbeddingMatches(Iterable<SearchResult> searchResults, Double minScore, AzureAiSearchQueryType azureAiSearchQueryType) {
         List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
         for (SearchResult searchResult : searchResults) {
             Double score = fromAzureScoreToRelevanceScore(searchResult, azureAiSearchQueryType);
@@ -380,6 +465,11 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
             log.info("Empty embeddings - no ops");
             return;
         }
+        List<IndexingResult> indexingResults = searchClient.uploadDocuments(toDocuments(ids, embeddings, embedded)).getResults();
+        checkIndexingResults(indexingResults);
+    }
+
+    private static List<Document> toDocuments(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
         ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
         ensureTrue(embedded == null || embeddings.size() == embedded.size(),
                 "embeddings size is not equal to embedded size");
@@ -404,7 +494,10 @@ public abstract class AbstractAzureAiSearchEmbeddingStore implements EmbeddingSt
             }
             documents.add(document);
         }
-        List<IndexingResult> indexingResults = searchClient.uploadDocuments(documents).getResults();
+        return documents;
+    }
+
+    private static void checkIndexingResults(List<IndexingResult> indexingResults) {
         for (IndexingResult indexingResult : indexingResults) {
             if (!indexingResult.isSucceeded()) {
                 throw new AzureAiSearchRuntimeException("Failed to add embedding: " + indexingResult.getErrorMessage());
@@ -0,0 +1,84 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates deterministic synthetic datasets for the benchmarks.
+ */
+class BenchmarkData {
+
+    private static final String[] WORDS = {
+            "the", "of", "and", "to", "in", "model", "language", "vector", "store", "embedding", "document",
+            "segment", "query", "retrieval", "memory", "message", "tool", "response", "token", "prompt",
+            "template", "chat", "assistant", "user", "system", "search", "filter", "metadata", "score",
+            "similarity", "distance", "index", "cluster", "latency", "throughput", "production", "request"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static Random random() {
+        return new Random(42);
+    }
+
+    /**
+     * @return a random vector of unit length, as produced by most embedding models
+     */
+    static Embedding normalizedEmbedding(Random random, int dimension) {
+        float[] vector = new float[dimension];
+        double norm = 0;
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < dimension; i++) {
+            vector[i] *= scale;
+        }
+        return Embedding.from(vector);
+    }
+
+    static List<Embedding> normalizedEmbeddings(Random random, int count, int dimension) {
+        List<Embedding> embeddings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            embeddings.add(normalizedEmbedding(random, dimension));
+        }
+        return embeddings;
+    }
+
+    static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if (i == 0) {
+                word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
+            } else {
+                sentence.append(' ');
+            }
+            sentence.append(word);
+        }
+        return sentence.append('.').toString();
+    }
+
+    /**
+     * @return a text of roughly the specified length, made of paragraphs of sentences of varying lengths
+     */
+    static String document(Random random, int length) {
+        StringBuilder document = new StringBuilder(length + 200);
+        while (document.length() < length) {
+            int sentences = 3 + random.nextInt(8);
+            for (int i = 0; i < sentences; i++) {
+                if (i > 0) {
+                    document.append(' ');
+                }
+                document.append(sentence(random, 5 + random.nextInt(25)));
+            }
+            document.append("\n\n");
+        }
+        return document.toString();
+    }
+}
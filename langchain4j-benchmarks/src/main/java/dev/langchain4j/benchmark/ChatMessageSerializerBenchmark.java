@@ -0,0 +1,78 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmarks {@link ChatMessageSerializer} and {@link ChatMessageDeserializer} on conversations
+ * mixing user, AI, tool execution request and tool execution result messages,
+ * as persisted by chat memory stores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageSerializerBenchmark {
+
+    @Param({"10", "100"})
+    int messageCount;
+
+    List<ChatMessage> messages;
+    String json;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        messages = new ArrayList<>();
+        messages.add(SystemMessage.from(BenchmarkData.sentence(random, 40)));
+        while (messages.size() < messageCount) {
+            messages.add(UserMessage.from(BenchmarkData.sentence(random, 5 + random.nextInt(50))));
+            if (random.nextInt(4) == 0) {
+                ToolExecutionRequest request = ToolExecutionRequest.builder()
+                        .id("call-" + messages.size())
+                        .name("search")
+                        .arguments("{\"query\":\"" + BenchmarkData.sentence(random, 5) + "\"}")
+                        .build();
+                messages.add(AiMessage.from(request));
+                messages.add(ToolExecutionResultMessage.from(request, BenchmarkData.sentence(random, 60)));
+            }
+            messages.add(AiMessage.from(BenchmarkData.sentence(random, 20 + random.nextInt(150))));
+        }
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+}
@@ -0,0 +1,51 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CosineSimilarityBenchmark {
+
+    @Param({"384", "768", "1536"})
+    int dimension;
+
+    Embedding a;
+    Embedding b;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        a = BenchmarkData.normalizedEmbedding(random, dimension);
+        b = BenchmarkData.normalizedEmbedding(random, dimension);
+    }
+
+    @Benchmark
+    public double between() {
+        return CosineSimilarity.between(a, b);
+    }
+
+    @Benchmark
+    public double betweenNormalized() {
+        return CosineSimilarity.betweenNormalized(a, b);
+    }
+}
@@ -0,0 +1,53 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Benchmarks {@link DocumentSplitters#recursive(int, int)} on long synthetic documents.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    @Param({"100000", "1000000", "10000000"})
+    int documentLength;
+
+    @Param({"300", "1000"})
+    int maxSegmentSize;
+
+    Document document;
+    DocumentSplitter splitter;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(BenchmarkData.document(BenchmarkData.random(), documentLength));
+        splitter = DocumentSplitters.recursive(maxSegmentSize, maxSegmentSize / 10);
+    }
+
+    @Benchmark
+    public List<TextSegment> recursive() {
+        return splitter.split(document);
+    }
+}
@@ -0,0 +1,89 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static dev.langchain4j.store.embedding.filter.Filter.not;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmarks {@link Filter#test(Object)} of the metadata filters used by the in-memory embedding store,
+ * evaluating each filter against 10k metadata entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterBenchmark {
+
+    @Param({"isEqualTo", "isGreaterThan", "isIn", "isNotIn", "and", "or", "not"})
+    String filterType;
+
+    List<Metadata> metadata;
+    Filter filter;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        metadata = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            metadata.add(new Metadata()
+                    .put("category", "category-" + random.nextInt(10))
+                    .put("author", "author-" + random.nextInt(1000))
+                    .put("year", 2000 + random.nextInt(25))
+                    .put("rating", random.nextDouble() * 5));
+        }
+        filter = filter(filterType);
+    }
+
+    private static Filter filter(String filterType) {
+        switch (filterType) {
+            case "isEqualTo":
+                return metadataKey("category").isEqualTo("category-3");
+            case "isGreaterThan":
+                return metadataKey("rating").isGreaterThan(4.0);
+            case "isIn":
+                return metadataKey("author").isIn("author-1", "author-10", "author-100", "author-500", "author-999");
+            case "isNotIn":
+                return metadataKey("category").isNotIn("category-1", "category-2", "category-3");
+            case "and":
+                return metadataKey("category").isEqualTo("category-3")
+                        .and(metadataKey("year").isGreaterThanOrEqualTo(2015))
+                        .and(metadataKey("rating").isLessThan(2.5));
+            case "or":
+                return metadataKey("category").isEqualTo("category-3")
+                        .or(metadataKey("year").isLessThan(2005))
+                        .or(metadataKey("author").isIn("author-1", "author-2"));
+            case "not":
+                return not(metadataKey("year").isIn(2001, 2003, 2005, 2007));
+            default:
+                throw new IllegalArgumentException(filterType);
+        }
+    }
+
+    @Benchmark
+    public void test(Blackhole blackhole) {
+        for (Metadata m : metadata) {
+            blackhole.consume(filter.test(m));
+        }
+    }
+}
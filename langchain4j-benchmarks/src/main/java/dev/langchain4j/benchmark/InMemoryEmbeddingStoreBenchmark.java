@@ -0,0 +1,100 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmarks {@link InMemoryEmbeddingStore#search} over synthetic normalized vectors.
+ * <p>
+ * The default parameters fit into a 4 GB heap. To benchmark a store of 1M entries, run e.g.
+ * {@code java -jar target/benchmarks.jar InMemoryEmbeddingStore -p size=1000000 -p dimension=384 -jvmArgsAppend -Xmx8g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InMemoryEmbeddingStoreBenchmark {
+
+    private static final int QUERIES = 16;
+
+    @Param({"384", "768", "1536"})
+    int dimension;
+
+    @Param({"10000", "100000"})
+    int size;
+
+    InMemoryEmbeddingStore<TextSegment> store;
+    List<Embedding> queries;
+    Filter filter;
+    int nextQuery;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        store = new InMemoryEmbeddingStore<>();
+
+        int batchSize = 10_000;
+        for (int from = 0; from < size; from += batchSize) {
+            int count = Math.min(batchSize, size - from);
+            List<Embedding> embeddings = BenchmarkData.normalizedEmbeddings(random, count, dimension);
+            List<TextSegment> segments = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Metadata metadata = new Metadata()
+                        .put("category", "category-" + random.nextInt(10))
+                        .put("year", 2000 + random.nextInt(25));
+                segments.add(TextSegment.from(BenchmarkData.sentence(random, 12), metadata));
+            }
+            store.addAll(embeddings, segments);
+        }
+
+        queries = BenchmarkData.normalizedEmbeddings(random, QUERIES, dimension);
+        filter = metadataKey("category").isEqualTo("category-3")
+                .and(metadataKey("year").isGreaterThanOrEqualTo(2015));
+    }
+
+    private Embedding nextQuery() {
+        return queries.get(nextQuery++ % QUERIES);
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(nextQuery())
+                .maxResults(10)
+                .build());
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchWithFilter() {
+        return store.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(nextQuery())
+                .maxResults(10)
+                .filter(filter)
+                .build());
+    }
+}
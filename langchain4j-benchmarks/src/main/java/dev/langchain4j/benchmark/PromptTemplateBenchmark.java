@@ -0,0 +1,68 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Benchmarks the default {@link PromptTemplate} implementation,
+ * rendering a template that is created once as well as creating and rendering a template on every call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    @Param({"500", "5000"})
+    int templateLength;
+
+    String template;
+    PromptTemplate promptTemplate;
+    Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        String[] names = {"name", "question", "context", "language", "format"};
+
+        StringBuilder template = new StringBuilder();
+        variables = new HashMap<>();
+        int i = 0;
+        while (template.length() < templateLength) {
+            String name = names[i++ % names.length];
+            template.append(BenchmarkData.sentence(random, 15)).append(" {{").append(name).append("}} ");
+            variables.put(name, BenchmarkData.sentence(random, 10));
+        }
+        this.template = template.toString();
+        this.promptTemplate = PromptTemplate.from(this.template);
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return promptTemplate.apply(variables);
+    }
+
+    @Benchmark
+    public Prompt createAndApply() {
+        return PromptTemplate.from(template).apply(variables);
+    }
+}
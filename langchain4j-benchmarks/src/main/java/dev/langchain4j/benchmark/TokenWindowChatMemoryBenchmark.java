@@ -0,0 +1,132 @@
+package dev.langchain4j.benchmark;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.TokenWindowChatMemory;
+import dev.langchain4j.model.Tokenizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+/**
+ * Benchmarks adding a message to a full {@link TokenWindowChatMemory} (and reading its messages),
+ * which is done on every AI Service call.
+ * <p>
+ * A word-counting {@link Tokenizer} is used, so that the benchmark measures the bookkeeping of the memory
+ * rather than the cost of a particular tokenizer, while still scaling with the length of the messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenWindowChatMemoryBenchmark {
+
+    private static final int MESSAGE_POOL_SIZE = 1_000;
+
+    @Param({"1000", "8000", "32000"})
+    int maxTokens;
+
+    TokenWindowChatMemory chatMemory;
+    List<ChatMessage> messagePool;
+    int nextMessage;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        messagePool = new ArrayList<>(MESSAGE_POOL_SIZE);
+        for (int i = 0; i < MESSAGE_POOL_SIZE; i++) {
+            String text = BenchmarkData.sentence(random, 10 + random.nextInt(200));
+            messagePool.add(i % 2 == 0 ? UserMessage.from(text) : AiMessage.from(text));
+        }
+
+        chatMemory = TokenWindowChatMemory.withMaxTokens(maxTokens, new WordCountingTokenizer());
+        chatMemory.add(SystemMessage.from(BenchmarkData.sentence(random, 50)));
+        // fill the memory, so that every benchmarked add evicts messages
+        for (int i = 0; i < MESSAGE_POOL_SIZE; i++) {
+            addNext();
+        }
+    }
+
+    private void addNext() {
+        chatMemory.add(messagePool.get(nextMessage++ % MESSAGE_POOL_SIZE));
+    }
+
+    @Benchmark
+    public List<ChatMessage> addAndGetMessages() {
+        addNext();
+        return chatMemory.messages();
+    }
+
+    static class WordCountingTokenizer implements Tokenizer {
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            int tokens = 0;
+            boolean inWord = false;
+            for (int i = 0; i < text.length(); i++) {
+                boolean letter = Character.isLetterOrDigit(text.charAt(i));
+                if (letter && !inWord) {
+                    tokens++;
+                } else if (!letter && !Character.isWhitespace(text.charAt(i))) {
+                    tokens++;
+                }
+                inWord = letter;
+            }
+            return tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            String text;
+            if (message instanceof AiMessage) {
+                text = ((AiMessage) message).text();
+            } else if (message instanceof SystemMessage) {
+                text = ((SystemMessage) message).text();
+            } else if (message instanceof UserMessage) {
+                text = ((UserMessage) message).singleText();
+            } else {
+                text = null;
+            }
+            return 3 + (text == null ? 0 : estimateTokenCountInText(text));
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            int tokens = 3;
+            for (ChatMessage message : messages) {
+                tokens += estimateTokenCountInMessage(message);
+            }
+            return tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInToolSpecifications(Iterable<ToolSpecification> toolSpecifications) {
+            return 0;
+        }
+
+        @Override
+        public int estimateTokenCountInToolExecutionRequests(Iterable<ToolExecutionRequest> toolExecutionRequests) {
+            return 0;
+        }
+    }
+}
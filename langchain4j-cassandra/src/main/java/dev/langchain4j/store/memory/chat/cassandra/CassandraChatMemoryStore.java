@@ -10,6 +10,7 @@ import com.dtsx.astra.sdk.utils.AstraEnvironment;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -25,11 +26,14 @@ import static java.util.stream.Collectors.toList;
  * Implementation of {@link ChatMemoryStore} using Astra DB Vector Search.
  * Table contains all chats. (default name is message_store). Each chat with multiple messages
  * is a partition.Message id is a time uuid.
+ * <p>
+ * New messages are inserted as new rows and evicted messages are deleted row by row,
+ * so adding a message to a chat memory does not rewrite the whole partition.
  *
  * @see <a href="https://docs.datastax.com/en/astra-serverless/docs/vector-search/overview.html">Astra Vector Store Documentation</a>
  */
 @Slf4j
-public class CassandraChatMemoryStore implements ChatMemoryStore {
+public class CassandraChatMemoryStore implements AppendableChatMemoryStore {
 
     /**
      * Default message store.
@@ -123,6 +127,31 @@ public class CassandraChatMemoryStore implements ChatMemoryStore {
                 .collect(toList()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void appendMessages(@NonNull Object memoryId, @NonNull List<ChatMessage> messages) {
+        messageTable.upsertPartition(messages.stream()
+                .map(record -> fromChatMessage(getMemoryId(memoryId), record))
+                .collect(toList()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evictMessages(@NonNull Object memoryId, int fromIndex, int count) {
+        String partitionId = getMemoryId(memoryId);
+        // rows are sorted latest first
+        List<ClusteredRecord> latestFirstList = messageTable.findPartition(partitionId);
+        int toIndex = Math.max(latestFirstList.size() - fromIndex, 0);
+        int evictFromIndex = Math.max(toIndex - count, 0);
+        for (ClusteredRecord record : latestFirstList.subList(evictFromIndex, toIndex)) {
+            messageTable.delete(partitionId, record.getRowId());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1,6 +1,7 @@
 package dev.langchain4j.store.memory.chat.cassandra;
 
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.MessageWindowChatMemory;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.TestMethodOrder;
 import java.util.UUID;
 
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -84,6 +86,34 @@ abstract class CassandraChatMemoryStoreTestSupport {
         assertThat(chatMemory.messages()).containsExactly(userMessage, aiMessage);
     }
 
+    @Test
+    @Order(5)
+    @DisplayName("5. Evict items")
+    void shouldEvictItems() {
+        // Given
+        String chatSessionId = "chat-" + UUID.randomUUID();
+
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .chatMemoryStore(chatMemoryStore)
+                .maxMessages(3)
+                .id(chatSessionId)
+                .build();
+
+        SystemMessage systemMessage = systemMessage("You are a helpful assistant.");
+        UserMessage userMessage1 = userMessage("I will ask you a few question about ff4j.");
+        AiMessage aiMessage1 = aiMessage("Sure, go ahead!");
+        UserMessage userMessage2 = userMessage("What is ff4j?");
+
+        // When
+        chatMemory.add(systemMessage);
+        chatMemory.add(userMessage1);
+        chatMemory.add(aiMessage1);
+        chatMemory.add(userMessage2);
+
+        // Then
+        assertThat(chatMemoryStore.getMessages(chatSessionId)).containsExactly(systemMessage, aiMessage1, userMessage2);
+    }
+
     abstract void createDatabase();
 
     abstract CassandraChatMemoryStore createChatMemoryStore();
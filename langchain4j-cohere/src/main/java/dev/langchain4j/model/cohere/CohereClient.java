@@ -2,6 +2,7 @@ package dev.langchain4j.model.cohere;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import dev.langchain4j.internal.HttpException;
 import dev.langchain4j.internal.Utils;
 import lombok.Builder;
 import okhttp3.OkHttpClient;
@@ -14,6 +15,7 @@ import java.time.Duration;
 import java.util.Objects;
 
 import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 class CohereClient {
@@ -90,6 +92,6 @@ class CohereClient {
         int code = response.code();
         String body = response.errorBody().string();
         String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
+        return new HttpException(code, errorMessage, parseRetryAfter(response.headers().get("Retry-After")));
     }
 }
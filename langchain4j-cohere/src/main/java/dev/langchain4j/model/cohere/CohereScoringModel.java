@@ -26,6 +26,7 @@ public class CohereScoringModel implements ScoringModel {
     private static final String DEFAULT_BASE_URL = "https://api.cohere.ai/v1/";
 
     private final CohereClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer maxRetries;
 
@@ -40,8 +41,9 @@ public class CohereScoringModel implements ScoringModel {
             Boolean logRequests,
             Boolean logResponses
     ) {
+        this.baseUrl = getOrDefault(baseUrl, DEFAULT_BASE_URL);
         this.client = CohereClient.builder()
-                .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
+                .baseUrl(this.baseUrl)
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .proxy(proxy)
@@ -67,7 +69,7 @@ public class CohereScoringModel implements ScoringModel {
                         .collect(toList()))
                 .build();
 
-        RerankResponse response = withRetry(() -> client.rerank(request), maxRetries);
+        RerankResponse response = withRetry(() -> client.rerank(request), maxRetries, baseUrl);
 
         List<Double> scores = response.getResults().stream()
                 .sorted(comparingInt(Result::getIndex))
@@ -46,7 +46,8 @@ public class Embedding {
     }
 
     /**
-     * Normalize vector
+     * Normalize vector.
+     * All-zeros vectors are left unchanged.
      */
     public void normalize() {
         double norm = 0.0;
@@ -54,6 +55,9 @@ public class Embedding {
             norm += f * f;
         }
         norm = Math.sqrt(norm);
+        if (norm == 0) {
+            return;
+        }
 
         for (int i = 0; i < vector.length; i++) {
             vector[i] /= norm;
@@ -0,0 +1,40 @@
+package dev.langchain4j.internal;
+
+import java.time.Duration;
+
+/**
+ * Thrown by the HTTP clients of the model integrations when the server responds with an error status.
+ * <p>
+ * {@link RetryUtils#isRetryable(Throwable)} decides whether to retry it from its status code,
+ * and {@link RetryUtils#retryAfter(Throwable)} returns its {@code Retry-After}.
+ */
+public class HttpException extends RuntimeException {
+
+    private final Integer statusCode;
+    private final Duration retryAfter;
+
+    public HttpException(Integer statusCode, String message) {
+        this(statusCode, message, null);
+    }
+
+    public HttpException(Integer statusCode, String message, Duration retryAfter) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * HTTP response status code. Can be {@code null}.
+     */
+    public Integer statusCode() {
+        return statusCode;
+    }
+
+    /**
+     * How long the server asked to wait before retrying (the {@code Retry-After} response header).
+     * Can be {@code null}.
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
@@ -3,19 +3,49 @@ package dev.langchain4j.internal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Random;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * Utility class for retrying actions.
+ * <p>
+ * Besides blocking retries ({@link RetryPolicy#withRetry(Callable)}), a {@link RetryPolicy} can retry
+ * asynchronous actions ({@link RetryPolicy#withRetryAsync(Supplier)}), scheduling the retries on a
+ * {@link ScheduledExecutorService} instead of sleeping on the caller thread.
+ * Only retryable errors are retried (see {@link #isRetryable(Throwable)}), and the {@code Retry-After}
+ * of the error is honoured (see {@link #retryAfter(Throwable)}).
+ * A policy can also be protected by a {@link CircuitBreaker} (or one per endpoint) and a {@link Bulkhead}.
  */
 public final class RetryUtils {
     private RetryUtils() {}
 
     private static final Logger log = LoggerFactory.getLogger(RetryUtils.class);
 
+    private static final Map<String, CircuitBreaker> CIRCUIT_BREAKERS = new ConcurrentHashMap<>();
+
     /**
      * This method returns a RetryPolicy.Builder.
      * @return A RetryPolicy.Builder.
@@ -36,6 +66,14 @@ public final class RetryUtils {
             private int delayMillis = 1000;
             private double jitterScale = 0.2;
             private double backoffExp = 1.5;
+            private Predicate<Throwable> retryOn = RetryUtils::isRetryable;
+            private Function<Throwable, Duration> retryAfter = RetryUtils::retryAfter;
+            private Duration maxRetryAfter = Duration.ofSeconds(60);
+            private CircuitBreaker circuitBreaker;
+            private Function<String, CircuitBreaker> circuitBreakers;
+            private Bulkhead bulkhead;
+            private ScheduledExecutorService scheduler;
+            private Sleeper sleeper = Thread::sleep;
 
             /**
              * Construct a RetryPolicy.Builder.
@@ -96,12 +134,94 @@ public final class RetryUtils {
                 return this;
             }
 
+            /**
+             * Sets the predicate deciding which errors are retried.
+             * Default: {@link RetryUtils#isRetryable(Throwable)}.
+             * @param retryOn The predicate.
+             * @return {@code this}
+             */
+            public Builder retryOn(Predicate<Throwable> retryOn) {
+                this.retryOn = ensureNotNull(retryOn, "retryOn");
+                return this;
+            }
+
+            /**
+             * Sets the function extracting the {@code Retry-After} from an error.
+             * When it returns a duration longer than the backoff delay, the retry waits for that duration instead.
+             * Default: {@link RetryUtils#retryAfter(Throwable)}.
+             * @param retryAfter The function, returning {@code null} if the error carries no {@code Retry-After}.
+             * @return {@code this}
+             */
+            public Builder retryAfter(Function<Throwable, Duration> retryAfter) {
+                this.retryAfter = ensureNotNull(retryAfter, "retryAfter");
+                return this;
+            }
+
+            /**
+             * Sets the longest {@code Retry-After} to honour.
+             * If the server asks to wait longer, the error is not retried. Default: 60 seconds.
+             * @param maxRetryAfter The longest {@code Retry-After} to wait for.
+             * @return {@code this}
+             */
+            public Builder maxRetryAfter(Duration maxRetryAfter) {
+                this.maxRetryAfter = ensureNotNull(maxRetryAfter, "maxRetryAfter");
+                return this;
+            }
+
+            /**
+             * Sets the circuit breaker guarding each attempt of the actions that are not bound to an endpoint.
+             * @param circuitBreaker The circuit breaker.
+             * @return {@code this}
+             */
+            public Builder circuitBreaker(CircuitBreaker circuitBreaker) {
+                this.circuitBreaker = circuitBreaker;
+                return this;
+            }
+
+            /**
+             * Sets the circuit breakers guarding each attempt of the actions calling an endpoint
+             * (see {@link RetryPolicy#withRetry(Callable, int, String)}
+             * and {@link RetryPolicy#withRetryAsync(Supplier, int, String)}), one per endpoint.
+             * {@code RetryUtils::circuitBreaker} shares one circuit breaker per endpoint across all policies.
+             * @param circuitBreakers The function returning the circuit breaker of an endpoint.
+             * @return {@code this}
+             */
+            public Builder circuitBreakers(Function<String, CircuitBreaker> circuitBreakers) {
+                this.circuitBreakers = circuitBreakers;
+                return this;
+            }
+
+            /**
+             * Sets the bulkhead limiting the number of concurrent attempts.
+             * @param bulkhead The bulkhead.
+             * @return {@code this}
+             */
+            public Builder bulkhead(Bulkhead bulkhead) {
+                this.bulkhead = bulkhead;
+                return this;
+            }
+
+            /**
+             * Sets the scheduler of asynchronous retries. Default: a shared single daemon thread.
+             * @param scheduler The scheduler.
+             * @return {@code this}
+             */
+            public Builder scheduler(ScheduledExecutorService scheduler) {
+                this.scheduler = scheduler;
+                return this;
+            }
+
+            Builder sleeper(Sleeper sleeper) {
+                this.sleeper = ensureNotNull(sleeper, "sleeper");
+                return this;
+            }
+
             /**
              * Builds a RetryPolicy.
              * @return A RetryPolicy.
              */
             public RetryPolicy build() {
-                return new RetryPolicy(maxAttempts, delayMillis, jitterScale, backoffExp);
+                return new RetryPolicy(this);
             }
         }
 
@@ -109,6 +229,14 @@ public final class RetryUtils {
         private final int delayMillis;
         private final double jitterScale;
         private final double backoffExp;
+        private final Predicate<Throwable> retryOn;
+        private final Function<Throwable, Duration> retryAfter;
+        private final Duration maxRetryAfter;
+        private final CircuitBreaker circuitBreaker;
+        private final Function<String, CircuitBreaker> circuitBreakers;
+        private final Bulkhead bulkhead;
+        private final ScheduledExecutorService scheduler;
+        private final Sleeper sleeper;
 
         /**
          * Construct a RetryPolicy.
@@ -122,10 +250,26 @@ public final class RetryUtils {
                 int delayMillis,
                 double jitterScale,
                 double backoffExp) {
-            this.maxAttempts = maxAttempts;
-            this.delayMillis = delayMillis;
-            this.jitterScale = jitterScale;
-            this.backoffExp = backoffExp;
+            this(new Builder()
+                    .maxAttempts(maxAttempts)
+                    .delayMillis(delayMillis)
+                    .jitterScale(jitterScale)
+                    .backoffExp(backoffExp));
+        }
+
+        private RetryPolicy(Builder builder) {
+            this.maxAttempts = builder.maxAttempts;
+            this.delayMillis = builder.delayMillis;
+            this.jitterScale = builder.jitterScale;
+            this.backoffExp = builder.backoffExp;
+            this.retryOn = builder.retryOn;
+            this.retryAfter = builder.retryAfter;
+            this.maxRetryAfter = builder.maxRetryAfter;
+            this.circuitBreaker = builder.circuitBreaker;
+            this.circuitBreakers = builder.circuitBreakers;
+            this.bulkhead = builder.bulkhead;
+            this.scheduler = builder.scheduler;
+            this.sleeper = builder.sleeper;
         }
 
         /**
@@ -143,10 +287,9 @@ public final class RetryUtils {
          * @return The jitter delay in milliseconds.
          */
         public int jitterDelayMillis(int attempt) {
-            Random rand = new Random();
             double delay = rawDelayMs(attempt);
-            double jitter = delay * jitterScale;
-            return (int) (delay + rand.nextInt((int) jitter));
+            int jitter = (int) (delay * jitterScale);
+            return (int) (delay + (jitter > 0 ? ThreadLocalRandom.current().nextInt(jitter) : 0));
         }
 
         /**
@@ -155,13 +298,37 @@ public final class RetryUtils {
          */
         @JacocoIgnoreCoverageGenerated
         public void sleep(int attempt) {
+            sleepMillis(jitterDelayMillis(attempt));
+        }
+
+        private void sleepMillis(long millis) {
             try {
-                Thread.sleep(jitterDelayMillis(attempt));
-            } catch (InterruptedException ignored) {
-                // pass
+                sleeper.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
             }
         }
 
+        /**
+         * Returns the delay before retrying after the given attempt failed with the given error,
+         * or -1 if the error should not be retried.
+         */
+        private long retryDelayMillis(int attempt, int maxAttempts, Throwable error) {
+            if (attempt >= maxAttempts || !retryOn.test(error)) {
+                return -1;
+            }
+            long delay = jitterDelayMillis(attempt);
+            Duration serverDelay = retryAfter.apply(error);
+            if (serverDelay != null) {
+                if (serverDelay.compareTo(maxRetryAfter) > 0) {
+                    return -1;
+                }
+                delay = Math.max(delay, serverDelay.toMillis());
+            }
+            return delay;
+        }
+
         /**
          * This method attempts to execute a given action up to a specified number of times with a 1-second delay.
          * If the action fails on all attempts, it throws a RuntimeException.
@@ -186,22 +353,512 @@ public final class RetryUtils {
          * @throws RuntimeException if the action fails on all attempts.
          */
         public <T> T withRetry(Callable<T> action, int maxAttempts) {
+            return withRetry(action, maxAttempts, circuitBreaker);
+        }
+
+        /**
+         * This method attempts to execute a given action calling the given endpoint
+         * up to a specified number of times.
+         * Each attempt is guarded by the circuit breaker of the endpoint, if this policy has
+         * {@link Builder#circuitBreakers(Function) circuit breakers per endpoint}.
+         * If the action fails on all attempts, it throws a RuntimeException.
+         *
+         * @param action      The action to be executed.
+         * @param maxAttempts The maximum number of attempts to execute the action.
+         * @param endpoint    The endpoint called by the action (e.g. a base URL). Optional.
+         * @param <T> The type of the result of the action.
+         * @return The result of the action if it is successful.
+         * @throws RuntimeException if the action fails on all attempts.
+         */
+        public <T> T withRetry(Callable<T> action, int maxAttempts, String endpoint) {
+            return withRetry(action, maxAttempts, circuitBreaker(endpoint));
+        }
+
+        private CircuitBreaker circuitBreaker(String endpoint) {
+            return circuitBreakers != null && endpoint != null ? circuitBreakers.apply(endpoint) : circuitBreaker;
+        }
+
+        private <T> T withRetry(Callable<T> action, int maxAttempts, CircuitBreaker circuitBreaker) {
             int attempt = 1;
             while (true) {
                 try {
-                    return action.call();
+                    return call(action, circuitBreaker);
                 } catch (Exception e) {
-                    if (attempt >= maxAttempts) {
+                    long delay = retryDelayMillis(attempt, maxAttempts, e);
+                    if (delay < 0) {
                         throw new RuntimeException(e);
                     }
 
                     log.warn(format("Exception was thrown on attempt %s of %s", attempt, maxAttempts), e);
 
-                    sleep(attempt);
+                    sleepMillis(delay);
                 }
                 attempt++;
             }
         }
+
+        private <T> T call(Callable<T> action, CircuitBreaker circuitBreaker) throws Exception {
+            if (bulkhead != null && !bulkhead.tryAcquire()) {
+                throw new BulkheadFullException();
+            }
+            try {
+                if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                    throw new CircuitBreakerOpenException();
+                }
+                boolean recorded = false;
+                try {
+                    T result = action.call();
+                    recordSuccess(circuitBreaker);
+                    recorded = true;
+                    return result;
+                } catch (Exception e) {
+                    recordFailure(circuitBreaker, e);
+                    recorded = true;
+                    throw e;
+                } finally {
+                    if (!recorded && circuitBreaker != null) {
+                        // e.g. the action threw an Error: let the next call through as the trial call, if any
+                        circuitBreaker.releaseTrial();
+                    }
+                }
+            } finally {
+                if (bulkhead != null) {
+                    bulkhead.release();
+                }
+            }
+        }
+
+        /**
+         * Executes the given asynchronous action, retrying it according to this policy.
+         * The caller thread is never blocked: retries are scheduled on the scheduler of this policy.
+         *
+         * @param action The action to be executed. It is invoked once per attempt.
+         * @param <T>    The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or completed exceptionally with the error of the last attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action) {
+            return withRetryAsync(action, maxAttempts);
+        }
+
+        /**
+         * Executes the given asynchronous action, retrying it according to this policy.
+         * The caller thread is never blocked: retries are scheduled on the scheduler of this policy.
+         *
+         * @param action      The action to be executed. It is invoked once per attempt.
+         * @param maxAttempts The maximum number of attempts to execute the action.
+         * @param <T>         The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or completed exceptionally with the error of the last attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action, int maxAttempts) {
+            return withRetryAsync(action, maxAttempts, circuitBreaker);
+        }
+
+        /**
+         * Executes the given asynchronous action calling the given endpoint, retrying it according to this policy.
+         * The caller thread is never blocked: retries are scheduled on the scheduler of this policy.
+         * Each attempt is guarded by the circuit breaker of the endpoint, if this policy has
+         * {@link Builder#circuitBreakers(Function) circuit breakers per endpoint},
+         * the same one as for {@link #withRetry(Callable, int, String)}.
+         *
+         * @param action      The action to be executed. It is invoked once per attempt.
+         * @param maxAttempts The maximum number of attempts to execute the action.
+         * @param endpoint    The endpoint called by the action (e.g. a base URL). Optional.
+         * @param <T>         The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or completed exceptionally with the error of the last attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action,
+                                                       int maxAttempts,
+                                                       String endpoint) {
+            return withRetryAsync(action, maxAttempts, circuitBreaker(endpoint));
+        }
+
+        private <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action,
+                                                        int maxAttempts,
+                                                        CircuitBreaker circuitBreaker) {
+            ensureNotNull(action, "action");
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attemptAsync(action, 1, maxAttempts, circuitBreaker, result);
+            return result;
+        }
+
+        /**
+         * Executes the given blocking action on the given executor, retrying it according to this policy.
+         * Neither the caller thread nor the executor threads sleep between attempts.
+         *
+         * @param action   The action to be executed.
+         * @param executor The executor to execute each attempt on.
+         * @param <T>      The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or completed exceptionally with the error of the last attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Callable<T> action, Executor executor) {
+            ensureNotNull(action, "action");
+            ensureNotNull(executor, "executor");
+            return withRetryAsync(() -> CompletableFuture.supplyAsync(() -> {
+                try {
+                    return action.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        private <T> void attemptAsync(Supplier<? extends CompletionStage<T>> action,
+                                      int attempt,
+                                      int maxAttempts,
+                                      CircuitBreaker circuitBreaker,
+                                      CompletableFuture<T> result) {
+            if (result.isDone()) {
+                // cancelled by the caller
+                return;
+            }
+            if (bulkhead != null && !bulkhead.tryAcquireNow()) {
+                result.completeExceptionally(new BulkheadFullException());
+                return;
+            }
+            CompletionStage<T> stage;
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                stage = failedStage(new CircuitBreakerOpenException());
+            } else {
+                try {
+                    stage = ensureNotNull(action.get(), "stage");
+                } catch (Throwable e) {
+                    // reported through the stage, so that the bulkhead permit and the circuit breaker trial are released
+                    stage = failedStage(e);
+                }
+            }
+            stage.whenComplete((value, error) -> {
+                if (bulkhead != null) {
+                    bulkhead.release();
+                }
+                if (error == null) {
+                    recordSuccess(circuitBreaker);
+                    result.complete(value);
+                    return;
+                }
+                Throwable cause = unwrap(error);
+                recordFailure(circuitBreaker, cause);
+                long delay = retryDelayMillis(attempt, maxAttempts, cause);
+                if (delay < 0) {
+                    result.completeExceptionally(cause);
+                    return;
+                }
+
+                log.warn(format("Exception was thrown on attempt %s of %s", attempt, maxAttempts), cause);
+
+                try {
+                    scheduler().schedule(() -> attemptAsync(action, attempt + 1, maxAttempts, circuitBreaker, result), delay, MILLISECONDS);
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        }
+
+        private static void recordSuccess(CircuitBreaker circuitBreaker) {
+            if (circuitBreaker != null) {
+                circuitBreaker.onSuccess();
+            }
+        }
+
+        private void recordFailure(CircuitBreaker circuitBreaker, Throwable error) {
+            if (circuitBreaker == null) {
+                return;
+            }
+            if (error instanceof CircuitBreakerOpenException) {
+                return;
+            }
+            if (retryOn.test(error)) {
+                circuitBreaker.onFailure();
+            } else {
+                // e.g. a client error: the endpoint is responding
+                circuitBreaker.onSuccess();
+            }
+        }
+
+        private ScheduledExecutorService scheduler() {
+            return scheduler != null ? scheduler : DefaultScheduler.INSTANCE;
+        }
+
+        interface Sleeper {
+
+            void sleep(long millis) throws InterruptedException;
+        }
+    }
+
+    private static class DefaultScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "langchain4j-retry-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+
+    /**
+     * A circuit breaker that stops calling an endpoint after it failed repeatedly.
+     * <p>
+     * After {@code failureThreshold} consecutive failures, the circuit opens and calls fail fast
+     * with a {@link CircuitBreakerOpenException} for {@code openDuration}.
+     * Then a single trial call is let through: if it succeeds, the circuit closes, otherwise it opens again.
+     * <p>
+     * This class is thread-safe.
+     */
+    public static final class CircuitBreaker {
+
+        /**
+         * The state of a circuit breaker.
+         */
+        public enum State {
+            CLOSED, OPEN, HALF_OPEN
+        }
+
+        private final int failureThreshold;
+        private final long openDurationNanos;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAtNanos;
+        private boolean trialInProgress;
+
+        /**
+         * Construct a CircuitBreaker.
+         * @param failureThreshold The number of consecutive failures after which the circuit opens.
+         * @param openDuration     How long the circuit stays open before a trial call is let through.
+         */
+        public CircuitBreaker(int failureThreshold, Duration openDuration) {
+            this.failureThreshold = ensureGreaterThanZero(failureThreshold, "failureThreshold");
+            this.openDurationNanos = ensureNotNull(openDuration, "openDuration").toNanos();
+        }
+
+        /**
+         * Acquires permission to call the endpoint.
+         * @return {@code true} if the call is permitted, {@code false} if the circuit is open.
+         */
+        public synchronized boolean tryAcquire() {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInProgress = true;
+                    return true;
+                default:
+                    if (trialInProgress) {
+                        return false;
+                    }
+                    trialInProgress = true;
+                    return true;
+            }
+        }
+
+        /**
+         * Records a successful call.
+         */
+        public synchronized void onSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInProgress = false;
+        }
+
+        /**
+         * Records a failed call.
+         */
+        public synchronized void onFailure() {
+            trialInProgress = false;
+            if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAtNanos = System.nanoTime();
+                consecutiveFailures = 0;
+            }
+        }
+
+        /**
+         * Lets the next call through as the trial call, when the trial call ended without a recorded outcome.
+         */
+        private synchronized void releaseTrial() {
+            trialInProgress = false;
+        }
+
+        /**
+         * @return The current state.
+         */
+        public synchronized State state() {
+            return state;
+        }
+    }
+
+    /**
+     * A bulkhead limiting the number of concurrent calls to an endpoint.
+     * When all permits are taken, blocking calls wait up to {@code maxWait} for a permit,
+     * asynchronous calls do not wait; then they fail with a {@link BulkheadFullException}.
+     */
+    public static final class Bulkhead {
+
+        private final Semaphore permits;
+        private final long maxWaitMillis;
+
+        /**
+         * Construct a Bulkhead.
+         * @param maxConcurrentCalls The maximum number of concurrent calls.
+         * @param maxWait            How long a blocking call waits for a permit.
+         */
+        public Bulkhead(int maxConcurrentCalls, Duration maxWait) {
+            this.permits = new Semaphore(ensureGreaterThanZero(maxConcurrentCalls, "maxConcurrentCalls"), true);
+            this.maxWaitMillis = ensureNotNull(maxWait, "maxWait").toMillis();
+        }
+
+        private boolean tryAcquire() {
+            try {
+                return permits.tryAcquire(maxWaitMillis, MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        private boolean tryAcquireNow() {
+            return permits.tryAcquire();
+        }
+
+        private void release() {
+            permits.release();
+        }
+
+        /**
+         * @return The number of calls that can currently be started without waiting.
+         */
+        public int availablePermits() {
+            return permits.availablePermits();
+        }
+    }
+
+    /**
+     * Thrown when a call is rejected because the {@link CircuitBreaker} is open.
+     */
+    public static class CircuitBreakerOpenException extends RuntimeException {
+
+        public CircuitBreakerOpenException() {
+            super("Circuit breaker is open, the call was not permitted");
+        }
+    }
+
+    /**
+     * Thrown when a call is rejected because the {@link Bulkhead} is full.
+     */
+    public static class BulkheadFullException extends RuntimeException {
+
+        public BulkheadFullException() {
+            super("Bulkhead is full, the call was not permitted");
+        }
+    }
+
+    /**
+     * Returns the circuit breaker of the given endpoint (e.g. a base URL), creating it if necessary.
+     * The circuit opens after 5 consecutive failures and lets a trial call through after 30 seconds.
+     *
+     * @param endpoint The endpoint.
+     * @return The circuit breaker shared by all callers of the endpoint.
+     */
+    public static CircuitBreaker circuitBreaker(String endpoint) {
+        return CIRCUIT_BREAKERS.computeIfAbsent(endpoint, ignored -> new CircuitBreaker(5, Duration.ofSeconds(30)));
+    }
+
+    /**
+     * Decides whether an error is worth retrying.
+     * <p>
+     * The cause chain is searched for an {@link HttpException}: only 408, 429 and 5xx statuses are retried.
+     * I/O errors and timeouts are retried; {@link Error}s, invalid arguments and rejections by a
+     * {@link CircuitBreaker} or a {@link Bulkhead} are not. Other exceptions are retried.
+     *
+     * @param error The error.
+     * @return {@code true} if the action that failed with the error should be retried.
+     */
+    public static boolean isRetryable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof Error
+                    || t instanceof CircuitBreakerOpenException
+                    || t instanceof BulkheadFullException
+                    || t instanceof IllegalArgumentException
+                    || t instanceof InterruptedException) {
+                return false;
+            }
+            if (t instanceof IOException || t instanceof TimeoutException) {
+                return true;
+            }
+            if (t instanceof HttpException && ((HttpException) t).statusCode() != null) {
+                int status = ((HttpException) t).statusCode();
+                return status == 408 || status == 429 || status >= 500;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Extracts the {@code Retry-After} from an error: the {@link HttpException#retryAfter()}
+     * of the first {@link HttpException} in the cause chain.
+     *
+     * @param error The error.
+     * @return The {@code Retry-After}, or {@code null} if the error does not carry one.
+     */
+    public static Duration retryAfter(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof HttpException) {
+                return ((HttpException) t).retryAfter();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} HTTP header: either a number of seconds or an HTTP date.
+     * Used by HTTP clients to create {@link HttpException}s.
+     *
+     * @param retryAfter The header value.
+     * @return The duration to wait, or {@code null} if the value cannot be parsed.
+     */
+    public static Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException ignored) {
+            // not a number of seconds, might be a date
+        }
+        try {
+            Duration duration = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return duration.isNegative() ? Duration.ZERO : duration;
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private static <T> CompletionStage<T> failedStage(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
     }
 
     /**
@@ -214,6 +871,21 @@ public final class RetryUtils {
             .backoffExp(1.5)
             .build();
 
+    private static volatile RetryPolicy defaultRetryPolicy = DEFAULT_RETRY_POLICY;
+
+    /**
+     * Replaces the retry policy used by {@link #withRetry(Callable)}, {@link #withRetry(Callable, int)}
+     * and {@link #withRetry(Callable, int, String)}, which are used by the model integrations.
+     * This allows, for example, to protect all of them with a {@link Bulkhead},
+     * or to protect each endpoint with its own {@link CircuitBreaker}
+     * (see {@link RetryPolicy.Builder#circuitBreakers(Function)}).
+     *
+     * @param retryPolicy The retry policy, or {@code null} to restore {@link #DEFAULT_RETRY_POLICY}.
+     */
+    public static void setDefaultRetryPolicy(RetryPolicy retryPolicy) {
+        defaultRetryPolicy = retryPolicy != null ? retryPolicy : DEFAULT_RETRY_POLICY;
+    }
+
     /**
      * This method attempts to execute a given action up to a specified number of times with a 1-second delay.
      * If the action fails on all attempts, it throws a RuntimeException.
@@ -226,7 +898,25 @@ public final class RetryUtils {
      * @throws RuntimeException if the action fails on all attempts.
      */
     public static <T> T withRetry(Callable<T> action, int maxAttempts) {
-        return DEFAULT_RETRY_POLICY.withRetry(action, maxAttempts);
+        return defaultRetryPolicy.withRetry(action, maxAttempts);
+    }
+
+    /**
+     * This method attempts to execute a given action calling the given endpoint
+     * up to a specified number of times, using the default retry policy.
+     * If the action fails on all attempts, it throws a RuntimeException.
+     *
+     * @param action      The action to be executed.
+     * @param maxAttempts The maximum number of attempts to execute the action.
+     * @param endpoint    The endpoint called by the action (e.g. a base URL), keying its circuit breaker.
+     * @param <T> The type of the result of the action.
+     *
+     * @return The result of the action if it is successful.
+     * @throws RuntimeException if the action fails on all attempts.
+     * @see RetryPolicy#withRetry(Callable, int, String)
+     */
+    public static <T> T withRetry(Callable<T> action, int maxAttempts, String endpoint) {
+        return defaultRetryPolicy.withRetry(action, maxAttempts, endpoint);
     }
 
     /**
@@ -239,6 +929,6 @@ public final class RetryUtils {
      * @throws RuntimeException if the action fails on all attempts.
      */
     public static <T> T withRetry(Callable<T> action) {
-        return DEFAULT_RETRY_POLICY.withRetry(action);
+        return defaultRetryPolicy.withRetry(action);
     }
 }
@@ -35,4 +35,15 @@ public interface StreamingResponseHandler<T> {
      * @param error The error that occurred
      */
     void onError(Throwable error);
+
+    /**
+     * Indicates whether the consumer of the response is no longer interested in it.
+     * Model implementations should check it as tokens arrive and, once it returns {@code true},
+     * abort the underlying (e.g., HTTP) stream and stop invoking this handler.
+     *
+     * @return {@code true} if streaming should be aborted, {@code false} otherwise (default).
+     */
+    default boolean isCancelled() {
+        return false;
+    }
 }
@@ -0,0 +1,146 @@
+package dev.langchain4j.model.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.util.Collections.singletonList;
+
+/**
+ * A dimension aware embedding model that splits large inputs into batches.
+ * <br>
+ * {@link #embedAll(List)} splits the text segments into batches of at most {@code maxSegmentsPerBatch} segments
+ * and at most {@code maxTokensPerBatch} tokens, and embeds each batch with {@link #embedBatch(List)}.
+ * Token counts are estimated with {@link TokenCountEstimator} when the model implements it,
+ * otherwise they are approximated as one token per 4 characters.
+ * A single text segment exceeding {@code maxTokensPerBatch} is sent in its own batch.
+ * <br>
+ * When an {@link Executor} is specified, batches are embedded concurrently on it.
+ * The executor bounds the concurrency, for example, a fixed thread pool of 4 threads
+ * will send at most 4 requests at a time. Otherwise, batches are embedded sequentially on the calling thread.
+ * <br>
+ * Embeddings are returned in the order of the text segments and the {@link TokenUsage} of all batches is summed.
+ */
+public abstract class BatchingEmbeddingModel extends DimensionAwareEmbeddingModel {
+
+    private final int maxSegmentsPerBatch;
+    private final int maxTokensPerBatch;
+    private final Executor executor;
+
+    /**
+     * Creates a model that embeds all text segments in a single batch.
+     */
+    protected BatchingEmbeddingModel() {
+        this(null, null, null);
+    }
+
+    /**
+     * @param maxSegmentsPerBatch The maximum number of text segments in a batch. Default value: unlimited.
+     * @param maxTokensPerBatch   The maximum (estimated) number of tokens in a batch. Default value: unlimited.
+     * @param executor            The executor to embed batches on concurrently. Optional.
+     *                            If none is specified, batches are embedded sequentially on the calling thread.
+     */
+    protected BatchingEmbeddingModel(Integer maxSegmentsPerBatch, Integer maxTokensPerBatch, Executor executor) {
+        this.maxSegmentsPerBatch = ensureGreaterThanZero(getOrDefault(maxSegmentsPerBatch, Integer.MAX_VALUE), "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = ensureGreaterThanZero(getOrDefault(maxTokensPerBatch, Integer.MAX_VALUE), "maxTokensPerBatch");
+        this.executor = executor;
+    }
+
+    /**
+     * Embeds a single batch of text segments.
+     *
+     * @param textSegments the text segments of the batch.
+     * @return the embeddings, in the order of the text segments.
+     */
+    protected abstract Response<List<Embedding>> embedBatch(List<TextSegment> textSegments);
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+
+        List<List<TextSegment>> batches = split(textSegments);
+        if (batches.size() <= 1) {
+            return embedBatch(textSegments);
+        }
+
+        List<Response<List<Embedding>>> responses = new ArrayList<>(batches.size());
+        if (executor == null) {
+            for (List<TextSegment> batch : batches) {
+                responses.add(embedBatch(batch));
+            }
+        } else {
+            List<CompletableFuture<Response<List<Embedding>>>> futures = new ArrayList<>(batches.size());
+            for (List<TextSegment> batch : batches) {
+                futures.add(CompletableFuture.supplyAsync(() -> embedBatch(batch), executor));
+            }
+            for (CompletableFuture<Response<List<Embedding>>> future : futures) {
+                responses.add(join(future));
+            }
+        }
+
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        TokenUsage tokenUsage = null;
+        for (int i = 0; i < batches.size(); i++) {
+            Response<List<Embedding>> response = responses.get(i);
+            if (response.content().size() != batches.get(i).size()) {
+                throw new IllegalStateException(String.format("Expected %s embeddings, but got %s",
+                        batches.get(i).size(), response.content().size()));
+            }
+            embeddings.addAll(response.content());
+            tokenUsage = TokenUsage.sum(tokenUsage, response.tokenUsage());
+        }
+
+        return Response.from(embeddings, tokenUsage);
+    }
+
+    private List<List<TextSegment>> split(List<TextSegment> textSegments) {
+        if (maxSegmentsPerBatch >= textSegments.size() && maxTokensPerBatch == Integer.MAX_VALUE) {
+            return singletonList(textSegments);
+        }
+
+        List<List<TextSegment>> batches = new ArrayList<>();
+        List<TextSegment> batch = new ArrayList<>();
+        long batchTokenCount = 0;
+        for (TextSegment textSegment : textSegments) {
+            int tokenCount = maxTokensPerBatch == Integer.MAX_VALUE ? 0 : estimateTokenCountInBatch(textSegment);
+            if (!batch.isEmpty()
+                    && (batch.size() == maxSegmentsPerBatch || batchTokenCount + tokenCount > maxTokensPerBatch)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchTokenCount = 0;
+            }
+            batch.add(textSegment);
+            batchTokenCount += tokenCount;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private int estimateTokenCountInBatch(TextSegment textSegment) {
+        if (this instanceof TokenCountEstimator) {
+            return ((TokenCountEstimator) this).estimateTokenCount(textSegment);
+        }
+        return (textSegment.text().length() + 3) / 4;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package dev.langchain4j.model.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Arrays.asList;
+
+/**
+ * An {@link EmbeddingModel} that caches embeddings produced by another {@link EmbeddingModel}.
+ * <br>
+ * Embeddings are cached by model name and a SHA-256 hash of the text.
+ * The model name is mandatory and must identify the delegate model and its configuration
+ * (e.g., "text-embedding-3-small/512"), as it is the only thing that distinguishes the embeddings of
+ * different models in a shared directory: two delegates of the same class configured with different models
+ * must have different model names.
+ * <br>
+ * There are two cache tiers:
+ * <ul>
+ *     <li>A bounded in-memory tier that evicts the least recently used embeddings.</li>
+ *     <li>An optional on-disk tier, where each embedding is stored in its own file under a directory.
+ *     It is unbounded and survives restarts.</li>
+ * </ul>
+ * {@link #embedAll(List)} sends only the text segments that are not found in any tier to the delegate,
+ * in a single call, and returns embeddings in the order of the provided text segments.
+ * The {@link dev.langchain4j.model.output.TokenUsage} of the returned {@link Response} covers only these cache misses.
+ * <br>
+ * Hit and miss counts are available via {@link #stats()}.
+ * <br>
+ * The on-disk tier is best effort: a file that cannot be read, or whose size does not match the dimension
+ * of the model (e.g., a truncated file), is treated as a cache miss, and a failure to write a file is only logged.
+ * <br>
+ * This class is thread-safe.
+ */
+@Slf4j
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    static final int DEFAULT_MAX_MEMORY_ENTRIES = 10_000;
+
+    private final EmbeddingModel delegate;
+    private final String modelName;
+    private final Map<String, float[]> memory;
+    private final Path directory;
+    private volatile Integer dimension;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Creates a new caching embedding model.
+     *
+     * @param delegate         The {@link EmbeddingModel} to cache embeddings of. Mandatory.
+     * @param modelName        The name of the model and its configuration, used as part of cache keys. Mandatory.
+     * @param maxMemoryEntries The maximum number of embeddings kept in memory.
+     *                         Default value: {@value #DEFAULT_MAX_MEMORY_ENTRIES}.
+     * @param directory        The directory of the on-disk tier. Optional. It is created if it does not exist.
+     *                         If none is specified, embeddings are cached only in memory.
+     */
+    public CachingEmbeddingModel(EmbeddingModel delegate,
+                                 String modelName,
+                                 Integer maxMemoryEntries,
+                                 Path directory) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.modelName = ensureNotBlank(modelName, "modelName");
+        int maxEntries = ensureGreaterThanZero(getOrDefault(maxMemoryEntries, DEFAULT_MAX_MEMORY_ENTRIES), "maxMemoryEntries");
+        this.memory = new LinkedHashMap<String, float[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.directory = directory;
+        if (directory != null) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+
+        List<TextSegment> misses = new ArrayList<>();
+        Map<String, List<Integer>> missIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < textSegments.size(); i++) {
+            String key = key(textSegments.get(i).text());
+            float[] vector = get(key);
+            if (vector != null) {
+                embeddings[i] = Embedding.from(vector.clone());
+                continue;
+            }
+            List<Integer> indexes = missIndexes.get(key);
+            if (indexes == null) {
+                indexes = new ArrayList<>();
+                missIndexes.put(key, indexes);
+                misses.add(textSegments.get(i));
+            }
+            indexes.add(i);
+        }
+        this.misses.addAndGet(misses.size());
+
+        if (misses.isEmpty()) {
+            return Response.from(asList(embeddings));
+        }
+
+        Response<List<Embedding>> response = delegate.embedAll(misses);
+        List<Embedding> missEmbeddings = response.content();
+        if (missEmbeddings.size() != misses.size()) {
+            throw new IllegalStateException(String.format("Expected %s embeddings, but got %s",
+                    misses.size(), missEmbeddings.size()));
+        }
+
+        int missIndex = 0;
+        for (Map.Entry<String, List<Integer>> entry : missIndexes.entrySet()) {
+            float[] vector = missEmbeddings.get(missIndex++).vector().clone();
+            if (dimension == null) {
+                dimension = vector.length;
+            }
+            put(entry.getKey(), vector);
+            for (int i : entry.getValue()) {
+                embeddings[i] = Embedding.from(vector.clone());
+            }
+        }
+
+        return Response.from(asList(embeddings), response.tokenUsage(), response.finishReason());
+    }
+
+    /**
+     * Returns the dimension of the delegate model. It is determined once: either from the embeddings returned
+     * by the delegate, or by calling {@link EmbeddingModel#dimension()} of the delegate.
+     */
+    @Override
+    public int dimension() {
+        Integer dimension = this.dimension;
+        if (dimension == null) {
+            dimension = delegate.dimension();
+            this.dimension = dimension;
+        }
+        return dimension;
+    }
+
+    /**
+     * @return a snapshot of the hit and miss counts.
+     */
+    public Stats stats() {
+        return new Stats(memoryHits.get(), diskHits.get(), misses.get());
+    }
+
+    /**
+     * Removes all cached embeddings from memory. The on-disk tier is not affected.
+     */
+    public void clearMemory() {
+        synchronized (memory) {
+            memory.clear();
+        }
+    }
+
+    private float[] get(String key) {
+        float[] vector;
+        synchronized (memory) {
+            vector = memory.get(key);
+        }
+        if (vector != null) {
+            memoryHits.incrementAndGet();
+            return vector;
+        }
+
+        if (directory != null) {
+            vector = readFromDisk(key);
+            if (vector != null) {
+                diskHits.incrementAndGet();
+                synchronized (memory) {
+                    memory.put(key, vector);
+                }
+                return vector;
+            }
+        }
+
+        return null;
+    }
+
+    private void put(String key, float[] vector) {
+        synchronized (memory) {
+            memory.put(key, vector);
+        }
+        if (directory != null) {
+            writeToDisk(key, vector);
+        }
+    }
+
+    private float[] readFromDisk(String key) {
+        Path file = file(key);
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read cached embedding from '{}', treating it as a cache miss", file, e);
+            return null;
+        }
+        int dimension = dimension();
+        if (bytes.length != dimension * Float.BYTES) {
+            log.warn("Cached embedding in '{}' has {} bytes, but {} were expected for dimension {}, " +
+                    "treating it as a cache miss", file, bytes.length, dimension * Float.BYTES, dimension);
+            return null;
+        }
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+
+    /**
+     * The embedding was already paid for, so a failure to cache it on disk does not fail the call.
+     */
+    private void writeToDisk(String key, float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        Path file = file(key);
+        Path temporaryFile = null;
+        try {
+            Files.createDirectories(file.getParent());
+            // written to a temporary file first, so that concurrent readers never see a partially written file
+            temporaryFile = Files.createTempFile(file.getParent(), key, ".tmp");
+            Files.write(temporaryFile, buffer.array());
+            try {
+                Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, file, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to cache embedding in '{}'", file, e);
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path file(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    private String key(String text) {
+        MessageDigest digest = sha256();
+        digest.update(modelName.getBytes(UTF_8));
+        digest.update((byte) 0);
+        digest.update(text.getBytes(UTF_8));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private String modelName;
+        private Integer maxMemoryEntries;
+        private Path directory;
+
+        /**
+         * @param delegate the {@link EmbeddingModel} to cache embeddings of. Mandatory.
+         * @return {@code this}
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param modelName the name of the model and its configuration, used as part of cache keys. Mandatory.
+         * @return {@code this}
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param maxMemoryEntries the maximum number of embeddings kept in memory.
+         *                         Default value: {@value #DEFAULT_MAX_MEMORY_ENTRIES}.
+         * @return {@code this}
+         */
+        public Builder maxMemoryEntries(Integer maxMemoryEntries) {
+            this.maxMemoryEntries = maxMemoryEntries;
+            return this;
+        }
+
+        /**
+         * @param directory the directory of the on-disk tier. Optional.
+         *                  If none is specified, embeddings are cached only in memory.
+         * @return {@code this}
+         */
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(delegate, modelName, maxMemoryEntries, directory);
+        }
+    }
+
+    /**
+     * A snapshot of the hit and miss counts of a {@link CachingEmbeddingModel}.
+     */
+    public static class Stats {
+
+        private final long memoryHitCount;
+        private final long diskHitCount;
+        private final long missCount;
+
+        Stats(long memoryHitCount, long diskHitCount, long missCount) {
+            this.memoryHitCount = memoryHitCount;
+            this.diskHitCount = diskHitCount;
+            this.missCount = missCount;
+        }
+
+        /**
+         * @return the number of embeddings found in memory.
+         */
+        public long memoryHitCount() {
+            return memoryHitCount;
+        }
+
+        /**
+         * @return the number of embeddings found on disk (but not in memory).
+         */
+        public long diskHitCount() {
+            return diskHitCount;
+        }
+
+        /**
+         * @return the number of embeddings found in any tier.
+         */
+        public long hitCount() {
+            return memoryHitCount + diskHitCount;
+        }
+
+        /**
+         * @return the number of distinct texts sent to the delegate model.
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the ratio of hits to all lookups, or 0 if there were no lookups.
+         */
+        public double hitRate() {
+            long total = hitCount() + missCount;
+            return total == 0 ? 0 : (double) hitCount() / total;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats {" +
+                    " memoryHitCount = " + memoryHitCount +
+                    ", diskHitCount = " + diskHitCount +
+                    ", missCount = " + missCount +
+                    " }";
+        }
+    }
+}
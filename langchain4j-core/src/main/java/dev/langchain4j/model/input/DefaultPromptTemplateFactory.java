@@ -2,7 +2,9 @@ package dev.langchain4j.model.input;
 
 import dev.langchain4j.spi.prompt.PromptTemplateFactory;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
@@ -18,37 +20,65 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
         return new DefaultTemplate(input.getTemplate());
     }
 
+    /**
+     * A template that is compiled once into a sequence of literal text and variables,
+     * so that rendering is a single pass over the template.
+     */
     static class DefaultTemplate implements Template {
 
         @SuppressWarnings("RegExpRedundantEscape")
         private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{\\{(.+?)\\}\\}");
 
-        private final String template;
         private final Set<String> allVariables;
+        /**
+         * Literal text surrounding the variables: {@code literals[i]} precedes {@code variables[i]},
+         * the last literal follows the last variable.
+         */
+        private final String[] literals;
+        private final String[] variables;
+        private final int literalsLength;
 
         public DefaultTemplate(String template) {
-            this.template = ensureNotBlank(template, "template");
-            this.allVariables = extractVariables(template);
-        }
+            ensureNotBlank(template, "template");
 
-        private static Set<String> extractVariables(String template) {
-            Set<String> variables = new HashSet<>();
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
             Matcher matcher = VARIABLE_PATTERN.matcher(template);
+            int literalStart = 0;
             while (matcher.find()) {
+                literals.add(template.substring(literalStart, matcher.start()));
                 variables.add(matcher.group(1));
+                literalStart = matcher.end();
+            }
+            literals.add(template.substring(literalStart));
+
+            this.literals = literals.toArray(new String[0]);
+            this.variables = variables.toArray(new String[0]);
+            this.allVariables = new HashSet<>(variables);
+            int literalsLength = 0;
+            for (String literal : literals) {
+                literalsLength += literal.length();
             }
-            return variables;
+            this.literalsLength = literalsLength;
         }
 
         public String render(Map<String, Object> variables) {
             ensureAllVariablesProvided(variables);
+            ensureNoNullValues(variables);
 
-            String result = template;
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                result = replaceAll(result, entry.getKey(), entry.getValue());
+            String[] values = new String[this.variables.length];
+            int length = literalsLength;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = variables.get(this.variables[i]).toString();
+                length += values[i].length();
             }
 
-            return result;
+            StringBuilder result = new StringBuilder(length);
+            for (int i = 0; i < values.length; i++) {
+                result.append(literals[i]).append(values[i]);
+            }
+            result.append(literals[values.length]);
+            return result.toString();
         }
 
         private void ensureAllVariablesProvided(Map<String, Object> providedVariables) {
@@ -59,15 +89,13 @@ class DefaultPromptTemplateFactory implements PromptTemplateFactory {
             }
         }
 
-        private static String replaceAll(String template, String variable, Object value) {
-            if (value == null || value.toString() == null) {
-                throw illegalArgument("Value for the variable '%s' is null", variable);
+        private static void ensureNoNullValues(Map<String, Object> providedVariables) {
+            for (Map.Entry<String, Object> entry : providedVariables.entrySet()) {
+                Object value = entry.getValue();
+                if (value == null || value.toString() == null) {
+                    throw illegalArgument("Value for the variable '%s' is null", entry.getKey());
+                }
             }
-            return template.replace(inDoubleCurlyBrackets(variable), value.toString());
-        }
-
-        private static String inDoubleCurlyBrackets(String variable) {
-            return "{{" + variable + "}}";
         }
     }
 }
@@ -39,6 +39,9 @@ public class PromptTemplate {
     private final String templateString;
     private final PromptTemplateFactory.Template template;
     private final Clock clock;
+    private final boolean currentDateUsed;
+    private final boolean currentTimeUsed;
+    private final boolean currentDateTimeUsed;
 
     /**
      * Create a new PromptTemplate.
@@ -72,6 +75,10 @@ public class PromptTemplate {
             }
         });
         this.clock = ensureNotNull(clock, "clock");
+        // the syntax of variables depends on the PromptTemplateFactory, so only the names are looked up
+        this.currentDateUsed = template.contains(CURRENT_DATE);
+        this.currentTimeUsed = template.contains(CURRENT_TIME);
+        this.currentDateTimeUsed = template.contains(CURRENT_DATE_TIME);
     }
 
     /**
@@ -103,16 +110,26 @@ public class PromptTemplate {
     }
 
     /**
-     * Injects the special variables {{current_date}}, {{current_time}}, and {{current_date_time}} into the given map.
+     * Injects the special variables {{current_date}}, {{current_time}}, and {{current_date_time}} into the given map,
+     * if they are referenced by the template.
      *
      * @param variables the map to inject the variables into.
-     * @return a copy of the map with the variables injected.
+     * @return a copy of the map with the variables injected, or the given map if the template references none of them.
      */
     private Map<String, Object> injectDateTimeVariables(Map<String, Object> variables) {
+        if (!currentDateUsed && !currentTimeUsed && !currentDateTimeUsed) {
+            return variables;
+        }
         Map<String, Object> variablesCopy = new HashMap<>(variables);
-        variablesCopy.put(CURRENT_DATE, LocalDate.now(clock));
-        variablesCopy.put(CURRENT_TIME, LocalTime.now(clock));
-        variablesCopy.put(CURRENT_DATE_TIME, LocalDateTime.now(clock));
+        if (currentDateUsed) {
+            variablesCopy.put(CURRENT_DATE, LocalDate.now(clock));
+        }
+        if (currentTimeUsed) {
+            variablesCopy.put(CURRENT_TIME, LocalTime.now(clock));
+        }
+        if (currentDateTimeUsed) {
+            variablesCopy.put(CURRENT_DATE_TIME, LocalDateTime.now(clock));
+        }
         return variablesCopy;
     }
 
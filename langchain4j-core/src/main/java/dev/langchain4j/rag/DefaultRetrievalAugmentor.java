@@ -18,7 +18,10 @@ import lombok.Builder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
@@ -91,6 +94,9 @@ import static java.util.stream.Collectors.*;
  * When there is only a single {@link Query} and a single {@link ContentRetriever},
  * query routing and content retrieval are performed in the same thread.
  * Otherwise, an {@link Executor} is used to parallelize the processing.
+ * When there are multiple {@link Query}s, each {@link ContentRetriever} that
+ * {@link ContentRetriever#supportsBatchRetrieval() supports batch retrieval} receives all {@link Query}s routed to it
+ * in a single {@link ContentRetriever#retrieveAll(List)} call, while the other ones receive each {@link Query} in parallel.
  * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
  * is used, but you can provide a custom {@link Executor} instance.
  *
@@ -180,19 +186,15 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                 return emptyMap();
             }
         } else if (queries.size() > 1) {
-            Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents = new ConcurrentHashMap<>();
-            queries.forEach(query -> {
-                CompletableFuture<Collection<List<Content>>> futureContents =
-                        supplyAsync(() -> {
-                                    Collection<ContentRetriever> retrievers = queryRouter.route(query);
-                                    log(query, retrievers);
-                                    return retrievers;
-                                },
-                                executor
-                        ).thenCompose(retrievers -> retrieveFromAll(retrievers, query));
-                queryToFutureContents.put(query, futureContents);
-            });
-            return join(queryToFutureContents);
+            Map<Query, CompletableFuture<Collection<ContentRetriever>>> queryToFutureRetrievers = new LinkedHashMap<>();
+            queries.forEach(query -> queryToFutureRetrievers.put(query, supplyAsync(() -> {
+                        Collection<ContentRetriever> retrievers = queryRouter.route(query);
+                        log(query, retrievers);
+                        return retrievers;
+                    },
+                    executor
+            )));
+            return retrieveFromAll(join(queryToFutureRetrievers));
         } else {
             return emptyMap();
         }
@@ -212,22 +214,68 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
                 );
     }
 
+    /**
+     * Retrieves the contents of all queries from their retrievers in parallel.
+     * A retriever that {@link ContentRetriever#supportsBatchRetrieval() supports batch retrieval} receives
+     * all its queries in a single {@link ContentRetriever#retrieveAll(List)} call,
+     * the other retrievers receive each query in a separate parallel {@link ContentRetriever#retrieve(Query)} call.
+     */
+    private Map<Query, Collection<List<Content>>> retrieveFromAll(Map<Query, Collection<ContentRetriever>> queryToRetrievers) {
+        Map<ContentRetriever, List<Query>> retrieverToQueries = new LinkedHashMap<>();
+        queryToRetrievers.forEach((query, retrievers) -> retrievers.forEach(retriever ->
+                retrieverToQueries.computeIfAbsent(retriever, ignored -> new ArrayList<>()).add(query)));
+
+        Map<ContentRetriever, Map<Query, CompletableFuture<List<Content>>>> retrieverToFutureContents = new HashMap<>();
+        retrieverToQueries.forEach((retriever, retrieverQueries) -> {
+            Map<Query, CompletableFuture<List<Content>>> queryToFutureContents = new HashMap<>();
+            if (retrieverQueries.size() > 1 && retriever.supportsBatchRetrieval()) {
+                CompletableFuture<Map<Query, List<Content>>> futureBatch =
+                        supplyAsync(() -> retrieveAll(retriever, retrieverQueries), executor);
+                retrieverQueries.forEach(query ->
+                        queryToFutureContents.put(query, futureBatch.thenApply(batch -> batch.get(query))));
+            } else {
+                retrieverQueries.forEach(query ->
+                        queryToFutureContents.put(query, supplyAsync(() -> retrieve(retriever, query), executor)));
+            }
+            retrieverToFutureContents.put(retriever, queryToFutureContents);
+        });
+
+        allOf(retrieverToFutureContents.values().stream()
+                .flatMap(queryToFutureContents -> queryToFutureContents.values().stream())
+                .toArray(CompletableFuture[]::new)).join();
+
+        return queryToRetrievers.entrySet().stream()
+                .collect(toMap(
+                        Map.Entry::getKey,
+                        entry -> entry.getValue().stream()
+                                .map(retriever -> retrieverToFutureContents.get(retriever).get(entry.getKey()).join())
+                                .collect(toList())
+                ));
+    }
+
+    private static Map<Query, List<Content>> retrieveAll(ContentRetriever retriever, List<Query> queries) {
+        List<List<Content>> contents = retriever.retrieveAll(queries);
+        Map<Query, List<Content>> queryToContents = new HashMap<>();
+        for (int i = 0; i < queries.size(); i++) {
+            log(queries.get(i), retriever, contents.get(i));
+            queryToContents.put(queries.get(i), contents.get(i));
+        }
+        return queryToContents;
+    }
+
     private static List<Content> retrieve(ContentRetriever retriever, Query query) {
         List<Content> contents = retriever.retrieve(query);
         log(query, retriever, contents);
         return contents;
     }
 
-    private static Map<Query, Collection<List<Content>>> join(
-            Map<Query, CompletableFuture<Collection<List<Content>>>> queryToFutureContents) {
-        return allOf(queryToFutureContents.values().toArray(new CompletableFuture[0]))
-                .thenApply(ignored ->
-                        queryToFutureContents.entrySet().stream()
-                                .collect(toMap(
-                                        Map.Entry::getKey,
-                                        entry -> entry.getValue().join()
-                                ))
-                ).join();
+    private static <T> Map<Query, T> join(Map<Query, CompletableFuture<T>> queryToFutures) {
+        return allOf(queryToFutures.values().toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> {
+                    Map<Query, T> queryToValues = new LinkedHashMap<>();
+                    queryToFutures.forEach((query, future) -> queryToValues.put(query, future.join()));
+                    return queryToValues;
+                }).join();
     }
 
     private static void logQueries(Query originalQuery, Collection<Query> queries) {
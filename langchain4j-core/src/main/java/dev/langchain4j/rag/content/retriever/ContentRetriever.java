@@ -1,8 +1,10 @@
 package dev.langchain4j.rag.content.retriever;
 
+import dev.langchain4j.Experimental;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,4 +37,35 @@ public interface ContentRetriever {
      * @return A list of retrieved {@link Content}s.
      */
     List<Content> retrieve(Query query);
+
+    /**
+     * Retrieves relevant {@link Content}s for multiple {@link Query}s at once.
+     * <br>
+     * By default, each {@link Query} is retrieved separately using {@link #retrieve(Query)}.
+     * Retrievers that can serve several queries in a single round-trip override this method
+     * and {@link #supportsBatchRetrieval()}.
+     *
+     * @param queries The {@link Query}s to use for retrieval.
+     * @return A list containing the retrieved {@link Content}s of each {@link Query}, in the same order as the queries.
+     */
+    @Experimental
+    default List<List<Content>> retrieveAll(List<Query> queries) {
+        List<List<Content>> contents = new ArrayList<>(queries.size());
+        for (Query query : queries) {
+            contents.add(retrieve(query));
+        }
+        return contents;
+    }
+
+    /**
+     * Indicates whether this retriever serves multiple {@link Query}s more efficiently
+     * with {@link #retrieveAll(List)} than with separate {@link #retrieve(Query)} calls.
+     * When it does not, the {@link Query}s are better retrieved in parallel, one by one.
+     *
+     * @return {@code true} if {@link #retrieveAll(List)} batches the {@link Query}s, {@code false} by default.
+     */
+    @Experimental
+    default boolean supportsBatchRetrieval() {
+        return false;
+    }
 }
@@ -13,6 +13,7 @@ import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.Filter;
 import lombok.Builder;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
@@ -20,6 +21,7 @@ import java.util.function.Function;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.*;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -187,6 +189,49 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
         EmbeddingSearchResult<TextSegment> searchResult = embeddingStore.search(searchRequest);
 
+        return toContents(searchResult);
+    }
+
+    /**
+     * Embeds all query texts with a single call to the {@link EmbeddingModel},
+     * then searches the {@link EmbeddingStore} with {@link EmbeddingStore#searchAll(List)}.
+     */
+    @Override
+    public List<List<Content>> retrieveAll(List<Query> queries) {
+        if (queries.isEmpty()) {
+            return emptyList();
+        }
+
+        List<TextSegment> querySegments = queries.stream()
+                .map(query -> TextSegment.from(query.text()))
+                .collect(toList());
+        List<Embedding> embeddedQueries = embeddingModel.embedAll(querySegments).content();
+
+        List<EmbeddingSearchRequest> searchRequests = new ArrayList<>(queries.size());
+        for (int i = 0; i < queries.size(); i++) {
+            Query query = queries.get(i);
+            searchRequests.add(EmbeddingSearchRequest.builder()
+                    .queryEmbedding(embeddedQueries.get(i))
+                    .maxResults(maxResultsProvider.apply(query))
+                    .minScore(minScoreProvider.apply(query))
+                    .filter(filterProvider.apply(query))
+                    .build());
+        }
+
+        return embeddingStore.searchAll(searchRequests).stream()
+                .map(EmbeddingStoreContentRetriever::toContents)
+                .collect(toList());
+    }
+
+    /**
+     * @return {@code true}, as {@link #retrieveAll(List)} embeds all query texts with a single call.
+     */
+    @Override
+    public boolean supportsBatchRetrieval() {
+        return true;
+    }
+
+    private static List<Content> toContents(EmbeddingSearchResult<TextSegment> searchResult) {
         return searchResult.matches().stream()
                 .map(EmbeddingMatch::embedded)
                 .map(Content::from)
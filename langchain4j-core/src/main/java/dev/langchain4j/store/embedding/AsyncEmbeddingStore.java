@@ -0,0 +1,118 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.Experimental;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * Represents a store for embeddings with a non-blocking API.
+ * <br>
+ * Stores whose clients are asynchronous implement this interface natively, next to {@link EmbeddingStore}.
+ * Any other {@link EmbeddingStore} can be adapted with {@link #from(EmbeddingStore)},
+ * in which case its blocking methods are run on an {@link Executor}.
+ * <br>
+ * Failures, including invalid arguments, are reported by completing the returned future exceptionally.
+ *
+ * @param <Embedded> The class of the object that has been embedded. Typically, this is {@link dev.langchain4j.data.segment.TextSegment}.
+ */
+@Experimental
+public interface AsyncEmbeddingStore<Embedded> {
+
+    /**
+     * Adds multiple embeddings to the store.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @return A future completed with the list of auto-generated IDs associated with the added embeddings.
+     */
+    CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings);
+
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     * @return A future completed with the list of auto-generated IDs associated with the added embeddings.
+     */
+    CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<Embedded> embedded);
+
+    /**
+     * Searches for the most similar (closest in the embedding space) {@link Embedding}s.
+     *
+     * @param request A request to search in an {@link EmbeddingStore}. Contains all search criteria.
+     * @return A future completed with an {@link EmbeddingSearchResult} containing all found {@link Embedding}s.
+     * @see EmbeddingStore#search(EmbeddingSearchRequest)
+     */
+    CompletableFuture<EmbeddingSearchResult<Embedded>> searchAsync(EmbeddingSearchRequest request);
+
+    /**
+     * Removes all embeddings that match the specified IDs from the store.
+     *
+     * @param ids A collection of unique IDs of the embeddings to be removed.
+     * @return A future completed once the embeddings are removed.
+     */
+    default CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        return failedFuture(new UnsupportedOperationException("Not supported yet."));
+    }
+
+    /**
+     * Removes all embeddings that match the specified {@link Filter} from the store.
+     *
+     * @param filter The filter to be applied to the metadata of the embedded content during removal.
+     * @return A future completed once the embeddings are removed.
+     */
+    default CompletableFuture<Void> removeAllAsync(Filter filter) {
+        return failedFuture(new UnsupportedOperationException("Not supported yet."));
+    }
+
+    /**
+     * Returns the asynchronous API of the provided store.
+     * If the store implements {@link AsyncEmbeddingStore} natively, it is returned as is.
+     * Otherwise, its blocking methods are run on a default executor, that creates threads as needed.
+     *
+     * @param embeddingStore The embedding store.
+     * @param <Embedded>     The class of the object that has been embedded.
+     * @return the asynchronous embedding store.
+     */
+    static <Embedded> AsyncEmbeddingStore<Embedded> from(EmbeddingStore<Embedded> embeddingStore) {
+        return from(embeddingStore, null);
+    }
+
+    /**
+     * Returns the asynchronous API of the provided store.
+     * If the store implements {@link AsyncEmbeddingStore} natively, it is returned as is.
+     * Otherwise, its blocking methods are run on the provided executor.
+     *
+     * @param embeddingStore The embedding store.
+     * @param executor       The executor running blocking calls. Optional, a default executor is used when null.
+     * @param <Embedded>     The class of the object that has been embedded.
+     * @return the asynchronous embedding store.
+     */
+    @SuppressWarnings("unchecked")
+    static <Embedded> AsyncEmbeddingStore<Embedded> from(EmbeddingStore<Embedded> embeddingStore, Executor executor) {
+        ensureNotNull(embeddingStore, "embeddingStore");
+        if (embeddingStore instanceof AsyncEmbeddingStore) {
+            return (AsyncEmbeddingStore<Embedded>) embeddingStore;
+        }
+        return new AsyncEmbeddingStoreAdapter<>(embeddingStore, executor);
+    }
+
+    /**
+     * Creates a future that is already completed exceptionally with the provided error.
+     *
+     * @param error The error.
+     * @param <T>   The type of the future.
+     * @return the failed future.
+     */
+    static <T> CompletableFuture<T> failedFuture(Throwable error) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(error);
+        return future;
+    }
+}
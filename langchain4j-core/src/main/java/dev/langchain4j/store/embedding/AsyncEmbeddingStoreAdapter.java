@@ -0,0 +1,73 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Adapts a blocking {@link EmbeddingStore} to the {@link AsyncEmbeddingStore} API,
+ * by running its methods on an {@link Executor}.
+ */
+class AsyncEmbeddingStoreAdapter<Embedded> implements AsyncEmbeddingStore<Embedded> {
+
+    private final EmbeddingStore<Embedded> embeddingStore;
+    private final Executor executor;
+
+    AsyncEmbeddingStoreAdapter(EmbeddingStore<Embedded> embeddingStore, Executor executor) {
+        this.embeddingStore = embeddingStore;
+        this.executor = getOrDefault(executor, DefaultExecutorHolder.INSTANCE);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+        return supplyAsync(() -> embeddingStore.addAll(embeddings), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<Embedded> embedded) {
+        return supplyAsync(() -> embeddingStore.addAll(embeddings, embedded), executor);
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<Embedded>> searchAsync(EmbeddingSearchRequest request) {
+        return supplyAsync(() -> embeddingStore.search(request), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        return runAsync(() -> embeddingStore.removeAll(ids), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        return runAsync(() -> embeddingStore.removeAll(filter), executor);
+    }
+
+    private static class DefaultExecutorHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final Executor INSTANCE = new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE,
+                60, SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "embedding-store-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+}
@@ -2,6 +2,8 @@ package dev.langchain4j.store.embedding;
 
 import dev.langchain4j.data.embedding.Embedding;
 
+import java.nio.FloatBuffer;
+
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
@@ -63,6 +65,109 @@ public class CosineSimilarity {
         return dotProduct / Math.max(Math.sqrt(normA) * Math.sqrt(normB), EPSILON);
     }
 
+    /**
+     * Calculates cosine similarity between two vectors that are already normalized to unit length
+     * (see {@link Embedding#normalize()}).
+     * <p>
+     * For such vectors, cosine similarity is equal to their dot product, so norms are not recomputed.
+     * This makes it considerably faster than {@link #between(Embedding, Embedding)}
+     * when the same vector is compared with many others.
+     * <p>
+     * The result is undefined if either vector is not normalized.
+     *
+     * @param embeddingA first normalized embedding vector
+     * @param embeddingB second normalized embedding vector
+     * @return cosine similarity in the range [-1..1]
+     */
+    public static double betweenNormalized(Embedding embeddingA, Embedding embeddingB) {
+        ensureNotNull(embeddingA, "embeddingA");
+        ensureNotNull(embeddingB, "embeddingB");
+
+        return dotProduct(embeddingA.vector(), embeddingB.vector());
+    }
+
+    /**
+     * Calculates dot product of two vectors.
+     *
+     * @param vectorA first vector
+     * @param vectorB second vector
+     * @return dot product
+     */
+    public static double dotProduct(float[] vectorA, float[] vectorB) {
+        if (vectorA.length != vectorB.length) {
+            throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                    vectorA.length, vectorB.length);
+        }
+
+        return dotProduct(vectorA, 0, vectorB, 0, vectorA.length);
+    }
+
+    /**
+     * Calculates dot product of two vectors stored in arrays at the given offsets,
+     * e.g., rows of a matrix packed into a single array.
+     *
+     * @param vectorA array holding the first vector
+     * @param offsetA index of the first component of the first vector
+     * @param vectorB array holding the second vector
+     * @param offsetB index of the first component of the second vector
+     * @param length  number of components of both vectors
+     * @return dot product
+     */
+    public static double dotProduct(float[] vectorA, int offsetA, float[] vectorB, int offsetB, int length) {
+        // unrolled, with independent accumulators, so that the JIT can pipeline and vectorize the loop
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            sum0 += vectorA[offsetA + i] * vectorB[offsetB + i];
+            sum1 += vectorA[offsetA + i + 1] * vectorB[offsetB + i + 1];
+            sum2 += vectorA[offsetA + i + 2] * vectorB[offsetB + i + 2];
+            sum3 += vectorA[offsetA + i + 3] * vectorB[offsetB + i + 3];
+        }
+        for (; i < length; i++) {
+            sum0 += vectorA[offsetA + i] * vectorB[offsetB + i];
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
+    /**
+     * Same as {@link #dotProduct(float[], int, float[], int, int)}, but for vectors stored in buffers
+     * that are not backed by an array, e.g., direct or memory-mapped ones.
+     * The positions of the buffers are not used nor modified.
+     *
+     * @param vectorA buffer holding the first vector
+     * @param offsetA index of the first component of the first vector
+     * @param vectorB buffer holding the second vector
+     * @param offsetB index of the first component of the second vector
+     * @param length  number of components of both vectors
+     * @return dot product
+     */
+    public static double dotProduct(FloatBuffer vectorA, int offsetA, FloatBuffer vectorB, int offsetB, int length) {
+        double sum0 = 0.0;
+        double sum1 = 0.0;
+        double sum2 = 0.0;
+        double sum3 = 0.0;
+
+        int i = 0;
+        int bound = length & ~3;
+        for (; i < bound; i += 4) {
+            sum0 += vectorA.get(offsetA + i) * vectorB.get(offsetB + i);
+            sum1 += vectorA.get(offsetA + i + 1) * vectorB.get(offsetB + i + 1);
+            sum2 += vectorA.get(offsetA + i + 2) * vectorB.get(offsetB + i + 2);
+            sum3 += vectorA.get(offsetA + i + 3) * vectorB.get(offsetB + i + 3);
+        }
+        for (; i < length; i++) {
+            sum0 += vectorA.get(offsetA + i) * vectorB.get(offsetB + i);
+        }
+
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
     /**
      * Converts relevance score into cosine similarity.
      *
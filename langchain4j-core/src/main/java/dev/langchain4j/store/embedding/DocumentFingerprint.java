@@ -0,0 +1,110 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Metadata;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * The state of an ingested document, as recorded in an {@link IngestionManifest}:
+ * a hash of the document content and the hashes of all text segments it was split into.
+ */
+public class DocumentFingerprint {
+
+    private final String documentHash;
+    private final Set<String> segmentHashes;
+
+    public DocumentFingerprint(String documentHash, Set<String> segmentHashes) {
+        this.documentHash = ensureNotBlank(documentHash, "documentHash");
+        this.segmentHashes = unmodifiableSet(new LinkedHashSet<>(ensureNotNull(segmentHashes, "segmentHashes")));
+    }
+
+    /**
+     * @return the hash of the text and metadata of the document.
+     */
+    public String documentHash() {
+        return documentHash;
+    }
+
+    /**
+     * @return the hashes of the text and metadata of all text segments of the document.
+     */
+    public Set<String> segmentHashes() {
+        return segmentHashes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DocumentFingerprint that = (DocumentFingerprint) o;
+        return Objects.equals(this.documentHash, that.documentHash)
+                && Objects.equals(this.segmentHashes, that.segmentHashes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(documentHash, segmentHashes);
+    }
+
+    @Override
+    public String toString() {
+        return "DocumentFingerprint {" +
+                " documentHash = " + documentHash +
+                ", segmentHashes = " + segmentHashes +
+                " }";
+    }
+
+    /**
+     * Calculates a SHA-256 hash of the text and metadata (in the order of the keys).
+     *
+     * @return the hash, as a hexadecimal string.
+     */
+    static String hash(String text, Metadata metadata) {
+        return hash(text, metadata, emptySet());
+    }
+
+    /**
+     * Calculates a SHA-256 hash of the text and metadata (in the order of the keys),
+     * ignoring the metadata entries with the specified keys.
+     *
+     * @return the hash, as a hexadecimal string.
+     */
+    static String hash(String text, Metadata metadata, Set<String> ignoredMetadataKeys) {
+        MessageDigest digest = sha256();
+        digest.update(text.getBytes(UTF_8));
+        for (Map.Entry<String, Object> entry : new TreeMap<>(metadata.toMap()).entrySet()) {
+            if (ignoredMetadataKeys.contains(entry.getKey())) {
+                continue;
+            }
+            digest.update((byte) 0);
+            digest.update(entry.getKey().getBytes(UTF_8));
+            digest.update((byte) '=');
+            digest.update(String.valueOf(entry.getValue()).getBytes(UTF_8));
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest()) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
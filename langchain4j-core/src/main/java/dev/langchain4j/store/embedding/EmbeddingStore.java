@@ -6,10 +6,12 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.filter.Filter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.Collections.singletonList;
 
 /**
@@ -61,6 +63,22 @@ public interface EmbeddingStore<Embedded> {
      */
     List<String> addAll(List<Embedding> embeddings, List<Embedded> embedded);
 
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store,
+     * under the provided IDs.
+     * <br>
+     * Embeddings whose IDs are already present in the store replace the existing ones,
+     * so calling this method again with the same IDs (e.g., to retry after a failure) does not create duplicates.
+     *
+     * @param ids        A list of unique IDs of the embeddings to be added to the store.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     */
+    @Experimental
+    default void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        throw new UnsupportedOperationException("Not supported yet.");
+    }
+
     /**
      * Removes a single embedding from the store by ID.
      *
@@ -119,6 +137,25 @@ public interface EmbeddingStore<Embedded> {
         return new EmbeddingSearchResult<>(matches);
     }
 
+    /**
+     * Searches for the most similar (closest in the embedding space) {@link Embedding}s for multiple requests at once.
+     * <br>
+     * By default, the requests are searched one after another using {@link #search(EmbeddingSearchRequest)}.
+     * Stores that can run several searches in a single round-trip override this method.
+     *
+     * @param requests The requests to search in an {@link EmbeddingStore}. Each contains its own search criteria.
+     * @return A list of {@link EmbeddingSearchResult}s, in the same order as the requests.
+     */
+    @Experimental
+    default List<EmbeddingSearchResult<Embedded>> searchAll(List<EmbeddingSearchRequest> requests) {
+        ensureNotNull(requests, "requests");
+        List<EmbeddingSearchResult<Embedded>> results = new ArrayList<>(requests.size());
+        for (EmbeddingSearchRequest request : requests) {
+            results.add(search(request));
+        }
+        return results;
+    }
+
     /**
      * Finds the most relevant (closest in space) embeddings to the provided reference embedding.
      * By default, minScore is set to 0, which means that the results may include embeddings with low relevance.
@@ -9,16 +9,39 @@ import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.spi.data.document.splitter.DocumentSplitterFactory;
 import dev.langchain4j.spi.model.embedding.EmbeddingModelFactory;
+import dev.langchain4j.store.embedding.filter.Filter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.RetryUtils.withRetry;
+import static dev.langchain4j.internal.Utils.generateUUIDFrom;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -46,15 +69,79 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Including a document title or a short summary in each {@code TextSegment} is a common technique
  * to improve the quality of similarity searches.
+ * <br>
+ * <br>
+ * Optionally, documents can be ingested in batches of a configured size (see {@link Builder#batchSize(Integer)}).
+ * Each batch is transformed and split on the calling thread, then embedded and stored
+ * using a provided {@link Executor} (see {@link Builder#executor(Executor)}),
+ * so that preparing the next batch overlaps with embedding and storing the previous ones.
+ * The number of batches being prepared, embedded and stored at the same time is bounded
+ * (see {@link Builder#maxInFlightBatches(Integer)}), so only a few batches are held in memory at once.
+ * Embedding and storing a batch can be retried (see {@link Builder#maxAttempts(Integer)}).
+ * By default, when a batch fails, no further batches are submitted and the failure is thrown
+ * once the in-flight batches are done.
+ * Alternatively, failures can be collected (see {@link Builder#collectFailures(Boolean)}):
+ * the remaining batches are then still ingested and the failures are reported in the {@link IngestionResult}
+ * returned by {@link #ingestAll(List)}, {@link #ingest(Iterator)} or {@link #ingest(Stream)}.
+ * <br>
+ * <br>
+ * Optionally, ingestion can be incremental (see {@link Builder#manifest(IngestionManifest)}).
+ * The hash of each ingested document and the hashes of its text segments are recorded in an {@link IngestionManifest}.
+ * When the same document (identified by its ID) is ingested again, it is skipped if it did not change.
+ * If it did change, only its new or changed text segments are embedded and stored
+ * (the position of a segment, i.e. its {@code index} metadata entry, is not taken into account),
+ * and its text segments that are not present anymore are removed from the {@link EmbeddingStore}
+ * (using {@link EmbeddingStore#removeAll(Filter)}).
+ * To make this possible, each stored text segment gets the {@value #DOCUMENT_ID_METADATA_KEY}
+ * and {@value #SEGMENT_HASH_METADATA_KEY} metadata entries.
+ * <br>
+ * The manifest is flushed after each batch, and the ID of each stored text segment is derived from
+ * the document ID and the segment hash (using {@link EmbeddingStore#addAll(List, List, List)}),
+ * so ingesting again after a failed or interrupted ingestion overwrites the text segments stored in the meantime
+ * instead of duplicating them. Stores that do not support adding embeddings with IDs generate the IDs themselves,
+ * in which case such text segments can be duplicated.
+ * <br>
+ * Text segments that are already stored are not stored again when their document changes,
+ * so their metadata stays as it was when they were stored. In particular, their {@code index} metadata entry
+ * is not updated when preceding text segments are inserted or removed.
  */
 @Slf4j
 public class EmbeddingStoreIngestor {
 
+    /**
+     * The metadata key under which the ID of the source document is stored in each text segment
+     * when ingesting incrementally.
+     */
+    public static final String DOCUMENT_ID_METADATA_KEY = "document_id";
+
+    /**
+     * The metadata key under which the hash of each text segment is stored when ingesting incrementally.
+     */
+    public static final String SEGMENT_HASH_METADATA_KEY = "segment_hash";
+
+    static final int DEFAULT_STREAMING_BATCH_SIZE = 100;
+
+    /**
+     * Metadata keys describing the position of a text segment within its document (set by the document splitters).
+     * They are not part of the segment hash: otherwise, inserting a paragraph would change the hashes
+     * of all the following segments, and they would all be embedded again.
+     */
+    static final Set<String> POSITIONAL_METADATA_KEYS = singleton("index");
+
     private final DocumentTransformer documentTransformer;
     private final DocumentSplitter documentSplitter;
     private final TextSegmentTransformer textSegmentTransformer;
     private final EmbeddingModel embeddingModel;
     private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Integer batchSize;
+    private final Executor executor;
+    private final int maxInFlightBatches;
+    private final int maxAttempts;
+    private final IngestionManifest manifest;
+    private final Function<Document, String> documentIdProvider;
+    private final boolean removeMissingDocuments;
+    private final boolean collectFailures;
+    private volatile boolean storeAcceptsIds = true;
 
     /**
      * Creates an instance of an {@code EmbeddingStoreIngestor}.
@@ -72,6 +159,50 @@ public class EmbeddingStoreIngestor {
                                   TextSegmentTransformer textSegmentTransformer,
                                   EmbeddingModel embeddingModel,
                                   EmbeddingStore<TextSegment> embeddingStore) {
+        this(documentTransformer, documentSplitter, textSegmentTransformer, embeddingModel, embeddingStore,
+                null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Creates an instance of an {@code EmbeddingStoreIngestor}.
+     *
+     * @param documentTransformer    The {@link DocumentTransformer} to use. Optional.
+     * @param documentSplitter       The {@link DocumentSplitter} to use. Optional.
+     *                               If none is specified, it tries to load one through SPI (see {@link DocumentSplitterFactory}).
+     * @param textSegmentTransformer The {@link TextSegmentTransformer} to use. Optional.
+     * @param embeddingModel         The {@link EmbeddingModel} to use. Mandatory.
+     *                               If none is specified, it tries to load one through SPI (see {@link EmbeddingModelFactory}).
+     * @param embeddingStore         The {@link EmbeddingStore} to use. Mandatory.
+     * @param batchSize              The maximum number of documents in a batch. Optional.
+     *                               If none is specified, all documents of a {@code List} are ingested in a single batch,
+     *                               and documents of an {@code Iterator} or a {@code Stream} in batches of 100.
+     * @param executor               The {@link Executor} used to embed and store batches. Optional.
+     *                               If none is specified, batches are embedded and stored on the calling thread.
+     * @param maxInFlightBatches     The maximum number of batches being prepared, embedded and stored at the same time.
+     *                               Default value: 2.
+     * @param maxAttempts            The maximum number of attempts to embed and to store a batch.
+     *                               Default value: 1 (no retries).
+     * @param manifest               The {@link IngestionManifest} used to ingest incrementally. Optional.
+     * @param documentIdProvider     Provides the ID of a document when ingesting incrementally. Optional.
+     *                               By default, the path of the file or the URL the document was loaded from is used.
+     * @param removeMissingDocuments Whether documents recorded in the manifest that are not present in the ingested
+     *                               documents should be removed from the {@link EmbeddingStore}. Default value: false.
+     * @param collectFailures        Whether failed batches should be reported in the {@link IngestionResult}
+     *                               instead of being thrown. Default value: false.
+     */
+    public EmbeddingStoreIngestor(DocumentTransformer documentTransformer,
+                                  DocumentSplitter documentSplitter,
+                                  TextSegmentTransformer textSegmentTransformer,
+                                  EmbeddingModel embeddingModel,
+                                  EmbeddingStore<TextSegment> embeddingStore,
+                                  Integer batchSize,
+                                  Executor executor,
+                                  Integer maxInFlightBatches,
+                                  Integer maxAttempts,
+                                  IngestionManifest manifest,
+                                  Function<Document, String> documentIdProvider,
+                                  Boolean removeMissingDocuments,
+                                  Boolean collectFailures) {
         this.documentTransformer = documentTransformer;
         this.documentSplitter = getOrDefault(documentSplitter, EmbeddingStoreIngestor::loadDocumentSplitter);
         this.textSegmentTransformer = textSegmentTransformer;
@@ -80,6 +211,32 @@ public class EmbeddingStoreIngestor {
                 "embeddingModel"
         );
         this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.batchSize = batchSize == null ? null : ensureGreaterThanZero(batchSize, "batchSize");
+        this.executor = getOrDefault(executor, Runnable::run);
+        this.maxInFlightBatches = ensureGreaterThanZero(getOrDefault(maxInFlightBatches, 2), "maxInFlightBatches");
+        this.maxAttempts = ensureGreaterThanZero(getOrDefault(maxAttempts, 1), "maxAttempts");
+        this.manifest = manifest;
+        this.documentIdProvider = getOrDefault(documentIdProvider, EmbeddingStoreIngestor::defaultDocumentId);
+        this.removeMissingDocuments = getOrDefault(removeMissingDocuments, false);
+        if (this.removeMissingDocuments && manifest == null) {
+            throw illegalArgument("removeMissingDocuments requires a manifest");
+        }
+        this.collectFailures = getOrDefault(collectFailures, false);
+    }
+
+    private static String defaultDocumentId(Document document) {
+        String directory = document.metadata().getString(Document.ABSOLUTE_DIRECTORY_PATH);
+        String fileName = document.metadata().getString(Document.FILE_NAME);
+        if (directory != null && fileName != null) {
+            return directory + "/" + fileName;
+        }
+        String url = document.metadata().getString(Document.URL);
+        if (url != null) {
+            return url;
+        }
+        throw illegalArgument("Cannot determine the ID of a document without '%s' and '%s' or '%s' metadata. " +
+                        "Please specify a documentIdProvider.",
+                Document.ABSOLUTE_DIRECTORY_PATH, Document.FILE_NAME, Document.URL);
     }
 
     private static DocumentSplitter loadDocumentSplitter() {
@@ -167,9 +324,82 @@ public class EmbeddingStoreIngestor {
      * @param documents the documents to ingest.
      */
     public void ingest(List<Document> documents) {
+        ingestAll(documents);
+    }
+
+    /**
+     * Ingests specified documents into an {@link EmbeddingStore} that was specified
+     * during the creation of this {@code EmbeddingStoreIngestor}, and reports the result of the ingestion.
+     * <br>
+     * Failed batches are reported in the result only if failures are collected
+     * (see {@link Builder#collectFailures(Boolean)}). Otherwise, the first failure is thrown.
+     *
+     * @param documents the documents to ingest.
+     * @return the result of the ingestion.
+     */
+    public IngestionResult ingestAll(List<Document> documents) {
 
         log.debug("Starting to ingest {} documents", documents.size());
 
+        int batchSize = getOrDefault(this.batchSize, Math.max(documents.size(), 1));
+        IngestionResult result = ingest(documents.iterator(), batchSize);
+
+        log.debug("Finished ingesting {} documents: {}", documents.size(), result);
+        return result;
+    }
+
+    /**
+     * Ingests documents provided by the specified {@link Stream} into an {@link EmbeddingStore}
+     * that was specified during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are pulled from the stream lazily, one batch at a time (see {@link #ingest(Iterator)}).
+     * The stream is not closed by this method.
+     *
+     * @param documents the documents to ingest.
+     * @return the result of the ingestion.
+     */
+    public IngestionResult ingest(Stream<Document> documents) {
+        return ingest(documents.iterator());
+    }
+
+    /**
+     * Ingests documents provided by the specified {@link Iterator} into an {@link EmbeddingStore}
+     * that was specified during the creation of this {@code EmbeddingStoreIngestor}.
+     * <br>
+     * Documents are pulled from the iterator lazily, one batch at a time,
+     * and a batch is pulled only once there is room for it in the pipeline.
+     * Thus, the memory needed does not depend on the total number of documents,
+     * only on the batch size and the maximum number of in-flight batches.
+     * If no batch size is specified, batches of 100 documents are used.
+     *
+     * @param documents the documents to ingest.
+     * @return the result of the ingestion.
+     */
+    public IngestionResult ingest(Iterator<Document> documents) {
+
+        log.debug("Starting to ingest documents from an iterator");
+
+        IngestionResult result = ingest(documents, getOrDefault(batchSize, DEFAULT_STREAMING_BATCH_SIZE));
+
+        log.debug("Finished ingesting {} documents: {}", result.documentCount(), result);
+        return result;
+    }
+
+    private IngestionResult ingest(Iterator<Document> documents, int batchSize) {
+        Pipeline pipeline = new Pipeline();
+        int documentCount = 0;
+        int submittedDocumentCount;
+        while ((submittedDocumentCount = pipeline.submitNext(documents, batchSize)) > 0) {
+            documentCount += submittedDocumentCount;
+        }
+        return pipeline.awaitCompletion(documentCount);
+    }
+
+    private PreparedBatch prepare(List<Document> documents) {
+        if (manifest != null) {
+            return prepareIncrementally(documents);
+        }
+
         if (documentTransformer != null) {
             documents = documentTransformer.transformAll(documents);
             log.debug("Documents were transformed into {} documents", documents.size());
@@ -185,18 +415,317 @@ public class EmbeddingStoreIngestor {
         }
         if (textSegmentTransformer != null) {
             segments = textSegmentTransformer.transformAll(segments);
-            log.debug("Text segments were transformed into {} text segments", documents.size());
+            log.debug("Text segments were transformed into {} text segments", segments.size());
         }
+        return new PreparedBatch(segments, emptyList(), emptyList(), 0);
+    }
 
-        // TODO handle failures, parallelize
-        log.debug("Starting to embed {} text segments", segments.size());
-        List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
-        log.debug("Finished embedding {} text segments", segments.size());
+    /**
+     * Compares each document with its fingerprint recorded in the {@link #manifest}.
+     * Unchanged documents are skipped. Changed documents are transformed and split,
+     * but only their new or changed text segments are kept for embedding.
+     */
+    private PreparedBatch prepareIncrementally(List<Document> documents) {
+
+        List<TextSegment> segments = new ArrayList<>();
+        List<DocumentUpdate> updates = new ArrayList<>();
+        List<String> documentIds = new ArrayList<>(documents.size());
+        int unchangedDocumentCount = 0;
 
-        // TODO handle failures, parallelize
-        log.debug("Starting to store {} text segments into the embedding store", segments.size());
+        for (Document document : documents) {
+            String documentId = documentIdProvider.apply(document);
+            documentIds.add(documentId);
+
+            String documentHash = DocumentFingerprint.hash(document.text(), document.metadata());
+            DocumentFingerprint previous = manifest.get(documentId);
+            if (previous != null && previous.documentHash().equals(documentHash)) {
+                unchangedDocumentCount++;
+                continue;
+            }
+
+            Set<String> segmentHashes = new LinkedHashSet<>();
+            for (TextSegment segment : split(document)) {
+                String segmentHash = DocumentFingerprint.hash(segment.text(), segment.metadata(), POSITIONAL_METADATA_KEYS);
+                boolean alreadyStored = previous != null && previous.segmentHashes().contains(segmentHash);
+                if (segmentHashes.add(segmentHash) && !alreadyStored) {
+                    segment.metadata()
+                            .put(DOCUMENT_ID_METADATA_KEY, documentId)
+                            .put(SEGMENT_HASH_METADATA_KEY, segmentHash);
+                    segments.add(segment);
+                }
+            }
+            updates.add(new DocumentUpdate(documentId, previous, new DocumentFingerprint(documentHash, segmentHashes)));
+        }
+
+        log.debug("{} documents did not change, {} new or changed text segments were found",
+                unchangedDocumentCount, segments.size());
+        return new PreparedBatch(segments, updates, documentIds, unchangedDocumentCount);
+    }
+
+    private List<TextSegment> split(Document document) {
+        if (documentTransformer != null) {
+            document = documentTransformer.transform(document);
+            if (document == null) {
+                return emptyList();
+            }
+        }
+        List<TextSegment> segments = documentSplitter != null
+                ? documentSplitter.split(document)
+                : singletonList(document.toTextSegment());
+        return textSegmentTransformer != null
+                ? textSegmentTransformer.transformAll(segments)
+                : segments;
+    }
+
+    private void embedAndStore(PreparedBatch batch) throws Exception {
+
+        List<TextSegment> segments = batch.segments;
+        if (!segments.isEmpty()) {
+            log.debug("Starting to embed {} text segments", segments.size());
+            List<Embedding> embeddings = attempt(() -> embeddingModel.embedAll(segments).content());
+            log.debug("Finished embedding {} text segments", segments.size());
+
+            log.debug("Starting to store {} text segments into the embedding store", segments.size());
+            store(embeddings, segments, manifest != null ? segmentIds(segments) : null);
+            log.debug("Finished storing {} text segments into the embedding store", segments.size());
+        }
+
+        for (DocumentUpdate update : batch.updates) {
+            if (update.previous != null
+                    && !update.current.segmentHashes().containsAll(update.previous.segmentHashes())) {
+                removeStaleSegments(update.documentId, update.current.segmentHashes());
+            }
+            manifest.put(update.documentId, update.current);
+        }
+        if (!batch.updates.isEmpty()) {
+            // so that a failure of a later batch (or a crash) does not cause this one to be embedded again
+            manifest.flush();
+        }
+    }
+
+    /**
+     * The IDs of incrementally ingested text segments are derived from the document ID and the segment hash,
+     * so that ingesting a document again after a failed or interrupted run overwrites the text segments
+     * that were already stored, instead of duplicating them.
+     */
+    private static List<String> segmentIds(List<TextSegment> segments) {
+        return segments.stream()
+                .map(segment -> generateUUIDFrom(segment.metadata().getString(DOCUMENT_ID_METADATA_KEY)
+                        + " " + segment.metadata().getString(SEGMENT_HASH_METADATA_KEY)))
+                .collect(toList());
+    }
+
+    /**
+     * When storing is retried, the IDs are generated once (unless provided), so that a retry overwrites
+     * the text segments that were possibly stored by the failed attempt, instead of duplicating them.
+     * Stores that do not support {@link EmbeddingStore#addAll(List, List, List)} are called only once,
+     * and generate the IDs themselves.
+     */
+    private void store(List<Embedding> embeddings, List<TextSegment> segments, List<String> ids) throws Exception {
+        if ((ids != null || maxAttempts > 1) && storeAcceptsIds) {
+            List<String> segmentIds = ids != null
+                    ? ids
+                    : segments.stream().map(ignored -> randomUUID()).collect(toList());
+            boolean stored = attempt(() -> {
+                try {
+                    embeddingStore.addAll(segmentIds, embeddings, segments);
+                    return true;
+                } catch (UnsupportedOperationException e) {
+                    return false;
+                }
+            });
+            if (stored) {
+                return;
+            }
+            log.debug("The embedding store does not support adding embeddings with IDs, " +
+                    "storing is not retried and the IDs are generated by the store");
+            storeAcceptsIds = false;
+        }
         embeddingStore.addAll(embeddings, segments);
-        log.debug("Finished storing {} text segments into the embedding store", segments.size());
+    }
+
+    private void removeStaleSegments(String documentId, Set<String> currentSegmentHashes) throws Exception {
+        Filter filter = metadataKey(DOCUMENT_ID_METADATA_KEY).isEqualTo(documentId);
+        if (!currentSegmentHashes.isEmpty()) {
+            filter = filter.and(metadataKey(SEGMENT_HASH_METADATA_KEY).isNotIn(currentSegmentHashes));
+        }
+        Filter staleSegments = filter;
+        attempt(() -> {
+            embeddingStore.removeAll(staleSegments);
+            return null;
+        });
+    }
+
+    private <T> T attempt(Callable<T> action) throws Exception {
+        return maxAttempts > 1 ? withRetry(action, maxAttempts) : action.call();
+    }
+
+    private static class PreparedBatch {
+
+        final List<TextSegment> segments;
+        final List<DocumentUpdate> updates;
+        final List<String> documentIds;
+        final int unchangedDocumentCount;
+
+        PreparedBatch(List<TextSegment> segments,
+                      List<DocumentUpdate> updates,
+                      List<String> documentIds,
+                      int unchangedDocumentCount) {
+            this.segments = segments;
+            this.updates = updates;
+            this.documentIds = documentIds;
+            this.unchangedDocumentCount = unchangedDocumentCount;
+        }
+    }
+
+    private static class DocumentUpdate {
+
+        final String documentId;
+        final DocumentFingerprint previous;
+        final DocumentFingerprint current;
+
+        DocumentUpdate(String documentId, DocumentFingerprint previous, DocumentFingerprint current) {
+            this.documentId = documentId;
+            this.previous = previous;
+            this.current = current;
+        }
+    }
+
+    /**
+     * A single run of {@link #ingest(List)}.
+     * Batches are prepared on the calling thread, then embedded and stored by the {@link #executor}.
+     */
+    private class Pipeline {
+
+        private final Semaphore inFlightBatches = new Semaphore(maxInFlightBatches);
+        private final List<IngestionResult.Failure> failures = synchronizedList(new ArrayList<>());
+        private final AtomicInteger segmentCount = new AtomicInteger();
+        private final AtomicInteger unchangedDocumentCount = new AtomicInteger();
+        private final Set<String> documentIds = new HashSet<>();
+
+        /**
+         * Waits until there is room for a batch in the pipeline, then pulls the next batch from the documents,
+         * prepares it and submits it to the {@link #executor}.
+         *
+         * @return the number of documents in the submitted batch, or 0 if there is nothing more to submit.
+         */
+        int submitNext(Iterator<Document> documents, int batchSize) {
+
+            acquire(1);
+            List<Document> batch = new ArrayList<>(batchSize);
+            PreparedBatch prepared;
+            try {
+                if (stopped()) {
+                    inFlightBatches.release();
+                    return 0;
+                }
+                while (batch.size() < batchSize && documents.hasNext()) {
+                    batch.add(documents.next());
+                }
+                if (batch.isEmpty()) {
+                    inFlightBatches.release();
+                    return 0;
+                }
+                prepared = prepare(batch);
+            } catch (Exception e) {
+                inFlightBatches.release();
+                if (batch.isEmpty()) {
+                    throw e;
+                }
+                fail(batch, e);
+                return batch.size();
+            }
+            unchangedDocumentCount.addAndGet(prepared.unchangedDocumentCount);
+            if (removeMissingDocuments) {
+                documentIds.addAll(prepared.documentIds);
+            }
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        embedAndStore(prepared);
+                        segmentCount.addAndGet(prepared.segments.size());
+                    } catch (Exception e) {
+                        fail(batch, e);
+                    } finally {
+                        inFlightBatches.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlightBatches.release();
+                fail(batch, e);
+            }
+            return batch.size();
+        }
+
+        /**
+         * @return whether no further batches should be submitted, because a batch failed and failures are not collected.
+         */
+        boolean stopped() {
+            return !collectFailures && !failures.isEmpty();
+        }
+
+        IngestionResult awaitCompletion(int documentCount) {
+            acquire(maxInFlightBatches);
+            inFlightBatches.release(maxInFlightBatches);
+
+            int removedDocumentCount = 0;
+            if (manifest != null) {
+                if (removeMissingDocuments && failures.isEmpty()) {
+                    removedDocumentCount = removeMissing();
+                }
+                manifest.flush();
+            }
+
+            if (!collectFailures && !failures.isEmpty()) {
+                Throwable cause = failures.get(0).cause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new RuntimeException(cause);
+            }
+
+            return new IngestionResult(documentCount, segmentCount.get(), unchangedDocumentCount.get(),
+                    removedDocumentCount, failures);
+        }
+
+        /**
+         * Removes documents that are recorded in the manifest, but were not ingested during this run.
+         * This is done only when all batches succeeded: otherwise some present documents might be missed.
+         */
+        private int removeMissing() {
+            int removedDocumentCount = 0;
+            for (String documentId : manifest.documentIds()) {
+                if (documentIds.contains(documentId)) {
+                    continue;
+                }
+                try {
+                    removeStaleSegments(documentId, emptySet());
+                    manifest.remove(documentId);
+                    removedDocumentCount++;
+                } catch (Exception e) {
+                    fail(emptyList(), e);
+                }
+            }
+            log.debug("Removed {} missing documents", removedDocumentCount);
+            return removedDocumentCount;
+        }
+
+        private void acquire(int permits) {
+            try {
+                inFlightBatches.acquire(permits);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+
+        private void fail(List<Document> batch, Exception e) {
+            if (collectFailures) {
+                log.warn("Failed to ingest a batch of {} documents", batch.size(), e);
+            }
+            failures.add(new IngestionResult.Failure(batch, e));
+        }
     }
 
     /**
@@ -218,6 +747,14 @@ public class EmbeddingStoreIngestor {
         private TextSegmentTransformer textSegmentTransformer;
         private EmbeddingModel embeddingModel;
         private EmbeddingStore<TextSegment> embeddingStore;
+        private Integer batchSize;
+        private Executor executor;
+        private Integer maxInFlightBatches;
+        private Integer maxAttempts;
+        private IngestionManifest manifest;
+        private Function<Document, String> documentIdProvider;
+        private Boolean removeMissingDocuments;
+        private Boolean collectFailures;
 
         /**
          * Creates a new EmbeddingStoreIngestor builder.
@@ -284,6 +821,122 @@ public class EmbeddingStoreIngestor {
             return this;
         }
 
+        /**
+         * Sets the maximum number of documents in a batch. Optional.
+         * If none is specified, all documents of a {@code List} are ingested in a single batch,
+         * and documents of an {@code Iterator} or a {@code Stream} are ingested
+         * in batches of 100 documents.
+         *
+         * @param batchSize the batch size.
+         * @return {@code this}
+         */
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the executor used to embed and store batches. Optional.
+         * If none is specified, batches are embedded and stored on the calling thread.
+         * <br>
+         * The {@link EmbeddingModel} and the {@link EmbeddingStore} must be thread-safe
+         * when the executor runs batches concurrently.
+         *
+         * @param executor the executor.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batches being prepared, embedded and stored at the same time. Optional.
+         * When the limit is reached, the next batch is pulled and prepared only once a batch is done.
+         * Default value: 2.
+         *
+         * @param maxInFlightBatches the maximum number of in-flight batches.
+         * @return {@code this}
+         */
+        public Builder maxInFlightBatches(Integer maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of attempts to embed and to store a batch. Optional.
+         * Default value: 1 (no retries).
+         *
+         * @param maxAttempts the maximum number of attempts.
+         * @return {@code this}
+         */
+        public Builder maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the manifest used to ingest incrementally. Optional.
+         * <br>
+         * When specified, documents that did not change since they were previously ingested are skipped,
+         * and only new or changed text segments of changed documents are embedded and stored.
+         * Text segments that are not present anymore are removed, so the {@link EmbeddingStore}
+         * must support {@link EmbeddingStore#removeAll(Filter)}.
+         * <br>
+         * Document hashes are calculated before the documents are transformed and split.
+         * If the transformers or the splitter change, a new (empty) manifest should be used.
+         *
+         * @param manifest the manifest, e.g., {@link FileIngestionManifest}.
+         * @return {@code this}
+         */
+        public Builder manifest(IngestionManifest manifest) {
+            this.manifest = manifest;
+            return this;
+        }
+
+        /**
+         * Sets the provider of document IDs used to ingest incrementally. Optional.
+         * By default, the path of the file ({@value Document#ABSOLUTE_DIRECTORY_PATH} and {@value Document#FILE_NAME}
+         * metadata entries) or the URL ({@value Document#URL} metadata entry) the document was loaded from is used.
+         *
+         * @param documentIdProvider the document ID provider.
+         * @return {@code this}
+         */
+        public Builder documentIdProvider(Function<Document, String> documentIdProvider) {
+            this.documentIdProvider = documentIdProvider;
+            return this;
+        }
+
+        /**
+         * Sets whether documents recorded in the manifest, but not present among the ingested documents,
+         * should be removed from the {@link EmbeddingStore} and the manifest. Optional. Default value: false.
+         * <br>
+         * Enable this only when each ingestion receives the complete set of documents.
+         * Missing documents are removed only when all batches were ingested successfully.
+         *
+         * @param removeMissingDocuments whether to remove missing documents.
+         * @return {@code this}
+         */
+        public Builder removeMissingDocuments(Boolean removeMissingDocuments) {
+            this.removeMissingDocuments = removeMissingDocuments;
+            return this;
+        }
+
+        /**
+         * Sets whether failed batches should be collected and reported in the {@link IngestionResult}
+         * (see {@link EmbeddingStoreIngestor#ingestAll(List)}), instead of being thrown. Optional. Default value: false.
+         * <br>
+         * When failures are collected, the remaining batches are still ingested after a batch fails.
+         * When they are not, no further batches are submitted and the first failure is thrown.
+         *
+         * @param collectFailures whether to collect failures.
+         * @return {@code this}
+         */
+        public Builder collectFailures(Boolean collectFailures) {
+            this.collectFailures = collectFailures;
+            return this;
+        }
+
         /**
          * Builds the EmbeddingStoreIngestor.
          *
@@ -295,7 +948,15 @@ public class EmbeddingStoreIngestor {
                     documentSplitter,
                     textSegmentTransformer,
                     embeddingModel,
-                    embeddingStore
+                    embeddingStore,
+                    batchSize,
+                    executor,
+                    maxInFlightBatches,
+                    maxAttempts,
+                    manifest,
+                    documentIdProvider,
+                    removeMissingDocuments,
+                    collectFailures
             );
         }
     }
@@ -0,0 +1,119 @@
+package dev.langchain4j.store.embedding;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * An {@link IngestionManifest} that is kept in memory and persisted to a local file
+ * on each {@link #flush()}.
+ * <br>
+ * The file is a {@link Properties} file where each document ID is mapped to the hash of the document,
+ * followed by the hashes of its text segments. It is replaced atomically when possible,
+ * so an interrupted flush does not corrupt the previously persisted state.
+ */
+public class FileIngestionManifest implements IngestionManifest {
+
+    private final Path filePath;
+    private final Map<String, DocumentFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a manifest backed by the specified file.
+     * If the file exists, the previously persisted state is loaded from it.
+     *
+     * @param filePath the path to the manifest file.
+     */
+    public FileIngestionManifest(Path filePath) {
+        this.filePath = ensureNotNull(filePath, "filePath");
+        if (Files.exists(filePath)) {
+            load();
+        }
+    }
+
+    /**
+     * Creates a manifest backed by the specified file.
+     * If the file exists, the previously persisted state is loaded from it.
+     *
+     * @param filePath the path to the manifest file.
+     */
+    public FileIngestionManifest(String filePath) {
+        this(Paths.get(filePath));
+    }
+
+    @Override
+    public DocumentFingerprint get(String documentId) {
+        return fingerprints.get(documentId);
+    }
+
+    @Override
+    public void put(String documentId, DocumentFingerprint fingerprint) {
+        fingerprints.put(documentId, ensureNotNull(fingerprint, "fingerprint"));
+    }
+
+    @Override
+    public void remove(String documentId) {
+        fingerprints.remove(documentId);
+    }
+
+    @Override
+    public Set<String> documentIds() {
+        return new HashSet<>(fingerprints.keySet());
+    }
+
+    @Override
+    public synchronized void flush() {
+        Properties properties = new Properties();
+        fingerprints.forEach((documentId, fingerprint) -> {
+            StringBuilder value = new StringBuilder(fingerprint.documentHash());
+            for (String segmentHash : fingerprint.segmentHashes()) {
+                value.append(' ').append(segmentHash);
+            }
+            properties.setProperty(documentId, value.toString());
+        });
+
+        try {
+            Path absolutePath = filePath.toAbsolutePath();
+            Path temporaryFile = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, UTF_8)) {
+                properties.store(writer, null);
+            }
+            try {
+                Files.move(temporaryFile, absolutePath, ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absolutePath, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void load() {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        for (String documentId : properties.stringPropertyNames()) {
+            String[] hashes = properties.getProperty(documentId).trim().split(" ");
+            Set<String> segmentHashes = new LinkedHashSet<>(Arrays.asList(hashes).subList(1, hashes.length));
+            fingerprints.put(documentId, new DocumentFingerprint(hashes[0], segmentHashes));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.langchain4j.store.embedding;
+
+import java.util.Set;
+
+/**
+ * Keeps track of the documents ingested by an {@link EmbeddingStoreIngestor},
+ * so that subsequent ingestions of the same documents only embed and store what has changed.
+ * <br>
+ * Documents are identified by their IDs (see {@link EmbeddingStoreIngestor.Builder#documentIdProvider}).
+ * <br>
+ * Implementations must be thread-safe, as batches can be ingested concurrently.
+ *
+ * @see FileIngestionManifest
+ */
+public interface IngestionManifest {
+
+    /**
+     * @param documentId the ID of the document.
+     * @return the fingerprint of the document recorded during the previous ingestion,
+     * or {@code null} if the document was never ingested.
+     */
+    DocumentFingerprint get(String documentId);
+
+    /**
+     * Records the fingerprint of a successfully ingested document.
+     *
+     * @param documentId  the ID of the document.
+     * @param fingerprint the fingerprint of the document.
+     */
+    void put(String documentId, DocumentFingerprint fingerprint);
+
+    /**
+     * Forgets a document.
+     *
+     * @param documentId the ID of the document.
+     */
+    void remove(String documentId);
+
+    /**
+     * @return the IDs of all recorded documents.
+     */
+    Set<String> documentIds();
+
+    /**
+     * Persists recorded changes, if applicable.
+     * Called by the {@link EmbeddingStoreIngestor} after each ingested batch and at the end of each ingestion.
+     */
+    default void flush() {
+    }
+}
@@ -0,0 +1,134 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.document.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Represents a result of an ingestion performed by an {@link EmbeddingStoreIngestor}.
+ * <br>
+ * Documents are ingested in batches. When failures are collected
+ * (see {@link EmbeddingStoreIngestor.Builder#collectFailures(Boolean)}) and a batch fails
+ * (after all retries are exhausted), the remaining batches are still ingested and the failure is reported here.
+ */
+public class IngestionResult {
+
+    private final int documentCount;
+    private final int segmentCount;
+    private final int unchangedDocumentCount;
+    private final int removedDocumentCount;
+    private final List<Failure> failures;
+
+    public IngestionResult(int documentCount, int segmentCount, List<Failure> failures) {
+        this(documentCount, segmentCount, 0, 0, failures);
+    }
+
+    public IngestionResult(int documentCount,
+                           int segmentCount,
+                           int unchangedDocumentCount,
+                           int removedDocumentCount,
+                           List<Failure> failures) {
+        this.documentCount = documentCount;
+        this.segmentCount = segmentCount;
+        this.unchangedDocumentCount = unchangedDocumentCount;
+        this.removedDocumentCount = removedDocumentCount;
+        this.failures = unmodifiableList(new ArrayList<>(ensureNotNull(failures, "failures")));
+    }
+
+    /**
+     * @return the number of documents that were submitted for ingestion, including the failed ones.
+     */
+    public int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * @return the number of text segments that were successfully stored in the {@link EmbeddingStore}.
+     */
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * @return the number of documents that were skipped because they did not change since the previous ingestion.
+     * Always 0 unless an {@link IngestionManifest} is used.
+     */
+    public int unchangedDocumentCount() {
+        return unchangedDocumentCount;
+    }
+
+    /**
+     * @return the number of documents that were removed from the {@link EmbeddingStore}
+     * because they were not present anymore.
+     * Always 0 unless an {@link IngestionManifest} is used and the removal of missing documents is enabled.
+     */
+    public int removedDocumentCount() {
+        return removedDocumentCount;
+    }
+
+    /**
+     * @return the failed batches.
+     */
+    public List<Failure> failures() {
+        return failures;
+    }
+
+    /**
+     * @return the documents of all failed batches.
+     */
+    public List<Document> failedDocuments() {
+        List<Document> failedDocuments = new ArrayList<>();
+        for (Failure failure : failures) {
+            failedDocuments.addAll(failure.documents());
+        }
+        return failedDocuments;
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "IngestionResult {" +
+                " documentCount = " + documentCount +
+                ", segmentCount = " + segmentCount +
+                ", unchangedDocumentCount = " + unchangedDocumentCount +
+                ", removedDocumentCount = " + removedDocumentCount +
+                ", failedDocumentCount = " + failedDocuments().size() +
+                " }";
+    }
+
+    /**
+     * Represents a batch of documents that could not be ingested.
+     */
+    public static class Failure {
+
+        private final List<Document> documents;
+        private final Throwable cause;
+
+        public Failure(List<Document> documents, Throwable cause) {
+            this.documents = unmodifiableList(new ArrayList<>(ensureNotNull(documents, "documents")));
+            this.cause = ensureNotNull(cause, "cause");
+        }
+
+        /**
+         * @return the documents of the failed batch.
+         * Some of their text segments might have been stored before the failure.
+         */
+        public List<Document> documents() {
+            return documents;
+        }
+
+        /**
+         * @return the exception that caused the failure.
+         */
+        public Throwable cause() {
+            return cause;
+        }
+    }
+}
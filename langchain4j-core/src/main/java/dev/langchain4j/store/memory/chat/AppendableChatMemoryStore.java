@@ -0,0 +1,40 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.memory.ChatMemory;
+
+import java.util.List;
+
+/**
+ * A {@link ChatMemoryStore} that can apply changes to the stored messages incrementally.
+ * <br>
+ * <br>
+ * When a {@link ChatMemory} uses a store implementing this interface, it writes only the difference
+ * between the previous and the current state (the newly added messages and the evicted ones)
+ * instead of replacing all messages with {@link #updateMessages(Object, List)}.
+ * This way, the cost of a write does not grow with the length of the conversation.
+ */
+public interface AppendableChatMemoryStore extends ChatMemoryStore {
+
+    /**
+     * Appends messages to the end of a specified chat memory.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param messages List of messages to append, in order.
+     *                 Can be serialized to JSON using {@link ChatMessageSerializer}.
+     */
+    void appendMessages(Object memoryId, List<ChatMessage> messages);
+
+    /**
+     * Evicts a range of consecutive messages from a specified chat memory.
+     * <br>
+     * Chat memories evict the oldest messages, so {@code fromIndex} is usually {@code 0},
+     * or {@code 1} when the first message is a retained {@link dev.langchain4j.data.message.SystemMessage}.
+     *
+     * @param memoryId  The ID of the chat memory.
+     * @param fromIndex The index of the first message to evict.
+     * @param count     The number of messages to evict.
+     */
+    void evictMessages(Object memoryId, int fromIndex, int count);
+}
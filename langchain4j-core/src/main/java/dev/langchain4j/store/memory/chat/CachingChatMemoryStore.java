@@ -0,0 +1,436 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link ChatMemoryStore} that caches the messages of recently used chat memories
+ * in front of another (usually remote) {@link ChatMemoryStore}.
+ * <br>
+ * The messages of a chat memory are retrieved from the delegate once, when the chat memory is first accessed,
+ * and then served from the cache. The cache holds at most {@code maxCachedMemories} chat memories and evicts
+ * the least recently used ones. When {@code idleTimeout} is specified, chat memories that were not accessed
+ * for longer are evicted as well.
+ * <br>
+ * Writes are propagated to the delegate in one of two modes:
+ * <ul>
+ *     <li>Write-through (default): every write is sent to the delegate immediately,
+ *     so the durability of the delegate is preserved.</li>
+ *     <li>Write-behind (when {@code flushInterval} is specified): writes are kept in the cache
+ *     and sent to the delegate in the background, once per {@code flushInterval}.
+ *     Consecutive writes to the same chat memory are coalesced.
+ *     Writes that were not flushed yet are lost if the application crashes.
+ *     Call {@link #close()} (or {@link #flush()}) on shutdown to flush them.</li>
+ * </ul>
+ * Pending writes of a chat memory are always flushed before it is evicted from the cache.
+ * <br>
+ * If the delegate is an {@link AppendableChatMemoryStore}, only appended and evicted messages are sent to it.
+ * <br>
+ * The cache assumes that the chat memories are not modified in the delegate by anyone else.
+ * <br>
+ * This class is thread-safe.
+ */
+public class CachingChatMemoryStore implements AppendableChatMemoryStore, AutoCloseable {
+
+    static final int DEFAULT_MAX_CACHED_MEMORIES = 1_000;
+
+    /**
+     * If more writes of a chat memory are pending, they are coalesced into replacing all its messages.
+     */
+    private static final int MAX_PENDING_WRITES = 32;
+
+    private static final Logger log = LoggerFactory.getLogger(CachingChatMemoryStore.class);
+
+    private final ChatMemoryStore delegate;
+    private final int maxCachedMemories;
+    private final boolean writeBehind;
+    private final Long idleTimeoutNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Creates a new caching chat memory store.
+     *
+     * @param delegate          The {@link ChatMemoryStore} to cache chat memories of. Mandatory.
+     * @param maxCachedMemories The maximum number of chat memories kept in the cache.
+     *                          Default value: {@value #DEFAULT_MAX_CACHED_MEMORIES}.
+     * @param flushInterval     The interval of flushing writes to the delegate. Optional.
+     *                          If specified, writes are flushed in the background (write-behind),
+     *                          otherwise they are sent to the delegate immediately (write-through).
+     * @param idleTimeout       The time after which a chat memory that was not accessed is evicted from the cache.
+     *                          Optional. If none is specified, chat memories are evicted only when the cache is full.
+     */
+    public CachingChatMemoryStore(ChatMemoryStore delegate,
+                                  Integer maxCachedMemories,
+                                  Duration flushInterval,
+                                  Duration idleTimeout) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.maxCachedMemories = ensureGreaterThanZero(
+                getOrDefault(maxCachedMemories, DEFAULT_MAX_CACHED_MEMORIES), "maxCachedMemories");
+        this.writeBehind = flushInterval != null;
+        this.idleTimeoutNanos = idleTimeout == null ? null : idleTimeout.toNanos();
+
+        if (flushInterval != null || idleTimeout != null) {
+            long periodNanos = Math.min(
+                    flushInterval == null ? Long.MAX_VALUE : flushInterval.toNanos(),
+                    idleTimeout == null ? Long.MAX_VALUE : idleTimeout.toNanos());
+            if (periodNanos <= 0) {
+                throw illegalArgument("flushInterval and idleTimeout must be positive");
+            }
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "caching-chat-memory-store");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.scheduleWithFixedDelay(this::maintain, periodNanos, periodNanos, NANOSECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    @Override
+    public List<ChatMessage> getMessages(Object memoryId) {
+        return withEntry(memoryId, entry -> new ArrayList<>(entry.messages));
+    }
+
+    @Override
+    public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+        withEntry(memoryId, entry -> {
+            if (writeBehind) {
+                entry.replacePending = true;
+                entry.pendingWrites.clear();
+            } else {
+                delegate.updateMessages(memoryId, messages);
+            }
+            entry.messages = new ArrayList<>(messages);
+            return null;
+        });
+    }
+
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        withEntry(memoryId, entry -> {
+            List<ChatMessage> newMessages = new ArrayList<>(entry.messages);
+            newMessages.addAll(messages);
+            if (writeBehind) {
+                entry.addPendingWrite(PendingWrite.append(messages), delegate);
+            } else if (delegate instanceof AppendableChatMemoryStore) {
+                ((AppendableChatMemoryStore) delegate).appendMessages(memoryId, messages);
+            } else {
+                delegate.updateMessages(memoryId, newMessages);
+            }
+            entry.messages = newMessages;
+            return null;
+        });
+    }
+
+    @Override
+    public void evictMessages(Object memoryId, int fromIndex, int count) {
+        withEntry(memoryId, entry -> {
+            List<ChatMessage> newMessages = new ArrayList<>(entry.messages);
+            newMessages.subList(fromIndex, fromIndex + count).clear();
+            if (writeBehind) {
+                entry.addPendingWrite(PendingWrite.evict(fromIndex, count), delegate);
+            } else if (delegate instanceof AppendableChatMemoryStore) {
+                ((AppendableChatMemoryStore) delegate).evictMessages(memoryId, fromIndex, count);
+            } else {
+                replaceAll(memoryId, newMessages);
+            }
+            entry.messages = newMessages;
+            return null;
+        });
+    }
+
+    @Override
+    public void deleteMessages(Object memoryId) {
+        withEntry(memoryId, entry -> {
+            if (writeBehind) {
+                entry.replacePending = true;
+                entry.pendingWrites.clear();
+            } else {
+                delegate.deleteMessages(memoryId);
+            }
+            entry.messages = new ArrayList<>();
+            return null;
+        });
+    }
+
+    /**
+     * Sends all pending writes to the delegate.
+     */
+    public void flush() {
+        for (Entry entry : snapshot()) {
+            synchronized (entry) {
+                flush(entry);
+            }
+        }
+    }
+
+    /**
+     * Stops the background flushing and sends all pending writes to the delegate.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        flush();
+    }
+
+    private <T> T withEntry(Object memoryId, Function<Entry, T> action) {
+        while (true) {
+            Entry entry;
+            List<Entry> eldestEntries = new ArrayList<>();
+            synchronized (entries) {
+                entry = entries.get(memoryId);
+                if (entry == null) {
+                    entry = new Entry(memoryId);
+                    entries.put(memoryId, entry);
+                }
+                int overflow = entries.size() - maxCachedMemories;
+                for (Entry eldestEntry : entries.values()) {
+                    if (overflow-- <= 0) {
+                        break;
+                    }
+                    if (eldestEntry != entry) {
+                        eldestEntries.add(eldestEntry);
+                    }
+                }
+            }
+
+            T result;
+            synchronized (entry) {
+                if (entry.removed) {
+                    continue; // evicted concurrently, retry with a new entry
+                }
+                entry.lastAccessNanos = System.nanoTime();
+                if (entry.messages == null) {
+                    entry.messages = new ArrayList<>(delegate.getMessages(memoryId));
+                }
+                result = action.apply(entry);
+            }
+
+            for (Entry eldestEntry : eldestEntries) {
+                try {
+                    evict(eldestEntry);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to flush the chat memory '{}', will retry later", eldestEntry.memoryId, e);
+                }
+            }
+            return result;
+        }
+    }
+
+    private void maintain() {
+        long now = System.nanoTime();
+        for (Entry entry : snapshot()) {
+            try {
+                if (idleTimeoutNanos != null && now - entry.lastAccessNanos > idleTimeoutNanos) {
+                    evict(entry);
+                } else if (writeBehind) {
+                    synchronized (entry) {
+                        flush(entry);
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush the chat memory '{}', will retry later", entry.memoryId, e);
+            }
+        }
+    }
+
+    private void evict(Entry entry) {
+        synchronized (entry) {
+            if (entry.removed) {
+                return;
+            }
+            flush(entry);
+            entry.removed = true;
+            synchronized (entries) {
+                entries.remove(entry.memoryId, entry);
+            }
+        }
+    }
+
+    private void flush(Entry entry) {
+        if (!entry.replacePending && entry.pendingWrites.isEmpty()) {
+            return;
+        }
+        try {
+            if (entry.replacePending) {
+                replaceAll(entry.memoryId, entry.messages);
+            } else {
+                AppendableChatMemoryStore appendableDelegate = (AppendableChatMemoryStore) delegate;
+                for (PendingWrite pendingWrite : entry.pendingWrites) {
+                    if (pendingWrite.messages != null) {
+                        appendableDelegate.appendMessages(entry.memoryId, pendingWrite.messages);
+                    } else {
+                        appendableDelegate.evictMessages(entry.memoryId, pendingWrite.fromIndex, pendingWrite.count);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // some of the pending writes might have been applied, so all messages are written on the next attempt
+            entry.replacePending = true;
+            entry.pendingWrites.clear();
+            throw e;
+        }
+        entry.replacePending = false;
+        entry.pendingWrites.clear();
+    }
+
+    private void replaceAll(Object memoryId, List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            delegate.deleteMessages(memoryId);
+        } else {
+            delegate.updateMessages(memoryId, new ArrayList<>(messages));
+        }
+    }
+
+    private List<Entry> snapshot() {
+        synchronized (entries) {
+            return new ArrayList<>(entries.values());
+        }
+    }
+
+    private static class Entry {
+
+        private final Object memoryId;
+        private List<ChatMessage> messages;
+        private boolean replacePending;
+        private final List<PendingWrite> pendingWrites = new ArrayList<>();
+        private volatile long lastAccessNanos;
+        private boolean removed;
+
+        private Entry(Object memoryId) {
+            this.memoryId = memoryId;
+            this.lastAccessNanos = System.nanoTime();
+        }
+
+        private void addPendingWrite(PendingWrite pendingWrite, ChatMemoryStore delegate) {
+            if (replacePending) {
+                return;
+            }
+            if (!(delegate instanceof AppendableChatMemoryStore) || pendingWrites.size() == MAX_PENDING_WRITES) {
+                replacePending = true;
+                pendingWrites.clear();
+                return;
+            }
+            if (!pendingWrites.isEmpty()) {
+                PendingWrite lastPendingWrite = pendingWrites.get(pendingWrites.size() - 1);
+                PendingWrite coalesced = lastPendingWrite.coalesce(pendingWrite);
+                if (coalesced != null) {
+                    pendingWrites.set(pendingWrites.size() - 1, coalesced);
+                    return;
+                }
+            }
+            pendingWrites.add(pendingWrite);
+        }
+    }
+
+    private static class PendingWrite {
+
+        private final List<ChatMessage> messages;
+        private final int fromIndex;
+        private final int count;
+
+        private PendingWrite(List<ChatMessage> messages, int fromIndex, int count) {
+            this.messages = messages;
+            this.fromIndex = fromIndex;
+            this.count = count;
+        }
+
+        private static PendingWrite append(List<ChatMessage> messages) {
+            return new PendingWrite(new ArrayList<>(messages), -1, 0);
+        }
+
+        private static PendingWrite evict(int fromIndex, int count) {
+            return new PendingWrite(null, fromIndex, count);
+        }
+
+        /**
+         * @return a single write equivalent to this write followed by the given one,
+         * or {@code null} if they cannot be coalesced.
+         */
+        private PendingWrite coalesce(PendingWrite next) {
+            if (messages != null && next.messages != null) {
+                List<ChatMessage> allMessages = new ArrayList<>(messages);
+                allMessages.addAll(next.messages);
+                return new PendingWrite(allMessages, -1, 0);
+            }
+            if (messages == null && next.messages == null && fromIndex == next.fromIndex) {
+                return evict(fromIndex, count + next.count);
+            }
+            return null;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatMemoryStore delegate;
+        private Integer maxCachedMemories;
+        private Duration flushInterval;
+        private Duration idleTimeout;
+
+        /**
+         * @param delegate The {@link ChatMemoryStore} to cache chat memories of.
+         * @return builder
+         */
+        public Builder delegate(ChatMemoryStore delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param maxCachedMemories The maximum number of chat memories kept in the cache.
+         *                          Default value: {@value #DEFAULT_MAX_CACHED_MEMORIES}.
+         * @return builder
+         */
+        public Builder maxCachedMemories(Integer maxCachedMemories) {
+            this.maxCachedMemories = maxCachedMemories;
+            return this;
+        }
+
+        /**
+         * @param flushInterval The interval of flushing writes to the delegate in the background (write-behind).
+         *                      If not specified, writes are sent to the delegate immediately (write-through).
+         * @return builder
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout The time after which a chat memory that was not accessed is evicted from the cache.
+         * @return builder
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        public CachingChatMemoryStore build() {
+            return new CachingChatMemoryStore(delegate, maxCachedMemories, flushInterval, idleTimeout);
+        }
+    }
+}
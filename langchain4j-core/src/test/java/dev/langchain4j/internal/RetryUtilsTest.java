@@ -2,7 +2,15 @@ package dev.langchain4j.internal;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -138,4 +146,210 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
-}
\ No newline at end of file
+
+    private static HttpException httpException(int statusCode) {
+        return new HttpException(statusCode, "HTTP " + statusCode);
+    }
+
+    @Test
+    void should_classify_retryable_errors() {
+        assertThat(RetryUtils.isRetryable(httpException(400))).isFalse();
+        assertThat(RetryUtils.isRetryable(httpException(401))).isFalse();
+        assertThat(RetryUtils.isRetryable(httpException(429))).isTrue();
+        assertThat(RetryUtils.isRetryable(httpException(503))).isTrue();
+        assertThat(RetryUtils.isRetryable(new RuntimeException(new java.net.SocketTimeoutException()))).isTrue();
+        assertThat(RetryUtils.isRetryable(new IllegalArgumentException())).isFalse();
+        assertThat(RetryUtils.isRetryable(new AssertionError())).isFalse();
+        assertThat(RetryUtils.isRetryable(new RuntimeException())).isTrue();
+    }
+
+    @Test
+    void should_not_retry_client_errors() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call()).thenThrow(httpException(400));
+
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(100)
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 3))
+                .hasCauseExactlyInstanceOf(HttpException.class);
+        verify(mockAction, times(1)).call();
+    }
+
+    @Test
+    void should_honour_retry_after() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call())
+                .thenThrow(new HttpException(429, "HTTP 429", Duration.ofSeconds(1)))
+                .thenReturn("Success");
+
+        List<Long> sleeps = new ArrayList<>();
+
+        String result = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .sleeper(sleeps::add)
+                .build()
+                .withRetry(mockAction, 3);
+
+        assertThat(result).isEqualTo("Success");
+        assertThat(sleeps).hasSize(1);
+        assertThat(sleeps.get(0)).isGreaterThanOrEqualTo(1000);
+        assertThat(RetryUtils.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(RetryUtils.parseRetryAfter("invalid")).isNull();
+    }
+
+    @Test
+    void should_retry_async_action_without_blocking_caller() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = RetryUtils.retryPolicyBuilder()
+                .delayMillis(200)
+                .build()
+                .withRetryAsync(() -> {
+                    CompletableFuture<String> future = new CompletableFuture<>();
+                    if (attempts.incrementAndGet() < 3) {
+                        future.completeExceptionally(httpException(503));
+                    } else {
+                        future.complete("Success");
+                    }
+                    return future;
+                });
+
+        assertThat(result).isNotDone();
+        assertThat(result.get()).isEqualTo("Success");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void should_complete_async_action_exceptionally_when_error_is_not_retryable() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .build()
+                .withRetryAsync(() -> {
+                    attempts.incrementAndGet();
+                    throw httpException(404);
+                }, Runnable::run);
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(HttpException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void should_open_circuit_after_consecutive_failures() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call()).thenThrow(httpException(500));
+
+        RetryUtils.CircuitBreaker circuitBreaker = new RetryUtils.CircuitBreaker(2, Duration.ofMillis(200));
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .circuitBreaker(circuitBreaker)
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction, 5))
+                .hasCauseExactlyInstanceOf(RetryUtils.CircuitBreakerOpenException.class);
+        verify(mockAction, times(2)).call();
+        assertThat(circuitBreaker.state()).isEqualTo(RetryUtils.CircuitBreaker.State.OPEN);
+
+        Thread.sleep(300);
+        reset(mockAction);
+        when(mockAction.call()).thenReturn("Success");
+
+        assertThat(policy.withRetry(mockAction, 1)).isEqualTo("Success");
+        assertThat(circuitBreaker.state()).isEqualTo(RetryUtils.CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void should_reject_calls_when_bulkhead_is_full() throws Exception {
+        RetryUtils.Bulkhead bulkhead = new RetryUtils.Bulkhead(1, Duration.ZERO);
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .bulkhead(bulkhead)
+                .build();
+
+        String result = policy.withRetry(() -> {
+            assertThat(bulkhead.availablePermits()).isZero();
+            assertThatThrownBy(() -> policy.withRetry(() -> "nested", 1))
+                    .hasCauseExactlyInstanceOf(RetryUtils.BulkheadFullException.class);
+            return "Success";
+        }, 1);
+
+        assertThat(result).isEqualTo("Success");
+        assertThat(bulkhead.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_open_circuit_of_failing_endpoint_only() throws Exception {
+        Map<String, RetryUtils.CircuitBreaker> circuitBreakers = new HashMap<>();
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .circuitBreakers(endpoint -> circuitBreakers.computeIfAbsent(endpoint,
+                        ignored -> new RetryUtils.CircuitBreaker(2, Duration.ofMinutes(1))))
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(() -> {
+            throw httpException(503);
+        }, 5, "https://failing"))
+                .hasCauseExactlyInstanceOf(RetryUtils.CircuitBreakerOpenException.class);
+
+        assertThat(circuitBreakers.get("https://failing").state()).isEqualTo(RetryUtils.CircuitBreaker.State.OPEN);
+        assertThat(policy.withRetry(() -> "Success", 1, "https://healthy")).isEqualTo("Success");
+        assertThat(circuitBreakers.get("https://healthy").state()).isEqualTo(RetryUtils.CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void should_short_circuit_async_call_when_circuit_of_endpoint_is_open() throws Exception {
+        Map<String, RetryUtils.CircuitBreaker> circuitBreakers = new HashMap<>();
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .circuitBreakers(endpoint -> circuitBreakers.computeIfAbsent(endpoint,
+                        ignored -> new RetryUtils.CircuitBreaker(2, Duration.ofMinutes(1))))
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(() -> {
+            throw httpException(503);
+        }, 2, "https://failing"));
+        assertThat(circuitBreakers.get("https://failing").state()).isEqualTo(RetryUtils.CircuitBreaker.State.OPEN);
+
+        AtomicInteger attempts = new AtomicInteger();
+        CompletableFuture<String> result = policy.withRetryAsync(() -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.completedFuture("Success");
+        }, 3, "https://failing");
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseExactlyInstanceOf(RetryUtils.CircuitBreakerOpenException.class);
+        assertThat(attempts).hasValue(0);
+
+        assertThat(policy.withRetryAsync(() -> CompletableFuture.completedFuture("Success"), 1, "https://healthy").get())
+                .isEqualTo("Success");
+    }
+
+    @Test
+    void should_let_next_trial_call_through_when_trial_call_throws_error() throws Exception {
+        RetryUtils.CircuitBreaker circuitBreaker = new RetryUtils.CircuitBreaker(1, Duration.ofMillis(50));
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .circuitBreaker(circuitBreaker)
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(() -> {
+            throw httpException(503);
+        }, 1));
+        assertThat(circuitBreaker.state()).isEqualTo(RetryUtils.CircuitBreaker.State.OPEN);
+
+        Thread.sleep(100);
+        assertThatThrownBy(() -> policy.withRetry(() -> {
+            throw new AssertionError("trial");
+        }, 1)).isInstanceOf(AssertionError.class);
+
+        assertThat(policy.withRetry(() -> "Success", 1)).isEqualTo("Success");
+        assertThat(circuitBreaker.state()).isEqualTo(RetryUtils.CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,151 @@
+package dev.langchain4j.model.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+class BatchingEmbeddingModelTest implements WithAssertions {
+
+    static class BatchingEmbeddingModelImpl extends BatchingEmbeddingModel {
+
+        final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+
+        BatchingEmbeddingModelImpl(Integer maxSegmentsPerBatch, Integer maxTokensPerBatch, Executor executor) {
+            super(maxSegmentsPerBatch, maxTokensPerBatch, executor);
+        }
+
+        @Override
+        protected Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
+            batches.add(textSegments.stream().map(TextSegment::text).collect(toList()));
+            return new EmbeddingModelTest.EmbeddingModelImpl().embedAll(textSegments);
+        }
+    }
+
+    static class TokenCountingBatchingEmbeddingModelImpl extends BatchingEmbeddingModelImpl
+            implements TokenCountEstimator {
+
+        TokenCountingBatchingEmbeddingModelImpl(Integer maxTokensPerBatch) {
+            super(null, maxTokensPerBatch, null);
+        }
+
+        @Override
+        public int estimateTokenCount(String text) {
+            return text.length();
+        }
+    }
+
+    @Test
+    void should_embed_in_single_batch_by_default() {
+
+        BatchingEmbeddingModelImpl model = new BatchingEmbeddingModelImpl(null, null, null);
+
+        Response<List<Embedding>> response = model.embedAll(segments("a", "bb", "ccc"));
+
+        assertThat(model.batches).containsExactly(asList("a", "bb", "ccc"));
+        assertThat(response.content()).containsExactly(embedding("a"), embedding("bb"), embedding("ccc"));
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(6));
+    }
+
+    @Test
+    void should_split_by_max_segments_per_batch() {
+
+        BatchingEmbeddingModelImpl model = new BatchingEmbeddingModelImpl(2, null, null);
+
+        Response<List<Embedding>> response = model.embedAll(segments("a", "bb", "ccc", "dddd", "e"));
+
+        assertThat(model.batches).containsExactly(asList("a", "bb"), asList("ccc", "dddd"), asList("e"));
+        assertThat(response.content()).containsExactly(
+                embedding("a"), embedding("bb"), embedding("ccc"), embedding("dddd"), embedding("e"));
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(11, null, 11));
+    }
+
+    @Test
+    void should_split_by_max_tokens_per_batch() {
+
+        BatchingEmbeddingModelImpl model = new TokenCountingBatchingEmbeddingModelImpl(4);
+
+        model.embedAll(segments("a", "bb", "ccc", "dddddd", "e"));
+
+        assertThat(model.batches).containsExactly(asList("a", "bb"), asList("ccc"), asList("dddddd"), asList("e"));
+    }
+
+    @Test
+    void should_approximate_token_count_when_model_is_not_token_count_estimator() {
+
+        BatchingEmbeddingModelImpl model = new BatchingEmbeddingModelImpl(null, 2, null);
+
+        model.embedAll(segments("abcd", "abcd", "abcdefgh"));
+
+        assertThat(model.batches).containsExactly(asList("abcd", "abcd"), asList("abcdefgh"));
+    }
+
+    @Test
+    void should_embed_batches_concurrently_and_preserve_order() {
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            BatchingEmbeddingModelImpl model = new BatchingEmbeddingModelImpl(1, null, executor);
+            List<String> texts = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                texts.add("text " + i);
+            }
+
+            Response<List<Embedding>> response = model.embedAll(segments(texts.toArray(new String[0])));
+
+            assertThat(model.batches).hasSize(20);
+            assertThat(response.content()).containsExactlyElementsOf(
+                    texts.stream().map(BatchingEmbeddingModelTest::embedding).collect(toList()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_propagate_failure_of_batch() {
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            BatchingEmbeddingModel model = new BatchingEmbeddingModelImpl(1, null, executor) {
+
+                @Override
+                protected Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
+                    if (textSegments.get(0).text().equals("b")) {
+                        throw new IllegalStateException("failed");
+                    }
+                    return super.embedBatch(textSegments);
+                }
+            };
+
+            assertThatThrownBy(() -> model.embedAll(segments("a", "b", "c")))
+                    .isExactlyInstanceOf(IllegalStateException.class)
+                    .hasMessage("failed");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (String text : texts) {
+            segments.add(TextSegment.from(text));
+        }
+        return segments;
+    }
+
+    private static Embedding embedding(String text) {
+        return new Embedding(new float[]{text.length(), text.hashCode()});
+    }
+}
@@ -0,0 +1,245 @@
+package dev.langchain4j.model.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+
+class CachingEmbeddingModelTest implements WithAssertions {
+
+    static class CountingEmbeddingModel extends EmbeddingModelTest.EmbeddingModelImpl {
+
+        final List<List<String>> requests = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<String> texts = new ArrayList<>();
+            textSegments.forEach(textSegment -> texts.add(textSegment.text()));
+            requests.add(texts);
+            return super.embedAll(textSegments);
+        }
+
+        @Override
+        public int dimension() {
+            return 2;
+        }
+    }
+
+    @Test
+    void should_embed_only_misses_and_preserve_order() {
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .build();
+
+        model.embed("b");
+
+        Response<List<Embedding>> response = model.embedAll(segments("a", "b", "cc", "a"));
+
+        assertThat(delegate.requests).containsExactly(asList("b"), asList("a", "cc"));
+        assertThat(response.content()).containsExactly(
+                embedding("a"),
+                embedding("b"),
+                embedding("cc"),
+                embedding("a")
+        );
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(3));
+
+        CachingEmbeddingModel.Stats stats = model.stats();
+        assertThat(stats.memoryHitCount()).isEqualTo(1);
+        assertThat(stats.diskHitCount()).isEqualTo(0);
+        assertThat(stats.missCount()).isEqualTo(3);
+        assertThat(stats.hitRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    void should_not_call_delegate_when_all_embeddings_are_cached() {
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = new CachingEmbeddingModel(delegate, "model", null, null);
+        model.embedAll(segments("a", "b"));
+
+        Response<List<Embedding>> response = model.embedAll(segments("b", "a"));
+
+        assertThat(delegate.requests).hasSize(1);
+        assertThat(response.content()).containsExactly(embedding("b"), embedding("a"));
+        assertThat(response.tokenUsage()).isNull();
+        assertThat(model.stats().hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_expose_cached_vectors() {
+
+        CachingEmbeddingModel model = new CachingEmbeddingModel(new CountingEmbeddingModel(), "model", null, null);
+
+        model.embed("abc").content().vector()[0] = 42;
+
+        assertThat(model.embed("abc").content()).isEqualTo(embedding("abc"));
+    }
+
+    @Test
+    void should_evict_least_recently_used_embeddings() {
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .maxMemoryEntries(2)
+                .build();
+
+        model.embed("a");
+        model.embed("b");
+        model.embed("a");
+        model.embed("c"); // evicts "b"
+
+        model.embed("a");
+        model.embed("b");
+
+        assertThat(delegate.requests).containsExactly(asList("a"), asList("b"), asList("c"), asList("b"));
+    }
+
+    @Test
+    void should_load_embeddings_from_disk(@TempDir Path directory) {
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model-1")
+                .directory(directory)
+                .build();
+        model.embedAll(segments("a", "bb"));
+
+        CachingEmbeddingModel restarted = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model-1")
+                .directory(directory)
+                .build();
+
+        Response<List<Embedding>> response = restarted.embedAll(segments("bb", "a"));
+
+        assertThat(delegate.requests).hasSize(1);
+        assertThat(response.content()).containsExactly(embedding("bb"), embedding("a"));
+        assertThat(restarted.stats().diskHitCount()).isEqualTo(2);
+
+        restarted.embedAll(segments("bb", "a"));
+        assertThat(restarted.stats().memoryHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_share_embeddings_between_models(@TempDir Path directory) {
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model-1")
+                .directory(directory)
+                .build()
+                .embed("a");
+
+        CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model-2")
+                .directory(directory)
+                .build()
+                .embed("a");
+
+        assertThat(delegate.requests).hasSize(2);
+    }
+
+    @Test
+    void should_treat_truncated_file_as_miss(@TempDir Path directory) throws IOException {
+
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .directory(directory)
+                .build()
+                .embed("a");
+        List<Path> files = cacheFiles(directory);
+        assertThat(files).hasSize(1);
+        Files.write(files.get(0), new byte[]{1, 2, 3});
+
+        CachingEmbeddingModel restarted = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .directory(directory)
+                .build();
+
+        assertThat(restarted.embed("a").content()).isEqualTo(embedding("a"));
+        assertThat(delegate.requests).containsExactly(asList("a"), asList("a"));
+        assertThat(restarted.stats().diskHitCount()).isEqualTo(0);
+        assertThat(Files.size(files.get(0))).isEqualTo(2 * Float.BYTES);
+    }
+
+    @Test
+    void should_not_fail_when_disk_tier_is_unavailable(@TempDir Path temporaryDirectory) throws IOException {
+
+        Path directory = temporaryDirectory.resolve("cache");
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .modelName("model")
+                .directory(directory)
+                .build();
+        // the directory cannot be read from nor written to anymore
+        Files.delete(directory);
+        Files.createFile(directory);
+
+        Response<List<Embedding>> response = model.embedAll(segments("a", "bb"));
+
+        assertThat(response.content()).containsExactly(embedding("a"), embedding("bb"));
+        assertThat(delegate.requests).containsExactly(asList("a", "bb"));
+        assertThat(model.embed("a").content()).isEqualTo(embedding("a"));
+        assertThat(model.stats().memoryHitCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = " ")
+    void should_require_model_name(String modelName) {
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                .delegate(new CountingEmbeddingModel())
+                .modelName(modelName)
+                .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelName cannot be null or blank");
+    }
+
+    private static List<Path> cacheFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).collect(toList());
+        }
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        List<TextSegment> segments = new ArrayList<>();
+        for (String text : texts) {
+            segments.add(TextSegment.from(text));
+        }
+        return segments;
+    }
+
+    private static Embedding embedding(String text) {
+        return new Embedding(new float[]{text.length(), text.hashCode()});
+    }
+}
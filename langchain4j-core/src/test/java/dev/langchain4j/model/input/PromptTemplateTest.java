@@ -91,6 +91,24 @@ class PromptTemplateTest {
         assertThat(prompt.text()).isEqualTo("My name is Klaus, call me Klaus.");
     }
 
+    @Test
+    void should_not_replace_variables_in_values() {
+
+        // given
+        PromptTemplate promptTemplate = PromptTemplate.from("Context: {{context}}. Question: {{question}}");
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("context", "use {{question}} literally");
+        variables.put("question", "what is {{context}}?");
+
+        // when
+        Prompt prompt = promptTemplate.apply(variables);
+
+        // then
+        assertThat(prompt.text())
+                .isEqualTo("Context: use {{question}} literally. Question: what is {{context}}?");
+    }
+
     @Test
     void should_fail_when_value_is_missing() {
 
@@ -92,10 +92,12 @@ class DefaultRetrievalAugmentorTest {
         verify(queryRouter).route(query2);
         verifyNoMoreInteractions(queryRouter);
 
+        verify(contentRetriever1).supportsBatchRetrieval();
         verify(contentRetriever1).retrieve(query1);
         verify(contentRetriever1).retrieve(query2);
         verifyNoMoreInteractions(contentRetriever1);
 
+        verify(contentRetriever2).supportsBatchRetrieval();
         verify(contentRetriever2).retrieve(query1);
         verify(contentRetriever2).retrieve(query2);
         verifyNoMoreInteractions(contentRetriever2);
@@ -125,6 +127,46 @@ class DefaultRetrievalAugmentorTest {
         verifyNoMoreInteractions(contentInjector);
     }
 
+    @Test
+    void should_retrieve_all_queries_in_single_call_when_retriever_supports_batch_retrieval() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        QueryTransformer queryTransformer = new TestQueryTransformer(query1, query2);
+
+        Content content1 = Content.from("content 1");
+        Content content2 = Content.from("content 2");
+        ContentRetriever contentRetriever = spy(new TestBatchContentRetriever(content1, content2));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .contentRetriever(contentRetriever)
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        Metadata metadata = Metadata.from(userMessage, null, null);
+
+        // when
+        UserMessage augmented = retrievalAugmentor.augment(userMessage, metadata);
+
+        // then
+        assertThat(augmented.singleText()).isEqualTo(
+                "query\n" +
+                        "content 1\n" +
+                        "content 2\n" +
+                        "content 1\n" +
+                        "content 2"
+        );
+
+        verify(contentRetriever).supportsBatchRetrieval();
+        verify(contentRetriever).retrieveAll(asList(query1, query2));
+        verifyNoMoreInteractions(contentRetriever);
+    }
+
     @Test
     void should_augment_user_message__single_query_multiple_retrievers() {
 
@@ -352,6 +394,32 @@ class DefaultRetrievalAugmentorTest {
         }
     }
 
+    static class TestBatchContentRetriever implements ContentRetriever {
+
+        private final List<Content> contents;
+
+        TestBatchContentRetriever(Content... contents) {
+            this.contents = asList(contents);
+        }
+
+        @Override
+        public List<Content> retrieve(Query query) {
+            return contents;
+        }
+
+        @Override
+        public List<List<Content>> retrieveAll(List<Query> queries) {
+            return queries.stream()
+                    .map(query -> contents)
+                    .collect(toList());
+        }
+
+        @Override
+        public boolean supportsBatchRetrieval() {
+            return true;
+        }
+    }
+
     static class TestContentAggregator implements ContentAggregator {
 
         @Override
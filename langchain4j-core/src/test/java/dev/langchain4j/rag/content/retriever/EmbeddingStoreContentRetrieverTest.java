@@ -4,6 +4,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
@@ -14,10 +15,14 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -290,6 +295,52 @@ class EmbeddingStoreContentRetrieverTest {
         verifyNoMoreInteractions(EMBEDDING_MODEL);
     }
 
+    @Test
+    void should_retrieve_all_with_single_embedding_and_search_call() {
+
+        // given
+        Query query1 = Query.from("query 1");
+        Query query2 = Query.from("query 2");
+        Embedding embedding1 = Embedding.from(asList(1f, 0f));
+        Embedding embedding2 = Embedding.from(asList(0f, 1f));
+        when(EMBEDDING_MODEL.embedAll(anyList())).thenReturn(Response.from(asList(embedding1, embedding2)));
+
+        EmbeddingSearchResult<TextSegment> result1 = new EmbeddingSearchResult<>(asList(
+                new EmbeddingMatch<>(0.9, "id 1", null, TextSegment.from("content 1"))));
+        EmbeddingSearchResult<TextSegment> result2 = new EmbeddingSearchResult<>(asList(
+                new EmbeddingMatch<>(0.8, "id 2", null, TextSegment.from("content 2"))));
+        when(EMBEDDING_STORE.searchAll(anyList())).thenReturn(asList(result1, result2));
+
+        ContentRetriever contentRetriever = EmbeddingStoreContentRetriever.builder()
+                .embeddingStore(EMBEDDING_STORE)
+                .embeddingModel(EMBEDDING_MODEL)
+                .dynamicMaxResults((query) -> query == query1 ? 1 : 2)
+                .build();
+
+        // when
+        List<List<Content>> contents = contentRetriever.retrieveAll(asList(query1, query2));
+
+        // then
+        assertThat(contents).containsExactly(
+                singletonList(Content.from("content 1")),
+                singletonList(Content.from("content 2")));
+
+        verify(EMBEDDING_STORE).searchAll(asList(
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding1)
+                        .maxResults(1)
+                        .minScore(DEFAULT_MIN_SCORE)
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(embedding2)
+                        .maxResults(2)
+                        .minScore(DEFAULT_MIN_SCORE)
+                        .build()));
+        verifyNoMoreInteractions(EMBEDDING_STORE);
+        verify(EMBEDDING_MODEL).embedAll(asList(TextSegment.from("query 1"), TextSegment.from("query 2")));
+        verifyNoMoreInteractions(EMBEDDING_MODEL);
+    }
+
     @Test
     void should_include_explicit_display_name_in_to_string() {
 
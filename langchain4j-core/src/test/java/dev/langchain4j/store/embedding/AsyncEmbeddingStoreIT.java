@@ -0,0 +1,113 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the native {@link AsyncEmbeddingStore} implementations.
+ */
+public abstract class AsyncEmbeddingStoreIT {
+
+    protected abstract AsyncEmbeddingStore<TextSegment> asyncEmbeddingStore();
+
+    protected abstract EmbeddingModel embeddingModel();
+
+    @Test
+    void should_add_embeddings_and_find_them() {
+
+        // given
+        TextSegment segment1 = TextSegment.from("hello", metadata("type", "a"));
+        Embedding embedding1 = embeddingModel().embed(segment1).content();
+
+        TextSegment segment2 = TextSegment.from("goodbye", metadata("type", "b"));
+        Embedding embedding2 = embeddingModel().embed(segment2).content();
+
+        // when
+        List<String> ids = join(asyncEmbeddingStore().addAllAsync(asList(embedding1, embedding2), asList(segment1, segment2)));
+
+        // then
+        assertThat(ids).hasSize(2).doesNotHaveDuplicates();
+
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(2));
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding1)
+                .maxResults(1)
+                .build();
+        List<EmbeddingMatch<TextSegment>> matches = join(asyncEmbeddingStore().searchAsync(request)).matches();
+
+        assertThat(matches).hasSize(1);
+        EmbeddingMatch<TextSegment> match = matches.get(0);
+        assertThat(match.embeddingId()).isEqualTo(ids.get(0));
+        assertThat(match.embedded()).isEqualTo(segment1);
+    }
+
+    @Test
+    void should_add_embeddings_without_content() {
+
+        // given
+        Embedding embedding = embeddingModel().embed("hello").content();
+
+        // when
+        List<String> ids = join(asyncEmbeddingStore().addAllAsync(asList(embedding)));
+
+        // then
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings())
+                .extracting(EmbeddingMatch::embeddingId)
+                .containsExactlyElementsOf(ids));
+    }
+
+    @Test
+    void should_report_invalid_request_through_the_future() {
+
+        // when
+        CompletableFuture<EmbeddingSearchResult<TextSegment>> future = asyncEmbeddingStore().searchAsync(null);
+
+        // then
+        assertThat(future).isCompletedExceptionally();
+    }
+
+    protected void awaitUntilAsserted(ThrowingRunnable assertion) {
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(60))
+                .pollDelay(Duration.ofSeconds(0))
+                .pollInterval(Duration.ofMillis(300))
+                .untilAsserted(assertion);
+    }
+
+    protected List<EmbeddingMatch<TextSegment>> getAllEmbeddings() {
+
+        EmbeddingSearchRequest embeddingSearchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddingModel().embed("test").content())
+                .maxResults(1000)
+                .build();
+
+        return join(asyncEmbeddingStore().searchAsync(embeddingSearchRequest)).matches();
+    }
+
+    protected static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.get(60, SECONDS);
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException | TimeoutException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+class AsyncEmbeddingStoreTest implements WithAssertions {
+
+    static class ThreadRecordingEmbeddingStore extends EmbeddingStoreTest.MinimalEmbeddingStore {
+
+        volatile String threadName;
+
+        @Override
+        public List<String> addAll(List<Embedding> embeddings) {
+            threadName = Thread.currentThread().getName();
+            return Collections.singletonList("id");
+        }
+    }
+
+    static class NativeAsyncEmbeddingStore extends EmbeddingStoreTest.MinimalEmbeddingStore
+            implements AsyncEmbeddingStore<String> {
+
+        @Override
+        public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+            return CompletableFuture.completedFuture(Collections.singletonList("id"));
+        }
+
+        @Override
+        public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<String> embedded) {
+            return CompletableFuture.completedFuture(Collections.singletonList("id"));
+        }
+
+        @Override
+        public CompletableFuture<EmbeddingSearchResult<String>> searchAsync(EmbeddingSearchRequest request) {
+            return CompletableFuture.completedFuture(new EmbeddingSearchResult<>(Collections.emptyList()));
+        }
+    }
+
+    @Test
+    void should_run_blocking_store_on_executor() throws Exception {
+        ThreadRecordingEmbeddingStore embeddingStore = new ThreadRecordingEmbeddingStore();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "store"));
+        try {
+            AsyncEmbeddingStore<String> asyncEmbeddingStore = AsyncEmbeddingStore.from(embeddingStore, executor);
+
+            List<String> ids = asyncEmbeddingStore.addAllAsync(Collections.singletonList(Embedding.from(new float[]{1})))
+                    .get(10, SECONDS);
+
+            assertThat(ids).containsExactly("id");
+            assertThat(embeddingStore.threadName).isEqualTo("store");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_search_blocking_store_on_default_executor() throws Exception {
+        AsyncEmbeddingStore<String> asyncEmbeddingStore = AsyncEmbeddingStore.from(new EmbeddingStoreTest.MinimalEmbeddingStore());
+
+        EmbeddingSearchResult<String> result = asyncEmbeddingStore.searchAsync(EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[]{1, 2}))
+                        .maxResults(3)
+                        .build())
+                .get(10, SECONDS);
+
+        assertThat(result.matches()).hasSize(1);
+        assertThat(result.matches().get(0).embedded()).isEqualTo("[1.0, 2.0], 3, 0.00");
+    }
+
+    @Test
+    void should_complete_exceptionally_when_blocking_store_fails() {
+        AsyncEmbeddingStore<String> asyncEmbeddingStore = AsyncEmbeddingStore.from(new EmbeddingStoreTest.MinimalEmbeddingStore());
+
+        assertThatThrownBy(() -> asyncEmbeddingStore.removeAllAsync(Collections.singletonList("id")).get(10, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasRootCauseExactlyInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void should_return_native_async_store_as_is() {
+        NativeAsyncEmbeddingStore embeddingStore = new NativeAsyncEmbeddingStore();
+
+        assertThat(AsyncEmbeddingStore.from(embeddingStore)).isSameAs(embeddingStore);
+    }
+}
@@ -0,0 +1,86 @@
+package dev.langchain4j.store.embedding;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static dev.langchain4j.data.document.Metadata.metadata;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests the removal methods of the native {@link AsyncEmbeddingStore} implementations.
+ */
+public abstract class AsyncEmbeddingStoreWithRemovalIT extends AsyncEmbeddingStoreIT {
+
+    @Test
+    void should_remove_all_by_ids() {
+
+        // given
+        Embedding embedding1 = embeddingModel().embed("test1").content();
+        Embedding embedding2 = embeddingModel().embed("test2").content();
+        Embedding embedding3 = embeddingModel().embed("test3").content();
+        List<String> ids = join(asyncEmbeddingStore().addAllAsync(asList(embedding1, embedding2, embedding3)));
+
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(3));
+
+        // when
+        join(asyncEmbeddingStore().removeAllAsync(ids.subList(0, 2)));
+
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(1));
+
+        // then
+        assertThat(getAllEmbeddings().get(0).embeddingId()).isEqualTo(ids.get(2));
+    }
+
+    @Test
+    void should_fail_to_remove_all_by_ids_empty() {
+
+        assertThatThrownBy(() -> join(asyncEmbeddingStore().removeAllAsync(emptyList())))
+                .isExactlyInstanceOf(CompletionException.class)
+                .hasCauseExactlyInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("ids cannot be null or empty");
+    }
+
+    @Test
+    void should_remove_all_by_filter() {
+
+        // given
+        TextSegment segment1 = TextSegment.from("matching", metadata("type", "a"));
+        TextSegment segment2 = TextSegment.from("matching", metadata("type", "a"));
+        TextSegment segment3 = TextSegment.from("not matching", metadata("type", "b"));
+        List<String> ids = join(asyncEmbeddingStore().addAllAsync(
+                asList(
+                        embeddingModel().embed(segment1).content(),
+                        embeddingModel().embed(segment2).content(),
+                        embeddingModel().embed(segment3).content()),
+                asList(segment1, segment2, segment3)));
+
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(3));
+
+        // when
+        join(asyncEmbeddingStore().removeAllAsync(metadataKey("type").isEqualTo("a")));
+
+        awaitUntilAsserted(() -> assertThat(getAllEmbeddings()).hasSize(1));
+
+        // then
+        assertThat(getAllEmbeddings()).extracting(EmbeddingMatch::embeddingId).isEqualTo(singletonList(ids.get(2)));
+    }
+
+    @Test
+    void should_fail_to_remove_all_by_filter_null() {
+
+        assertThatThrownBy(() -> join(asyncEmbeddingStore().removeAllAsync((Filter) null)))
+                .isExactlyInstanceOf(CompletionException.class)
+                .hasCauseExactlyInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("filter cannot be null");
+    }
+}
@@ -4,6 +4,9 @@ import dev.langchain4j.data.embedding.Embedding;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
 import static org.assertj.core.data.Percentage.withPercentage;
 
 class CosineSimilarityTest implements WithAssertions {
@@ -34,6 +37,42 @@ class CosineSimilarityTest implements WithAssertions {
         assertThat(CosineSimilarity.between(embeddingA, embeddingB)).isCloseTo(-1, withPercentage(1));
     }
 
+    @Test
+    void should_calculate_cosine_similarity_between_normalized_vectors() {
+        Embedding embeddingA = Embedding.from(new float[]{1, 2, 3, 4, 5, 6, 7});
+        Embedding embeddingB = Embedding.from(new float[]{-3, 1, 4, -1, 5, 9, -2});
+        double expected = CosineSimilarity.between(embeddingA, embeddingB);
+
+        embeddingA.normalize();
+        embeddingB.normalize();
+
+        assertThat(CosineSimilarity.betweenNormalized(embeddingA, embeddingA)).isCloseTo(1, withPercentage(0.001));
+        assertThat(CosineSimilarity.betweenNormalized(embeddingA, embeddingB)).isCloseTo(expected, withPercentage(0.001));
+    }
+
+    @Test
+    void should_calculate_dot_product() {
+        assertThat(CosineSimilarity.dotProduct(new float[]{1, 2, 3, 4, 5}, new float[]{5, 4, 3, 2, 1})).isEqualTo(35);
+        assertThat(CosineSimilarity.dotProduct(new float[]{}, new float[]{})).isEqualTo(0);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> CosineSimilarity.dotProduct(new float[]{1}, new float[]{1, 2}))
+                .withMessage("Length of vector a (1) must be equal to the length of vector b (2)");
+    }
+
+    @Test
+    void should_calculate_dot_product_of_vectors_at_offsets() {
+        float[] matrix = {9, 9, 1, 2, 3, 4, 5, 9};
+        float[] vector = {9, 5, 4, 3, 2, 1};
+
+        assertThat(CosineSimilarity.dotProduct(matrix, 2, vector, 1, 5)).isEqualTo(35);
+        assertThat(CosineSimilarity.dotProduct(matrix, 2, matrix, 2, 5)).isEqualTo(55);
+
+        FloatBuffer direct = ByteBuffer.allocateDirect(matrix.length * Float.BYTES).asFloatBuffer().put(matrix);
+        assertThat(CosineSimilarity.dotProduct(direct, 2, FloatBuffer.wrap(vector), 1, 5)).isEqualTo(35);
+        assertThat(CosineSimilarity.dotProduct(direct, 2, direct, 2, 5)).isEqualTo(55);
+    }
+
     @Test
     void should_convert_relevance_score_into_cosine_similarity() {
         assertThat(CosineSimilarity.fromRelevanceScore(0)).isEqualTo(-1);
@@ -9,11 +9,34 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.data.segment.TextSegmentTransformer;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.filter.Filter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static dev.langchain4j.data.segment.TextSegment.textSegment;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class EmbeddingStoreIngestorTest {
@@ -199,4 +222,506 @@ class EmbeddingStoreIngestorTest {
         verify(embeddingStore).addAll(singletonList(expectedEmbedding), singletonList(expectedTextSegment));
         verifyNoMoreInteractions(embeddingStore);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_ingest_in_batches_using_executor() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            documents.add(Document.from("Document " + i));
+        }
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{segment.text().length()}))
+                    .collect(toList()));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(2)
+                .executor(executor)
+                .maxInFlightBatches(2)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingestAll(documents);
+        executor.shutdown();
+
+        // then
+        assertThat(result.documentCount()).isEqualTo(5);
+        assertThat(result.segmentCount()).isEqualTo(5);
+        assertThat(result.hasFailures()).isFalse();
+
+        verify(embeddingModel, times(3)).embedAll(anyList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TextSegment>> segments = ArgumentCaptor.forClass(List.class);
+        verify(embeddingStore, times(3)).addAll(anyList(), segments.capture());
+        assertThat(segments.getAllValues().stream().flatMap(List::stream).map(TextSegment::text))
+                .containsExactlyInAnyOrder("Document 0", "Document 1", "Document 2", "Document 3", "Document 4");
+    }
+
+    @Test
+    void should_report_failed_batches_and_continue() {
+
+        // given
+        Document firstDocument = Document.from("First document");
+        Document secondDocument = Document.from("Second document");
+        Document thirdDocument = Document.from("Third document");
+
+        RuntimeException exception = new RuntimeException("Embedding failed");
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            if (segments.get(0).text().startsWith("Second")) {
+                throw exception;
+            }
+            return Response.from(singletonList(Embedding.from(new float[]{1})));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(1)
+                .collectFailures(true)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingestAll(asList(firstDocument, secondDocument, thirdDocument));
+
+        // then
+        assertThat(result.documentCount()).isEqualTo(3);
+        assertThat(result.segmentCount()).isEqualTo(2);
+        assertThat(result.failedDocuments()).containsExactly(secondDocument);
+        assertThat(result.failures().get(0).cause()).isSameAs(exception);
+
+        verify(embeddingStore, times(2)).addAll(anyList(), anyList());
+    }
+
+    @Test
+    void should_throw_first_failure_and_stop_submitting_batches_by_default() {
+
+        // given
+        Document firstDocument = Document.from("First document");
+        Document secondDocument = Document.from("Second document");
+        Document thirdDocument = Document.from("Third document");
+
+        RuntimeException exception = new RuntimeException("Embedding failed");
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            if (segments.get(0).text().startsWith("Second")) {
+                throw exception;
+            }
+            return Response.from(singletonList(Embedding.from(new float[]{1})));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(1)
+                .build();
+
+        // when-then
+        assertThatThrownBy(() -> ingestor.ingest(firstDocument, secondDocument, thirdDocument))
+                .isSameAs(exception);
+
+        verify(embeddingModel, times(2)).embedAll(anyList());
+        verify(embeddingStore, times(1)).addAll(anyList(), anyList());
+    }
+
+    @Test
+    void should_retry_failed_batch() {
+
+        // given
+        Document document = Document.from("Some text");
+        Embedding embedding = Embedding.from(new float[]{1});
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList()))
+                .thenThrow(new RuntimeException("Temporary failure"))
+                .thenReturn(Response.from(singletonList(embedding)));
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doThrow(new RuntimeException("Temporary failure"))
+                .doNothing()
+                .when(embeddingStore).addAll(anyList(), anyList(), anyList());
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .maxAttempts(2)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingestAll(singletonList(document));
+
+        // then
+        assertThat(result.hasFailures()).isFalse();
+        assertThat(result.segmentCount()).isEqualTo(1);
+
+        // storing is retried without embedding again, and with the same IDs
+        verify(embeddingModel, times(2)).embedAll(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> ids = ArgumentCaptor.forClass(List.class);
+        verify(embeddingStore, times(2)).addAll(ids.capture(), anyList(), anyList());
+        assertThat(ids.getAllValues().get(0)).hasSize(1).isEqualTo(ids.getAllValues().get(1));
+        verify(embeddingStore, never()).addAll(anyList(), anyList());
+    }
+
+    @Test
+    void should_store_once_when_store_does_not_support_ids() {
+
+        // given
+        Document document = Document.from("Some text");
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList()))
+                .thenReturn(Response.from(singletonList(Embedding.from(new float[]{1}))));
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        doThrow(new UnsupportedOperationException("Not supported yet."))
+                .when(embeddingStore).addAll(anyList(), anyList(), anyList());
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .maxAttempts(3)
+                .build();
+
+        // when
+        ingestor.ingest(document);
+
+        // then
+        verify(embeddingStore, times(1)).addAll(anyList(), anyList(), anyList());
+        verify(embeddingStore, times(1)).addAll(anyList(), anyList());
+    }
+
+    @Test
+    void should_ingest_stream_of_documents_in_batches() {
+
+        // given
+        List<Document> documents = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            documents.add(Document.from("Document " + i));
+        }
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingest(documents.stream());
+
+        // then
+        assertThat(result.documentCount()).isEqualTo(250);
+        assertThat(result.segmentCount()).isEqualTo(250);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TextSegment>> segments = ArgumentCaptor.forClass(List.class);
+        verify(embeddingModel, times(3)).embedAll(segments.capture());
+        assertThat(segments.getAllValues()).extracting(List::size).containsExactly(100, 100, 50);
+        verify(embeddingStore, times(3)).addAll(anyList(), anyList());
+    }
+
+    @Test
+    void should_pull_next_batch_only_when_there_is_room_for_it() {
+
+        // given
+        AtomicInteger pulledDocumentCount = new AtomicInteger();
+        Iterator<Document> documents = IntStream.range(0, 5)
+                .mapToObj(i -> {
+                    pulledDocumentCount.incrementAndGet();
+                    return Document.from("Document " + i);
+                })
+                .iterator();
+
+        List<Integer> pulledDocumentCountsWhileEmbedding = synchronizedList(new ArrayList<>());
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            pulledDocumentCountsWhileEmbedding.add(pulledDocumentCount.get());
+            return Response.from(singletonList(Embedding.from(new float[]{1})));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(1)
+                .executor(executor)
+                .maxInFlightBatches(1)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingest(documents);
+        executor.shutdown();
+
+        // then
+        assertThat(result.documentCount()).isEqualTo(5);
+        assertThat(pulledDocumentCountsWhileEmbedding).containsExactly(1, 2, 3, 4, 5);
+    }
+
+    @Test
+    void should_ingest_incrementally(@TempDir Path temporaryDirectory) {
+
+        // given
+        Path manifestFile = temporaryDirectory.resolve("manifest.properties");
+        DocumentSplitter documentSplitter = document -> Arrays.stream(document.text().split("\\. "))
+                .map(text -> TextSegment.from(text, document.metadata().copy()))
+                .collect(toList());
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        Document unchangedDocument = Document.from("First. Second", Metadata.from(Document.URL, "https://unchanged"));
+        Document changedDocument = Document.from("Third. Fourth", Metadata.from(Document.URL, "https://changed"));
+        Document removedDocument = Document.from("Fifth", Metadata.from(Document.URL, "https://removed"));
+
+        EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .manifest(new FileIngestionManifest(manifestFile))
+                .build()
+                .ingest(unchangedDocument, changedDocument, removedDocument);
+        clearInvocations(embeddingModel, embeddingStore);
+
+        Document newVersionOfChangedDocument = Document.from("Third. Changed fourth", changedDocument.metadata());
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .manifest(new FileIngestionManifest(manifestFile))
+                .removeMissingDocuments(true)
+                .build();
+
+        // when
+        IngestionResult result = ingestor.ingestAll(asList(unchangedDocument, newVersionOfChangedDocument));
+
+        // then
+        assertThat(result.unchangedDocumentCount()).isEqualTo(1);
+        assertThat(result.removedDocumentCount()).isEqualTo(1);
+        assertThat(result.segmentCount()).isEqualTo(1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TextSegment>> segments = ArgumentCaptor.forClass(List.class);
+        verify(embeddingModel).embedAll(segments.capture());
+        assertThat(segments.getValue()).hasSize(1);
+        TextSegment segment = segments.getValue().get(0);
+        assertThat(segment.text()).isEqualTo("Changed fourth");
+        assertThat(segment.metadata().getString(EmbeddingStoreIngestor.DOCUMENT_ID_METADATA_KEY))
+                .isEqualTo("https://changed");
+        String segmentHash = segment.metadata().getString(EmbeddingStoreIngestor.SEGMENT_HASH_METADATA_KEY);
+
+        ArgumentCaptor<Filter> filters = ArgumentCaptor.forClass(Filter.class);
+        verify(embeddingStore).addAll(anyList(), anyList(), eq(segments.getValue()));
+        verify(embeddingStore, times(2)).removeAll(filters.capture());
+        verifyNoMoreInteractions(embeddingStore);
+
+        // stale segment of the changed document
+        Filter staleSegments = filters.getAllValues().get(0);
+        assertThat(staleSegments.test(new Metadata()
+                .put(EmbeddingStoreIngestor.DOCUMENT_ID_METADATA_KEY, "https://changed")
+                .put(EmbeddingStoreIngestor.SEGMENT_HASH_METADATA_KEY, "stale"))).isTrue();
+        assertThat(staleSegments.test(new Metadata()
+                .put(EmbeddingStoreIngestor.DOCUMENT_ID_METADATA_KEY, "https://changed")
+                .put(EmbeddingStoreIngestor.SEGMENT_HASH_METADATA_KEY, segmentHash))).isFalse();
+
+        // all segments of the removed document
+        Filter removedSegments = filters.getAllValues().get(1);
+        assertThat(removedSegments.test(new Metadata()
+                .put(EmbeddingStoreIngestor.DOCUMENT_ID_METADATA_KEY, "https://removed")
+                .put(EmbeddingStoreIngestor.SEGMENT_HASH_METADATA_KEY, "any"))).isTrue();
+
+        assertThat(new FileIngestionManifest(manifestFile).documentIds())
+                .containsExactlyInAnyOrder("https://unchanged", "https://changed");
+    }
+
+    @Test
+    void should_embed_only_inserted_segment_when_following_segments_moved(@TempDir Path temporaryDirectory) {
+
+        // given
+        Path manifestFile = temporaryDirectory.resolve("manifest.properties");
+        DocumentSplitter documentSplitter = document -> {
+            String[] sentences = document.text().split("\\. ");
+            List<TextSegment> segments = new ArrayList<>();
+            for (int i = 0; i < sentences.length; i++) {
+                segments.add(TextSegment.from(sentences[i], document.metadata().copy().put("index", String.valueOf(i))));
+            }
+            return segments;
+        };
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        });
+
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+
+        EmbeddingStoreIngestor ingestor = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .manifest(new FileIngestionManifest(manifestFile))
+                .build();
+
+        Metadata metadata = Metadata.from(Document.URL, "https://document");
+        ingestor.ingest(Document.from("First. Second. Third", metadata));
+        clearInvocations(embeddingModel, embeddingStore);
+
+        // when
+        ingestor.ingest(Document.from("Inserted. First. Second. Third", metadata));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TextSegment>> segments = ArgumentCaptor.forClass(List.class);
+        verify(embeddingModel).embedAll(segments.capture());
+        assertThat(segments.getValue()).extracting(TextSegment::text).containsExactly("Inserted");
+        verify(embeddingStore).addAll(anyList(), anyList(), eq(segments.getValue()));
+        verifyNoMoreInteractions(embeddingStore);
+    }
+
+    @Test
+    void should_not_duplicate_segments_when_ingesting_again_after_failed_batch(@TempDir Path temporaryDirectory) {
+
+        // given
+        Path manifestFile = temporaryDirectory.resolve("manifest.properties");
+        DocumentSplitter documentSplitter = document -> Arrays.stream(document.text().split("\\. "))
+                .map(text -> TextSegment.from(text, document.metadata().copy()))
+                .collect(toList());
+
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embedAll(anyList())).thenAnswer(invocation -> {
+            List<TextSegment> segments = invocation.getArgument(0);
+            return Response.from(segments.stream()
+                    .map(segment -> Embedding.from(new float[]{1}))
+                    .collect(toList()));
+        });
+
+        RuntimeException failure = new RuntimeException("Connection reset");
+        Map<String, TextSegment> storedSegments = new ConcurrentHashMap<>();
+        AtomicBoolean failing = new AtomicBoolean(true);
+        EmbeddingStore<TextSegment> embeddingStore = new EmbeddingStore<TextSegment>() {
+
+            @Override
+            public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+                for (int i = 0; i < ids.size(); i++) {
+                    storedSegments.put(ids.get(i), embedded.get(i));
+                    if (failing.get() && embedded.get(i).text().equals("Fifth")) {
+                        // the batch fails halfway through, after the first batch was recorded in the manifest
+                        assertThat(new FileIngestionManifest(manifestFile).documentIds())
+                                .containsExactlyInAnyOrder("https://first", "https://second");
+                        throw failure;
+                    }
+                }
+            }
+
+            @Override
+            public String add(Embedding embedding) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void add(String id, Embedding embedding) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public String add(Embedding embedding, TextSegment textSegment) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<String> addAll(List<Embedding> embeddings) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        List<Document> documents = asList(
+                Document.from("First. Second", Metadata.from(Document.URL, "https://first")),
+                Document.from("Third", Metadata.from(Document.URL, "https://second")),
+                Document.from("Fourth. Fifth. Sixth", Metadata.from(Document.URL, "https://third")),
+                Document.from("Seventh", Metadata.from(Document.URL, "https://fourth"))
+        );
+
+        assertThatThrownBy(() -> EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(2)
+                .manifest(new FileIngestionManifest(manifestFile))
+                .build()
+                .ingestAll(documents))
+                .isSameAs(failure);
+        assertThat(storedSegments).hasSize(5);
+        failing.set(false);
+
+        // when
+        IngestionResult result = EmbeddingStoreIngestor.builder()
+                .documentSplitter(documentSplitter)
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .batchSize(2)
+                .manifest(new FileIngestionManifest(manifestFile))
+                .build()
+                .ingestAll(documents);
+
+        // then
+        assertThat(result.unchangedDocumentCount()).isEqualTo(2);
+        assertThat(result.segmentCount()).isEqualTo(4);
+        assertThat(storedSegments.values()).extracting(TextSegment::text)
+                .containsExactlyInAnyOrder("First", "Second", "Third", "Fourth", "Fifth", "Sixth", "Seventh");
+    }
+}
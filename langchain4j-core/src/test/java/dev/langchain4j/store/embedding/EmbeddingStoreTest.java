@@ -4,6 +4,7 @@ import dev.langchain4j.data.embedding.Embedding;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -103,4 +104,17 @@ class EmbeddingStoreTest implements WithAssertions {
                                 referenceEmbedding,
                                 "abc, [0.5, 1.5], 12, 0.00"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void test_searchAll() {
+        EmbeddingStore<String> store = new MinimalEmbeddingStore();
+
+        List<EmbeddingSearchResult<String>> results = store.searchAll(Arrays.asList(
+                new EmbeddingSearchRequest(new Embedding(new float[]{0.5f, 1.5f}), 12, 0.5, null),
+                new EmbeddingSearchRequest(new Embedding(new float[]{2.5f}), 3, 0.25, null)));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).matches().get(0).embedded()).isEqualTo("[0.5, 1.5], 12, 0.50");
+        assertThat(results.get(1).matches().get(0).embedded()).isEqualTo("[2.5], 3, 0.25");
+    }
+}
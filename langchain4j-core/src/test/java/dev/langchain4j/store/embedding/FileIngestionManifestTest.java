@@ -0,0 +1,44 @@
+package dev.langchain4j.store.embedding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileIngestionManifestTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void should_persist_and_load_fingerprints() {
+
+        // given
+        Path filePath = temporaryDirectory.resolve("manifest.properties");
+        FileIngestionManifest manifest = new FileIngestionManifest(filePath);
+
+        DocumentFingerprint fingerprint = new DocumentFingerprint("hash", new LinkedHashSet<>(asList("a", "b")));
+        DocumentFingerprint emptyFingerprint = new DocumentFingerprint("empty", emptySet());
+
+        manifest.put("/some/path with spaces=and:special\tcharacters.txt", fingerprint);
+        manifest.put("https://empty", emptyFingerprint);
+        manifest.put("https://removed", fingerprint);
+        manifest.remove("https://removed");
+
+        // when
+        manifest.flush();
+        FileIngestionManifest loaded = new FileIngestionManifest(filePath.toString());
+
+        // then
+        assertThat(loaded.documentIds()).containsExactlyInAnyOrder(
+                "/some/path with spaces=and:special\tcharacters.txt", "https://empty");
+        assertThat(loaded.get("/some/path with spaces=and:special\tcharacters.txt")).isEqualTo(fingerprint);
+        assertThat(loaded.get("https://empty")).isEqualTo(emptyFingerprint);
+        assertThat(loaded.get("https://removed")).isNull();
+    }
+}
@@ -0,0 +1,171 @@
+package dev.langchain4j.store.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static dev.langchain4j.data.message.AiMessage.aiMessage;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+class CachingChatMemoryStoreTest implements WithAssertions {
+
+    static class RecordingChatMemoryStore implements AppendableChatMemoryStore {
+
+        final Map<Object, List<ChatMessage>> messagesByMemoryId = new HashMap<>();
+        final List<String> operations = new ArrayList<>();
+
+        @Override
+        public synchronized List<ChatMessage> getMessages(Object memoryId) {
+            operations.add("get " + memoryId);
+            return new ArrayList<>(messagesByMemoryId.getOrDefault(memoryId, new ArrayList<>()));
+        }
+
+        @Override
+        public synchronized void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            operations.add("update " + memoryId + " " + messages.size());
+            messagesByMemoryId.put(memoryId, new ArrayList<>(messages));
+        }
+
+        @Override
+        public synchronized void appendMessages(Object memoryId, List<ChatMessage> messages) {
+            operations.add("append " + memoryId + " " + messages.size());
+            messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>()).addAll(messages);
+        }
+
+        @Override
+        public synchronized void evictMessages(Object memoryId, int fromIndex, int count) {
+            operations.add("evict " + memoryId + " " + fromIndex + ".." + (fromIndex + count));
+            messagesByMemoryId.get(memoryId).subList(fromIndex, fromIndex + count).clear();
+        }
+
+        @Override
+        public synchronized void deleteMessages(Object memoryId) {
+            operations.add("delete " + memoryId);
+            messagesByMemoryId.remove(memoryId);
+        }
+
+        synchronized List<String> operations() {
+            return new ArrayList<>(operations);
+        }
+    }
+
+    @Test
+    void should_read_from_delegate_only_once_and_write_through() {
+
+        RecordingChatMemoryStore delegate = new RecordingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .delegate(delegate)
+                .build();
+
+        store.appendMessages("a", singletonList(userMessage("hello")));
+        store.appendMessages("a", singletonList(aiMessage("hi")));
+        store.evictMessages("a", 0, 1);
+
+        assertThat(store.getMessages("a")).containsExactly(aiMessage("hi"));
+        assertThat(delegate.operations()).containsExactly(
+                "get a",
+                "append a 1",
+                "append a 1",
+                "evict a 0..1"
+        );
+        assertThat(delegate.messagesByMemoryId.get("a")).containsExactly(aiMessage("hi"));
+    }
+
+    @Test
+    void should_coalesce_writes_and_flush_them_later() {
+
+        RecordingChatMemoryStore delegate = new RecordingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        store.appendMessages("a", singletonList(userMessage("1")));
+        store.appendMessages("a", singletonList(aiMessage("2")));
+        store.appendMessages("a", singletonList(userMessage("3")));
+        store.evictMessages("a", 0, 1);
+        store.evictMessages("a", 0, 1);
+        store.appendMessages("b", singletonList(userMessage("4")));
+        store.deleteMessages("b");
+
+        assertThat(store.getMessages("a")).containsExactly(userMessage("3"));
+        assertThat(delegate.operations()).containsExactly("get a", "get b");
+
+        store.close();
+
+        assertThat(delegate.operations()).containsExactly(
+                "get a",
+                "get b",
+                "delete b",
+                "append a 3",
+                "evict a 0..2"
+        );
+        assertThat(delegate.messagesByMemoryId.get("a")).containsExactly(userMessage("3"));
+    }
+
+    @Test
+    void should_flush_pending_writes_of_least_recently_used_memory_when_evicting_it() {
+
+        RecordingChatMemoryStore delegate = new RecordingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .delegate(delegate)
+                .maxCachedMemories(2)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        store.appendMessages("a", singletonList(userMessage("1")));
+        store.appendMessages("b", singletonList(userMessage("2")));
+        store.getMessages("a");
+        store.appendMessages("c", singletonList(userMessage("3")));
+
+        assertThat(delegate.operations()).containsExactly("get a", "get b", "get c", "append b 1");
+
+        assertThat(store.getMessages("b")).containsExactly(userMessage("2"));
+        assertThat(delegate.operations()).containsExactly("get a", "get b", "get c", "append b 1", "get b", "append a 1");
+    }
+
+    @Test
+    void should_evict_idle_memories() throws InterruptedException {
+
+        RecordingChatMemoryStore delegate = new RecordingChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofMillis(20))
+                .idleTimeout(Duration.ofMillis(20))
+                .build();
+
+        store.updateMessages("a", asList(userMessage("1"), aiMessage("2")));
+        Thread.sleep(500);
+
+        assertThat(delegate.operations()).containsExactly("get a", "update a 2");
+
+        assertThat(store.getMessages("a")).containsExactly(userMessage("1"), aiMessage("2"));
+        assertThat(delegate.operations()).containsExactly("get a", "update a 2", "get a");
+
+        store.close();
+    }
+
+    @Test
+    void should_replace_all_messages_when_delegate_is_not_appendable() {
+
+        InMemoryChatMemoryStore delegate = new InMemoryChatMemoryStore();
+        CachingChatMemoryStore store = CachingChatMemoryStore.builder()
+                .delegate(delegate)
+                .flushInterval(Duration.ofHours(1))
+                .build();
+
+        store.appendMessages("a", asList(userMessage("1"), aiMessage("2"), userMessage("3")));
+        store.evictMessages("a", 0, 2);
+        store.flush();
+
+        assertThat(delegate.getMessages("a")).containsExactly(userMessage("3"));
+    }
+}
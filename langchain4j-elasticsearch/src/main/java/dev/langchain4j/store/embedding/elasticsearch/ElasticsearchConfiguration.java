@@ -1,15 +1,72 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.MsearchRequest;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.msearch.RequestItem;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class ElasticsearchConfiguration {
-    abstract SearchResponse<Document> internalSearch(ElasticsearchClient client,
+
+    SearchResponse<Document> internalSearch(ElasticsearchClient client,
                                             String indexName,
                                             EmbeddingSearchRequest embeddingSearchRequest)
-            throws ElasticsearchException, IOException;
+            throws ElasticsearchException, IOException {
+        return client.search(searchRequest(indexName, embeddingSearchRequest), Document.class);
+    }
+
+    CompletableFuture<SearchResponse<Document>> internalSearchAsync(ElasticsearchAsyncClient client,
+                                                                    String indexName,
+                                                                    EmbeddingSearchRequest embeddingSearchRequest)
+            throws IOException {
+        return client.search(searchRequest(indexName, embeddingSearchRequest), Document.class);
+    }
+
+    MsearchResponse<Document> internalSearchAll(ElasticsearchClient client,
+                                                String indexName,
+                                                List<EmbeddingSearchRequest> embeddingSearchRequests)
+            throws ElasticsearchException, IOException {
+        List<RequestItem> searches = new ArrayList<>(embeddingSearchRequests.size());
+        for (EmbeddingSearchRequest embeddingSearchRequest : embeddingSearchRequests) {
+            Query query = query(indexName, embeddingSearchRequest);
+            Double minScore = minScore(embeddingSearchRequest);
+            searches.add(RequestItem.of(i -> i
+                    .header(h -> h.index(indexName))
+                    .body(b -> b
+                            .query(query)
+                            .size(embeddingSearchRequest.maxResults())
+                            .minScore(minScore))));
+        }
+        return client.msearch(MsearchRequest.of(m -> m.searches(searches)), Document.class);
+    }
+
+    private SearchRequest searchRequest(String indexName,
+                                        EmbeddingSearchRequest embeddingSearchRequest) throws IOException {
+        Query query = query(indexName, embeddingSearchRequest);
+        Double minScore = minScore(embeddingSearchRequest);
+        return SearchRequest.of(s -> s
+                .index(indexName)
+                .query(query)
+                .size(embeddingSearchRequest.maxResults())
+                .minScore(minScore));
+    }
+
+    abstract Query query(String indexName, EmbeddingSearchRequest embeddingSearchRequest) throws IOException;
+
+    /**
+     * @return the minimum score of the search request, or null when it is already applied by the {@link #query}.
+     */
+    Double minScore(EmbeddingSearchRequest embeddingSearchRequest) {
+        return null;
+    }
 }
@@ -1,15 +1,11 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.KnnQuery;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-
 /**
  * Represents an <a href="https://www.elastic.co/">Elasticsearch</a> index as an embedding store
  * using the Knn implementation.
@@ -32,9 +28,7 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
     }
 
     @Override
-    SearchResponse<Document> internalSearch(ElasticsearchClient client,
-                                                   String indexName,
-                                                   EmbeddingSearchRequest embeddingSearchRequest) throws ElasticsearchException, IOException {
+    Query query(String indexName, EmbeddingSearchRequest embeddingSearchRequest) {
         KnnQuery.Builder krb = new KnnQuery.Builder()
                 .field("vector")
                 .queryVector(embeddingSearchRequest.queryEmbedding().vectorAsList());
@@ -46,11 +40,11 @@ public class ElasticsearchConfigurationKnn extends ElasticsearchConfiguration {
 
         log.trace("Searching for embeddings in index [{}] with query [{}].", indexName, knn);
 
-        return client.search(sr -> sr
-                        .index(indexName)
-                        .size(embeddingSearchRequest.maxResults())
-                        .query(q -> q.knn(knn))
-                        .minScore(embeddingSearchRequest.minScore())
-                , Document.class);
+        return Query.of(q -> q.knn(knn));
+    }
+
+    @Override
+    Double minScore(EmbeddingSearchRequest embeddingSearchRequest) {
+        return embeddingSearchRequest.minScore();
     }
 }
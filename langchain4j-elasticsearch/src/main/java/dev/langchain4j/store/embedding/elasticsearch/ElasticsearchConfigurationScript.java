@@ -1,12 +1,8 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
-import co.elastic.clients.elasticsearch.ElasticsearchClient;
-import co.elastic.clients.elasticsearch._types.ElasticsearchException;
 import co.elastic.clients.elasticsearch._types.InlineScript;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch._types.query_dsl.ScriptScoreQuery;
-import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.json.JsonData;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -42,17 +38,10 @@ public class ElasticsearchConfigurationScript extends ElasticsearchConfiguration
     }
 
     @Override
-    SearchResponse<Document> internalSearch(ElasticsearchClient client,
-                                                   String indexName,
-                                                   EmbeddingSearchRequest embeddingSearchRequest) throws ElasticsearchException, IOException {
+    Query query(String indexName, EmbeddingSearchRequest embeddingSearchRequest) throws IOException {
         ScriptScoreQuery scriptScoreQuery = buildDefaultScriptScoreQuery(embeddingSearchRequest.queryEmbedding().vector(),
                 (float) embeddingSearchRequest.minScore(), embeddingSearchRequest.filter());
-        return client.search(
-                SearchRequest.of(s -> s.index(indexName)
-                        .query(n -> n.scriptScore(scriptScoreQuery))
-                        .size(embeddingSearchRequest.maxResults())),
-                Document.class
-        );
+        return Query.of(n -> n.scriptScore(scriptScoreQuery));
     }
 
     private ScriptScoreQuery buildDefaultScriptScoreQuery(float[] vector, float minScore,
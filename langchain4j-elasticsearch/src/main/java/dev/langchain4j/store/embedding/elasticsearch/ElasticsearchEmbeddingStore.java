@@ -1,5 +1,6 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
@@ -8,8 +9,10 @@ import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.BulkRequest;
 import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import co.elastic.clients.elasticsearch.core.MsearchResponse;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.msearch.MultiSearchResponseItem;
 import co.elastic.clients.json.JsonpMapper;
 import co.elastic.clients.json.jackson.JacksonJsonpMapper;
 import co.elastic.clients.transport.ElasticsearchTransport;
@@ -17,6 +20,7 @@ import co.elastic.clients.transport.rest_client.RestClientTransport;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -35,13 +39,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.*;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -51,13 +60,16 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Supports storing {@link Metadata} and filtering by it using {@link Filter}
  * (provided inside {@link EmbeddingSearchRequest}).
+ * <br>
+ * The {@link AsyncEmbeddingStore} methods use an {@link ElasticsearchAsyncClient} sharing the same transport.
  */
-public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     private static final Logger log = LoggerFactory.getLogger(ElasticsearchEmbeddingStore.class);
 
     private final ElasticsearchConfiguration configuration;
     private final ElasticsearchClient client;
+    private final ElasticsearchAsyncClient asyncClient;
     private final String indexName;
 
     /**
@@ -125,6 +137,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         ElasticsearchTransport transport = new RestClientTransport(restClientBuilder.build(), new JacksonJsonpMapper());
 
         this.client = new ElasticsearchClient(transport);
+        this.asyncClient = new ElasticsearchAsyncClient(transport);
         this.indexName = ensureNotNull(indexName, "indexName");
     }
 
@@ -142,6 +155,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
 
         this.configuration = configuration;
         this.client = new ElasticsearchClient(transport);
+        this.asyncClient = new ElasticsearchAsyncClient(transport);
         this.indexName = ensureNotNull(indexName, "indexName");
     }
 
@@ -289,22 +303,114 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         return ids;
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest embeddingSearchRequest) {
         log.debug("findRelevant([...{}...], {}, {})", embeddingSearchRequest.queryEmbedding().vector().length,
                 embeddingSearchRequest.maxResults(), embeddingSearchRequest.minScore());
         try {
             SearchResponse<Document> response = configuration.internalSearch(client, indexName, embeddingSearchRequest);
-            log.trace("found [{}] results", response);
+            return toSearchResult(response);
+        } catch (ElasticsearchException | IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
 
-            List<EmbeddingMatch<TextSegment>> results = toMatches(response);
-            results.forEach(em -> log.debug("doc [{}] scores [{}]", em.embeddingId(), em.score()));
-            return new EmbeddingSearchResult<>(results);
+    /**
+     * Runs all the searches in a single multi search ({@code _msearch}) request.
+     *
+     * @param embeddingSearchRequests The requests to search in the index.
+     * @return A list of {@link EmbeddingSearchResult}s, in the same order as the requests.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        if (embeddingSearchRequests.isEmpty()) {
+            return emptyList();
+        }
+        log.debug("searchAll with [{}] requests", embeddingSearchRequests.size());
+        try {
+            MsearchResponse<Document> response = configuration.internalSearchAll(client, indexName, embeddingSearchRequests);
+            List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(embeddingSearchRequests.size());
+            for (MultiSearchResponseItem<Document> item : response.responses()) {
+                if (item.isFailure()) {
+                    throwIfError(item.failure().error());
+                }
+                results.add(toSearchResult(item.result()));
+            }
+            return results;
         } catch (ElasticsearchException | IOException e) {
             throw new ElasticsearchRequestFailedException(e);
         }
     }
 
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+        return addAllAsync(embeddings, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<TextSegment> embedded) {
+        if (isNullOrEmpty(embeddings)) {
+            log.info("[do not add empty embeddings to elasticsearch]");
+            return completedFuture(emptyList());
+        }
+        try {
+            ensureTrue(embedded == null || embeddings.size() == embedded.size(), "embeddings size is not equal to embedded size");
+            List<String> ids = embeddings.stream()
+                    .map(ignored -> randomUUID())
+                    .collect(toList());
+            log.debug("calling bulkIndex with [{}] elements", ids.size());
+            return handleFailures(asyncClient.bulk(bulkIndexRequest(ids, embeddings, embedded))
+                    .thenApply(response -> {
+                        handleBulkResponseErrors(response);
+                        return ids;
+                    }));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest embeddingSearchRequest) {
+        try {
+            return handleFailures(configuration.internalSearchAsync(asyncClient, indexName, embeddingSearchRequest)
+                    .thenApply(this::toSearchResult));
+        } catch (ElasticsearchException | IOException e) {
+            return AsyncEmbeddingStore.failedFuture(new ElasticsearchRequestFailedException(e));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        try {
+            ensureNotEmpty(ids, "ids");
+            return handleFailures(asyncClient.bulk(bulkRemoveRequest(ids))
+                    .thenAccept(this::handleBulkResponseErrors));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        try {
+            ensureNotNull(filter, "filter");
+            Query query = ElasticsearchMetadataFilterMapper.map(filter);
+            return handleFailures(asyncClient.deleteByQuery(delete -> delete
+                            .index(indexName)
+                            .query(query))
+                    .thenAccept(this::handleDeleteByQueryResponseErrors));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -357,8 +463,13 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
     }
 
     private void bulkIndex(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) throws IOException {
+        log.debug("calling bulkIndex with [{}] elements", ids.size());
+        BulkResponse response = client.bulk(bulkIndexRequest(ids, embeddings, embedded));
+        handleBulkResponseErrors(response);
+    }
+
+    private BulkRequest bulkIndexRequest(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
         int size = ids.size();
-        log.debug("calling bulkIndex with [{}] elements", size);
         BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
         for (int i = 0; i < size; i++) {
             int finalI = i;
@@ -372,9 +483,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
                     .id(ids.get(finalI))
                     .document(document)));
         }
-
-        BulkResponse response = client.bulk(bulkBuilder.build());
-        handleBulkResponseErrors(response);
+        return bulkBuilder.build();
     }
 
     private void handleBulkResponseErrors(BulkResponse response) {
@@ -396,16 +505,20 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             DeleteByQueryResponse response = client.deleteByQuery(delete -> delete
                     .index(indexName)
                     .query(query));
-            if (!response.failures().isEmpty()) {
-                for (BulkIndexByScrollFailure item : response.failures()) {
-                    throwIfError(item.cause());
-                }
-            }
+            handleDeleteByQueryResponseErrors(response);
         } catch (IOException e) {
             throw new ElasticsearchRequestFailedException(e);
         }
     }
 
+    private void handleDeleteByQueryResponseErrors(DeleteByQueryResponse response) {
+        if (!response.failures().isEmpty()) {
+            for (BulkIndexByScrollFailure item : response.failures()) {
+                throwIfError(item.cause());
+            }
+        }
+    }
+
     private void removeByIds(Collection<String> ids) {
         try {
             bulkRemove(ids);
@@ -415,14 +528,45 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
     }
 
     private void bulkRemove(Collection<String> ids) throws IOException {
+        BulkResponse response = client.bulk(bulkRemoveRequest(ids));
+        handleBulkResponseErrors(response);
+    }
+
+    private BulkRequest bulkRemoveRequest(Collection<String> ids) {
         BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
         for (String id : ids) {
             bulkBuilder.operations(op -> op.delete(dlt -> dlt
                     .index(indexName)
                     .id(id)));
         }
-        BulkResponse response = client.bulk(bulkBuilder.build());
-        handleBulkResponseErrors(response);
+        return bulkBuilder.build();
+    }
+
+    private EmbeddingSearchResult<TextSegment> toSearchResult(SearchResponse<Document> response) {
+        log.trace("found [{}] results", response);
+
+        List<EmbeddingMatch<TextSegment>> results = toMatches(response);
+        results.forEach(em -> log.debug("doc [{}] scores [{}]", em.embeddingId(), em.score()));
+        return new EmbeddingSearchResult<>(results);
+    }
+
+    /**
+     * Reports the failures of an asynchronous request the same way as the blocking methods do,
+     * as an {@link ElasticsearchRequestFailedException}.
+     */
+    private static <T> CompletableFuture<T> handleFailures(CompletableFuture<T> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            result.completeExceptionally(cause instanceof ElasticsearchRequestFailedException
+                    ? cause
+                    : new ElasticsearchRequestFailedException(cause));
+        });
+        return result;
     }
 
     private List<EmbeddingMatch<TextSegment>> toMatches(SearchResponse<Document> response) {
@@ -29,6 +29,7 @@ public class JinaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private static final String DEFAULT_MODEL = "jina-embeddings-v2-base-en";
 
     private final JinaClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer maxRetries;
 
@@ -40,8 +41,9 @@ public class JinaEmbeddingModel extends DimensionAwareEmbeddingModel {
                               Integer maxRetries,
                               Boolean logRequests,
                               Boolean logResponses) {
+        this.baseUrl = getOrDefault(baseUrl, DEFAULT_BASE_URL);
         this.client = JinaClient.builder()
-                .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .logRequests(getOrDefault(logRequests, false))
@@ -63,7 +65,7 @@ public class JinaEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .input(textSegments.stream().map(TextSegment::text).collect(toList()))
                 .build();
 
-        JinaEmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries);
+        JinaEmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries, baseUrl);
 
         List<Embedding> embeddings = response.data.stream()
                 .map(jinaEmbedding -> Embedding.from(jinaEmbedding.embedding))
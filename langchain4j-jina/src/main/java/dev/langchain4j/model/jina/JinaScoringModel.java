@@ -29,6 +29,7 @@ public class JinaScoringModel implements ScoringModel {
     private static final String DEFAULT_MODEL = "jina-reranker-v1-base-en";
 
     private final JinaClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer maxRetries;
 
@@ -40,8 +41,9 @@ public class JinaScoringModel implements ScoringModel {
                             Integer maxRetries,
                             Boolean logRequests,
                             Boolean logResponses) {
+        this.baseUrl = getOrDefault(baseUrl, DEFAULT_BASE_URL);
         this.client = JinaClient.builder()
-                .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
+                .baseUrl(this.baseUrl)
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .logRequests(getOrDefault(logRequests, false))
@@ -67,7 +69,7 @@ public class JinaScoringModel implements ScoringModel {
                 .returnDocuments(false)  // decreasing response size, do not include text in response
                 .build();
 
-        JinaRerankingResponse response = withRetry(() -> client.rerank(request), maxRetries);
+        JinaRerankingResponse response = withRetry(() -> client.rerank(request), maxRetries, baseUrl);
 
         List<Double> scores = response.results.stream()
                 .sorted(comparingInt(result -> result.index))
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.jina.internal.client;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.langchain4j.internal.HttpException;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.model.jina.internal.api.*;
 import lombok.Builder;
@@ -12,6 +13,7 @@ import java.io.IOException;
 import java.time.Duration;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 public class JinaClient {
@@ -80,6 +82,6 @@ public class JinaClient {
         int code = response.code();
         String body = response.errorBody().string();
         String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
+        return new HttpException(code, errorMessage, parseRetryAfter(response.headers().get("Retry-After")));
     }
 }
@@ -1,5 +1,6 @@
 package dev.langchain4j.store.embedding.milvus;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import io.milvus.client.MilvusServiceClient;
 import io.milvus.common.clientenum.ConsistencyLevelEnum;
 import io.milvus.grpc.FlushResponse;
@@ -19,11 +20,18 @@ import io.milvus.response.QueryResultsWrapper;
 import io.milvus.response.SearchResultsWrapper;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.*;
 import static dev.langchain4j.store.embedding.milvus.MilvusEmbeddingStore.*;
 import static io.milvus.grpc.DataType.*;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 class CollectionOperationsExecutor {
 
@@ -83,14 +91,20 @@ class CollectionOperationsExecutor {
     static void createIndex(MilvusServiceClient milvusClient,
                             String collectionName,
                             IndexType indexType,
-                            MetricType metricType) {
+                            MetricType metricType,
+                            String extraParameters) {
 
-        CreateIndexParam request = CreateIndexParam.newBuilder()
+        CreateIndexParam.Builder builder = CreateIndexParam.newBuilder()
                 .withCollectionName(collectionName)
                 .withFieldName(VECTOR_FIELD_NAME)
                 .withIndexType(indexType)
-                .withMetricType(metricType)
-                .build();
+                .withMetricType(metricType);
+
+        if (extraParameters != null) {
+            builder.withExtraParam(extraParameters);
+        }
+
+        CreateIndexParam request = builder.build();
 
         R<RpcStatus> response = milvusClient.createIndex(request);
         checkResponseNotFailed(response);
@@ -102,6 +116,13 @@ class CollectionOperationsExecutor {
         checkResponseNotFailed(response);
     }
 
+    static CompletableFuture<MutationResult> insertAsync(MilvusServiceClient milvusClient,
+                                                         String collectionName,
+                                                         List<InsertParam.Field> fields) {
+        InsertParam request = buildInsertRequest(collectionName, fields);
+        return toCompletableFuture(milvusClient.insertAsync(request));
+    }
+
     static void loadCollectionInMemory(MilvusServiceClient milvusClient, String collectionName) {
         LoadCollectionParam request = buildLoadCollectionInMemoryRequest(collectionName);
         R<RpcStatus> response = milvusClient.loadCollection(request);
@@ -115,6 +136,12 @@ class CollectionOperationsExecutor {
         return new SearchResultsWrapper(response.getData().getResults());
     }
 
+    static CompletableFuture<SearchResultsWrapper> searchAsync(MilvusServiceClient milvusClient,
+                                                               SearchParam searchRequest) {
+        return toCompletableFuture(milvusClient.searchAsync(searchRequest))
+                .thenApply(data -> new SearchResultsWrapper(data.getResults()));
+    }
+
     static QueryResultsWrapper queryForVectors(MilvusServiceClient milvusClient,
                                                String collectionName,
                                                List<String> rowIds,
@@ -126,6 +153,15 @@ class CollectionOperationsExecutor {
         return new QueryResultsWrapper(response.getData());
     }
 
+    static CompletableFuture<QueryResultsWrapper> queryForVectorsAsync(MilvusServiceClient milvusClient,
+                                                                       String collectionName,
+                                                                       List<String> rowIds,
+                                                                       ConsistencyLevelEnum consistencyLevel) {
+        QueryParam request = buildQueryRequest(collectionName, rowIds, consistencyLevel);
+        return toCompletableFuture(milvusClient.queryAsync(request))
+                .thenApply(QueryResultsWrapper::new);
+    }
+
     static void removeForVector(MilvusServiceClient milvusClient,
                                 String collectionName,
                                 String expr) {
@@ -133,6 +169,52 @@ class CollectionOperationsExecutor {
         checkResponseNotFailed(response);
     }
 
+    /**
+     * The Milvus client has no asynchronous delete call, so the blocking one is run on a shared pool of daemon threads.
+     */
+    static CompletableFuture<Void> removeForVectorAsync(MilvusServiceClient milvusClient,
+                                                        String collectionName,
+                                                        String expr) {
+        return CompletableFuture.runAsync(() -> removeForVector(milvusClient, collectionName, expr),
+                DeleteExecutorHolder.INSTANCE);
+    }
+
+    /**
+     * Completes with the data of the response, or exceptionally with a {@link RequestToMilvusFailedException}
+     * when the response failed, the same way as the blocking operations do.
+     */
+    private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<R<T>> future) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        future.addListener(() -> {
+            try {
+                R<T> response = future.get();
+                checkResponseNotFailed(response);
+                result.complete(response.getData());
+            } catch (ExecutionException e) {
+                result.completeExceptionally(new RequestToMilvusFailedException("Request to Milvus DB failed.", e.getCause()));
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            }
+        }, Runnable::run);
+        return result;
+    }
+
+    private static class DeleteExecutorHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final Executor INSTANCE = new ThreadPoolExecutor(
+                0, Integer.MAX_VALUE,
+                60, SECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "milvus-delete-" + THREAD_COUNT.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+    }
+
     private static <T> void checkResponseNotFailed(R<T> response) {
         if (response == null) {
             throw new RequestToMilvusFailedException("Request to Milvus DB failed. Response is null");
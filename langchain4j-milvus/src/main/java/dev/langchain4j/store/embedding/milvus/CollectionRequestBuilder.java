@@ -58,10 +58,22 @@ class CollectionRequestBuilder {
                                           Filter filter,
                                           int maxResults,
                                           MetricType metricType,
-                                          ConsistencyLevelEnum consistencyLevel) {
+                                          ConsistencyLevelEnum consistencyLevel,
+                                          String searchParameters) {
+        return buildBatchSearchRequest(collectionName, singletonList(vector), filter, maxResults, metricType,
+                consistencyLevel, searchParameters);
+    }
+
+    static SearchParam buildBatchSearchRequest(String collectionName,
+                                               List<List<Float>> vectors,
+                                               Filter filter,
+                                               int maxResults,
+                                               MetricType metricType,
+                                               ConsistencyLevelEnum consistencyLevel,
+                                               String searchParameters) {
         SearchParam.Builder builder = SearchParam.newBuilder()
                 .withCollectionName(collectionName)
-                .withVectors(singletonList(vector))
+                .withVectors(vectors)
                 .withVectorFieldName(VECTOR_FIELD_NAME)
                 .withTopK(maxResults)
                 .withMetricType(metricType)
@@ -72,6 +84,10 @@ class CollectionRequestBuilder {
             builder.withExpr(MilvusMetadataFilterMapper.map(filter));
         }
 
+        if (searchParameters != null) {
+            builder.withParams(searchParameters);
+        }
+
         return builder.build();
     }
 
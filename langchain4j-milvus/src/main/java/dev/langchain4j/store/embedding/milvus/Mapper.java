@@ -25,6 +25,7 @@ import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecuto
 import static dev.langchain4j.store.embedding.milvus.Generator.generateEmptyJsons;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateEmptyScalars;
 import static dev.langchain4j.store.embedding.milvus.MilvusEmbeddingStore.*;
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
 
 class Mapper {
@@ -41,13 +42,13 @@ class Mapper {
 
     static List<JSONObject> toMetadataJsons(List<TextSegment> textSegments, int size) {
         return isNullOrEmpty(textSegments) ? generateEmptyJsons(size) : textSegments.stream()
-                .map(segment -> new JSONObject(segment.metadata().toMap()))
+                .map(segment -> new JSONObject(segment == null ? new HashMap<>() : segment.metadata().toMap()))
                 .collect(toList());
     }
 
     static List<String> textSegmentsToScalars(List<TextSegment> textSegments) {
         return textSegments.stream()
-                .map(TextSegment::text)
+                .map(segment -> segment == null ? "" : segment.text())
                 .collect(toList());
     }
 
@@ -56,24 +57,36 @@ class Mapper {
                                                                 String collectionName,
                                                                 ConsistencyLevelEnum consistencyLevel,
                                                                 boolean queryForVectorOnSearch) {
-        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
-
         Map<String, Embedding> idToEmbedding = new HashMap<>();
         if (queryForVectorOnSearch) {
-            try {
-                List<String> rowIds = (List<String>) resultsWrapper.getFieldWrapper(ID_FIELD_NAME).getFieldData();
+            List<String> rowIds = toRowIds(resultsWrapper);
+            if (!rowIds.isEmpty()) {
                 idToEmbedding.putAll(queryEmbeddings(milvusClient, collectionName, rowIds, consistencyLevel));
-            } catch (ParamException e) {
-                // There is no way to check if the result is empty or not.
-                // If the result is empty, the exception will be thrown.
             }
         }
 
-        for (int i = 0; i < resultsWrapper.getRowRecords().size(); i++) {
-            double score = resultsWrapper.getIDScore(0).get(i).getScore();
-            String rowId = resultsWrapper.getIDScore(0).get(i).getStrID();
+        return toEmbeddingMatches(resultsWrapper, idToEmbedding);
+    }
+
+    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(SearchResultsWrapper resultsWrapper,
+                                                                Map<String, Embedding> idToEmbedding) {
+        return toEmbeddingMatches(resultsWrapper, 0, idToEmbedding);
+    }
+
+    /**
+     * Maps the results of one of the query vectors of a (batch) search.
+     */
+    static List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(SearchResultsWrapper resultsWrapper,
+                                                                int queryIndex,
+                                                                Map<String, Embedding> idToEmbedding) {
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+
+        List<RowRecord> rowRecords = resultsWrapper.getRowRecords(queryIndex);
+        for (int i = 0; i < rowRecords.size(); i++) {
+            double score = resultsWrapper.getIDScore(queryIndex).get(i).getScore();
+            String rowId = resultsWrapper.getIDScore(queryIndex).get(i).getStrID();
             Embedding embedding = idToEmbedding.get(rowId);
-            TextSegment textSegment = toTextSegment(resultsWrapper.getRowRecords().get(i));
+            TextSegment textSegment = toTextSegment(rowRecords.get(i));
             EmbeddingMatch<TextSegment> embeddingMatch = new EmbeddingMatch<>(
                     RelevanceScore.fromCosineSimilarity(score),
                     rowId,
@@ -86,6 +99,26 @@ class Mapper {
         return matches;
     }
 
+    static List<String> toRowIds(SearchResultsWrapper resultsWrapper) {
+        try {
+            return (List<String>) resultsWrapper.getFieldWrapper(ID_FIELD_NAME).getFieldData();
+        } catch (ParamException e) {
+            // There is no way to check if the result is empty or not.
+            // If the result is empty, the exception will be thrown.
+            return emptyList();
+        }
+    }
+
+    static Map<String, Embedding> toIdToEmbedding(QueryResultsWrapper queryResultsWrapper) {
+        Map<String, Embedding> idToEmbedding = new HashMap<>();
+        for (RowRecord row : queryResultsWrapper.getRowRecords()) {
+            String id = row.get(ID_FIELD_NAME).toString();
+            List<Float> vector = (List<Float>) row.get(VECTOR_FIELD_NAME);
+            idToEmbedding.put(id, Embedding.from(vector));
+        }
+        return idToEmbedding;
+    }
+
     private static TextSegment toTextSegment(RowRecord rowRecord) {
 
         String text = (String) rowRecord.get(TEXT_FIELD_NAME);
@@ -123,13 +156,6 @@ class Mapper {
                 consistencyLevel
         );
 
-        Map<String, Embedding> idToEmbedding = new HashMap<>();
-        for (RowRecord row : queryResultsWrapper.getRowRecords()) {
-            String id = row.get(ID_FIELD_NAME).toString();
-            List<Float> vector = (List<Float>) row.get(VECTOR_FIELD_NAME);
-            idToEmbedding.put(id, Embedding.from(vector));
-        }
-
-        return idToEmbedding;
+        return toIdToEmbedding(queryResultsWrapper);
     }
 }
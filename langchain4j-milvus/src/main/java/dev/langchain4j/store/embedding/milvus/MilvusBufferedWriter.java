@@ -0,0 +1,355 @@
+package dev.langchain4j.store.embedding.milvus;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.Utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static dev.langchain4j.store.embedding.milvus.Generator.generateRandomIds;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.nCopies;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Writes embeddings into a {@link MilvusEmbeddingStore} in large batches.
+ * <br>
+ * Added embeddings are buffered on the client side and sent as columnar insert requests
+ * of at most {@code maxBufferedRows} rows or (approximately) {@code maxBufferedBytes} bytes,
+ * once the buffer reaches one of these limits.
+ * <br>
+ * Inserting and flushing are decoupled: the collection is flushed (its growing segments are sealed and persisted)
+ * only when at least {@code flushAfterRows} rows have been inserted since the last flush,
+ * every {@code flushInterval}, or when {@link #flush()} or {@link #close()} is called.
+ * <br>
+ * The IDs are generated when the embeddings are added, but the embeddings can only be found
+ * once they have been sent to Milvus.
+ * <br>
+ * Rows that could not be inserted stay buffered and are inserted again later, so added embeddings are not lost.
+ * Delivery is at-least-once: when an insert request fails after Milvus has already applied it
+ * (for example, on a timeout), its rows are inserted again, and since Milvus does not enforce the uniqueness
+ * of primary keys, the collection then holds duplicate rows with the same ID.
+ * Searches can then return the same embedding more than once.
+ * When the buffer is full because inserts keep failing, adding embeddings fails without
+ * buffering them (so the call can simply be retried), and {@link #flush()} and {@link #close()} fail
+ * until the buffered rows are inserted.
+ * <br>
+ * This class is thread-safe.
+ */
+public class MilvusBufferedWriter implements AutoCloseable {
+
+    private final MilvusEmbeddingStore embeddingStore;
+    private final int maxBufferedRows;
+    private final long maxBufferedBytes;
+    private final Integer flushAfterRows;
+    private final ScheduledExecutorService flushScheduler;
+
+    private final List<String> bufferedIds = new ArrayList<>();
+    private final List<Embedding> bufferedEmbeddings = new ArrayList<>();
+    private final List<TextSegment> bufferedTextSegments = new ArrayList<>();
+    private final List<Long> bufferedRowSizes = new ArrayList<>();
+    private long bufferedBytes;
+    private long unflushedRows;
+
+    /**
+     * The last failure that was not reported to the caller: the failed rows stay buffered.
+     * It is reported (as a suppressed exception) if inserting or flushing fails again.
+     */
+    private RuntimeException unreportedFailure;
+
+    /**
+     * Creates an instance of MilvusBufferedWriter.
+     *
+     * @param embeddingStore   The store to write to. Mandatory.
+     * @param maxBufferedRows  The maximum number of rows buffered before they are inserted. Default value: 1000.
+     * @param maxBufferedBytes The approximate maximum size of the buffered rows, in bytes, before they are inserted.
+     *                         Default value: 16 MiB (Milvus rejects gRPC messages larger than 64 MiB by default).
+     * @param flushAfterRows   The number of inserted rows after which the collection is flushed.
+     *                         Default value: none, the collection is not flushed based on the number of rows.
+     * @param flushInterval    The interval at which the buffered rows are inserted and the collection is flushed.
+     *                         Default value: none, the collection is not flushed periodically.
+     */
+    public MilvusBufferedWriter(MilvusEmbeddingStore embeddingStore,
+                                Integer maxBufferedRows,
+                                Long maxBufferedBytes,
+                                Integer flushAfterRows,
+                                Duration flushInterval) {
+        this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.maxBufferedRows = ensureGreaterThanZero(getOrDefault(maxBufferedRows, 1000), "maxBufferedRows");
+        this.maxBufferedBytes = getOrDefault(maxBufferedBytes, 16L * 1024 * 1024);
+        ensureTrue(this.maxBufferedBytes > 0, "maxBufferedBytes must be greater than zero");
+        this.flushAfterRows = flushAfterRows == null ? null : ensureGreaterThanZero(flushAfterRows, "flushAfterRows");
+
+        if (flushInterval == null) {
+            this.flushScheduler = null;
+        } else {
+            ensureTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "flushInterval must be positive");
+            this.flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "milvus-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = flushInterval.toMillis();
+            this.flushScheduler.scheduleWithFixedDelay(this::scheduledFlush, intervalMillis, intervalMillis, MILLISECONDS);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Adds an embedding to the buffer.
+     *
+     * @param embedding The embedding to be added.
+     * @return The auto-generated ID associated with the added embedding.
+     */
+    public String add(Embedding embedding) {
+        return add(embedding, null);
+    }
+
+    /**
+     * Adds an embedding and the corresponding text segment to the buffer.
+     *
+     * @param embedding   The embedding to be added.
+     * @param textSegment The text segment that was embedded. Optional.
+     * @return The auto-generated ID associated with the added embedding.
+     */
+    public synchronized String add(Embedding embedding, TextSegment textSegment) {
+        String id = Utils.randomUUID();
+        buffer(singletonList(id), singletonList(ensureNotNull(embedding, "embedding")), singletonList(textSegment));
+        return id;
+    }
+
+    /**
+     * Adds multiple embeddings to the buffer.
+     *
+     * @param embeddings The embeddings to be added.
+     * @return The auto-generated IDs associated with the added embeddings.
+     */
+    public List<String> addAll(List<Embedding> embeddings) {
+        return addAll(embeddings, null);
+    }
+
+    /**
+     * Adds multiple embeddings and the corresponding text segments to the buffer.
+     *
+     * @param embeddings   The embeddings to be added.
+     * @param textSegments The text segments that were embedded. Optional.
+     * @return The auto-generated IDs associated with the added embeddings.
+     */
+    public synchronized List<String> addAll(List<Embedding> embeddings, List<TextSegment> textSegments) {
+        ensureNotNull(embeddings, "embeddings");
+        ensureTrue(textSegments == null || embeddings.size() == textSegments.size(),
+                "embeddings size is not equal to textSegments size");
+
+        List<String> ids = generateRandomIds(embeddings.size());
+        buffer(ids, embeddings, textSegments == null ? nCopies(embeddings.size(), null) : textSegments);
+        return ids;
+    }
+
+    /**
+     * Inserts the buffered rows, then flushes the collection.
+     */
+    public synchronized void flush() {
+        try {
+            while (!bufferedIds.isEmpty()) {
+                insertBatch();
+            }
+            flushCollection();
+        } catch (RuntimeException e) {
+            throw withUnreportedFailure(e);
+        }
+        // the rows that previously failed have now been inserted and flushed
+        unreportedFailure = null;
+    }
+
+    /**
+     * Stops the periodic flush, if any, then flushes the remaining rows (see {@link #flush()}).
+     * The {@link MilvusEmbeddingStore} is not closed.
+     */
+    @Override
+    public void close() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdown();
+        }
+        flush();
+    }
+
+    /**
+     * Buffers the given rows, then inserts the buffered rows if the buffer is full.
+     * <br>
+     * The rows that could not be inserted by a previous call are inserted first:
+     * if this fails, none of the given rows is buffered, so that the caller can retry without duplicating them,
+     * and the buffer does not grow while inserts keep failing.
+     * Once buffered, the given rows are accepted: if inserting them fails, they stay buffered.
+     */
+    private void buffer(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        List<Long> rowSizes = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            rowSizes.add(estimateSize(ids.get(i), embeddings.get(i), textSegments.get(i)));
+        }
+
+        try {
+            insertFullBatches();
+        } catch (RuntimeException e) {
+            throw withUnreportedFailure(e);
+        }
+
+        bufferedIds.addAll(ids);
+        bufferedEmbeddings.addAll(embeddings);
+        bufferedTextSegments.addAll(textSegments);
+        bufferedRowSizes.addAll(rowSizes);
+        for (long rowSize : rowSizes) {
+            bufferedBytes += rowSize;
+        }
+
+        try {
+            insertFullBatches();
+            if (flushAfterRows != null && unflushedRows >= flushAfterRows) {
+                flushCollection();
+            }
+        } catch (RuntimeException e) {
+            // retried by the next add, flush or close
+            unreportedFailure = e;
+        }
+    }
+
+    private void insertFullBatches() {
+        while (bufferedIds.size() >= maxBufferedRows || bufferedBytes >= maxBufferedBytes) {
+            insertBatch();
+        }
+    }
+
+    /**
+     * Inserts the oldest buffered rows, up to {@code maxBufferedRows} rows or (approximately) {@code maxBufferedBytes}.
+     */
+    private void insertBatch() {
+        int rows = 0;
+        long bytes = 0;
+        while (rows < bufferedIds.size() && rows < maxBufferedRows && bytes < maxBufferedBytes) {
+            bytes += bufferedRowSizes.get(rows);
+            rows++;
+        }
+
+        // the rows are only removed from the buffer once the insert succeeded, so that it can be retried
+        embeddingStore.insertAll(
+                new ArrayList<>(bufferedIds.subList(0, rows)),
+                new ArrayList<>(bufferedEmbeddings.subList(0, rows)),
+                new ArrayList<>(bufferedTextSegments.subList(0, rows))
+        );
+        unflushedRows += rows;
+        bufferedIds.subList(0, rows).clear();
+        bufferedEmbeddings.subList(0, rows).clear();
+        bufferedTextSegments.subList(0, rows).clear();
+        bufferedRowSizes.subList(0, rows).clear();
+        bufferedBytes -= bytes;
+    }
+
+    private void flushCollection() {
+        if (unflushedRows > 0) {
+            embeddingStore.flush();
+            unflushedRows = 0;
+        }
+    }
+
+    private synchronized void scheduledFlush() {
+        try {
+            while (!bufferedIds.isEmpty()) {
+                insertBatch();
+            }
+            flushCollection();
+        } catch (RuntimeException e) {
+            // retried by the next add, flush or close
+            unreportedFailure = e;
+        }
+    }
+
+    private RuntimeException withUnreportedFailure(RuntimeException e) {
+        if (unreportedFailure != null && unreportedFailure != e) {
+            e.addSuppressed(unreportedFailure);
+        }
+        unreportedFailure = null;
+        return e;
+    }
+
+    static long estimateSize(String id, Embedding embedding, TextSegment textSegment) {
+        long size = id.length() + 4L * embedding.dimension();
+        if (textSegment != null) {
+            size += textSegment.text().getBytes(UTF_8).length;
+            size += textSegment.metadata().toMap().toString().length();
+        }
+        return size;
+    }
+
+    public static class Builder {
+
+        private MilvusEmbeddingStore embeddingStore;
+        private Integer maxBufferedRows;
+        private Long maxBufferedBytes;
+        private Integer flushAfterRows;
+        private Duration flushInterval;
+
+        /**
+         * @param embeddingStore The store to write to.
+         * @return builder
+         */
+        public Builder embeddingStore(MilvusEmbeddingStore embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * @param maxBufferedRows The maximum number of rows buffered before they are inserted.
+         *                        Default value: 1000.
+         * @return builder
+         */
+        public Builder maxBufferedRows(Integer maxBufferedRows) {
+            this.maxBufferedRows = maxBufferedRows;
+            return this;
+        }
+
+        /**
+         * @param maxBufferedBytes The approximate maximum size of the buffered rows, in bytes, before they are inserted.
+         *                         Default value: 16 MiB.
+         * @return builder
+         */
+        public Builder maxBufferedBytes(Long maxBufferedBytes) {
+            this.maxBufferedBytes = maxBufferedBytes;
+            return this;
+        }
+
+        /**
+         * @param flushAfterRows The number of inserted rows after which the collection is flushed.
+         *                       Default value: none.
+         * @return builder
+         */
+        public Builder flushAfterRows(Integer flushAfterRows) {
+            this.flushAfterRows = flushAfterRows;
+            return this;
+        }
+
+        /**
+         * @param flushInterval The interval at which the buffered rows are inserted and the collection is flushed.
+         *                      Default value: none.
+         * @return builder
+         */
+        public Builder flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        public MilvusBufferedWriter build() {
+            return new MilvusBufferedWriter(embeddingStore, maxBufferedRows, maxBufferedBytes, flushAfterRows, flushInterval);
+        }
+    }
+}
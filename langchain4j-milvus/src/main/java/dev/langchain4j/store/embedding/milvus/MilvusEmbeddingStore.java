@@ -1,9 +1,11 @@
 package dev.langchain4j.store.embedding.milvus;
 
+import com.alibaba.fastjson.JSONObject;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.internal.Utils;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -21,11 +23,15 @@ import io.milvus.response.SearchResultsWrapper;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.store.embedding.milvus.CollectionOperationsExecutor.*;
+import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildBatchSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.CollectionRequestBuilder.buildSearchRequest;
 import static dev.langchain4j.store.embedding.milvus.Generator.generateRandomIds;
 import static dev.langchain4j.store.embedding.milvus.Mapper.*;
@@ -35,7 +41,10 @@ import static io.milvus.common.clientenum.ConsistencyLevelEnum.EVENTUALLY;
 import static io.milvus.param.IndexType.FLAT;
 import static io.milvus.param.MetricType.COSINE;
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -45,8 +54,13 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Supports storing {@link Metadata} and filtering by it using a {@link Filter}
  * (provided inside an {@link EmbeddingSearchRequest}).
+ * <br>
+ * The {@link AsyncEmbeddingStore} methods use the asynchronous insert, search and query calls of the Milvus client.
+ * When {@code autoFlushOnInsert} is enabled, the flush following an asynchronous insert is still a blocking call.
+ * As the Milvus client has no asynchronous delete call, asynchronous removals run the blocking one
+ * on a shared pool of daemon threads.
  */
-public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
     static final String ID_FIELD_NAME = "id";
     static final String TEXT_FIELD_NAME = "text";
@@ -59,6 +73,7 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     private final ConsistencyLevelEnum consistencyLevel;
     private final boolean retrieveEmbeddingsOnSearch;
     private final boolean autoFlushOnInsert;
+    private final String searchParameters;
 
     public MilvusEmbeddingStore(
             String host,
@@ -75,6 +90,28 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             Boolean retrieveEmbeddingsOnSearch,
             Boolean autoFlushOnInsert,
             String databaseName
+    ) {
+        this(host, port, collectionName, dimension, indexType, metricType, uri, token, username, password,
+                consistencyLevel, retrieveEmbeddingsOnSearch, autoFlushOnInsert, databaseName, null, null);
+    }
+
+    public MilvusEmbeddingStore(
+            String host,
+            Integer port,
+            String collectionName,
+            Integer dimension,
+            IndexType indexType,
+            MetricType metricType,
+            String uri,
+            String token,
+            String username,
+            String password,
+            ConsistencyLevelEnum consistencyLevel,
+            Boolean retrieveEmbeddingsOnSearch,
+            Boolean autoFlushOnInsert,
+            String databaseName,
+            Map<String, Object> indexParameters,
+            Map<String, Object> searchParameters
     ) {
         ConnectParam.Builder connectBuilder = ConnectParam
                 .newBuilder()
@@ -94,10 +131,12 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         this.consistencyLevel = getOrDefault(consistencyLevel, EVENTUALLY);
         this.retrieveEmbeddingsOnSearch = getOrDefault(retrieveEmbeddingsOnSearch, false);
         this.autoFlushOnInsert = getOrDefault(autoFlushOnInsert, false);
+        this.searchParameters = toJson(searchParameters);
 
         if (!hasCollection(this.milvusClient, this.collectionName)) {
             createCollection(this.milvusClient, this.collectionName, ensureNotNull(dimension, "dimension"));
-            createIndex(this.milvusClient, this.collectionName, getOrDefault(indexType, FLAT), this.metricType);
+            createIndex(this.milvusClient, this.collectionName, getOrDefault(indexType, FLAT), this.metricType,
+                    toJson(indexParameters));
         }
 
         loadCollectionInMemory(this.milvusClient, collectionName);
@@ -111,6 +150,16 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         CollectionOperationsExecutor.dropCollection(this.milvusClient, collectionName);
     }
 
+    /**
+     * Flushes the collection: the inserted data is sealed into segments and persisted.
+     * <br>
+     * Flushing seals the growing segments, so flushing after each small insert hurts ingestion throughput.
+     * Prefer flushing once after a large ingestion, or use a {@link MilvusBufferedWriter}.
+     */
+    public void flush() {
+        CollectionOperationsExecutor.flush(this.milvusClient, this.collectionName);
+    }
+
     public String add(Embedding embedding) {
         String id = Utils.randomUUID();
         add(id, embedding);
@@ -142,14 +191,7 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest embeddingSearchRequest) {
 
-        SearchParam searchParam = buildSearchRequest(
-                collectionName,
-                embeddingSearchRequest.queryEmbedding().vectorAsList(),
-                embeddingSearchRequest.filter(),
-                embeddingSearchRequest.maxResults(),
-                metricType,
-                consistencyLevel
-        );
+        SearchParam searchParam = toSearchParam(embeddingSearchRequest);
 
         SearchResultsWrapper resultsWrapper = CollectionOperationsExecutor.search(milvusClient, searchParam);
 
@@ -161,8 +203,119 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
                 retrieveEmbeddingsOnSearch
         );
 
+        return toSearchResult(matches, embeddingSearchRequest.minScore());
+    }
+
+    /**
+     * Searches all the query vectors in a single request when the requests share the same
+     * {@code maxResults} and {@code filter}, as Milvus applies them to all vectors of a search.
+     * Otherwise, the requests are searched one after another.
+     *
+     * @param embeddingSearchRequests The requests to search in the collection.
+     * @return A list of {@link EmbeddingSearchResult}s, in the same order as the requests.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> embeddingSearchRequests) {
+        if (embeddingSearchRequests.isEmpty()) {
+            return emptyList();
+        }
+        EmbeddingSearchRequest first = embeddingSearchRequests.get(0);
+        boolean batchable = embeddingSearchRequests.stream().allMatch(request ->
+                request.maxResults() == first.maxResults() && Objects.equals(request.filter(), first.filter()));
+        if (!batchable) {
+            return EmbeddingStore.super.searchAll(embeddingSearchRequests);
+        }
+
+        SearchParam searchParam = buildBatchSearchRequest(
+                collectionName,
+                embeddingSearchRequests.stream()
+                        .map(request -> request.queryEmbedding().vectorAsList())
+                        .collect(toList()),
+                first.filter(),
+                first.maxResults(),
+                metricType,
+                consistencyLevel,
+                searchParameters
+        );
+
+        SearchResultsWrapper resultsWrapper = CollectionOperationsExecutor.search(milvusClient, searchParam);
+
+        Map<String, Embedding> idToEmbedding = emptyMap();
+        if (retrieveEmbeddingsOnSearch) {
+            List<String> rowIds = toRowIds(resultsWrapper);
+            if (!rowIds.isEmpty()) {
+                idToEmbedding = toIdToEmbedding(queryForVectors(milvusClient, collectionName, rowIds, consistencyLevel));
+            }
+        }
+
+        List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(embeddingSearchRequests.size());
+        for (int i = 0; i < embeddingSearchRequests.size(); i++) {
+            results.add(toSearchResult(
+                    toEmbeddingMatches(resultsWrapper, i, idToEmbedding),
+                    embeddingSearchRequests.get(i).minScore()
+            ));
+        }
+        return results;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+        return addAllAsync(embeddings, null);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings, List<TextSegment> embedded) {
+        try {
+            List<String> ids = generateRandomIds(embeddings.size());
+            return insertAsync(this.milvusClient, this.collectionName, toInsertFields(ids, embeddings, embedded))
+                    .thenApply(ignored -> {
+                        if (autoFlushOnInsert) {
+                            CollectionOperationsExecutor.flush(this.milvusClient, this.collectionName);
+                        }
+                        return ids;
+                    });
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(EmbeddingSearchRequest embeddingSearchRequest) {
+        try {
+            SearchParam searchParam = toSearchParam(embeddingSearchRequest);
+            return CollectionOperationsExecutor.searchAsync(milvusClient, searchParam)
+                    .thenCompose(resultsWrapper -> {
+                        List<String> rowIds = retrieveEmbeddingsOnSearch ? toRowIds(resultsWrapper) : emptyList();
+                        CompletableFuture<Map<String, Embedding>> idToEmbedding = rowIds.isEmpty()
+                                ? completedFuture(emptyMap())
+                                : queryForVectorsAsync(milvusClient, collectionName, rowIds, consistencyLevel)
+                                .thenApply(Mapper::toIdToEmbedding);
+                        return idToEmbedding.thenApply(embeddings -> toSearchResult(
+                                toEmbeddingMatches(resultsWrapper, embeddings),
+                                embeddingSearchRequest.minScore()
+                        ));
+                    });
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    private SearchParam toSearchParam(EmbeddingSearchRequest embeddingSearchRequest) {
+        return buildSearchRequest(
+                collectionName,
+                embeddingSearchRequest.queryEmbedding().vectorAsList(),
+                embeddingSearchRequest.filter(),
+                embeddingSearchRequest.maxResults(),
+                metricType,
+                consistencyLevel,
+                searchParameters
+        );
+    }
+
+    private static EmbeddingSearchResult<TextSegment> toSearchResult(List<EmbeddingMatch<TextSegment>> matches,
+                                                                     double minScore) {
         List<EmbeddingMatch<TextSegment>> result = matches.stream()
-                .filter(match -> match.score() >= embeddingSearchRequest.minScore())
+                .filter(match -> match.score() >= minScore)
                 .collect(toList());
 
         return new EmbeddingSearchResult<>(result);
@@ -177,16 +330,33 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
 
     private void addAllInternal(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        insertAll(ids, embeddings, textSegments);
+        if (autoFlushOnInsert) {
+            CollectionOperationsExecutor.flush(this.milvusClient, this.collectionName);
+        }
+    }
+
+    /**
+     * Inserts the rows in a single columnar insert request, without flushing.
+     * {@code textSegments} can be null, or contain null elements for rows without text.
+     */
+    void insertAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+        insert(this.milvusClient, this.collectionName, toInsertFields(ids, embeddings, textSegments));
+    }
+
+    private static String toJson(Map<String, Object> parameters) {
+        return parameters == null || parameters.isEmpty() ? null : new JSONObject(parameters).toJSONString();
+    }
+
+    private static List<InsertParam.Field> toInsertFields(List<String> ids,
+                                                          List<Embedding> embeddings,
+                                                          List<TextSegment> textSegments) {
         List<InsertParam.Field> fields = new ArrayList<>();
         fields.add(new InsertParam.Field(ID_FIELD_NAME, ids));
         fields.add(new InsertParam.Field(TEXT_FIELD_NAME, toScalars(textSegments, ids.size())));
         fields.add(new InsertParam.Field(METADATA_FIELD_NAME, toMetadataJsons(textSegments, ids.size())));
         fields.add(new InsertParam.Field(VECTOR_FIELD_NAME, toVectors(embeddings)));
-
-        insert(this.milvusClient, this.collectionName, fields);
-        if (autoFlushOnInsert) {
-            flush(this.milvusClient, this.collectionName);
-        }
+        return fields;
     }
 
     /**
@@ -253,6 +423,41 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         removeForVector(this.milvusClient, this.collectionName, format("%s != \"\"", ID_FIELD_NAME));
     }
 
+    /**
+     * Asynchronously removes all embeddings that match the specified IDs from the store.
+     * See {@link #removeAll(Collection)} for the caveats of deletions in Milvus.
+     *
+     * @param ids A collection of unique IDs of the embeddings to be removed.
+     * @return A future completed once the embeddings are removed.
+     */
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Collection<String> ids) {
+        try {
+            ensureNotEmpty(ids, "ids");
+            return removeForVectorAsync(this.milvusClient, this.collectionName,
+                    format("%s in %s", ID_FIELD_NAME, formatValues(ids)));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
+    /**
+     * Asynchronously removes all embeddings that match the specified {@link Filter} from the store.
+     * See {@link #removeAll(Filter)} for the caveats of deletions in Milvus.
+     *
+     * @param filter The filter to be applied to the {@link Metadata} of the {@link TextSegment} during removal.
+     * @return A future completed once the embeddings are removed.
+     */
+    @Override
+    public CompletableFuture<Void> removeAllAsync(Filter filter) {
+        try {
+            ensureNotNull(filter, "filter");
+            return removeForVectorAsync(this.milvusClient, this.collectionName, map(filter));
+        } catch (RuntimeException e) {
+            return AsyncEmbeddingStore.failedFuture(e);
+        }
+    }
+
     public static class Builder {
 
         private String host;
@@ -269,6 +474,8 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         private Boolean retrieveEmbeddingsOnSearch;
         private String databaseName;
         private Boolean autoFlushOnInsert;
+        private Map<String, Object> indexParameters;
+        private Map<String, Object> searchParameters;
 
         /**
          * @param host The host of the self-managed Milvus instance.
@@ -394,6 +601,8 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
         /**
          * @param autoFlushOnInsert Whether to automatically flush after each insert
          *                          ({@code add(...)} or {@code addAll(...)} methods).
+         *                          Each flush seals the growing segments, which slows down ingestion.
+         *                          To control when the data is flushed, use a {@link MilvusBufferedWriter} instead.
          *                          Default value: false.
          *                          More info can be found
          *                          <a href="https://milvus.io/api-reference/pymilvus/v2.4.x/ORM/Collection/flush.md">here</a>.
@@ -404,6 +613,33 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
             return this;
         }
 
+        /**
+         * @param indexParameters The build parameters of the index, used when the collection is created.
+         *                        For example {@code M} and {@code efConstruction} for {@link IndexType#HNSW},
+         *                        {@code nlist}, {@code m} and {@code nbits} for {@link IndexType#IVF_PQ}.
+         *                        {@link IndexType#DISKANN} does not need any.
+         *                        Default value: none, the Milvus defaults are used.
+         *                        More info can be found <a href="https://milvus.io/docs/index.md">here</a>.
+         * @return builder
+         */
+        public Builder indexParameters(Map<String, Object> indexParameters) {
+            this.indexParameters = indexParameters;
+            return this;
+        }
+
+        /**
+         * @param searchParameters The search parameters of the index, used by each search.
+         *                         For example {@code ef} for {@link IndexType#HNSW},
+         *                         {@code nprobe} for {@link IndexType#IVF_PQ},
+         *                         {@code search_list} for {@link IndexType#DISKANN}.
+         *                         Default value: none, the Milvus defaults are used.
+         * @return builder
+         */
+        public Builder searchParameters(Map<String, Object> searchParameters) {
+            this.searchParameters = searchParameters;
+            return this;
+        }
+
         /**
          * @param databaseName Milvus name of database.
          *                     Default value: null. In this case default Milvus database name will be used.
@@ -429,7 +665,9 @@ public class MilvusEmbeddingStore implements EmbeddingStore<TextSegment> {
                     consistencyLevel,
                     retrieveEmbeddingsOnSearch,
                     autoFlushOnInsert,
-                    databaseName
+                    databaseName,
+                    indexParameters,
+                    searchParameters
             );
         }
     }
@@ -0,0 +1,131 @@
+package dev.langchain4j.store.embedding.milvus;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MilvusBufferedWriterTest {
+
+    private static final Embedding EMBEDDING = Embedding.from(new float[]{1, 2, 3});
+
+    private final MilvusEmbeddingStore embeddingStore = mock(MilvusEmbeddingStore.class);
+    private final List<List<String>> insertedIds = new ArrayList<>();
+
+    @BeforeEach
+    void recordInserts() {
+        doAnswer(invocation -> insertedIds.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+    }
+
+    @Test
+    void should_insert_in_batches_and_flush_after_rows() {
+
+        MilvusBufferedWriter writer = MilvusBufferedWriter.builder()
+                .embeddingStore(embeddingStore)
+                .maxBufferedRows(3)
+                .flushAfterRows(5)
+                .build();
+
+        List<String> ids = writer.addAll(asList(EMBEDDING, EMBEDDING, EMBEDDING, EMBEDDING, EMBEDDING, EMBEDDING),
+                asList(TextSegment.from("1"), null, TextSegment.from("3"), null, TextSegment.from("5"), null));
+        String id = writer.add(EMBEDDING);
+
+        assertThat(insertedIds).containsExactly(ids.subList(0, 3), ids.subList(3, 6));
+        verify(embeddingStore).flush();
+
+        writer.close();
+
+        assertThat(insertedIds).containsExactly(ids.subList(0, 3), ids.subList(3, 6), asList(id));
+        verify(embeddingStore, times(2)).flush();
+    }
+
+    @Test
+    void should_insert_rows_again_when_insert_fails() {
+
+        MilvusBufferedWriter writer = MilvusBufferedWriter.builder()
+                .embeddingStore(embeddingStore)
+                .maxBufferedRows(2)
+                .build();
+
+        doThrow(new RuntimeException("unavailable"))
+                .doAnswer(invocation -> insertedIds.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+
+        String id1 = writer.add(EMBEDDING);
+        String id2 = writer.add(EMBEDDING); // the insert fails, but the rows stay buffered
+        String id3 = writer.add(EMBEDDING);
+        writer.close();
+
+        assertThat(insertedIds).containsExactly(asList(id1, id2), asList(id3));
+    }
+
+    @Test
+    void should_not_buffer_rows_when_buffer_is_full_and_insert_fails() {
+
+        MilvusBufferedWriter writer = MilvusBufferedWriter.builder()
+                .embeddingStore(embeddingStore)
+                .maxBufferedRows(2)
+                .build();
+
+        RuntimeException failure = new RuntimeException("unavailable");
+        doThrow(failure).when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+
+        writer.add(EMBEDDING);
+        writer.add(EMBEDDING);
+
+        assertThatThrownBy(() -> writer.add(EMBEDDING)).isSameAs(failure);
+        assertThatThrownBy(() -> writer.addAll(asList(EMBEDDING, EMBEDDING))).isSameAs(failure);
+
+        doAnswer(invocation -> insertedIds.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+        String id = writer.add(EMBEDDING);
+        writer.close();
+
+        assertThat(insertedIds).hasSize(2);
+        assertThat(insertedIds.get(0)).hasSize(2);
+        assertThat(insertedIds.get(1)).containsExactly(id);
+    }
+
+    @Test
+    void should_insert_and_flush_on_close_before_reporting_failure() {
+
+        MilvusBufferedWriter writer = MilvusBufferedWriter.builder()
+                .embeddingStore(embeddingStore)
+                .maxBufferedRows(1)
+                .build();
+
+        RuntimeException failure = new RuntimeException("unavailable");
+        doThrow(failure).when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+        writer.add(EMBEDDING);
+
+        RuntimeException closeFailure = new RuntimeException("still unavailable");
+        doThrow(closeFailure).when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+
+        assertThatThrownBy(writer::close)
+                .isSameAs(closeFailure)
+                .hasSuppressedException(failure);
+        verify(embeddingStore, never()).flush();
+
+        doAnswer(invocation -> insertedIds.add(new ArrayList<>(invocation.getArgument(0))))
+                .when(embeddingStore).insertAll(anyList(), anyList(), anyList());
+        writer.close();
+
+        assertThat(insertedIds).hasSize(1);
+        verify(embeddingStore).flush();
+    }
+}
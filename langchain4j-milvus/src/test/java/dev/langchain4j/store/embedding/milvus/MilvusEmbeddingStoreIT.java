@@ -14,9 +14,13 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.testcontainers.milvus.MilvusContainer;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.milvus.common.clientenum.ConsistencyLevelEnum.STRONG;
+import static io.milvus.param.IndexType.HNSW;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -79,4 +83,65 @@ class MilvusEmbeddingStoreIT extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(0).embedding()).isNull();
         assertThat(matches.get(1).embedding()).isNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_search_hnsw_index_with_index_and_search_parameters() {
+
+        Map<String, Object> indexParameters = new HashMap<>();
+        indexParameters.put("M", 16);
+        indexParameters.put("efConstruction", 200);
+        Map<String, Object> searchParameters = new HashMap<>();
+        searchParameters.put("ef", 64);
+
+        EmbeddingStore<TextSegment> embeddingStore = MilvusEmbeddingStore.builder()
+                .uri(milvus.getEndpoint())
+                .collectionName(COLLECTION_NAME)
+                .consistencyLevel(STRONG)
+                .dimension(384)
+                .indexType(HNSW)
+                .indexParameters(indexParameters)
+                .searchParameters(searchParameters)
+                .build();
+
+        Embedding firstEmbedding = embeddingModel.embed("hello").content();
+        Embedding secondEmbedding = embeddingModel.embed("hi").content();
+        List<String> ids = embeddingStore.addAll(asList(firstEmbedding, secondEmbedding));
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(firstEmbedding)
+                .maxResults(10)
+                .build()).matches();
+        assertThat(matches).hasSize(2);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+    }
+
+    @Test
+    void should_add_embeddings_with_buffered_writer() {
+
+        TextSegment firstSegment = TextSegment.from("hello");
+        TextSegment secondSegment = TextSegment.from("hi");
+        TextSegment thirdSegment = TextSegment.from("good morning");
+        Embedding firstEmbedding = embeddingModel.embed(firstSegment).content();
+        Embedding secondEmbedding = embeddingModel.embed(secondSegment).content();
+        Embedding thirdEmbedding = embeddingModel.embed(thirdSegment).content();
+
+        String firstId;
+        try (MilvusBufferedWriter writer = MilvusBufferedWriter.builder()
+                .embeddingStore(embeddingStore)
+                .maxBufferedRows(2)
+                .flushInterval(Duration.ofMinutes(1))
+                .build()) {
+
+            firstId = writer.add(firstEmbedding, firstSegment);
+            writer.addAll(asList(secondEmbedding, thirdEmbedding), asList(secondSegment, thirdSegment));
+        }
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(firstEmbedding)
+                .maxResults(10)
+                .build()).matches();
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(firstId);
+        assertThat(matches.get(0).embedded()).isEqualTo(firstSegment);
+    }
+}
@@ -32,6 +32,7 @@ import static java.util.Collections.singletonList;
 public class MistralAiChatModel implements ChatLanguageModel {
 
     private final MistralAiClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Double temperature;
     private final Double topP;
@@ -78,8 +79,9 @@ public class MistralAiChatModel implements ChatLanguageModel {
                               Boolean logResponses,
                               Integer maxRetries) {
 
+        this.baseUrl = getOrDefault(baseUrl, "https://api.mistral.ai/v1");
         this.client = MistralAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://api.mistral.ai/v1"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .timeout(getOrDefault(timeout, Duration.ofSeconds(60)))
                 .logRequests(getOrDefault(logRequests, false))
@@ -165,7 +167,7 @@ public class MistralAiChatModel implements ChatLanguageModel {
 
         MistralAiChatCompletionRequest request = requestBuilder.build();
 
-        MistralAiChatCompletionResponse response = withRetry(() -> client.chatCompletion(request), maxRetries);
+        MistralAiChatCompletionResponse response = withRetry(() -> client.chatCompletion(request), maxRetries, baseUrl);
 
         return Response.from(
                 aiMessageFrom(response),
@@ -2,7 +2,7 @@ package dev.langchain4j.model.mistralai;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.BatchingEmbeddingModel;
 import dev.langchain4j.model.mistralai.internal.api.MistralAiEmbeddingRequest;
 import dev.langchain4j.model.mistralai.internal.api.MistralAiEmbeddingResponse;
 import dev.langchain4j.model.mistralai.internal.client.MistralAiClient;
@@ -12,6 +12,7 @@ import lombok.Builder;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -23,10 +24,11 @@ import static java.util.stream.Collectors.toList;
  * Represents a Mistral AI embedding model, such as mistral-embed.
  * You can find description of parameters <a href="https://docs.mistral.ai/api/#operation/createEmbedding">here</a>.
  */
-public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
+public class MistralAiEmbeddingModel extends BatchingEmbeddingModel {
 
     private static final String EMBEDDINGS_ENCODING_FORMAT = "float";
     private final MistralAiClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer maxRetries;
 
@@ -42,6 +44,10 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
      * @param logRequests  a flag indicating whether to log API requests
      * @param logResponses a flag indicating whether to log API responses
      * @param maxRetries   the maximum number of retries for API requests. It uses a default value of 3 if not specified
+     * @param maxSegmentsPerBatch the maximum number of text segments sent in a single request. Unlimited if not specified
+     * @param maxTokensPerBatch   the maximum estimated number of tokens sent in a single request. Unlimited if not specified
+     * @param executor            the executor to send requests of different batches concurrently on.
+     *                            If not specified, batches are sent sequentially
      */
     @Builder
     public MistralAiEmbeddingModel(String baseUrl,
@@ -50,9 +56,14 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                                    Duration timeout,
                                    Boolean logRequests,
                                    Boolean logResponses,
-                                   Integer maxRetries) {
+                                   Integer maxRetries,
+                                   Integer maxSegmentsPerBatch,
+                                   Integer maxTokensPerBatch,
+                                   Executor executor) {
+        super(maxSegmentsPerBatch, maxTokensPerBatch, executor);
+        this.baseUrl = getOrDefault(baseUrl, "https://api.mistral.ai/v1");
         this.client = MistralAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://api.mistral.ai/v1"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .timeout(getOrDefault(timeout, Duration.ofSeconds(60)))
                 .logRequests(getOrDefault(logRequests, false))
@@ -73,13 +84,13 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     }
 
     /**
-     * Embeds a list of text segments using the Mistral AI embedding model.
+     * Embeds a batch of text segments using the Mistral AI embedding model.
      *
      * @param textSegments the list of text segments to embed
      * @return a Response object containing the embeddings and token usage information
      */
     @Override
-    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+    protected Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
 
         MistralAiEmbeddingRequest request = MistralAiEmbeddingRequest.builder()
                 .model(modelName)
@@ -87,7 +98,7 @@ public class MistralAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .encodingFormat(EMBEDDINGS_ENCODING_FORMAT)
                 .build();
 
-        MistralAiEmbeddingResponse response = withRetry(() -> client.embedding(request), maxRetries);
+        MistralAiEmbeddingResponse response = withRetry(() -> client.embedding(request), maxRetries, baseUrl);
 
         List<Embedding> embeddings = response.getData().stream()
                 .map(mistralAiEmbedding -> Embedding.from(mistralAiEmbedding.getEmbedding()))
@@ -21,6 +21,7 @@ import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 public class MistralAiModels {
 
     private final MistralAiClient client;
+    private final String baseUrl;
     private final Integer maxRetries;
 
     /**
@@ -40,8 +41,9 @@ public class MistralAiModels {
                            Boolean logRequests,
                            Boolean logResponses,
                            Integer maxRetries) {
+        this.baseUrl = getOrDefault(baseUrl, "https://api.mistral.ai/v1");
         this.client = MistralAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://api.mistral.ai/v1"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .timeout(getOrDefault(timeout, Duration.ofSeconds(60)))
                 .logRequests(getOrDefault(logRequests, false))
@@ -66,7 +68,7 @@ public class MistralAiModels {
      * @return the response containing the list of models
      */
     public Response<List<MistralAiModelCard>> availableModels() {
-        MistralAiModelResponse response = withRetry(client::listModels, maxRetries);
+        MistralAiModelResponse response = withRetry(client::listModels, maxRetries, baseUrl);
         return Response.from(response.getData());
     }
 
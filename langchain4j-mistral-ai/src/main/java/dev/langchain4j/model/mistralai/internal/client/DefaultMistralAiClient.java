@@ -3,6 +3,7 @@ package dev.langchain4j.model.mistralai.internal.client;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.internal.HttpException;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.mistralai.internal.api.*;
@@ -23,6 +24,7 @@ import java.io.IOException;
 import java.util.List;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.model.mistralai.internal.mapper.MistralAiMapper.*;
 
@@ -221,7 +223,7 @@ public class DefaultMistralAiClient extends MistralAiClient {
                 String errorBodyString = errorBody.string();
                 String errorMessage = String.format("status code: %s; body: %s", code, errorBodyString);
                 LOGGER.error("Error response: {}", errorMessage);
-                return new RuntimeException(errorMessage);
+                return new HttpException(code, errorMessage, parseRetryAfter(retrofitResponse.headers().get("Retry-After")));
             }
         }
         return new RuntimeException(retrofitResponse.message());
@@ -2,6 +2,7 @@ package dev.langchain4j.model.nomic;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import dev.langchain4j.internal.HttpException;
 import dev.langchain4j.internal.Utils;
 import lombok.Builder;
 import okhttp3.OkHttpClient;
@@ -12,6 +13,7 @@ import java.io.IOException;
 import java.time.Duration;
 
 import static com.google.gson.FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES;
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 
 class NomicClient {
@@ -69,6 +71,6 @@ class NomicClient {
         int code = response.code();
         String body = response.errorBody().string();
         String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
+        return new HttpException(code, errorMessage, parseRetryAfter(response.headers().get("Retry-After")));
     }
 }
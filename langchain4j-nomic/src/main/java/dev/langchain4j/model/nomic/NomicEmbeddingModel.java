@@ -25,6 +25,7 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
     private static final String DEFAULT_BASE_URL = "https://api-atlas.nomic.ai/v1/";
 
     private final NomicClient client;
+    private final String baseUrl;
     private final String modelName;
     private final String taskType;
     private final Integer maxRetries;
@@ -40,8 +41,9 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
             Boolean logRequests,
             Boolean logResponses
     ) {
+        this.baseUrl = getOrDefault(baseUrl, DEFAULT_BASE_URL);
         this.client = NomicClient.builder()
-                .baseUrl(getOrDefault(baseUrl, DEFAULT_BASE_URL))
+                .baseUrl(this.baseUrl)
                 .apiKey(ensureNotBlank(apiKey, "apiKey"))
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .logRequests(getOrDefault(logRequests, false))
@@ -65,7 +67,7 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .taskType(taskType)
                 .build();
 
-        EmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries);
+        EmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries, baseUrl);
 
         List<Embedding> embeddings = response.getEmbeddings().stream()
                 .map(Embedding::from).collect(toList());
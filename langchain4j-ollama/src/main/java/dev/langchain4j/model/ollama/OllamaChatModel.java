@@ -29,6 +29,7 @@ import static java.time.Duration.ofSeconds;
 public class OllamaChatModel implements ChatLanguageModel {
 
     private final OllamaClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Options options;
     private final String format;
@@ -51,8 +52,9 @@ public class OllamaChatModel implements ChatLanguageModel {
                            Map<String, String> customHeaders,
                            Boolean logRequests,
                            Boolean logResponses) {
+        this.baseUrl = baseUrl;
         this.client = OllamaClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(this.baseUrl)
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .customHeaders(customHeaders)
                 .logRequests(getOrDefault(logRequests, false))
@@ -85,7 +87,7 @@ public class OllamaChatModel implements ChatLanguageModel {
                 .stream(false)
                 .build();
 
-        ChatResponse response = withRetry(() -> client.chat(request), maxRetries);
+        ChatResponse response = withRetry(() -> client.chat(request), maxRetries, baseUrl);
 
         return Response.from(
                 AiMessage.from(response.getMessage().getContent()),
@@ -106,7 +108,7 @@ public class OllamaChatModel implements ChatLanguageModel {
                 .tools(toOllamaTools(toolSpecifications))
                 .build();
 
-        ChatResponse response = withRetry(() -> client.chat(request), maxRetries);
+        ChatResponse response = withRetry(() -> client.chat(request), maxRetries, baseUrl);
 
         return Response.from(
                 response.getMessage().getToolCalls() != null ?
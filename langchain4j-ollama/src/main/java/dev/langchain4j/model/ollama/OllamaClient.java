@@ -2,6 +2,7 @@ package dev.langchain4j.model.ollama;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.internal.HttpException;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.output.Response;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static java.lang.Boolean.TRUE;
 
 @Slf4j
@@ -110,6 +112,10 @@ class OllamaClient {
                 try (InputStream inputStream = retrofitResponse.body().byteStream()) {
                     StringBuilder contentBuilder = new StringBuilder();
                     while (true) {
+                        if (handler.isCancelled()) {
+                            call.cancel();
+                            return;
+                        }
                         byte[] bytes = new byte[1024];
                         int len = inputStream.read(bytes);
                         String partialResponse = new String(bytes, 0, len);
@@ -155,6 +161,11 @@ class OllamaClient {
                     try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
                         StringBuilder contentBuilder = new StringBuilder();
                         while (true) {
+                            if (handler.isCancelled()) {
+                                // closing the response body aborts the HTTP stream
+                                call.cancel();
+                                return;
+                            }
                             String partialResponse = reader.readLine();
 
                             if (logStreamingResponses) {
@@ -248,7 +259,7 @@ class OllamaClient {
         String body = response.errorBody().string();
 
         String errorMessage = String.format("status code: %s; body: %s", code, body);
-        return new RuntimeException(errorMessage);
+        return new HttpException(code, errorMessage, parseRetryAfter(response.headers().get("Retry-After")));
     }
 
     static class GenericHeadersInterceptor implements Interceptor {
@@ -2,7 +2,7 @@ package dev.langchain4j.model.ollama;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.BatchingEmbeddingModel;
 import dev.langchain4j.model.ollama.spi.OllamaEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
 import lombok.Builder;
@@ -10,6 +10,7 @@ import lombok.Builder;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.RetryUtils.withRetry;
@@ -21,9 +22,10 @@ import static java.time.Duration.ofSeconds;
 /**
  * <a href="https://github.com/jmorganca/ollama/blob/main/docs/api.md">Ollama API reference</a>
  */
-public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
+public class OllamaEmbeddingModel extends BatchingEmbeddingModel {
 
     private final OllamaClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer maxRetries;
 
@@ -34,9 +36,14 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                                 Integer maxRetries,
                                 Boolean logRequests,
                                 Boolean logResponses,
-                                Map<String, String> customHeaders) {
+                                Map<String, String> customHeaders,
+                                Integer maxSegmentsPerBatch,
+                                Integer maxTokensPerBatch,
+                                Executor executor) {
+        super(maxSegmentsPerBatch, maxTokensPerBatch, executor);
+        this.baseUrl = baseUrl;
         this.client = OllamaClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(this.baseUrl)
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .logRequests(logRequests)
                 .logResponses(logResponses)
@@ -47,7 +54,7 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     }
 
     @Override
-    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+    protected Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
         List<String> input = textSegments.stream()
                 .map(TextSegment::text)
                 .collect(Collectors.toList());
@@ -56,7 +63,7 @@ public class OllamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .model(modelName)
                 .input(input)
                 .build();
-        EmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries);
+        EmbeddingResponse response = withRetry(() -> client.embed(request), maxRetries, baseUrl);
         List<Embedding> embeddings = response.getEmbeddings()
                 .stream()
                 .map(Embedding::from)
@@ -24,6 +24,7 @@ import static java.time.Duration.ofSeconds;
 public class OllamaLanguageModel implements LanguageModel {
 
     private final OllamaClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Options options;
     private final String format;
@@ -47,8 +48,9 @@ public class OllamaLanguageModel implements LanguageModel {
                                Boolean logResponses,
                                Map<String, String> customHeaders
                                ) {
+        this.baseUrl = baseUrl;
         this.client = OllamaClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(this.baseUrl)
                 .timeout(getOrDefault(timeout, ofSeconds(60)))
                 .logRequests(logRequests)
                 .logResponses(logResponses)
@@ -80,7 +82,7 @@ public class OllamaLanguageModel implements LanguageModel {
                 .stream(false)
                 .build();
 
-        CompletionResponse response = withRetry(() -> client.completion(request), maxRetries);
+        CompletionResponse response = withRetry(() -> client.completion(request), maxRetries, baseUrl);
 
         return Response.from(
                 response.getResponse(),
@@ -12,6 +12,7 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 public class OllamaModels {
 
     private final OllamaClient client;
+    private final String baseUrl;
     private final Integer maxRetries;
 
     @Builder
@@ -21,8 +22,9 @@ public class OllamaModels {
                         Boolean logRequests,
                         Boolean logResponses
                         ) {
+        this.baseUrl = baseUrl;
         this.client = OllamaClient.builder()
-                .baseUrl(baseUrl)
+                .baseUrl(this.baseUrl)
                 .timeout((getOrDefault(timeout, Duration.ofSeconds(60))))
                 .logRequests(logRequests)
                 .logResponses(logResponses)
@@ -31,7 +33,7 @@ public class OllamaModels {
     }
 
     public Response<List<OllamaModel>> availableModels() {
-        ModelsListResponse response = withRetry(client::listModels, maxRetries);
+        ModelsListResponse response = withRetry(client::listModels, maxRetries, baseUrl);
         return Response.from(response.getModels());
     }
 
@@ -44,7 +46,7 @@ public class OllamaModels {
                 ShowModelInformationRequest.builder()
                         .name(modelName)
                         .build()
-        ), maxRetries);
+        ), maxRetries, baseUrl);
         return Response.from(response);
     }
 
@@ -57,6 +59,6 @@ public class OllamaModels {
                 DeleteModelRequest.builder()
                         .name(ollamaModelName)
                         .build()
-        ), maxRetries);
+        ), maxRetries, baseUrl);
     }
 }
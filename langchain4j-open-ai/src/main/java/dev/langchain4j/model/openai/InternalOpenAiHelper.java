@@ -1,5 +1,6 @@
 package dev.langchain4j.model.openai;
 
+import dev.ai4j.openai4j.OpenAiHttpException;
 import dev.ai4j.openai4j.chat.AssistantMessage;
 import dev.ai4j.openai4j.chat.ChatCompletionRequest;
 import dev.ai4j.openai4j.chat.ChatCompletionResponse;
@@ -26,6 +27,8 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.TextContent;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.internal.HttpException;
+import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.chat.listener.ChatModelRequest;
 import dev.langchain4j.model.chat.listener.ChatModelResponse;
 import dev.langchain4j.model.chat.request.ResponseFormat;
@@ -47,6 +50,7 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 import static dev.ai4j.openai4j.chat.ResponseFormatType.JSON_OBJECT;
 import static dev.ai4j.openai4j.chat.ResponseFormatType.JSON_SCHEMA;
@@ -489,4 +493,37 @@ public class InternalOpenAiHelper {
             throw new IllegalArgumentException("Unknown type: " + jsonSchemaElement);
         }
     }
+
+    /**
+     * Executes the given call to the OpenAI API at the given base URL, retrying it on errors
+     * that are worth retrying (see {@link RetryUtils#isRetryable(Throwable)}).
+     * The errors are thrown the same way as by {@link RetryUtils#withRetry(Callable, int)}.
+     */
+    static <T> T withRetry(Callable<T> action, int maxRetries, String baseUrl) {
+        try {
+            return RetryUtils.withRetry(() -> {
+                try {
+                    return action.call();
+                } catch (OpenAiHttpException e) {
+                    throw new RetryableOpenAiHttpException(e);
+                }
+            }, maxRetries, baseUrl);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof RetryableOpenAiHttpException) {
+                throw new RuntimeException(e.getCause().getCause());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Exposes the status code of an {@link OpenAiHttpException} to {@link RetryUtils} while retrying.
+     */
+    private static class RetryableOpenAiHttpException extends HttpException {
+
+        RetryableOpenAiHttpException(OpenAiHttpException cause) {
+            super(cause.code(), cause.getMessage());
+            initCause(cause);
+        }
+    }
 }
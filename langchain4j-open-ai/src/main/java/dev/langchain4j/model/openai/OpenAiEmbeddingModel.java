@@ -6,7 +6,7 @@ import dev.ai4j.openai4j.embedding.EmbeddingResponse;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.Tokenizer;
-import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.BatchingEmbeddingModel;
 import dev.langchain4j.model.embedding.TokenCountEstimator;
 import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
@@ -16,8 +16,8 @@ import java.net.Proxy;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.*;
 import static dev.langchain4j.model.openai.OpenAiModelName.TEXT_EMBEDDING_ADA_002;
@@ -27,10 +27,16 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * Represents an OpenAI embedding model, such as text-embedding-ada-002.
+ * <br>
+ * Large inputs are split into batches of at most 2048 text segments (the limit of the OpenAI API) by default,
+ * see {@link BatchingEmbeddingModel}.
  */
-public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implements TokenCountEstimator {
+public class OpenAiEmbeddingModel extends BatchingEmbeddingModel implements TokenCountEstimator {
+
+    private static final int MAX_SEGMENTS_PER_BATCH = 2048;
 
     private final OpenAiClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer dimensions;
     private final String user;
@@ -50,7 +56,12 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
                                 Boolean logRequests,
                                 Boolean logResponses,
                                 Tokenizer tokenizer,
-                                Map<String, String> customHeaders) {
+                                Map<String, String> customHeaders,
+                                Integer maxSegmentsPerBatch,
+                                Integer maxTokensPerBatch,
+                                Executor executor) {
+
+        super(getOrDefault(maxSegmentsPerBatch, MAX_SEGMENTS_PER_BATCH), maxTokensPerBatch, executor);
 
         baseUrl = getOrDefault(baseUrl, OPENAI_URL);
         if (OPENAI_DEMO_API_KEY.equals(apiKey)) {
@@ -76,6 +87,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
         this.modelName = getOrDefault(modelName, TEXT_EMBEDDING_ADA_002);
         this.dimensions = dimensions;
         this.user = user;
+        this.baseUrl = baseUrl;
         this.maxRetries = getOrDefault(maxRetries, 3);
         this.tokenizer = getOrDefault(tokenizer, OpenAiTokenizer::new);
     }
@@ -94,7 +106,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
     }
 
     @Override
-    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+    protected Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
 
         List<String> texts = textSegments.stream()
                 .map(TextSegment::text)
@@ -112,7 +124,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel implement
                 .user(user)
                 .build();
 
-        EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries);
+        EmbeddingResponse response = withRetry(() -> client.embedding(request).execute(), maxRetries, baseUrl);
 
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
@@ -17,10 +17,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.DEFAULT_USER_AGENT;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.OPENAI_URL;
+import static dev.langchain4j.model.openai.InternalOpenAiHelper.withRetry;
 import static dev.langchain4j.model.openai.OpenAiModelName.DALL_E_2;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.time.Duration.ofSeconds;
@@ -38,6 +38,7 @@ public class OpenAiImageModel implements ImageModel {
     private final String responseFormat;
 
     private final OpenAiClient client;
+    private final String baseUrl;
 
     private final Integer maxRetries;
 
@@ -75,10 +76,11 @@ public class OpenAiImageModel implements ImageModel {
             Map<String, String> customHeaders
     ) {
         timeout = getOrDefault(timeout, ofSeconds(60));
+        this.baseUrl = getOrDefault(baseUrl, OPENAI_URL);
 
         OpenAiClient.Builder cBuilder = OpenAiClient
                 .builder()
-                .baseUrl(getOrDefault(baseUrl, OPENAI_URL))
+                .baseUrl(this.baseUrl)
                 .openAiApiKey(apiKey)
                 .organizationId(organizationId)
                 .callTimeout(timeout)
@@ -115,7 +117,7 @@ public class OpenAiImageModel implements ImageModel {
     public Response<Image> generate(String prompt) {
         GenerateImagesRequest request = requestBuilder(prompt).build();
 
-        GenerateImagesResponse response = withRetry(() -> client.imagesGeneration(request), maxRetries).execute();
+        GenerateImagesResponse response = withRetry(() -> client.imagesGeneration(request).execute(), maxRetries, baseUrl);
 
         return Response.from(fromImageData(response.data().get(0)));
     }
@@ -124,7 +126,7 @@ public class OpenAiImageModel implements ImageModel {
     public Response<List<Image>> generate(String prompt, int n) {
         GenerateImagesRequest request = requestBuilder(prompt).n(n).build();
 
-        GenerateImagesResponse response = withRetry(() -> client.imagesGeneration(request), maxRetries).execute();
+        GenerateImagesResponse response = withRetry(() -> client.imagesGeneration(request).execute(), maxRetries, baseUrl);
 
         return Response.from(
                 response.data().stream().map(OpenAiImageModel::fromImageData).collect(Collectors.toList())
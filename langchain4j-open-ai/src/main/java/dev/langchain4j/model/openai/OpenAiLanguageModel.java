@@ -15,7 +15,6 @@ import java.net.Proxy;
 import java.time.Duration;
 import java.util.Map;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.*;
 import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO_INSTRUCT;
@@ -30,6 +29,7 @@ import static java.time.Duration.ofSeconds;
 public class OpenAiLanguageModel implements LanguageModel, TokenCountEstimator {
 
     private final OpenAiClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Double temperature;
     private final Integer maxRetries;
@@ -50,9 +50,10 @@ public class OpenAiLanguageModel implements LanguageModel, TokenCountEstimator {
                                Map<String, String> customHeaders) {
 
         timeout = getOrDefault(timeout, ofSeconds(60));
+        this.baseUrl = getOrDefault(baseUrl, OPENAI_URL);
 
         this.client = OpenAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, OPENAI_URL))
+                .baseUrl(this.baseUrl)
                 .openAiApiKey(apiKey)
                 .organizationId(organizationId)
                 .callTimeout(timeout)
@@ -84,7 +85,7 @@ public class OpenAiLanguageModel implements LanguageModel, TokenCountEstimator {
                 .temperature(temperature)
                 .build();
 
-        CompletionResponse response = withRetry(() -> client.completion(request).execute(), maxRetries);
+        CompletionResponse response = withRetry(() -> client.completion(request).execute(), maxRetries, baseUrl);
 
         CompletionChoice completionChoice = response.choices().get(0);
         return Response.from(
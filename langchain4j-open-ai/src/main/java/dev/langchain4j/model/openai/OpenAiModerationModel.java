@@ -16,7 +16,6 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
-import static dev.langchain4j.internal.RetryUtils.withRetry;
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.model.openai.InternalOpenAiHelper.*;
 import static dev.langchain4j.model.openai.OpenAiModelName.TEXT_MODERATION_LATEST;
@@ -31,6 +30,7 @@ import static java.util.stream.Collectors.toList;
 public class OpenAiModerationModel implements ModerationModel {
 
     private final OpenAiClient client;
+    private final String baseUrl;
     private final String modelName;
     private final Integer maxRetries;
 
@@ -68,6 +68,7 @@ public class OpenAiModerationModel implements ModerationModel {
                 .customHeaders(customHeaders)
                 .build();
         this.modelName = getOrDefault(modelName, TEXT_MODERATION_LATEST);
+        this.baseUrl = baseUrl;
         this.maxRetries = getOrDefault(maxRetries, 3);
     }
 
@@ -87,7 +88,7 @@ public class OpenAiModerationModel implements ModerationModel {
                 .input(inputs)
                 .build();
 
-        ModerationResponse response = withRetry(() -> client.moderation(request).execute(), maxRetries);
+        ModerationResponse response = withRetry(() -> client.moderation(request).execute(), maxRetries, baseUrl);
 
         int i = 0;
         for (ModerationResult moderationResult : response.results()) {
@@ -1,6 +1,7 @@
 package dev.langchain4j.model.openai;
 
 import dev.ai4j.openai4j.OpenAiClient;
+import dev.ai4j.openai4j.ResponseHandle;
 import dev.ai4j.openai4j.chat.ChatCompletionChoice;
 import dev.ai4j.openai4j.chat.ChatCompletionRequest;
 import dev.ai4j.openai4j.chat.ChatCompletionResponse;
@@ -184,9 +185,14 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
 
         AtomicReference<String> responseId = new AtomicReference<>();
         AtomicReference<String> responseModel = new AtomicReference<>();
+        AtomicReference<ResponseHandle> responseHandle = new AtomicReference<>();
 
-        client.chatCompletion(request)
+        ResponseHandle handle = client.chatCompletion(request)
                 .onPartialResponse(partialResponse -> {
+                    if (handler.isCancelled()) {
+                        cancel(responseHandle.get());
+                        return;
+                    }
                     responseBuilder.append(partialResponse);
                     handle(partialResponse, handler);
 
@@ -198,6 +204,9 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
                     }
                 })
                 .onComplete(() -> {
+                    if (handler.isCancelled()) {
+                        return;
+                    }
                     Response<AiMessage> response = createResponse(responseBuilder, toolThatMustBeExecuted);
 
                     ChatModelResponse modelListenerResponse = createModelListenerResponse(
@@ -221,6 +230,9 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
                     handler.onComplete(response);
                 })
                 .onError(error -> {
+                    if (handler.isCancelled()) {
+                        return;
+                    }
                     Response<AiMessage> response = createResponse(responseBuilder, toolThatMustBeExecuted);
 
                     ChatModelResponse modelListenerPartialResponse = createModelListenerResponse(
@@ -247,6 +259,18 @@ public class OpenAiStreamingChatModel implements StreamingChatLanguageModel, Tok
                     handler.onError(error);
                 })
                 .execute();
+
+        responseHandle.set(handle);
+        if (handler.isCancelled()) {
+            cancel(handle);
+        }
+    }
+
+    private static void cancel(ResponseHandle responseHandle) {
+        if (responseHandle != null) {
+            // the HTTP stream is closed when the next chunk arrives
+            responseHandle.cancel();
+        }
     }
 
     private Response<AiMessage> createResponse(OpenAiStreamingResponseBuilder responseBuilder,
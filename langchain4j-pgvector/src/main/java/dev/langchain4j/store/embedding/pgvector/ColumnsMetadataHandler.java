@@ -85,6 +85,14 @@ class ColumnsMetadataHandler implements MetadataHandler {
         }
     }
 
+    @Override
+    public List<String> copyValues(Metadata metadata) {
+        // only column names fields will be stored
+        return this.columnsName.stream()
+                .map(c -> metadata.get(c) == null ? null : String.valueOf(metadata.get(c)))
+                .collect(Collectors.toList());
+    }
+
     @Override
     public String whereClause(Filter filter) {
         return filterMapper.map(filter);
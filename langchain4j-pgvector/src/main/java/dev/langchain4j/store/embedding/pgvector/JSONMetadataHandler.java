@@ -82,4 +82,9 @@ class JSONMetadataHandler implements MetadataHandler {
             throw new RuntimeException(e);
         }
     }
+
+    @Override
+    public List<String> copyValues(Metadata metadata) {
+        return Collections.singletonList(Json.toJson(metadata.asMap()));
+    }
 }
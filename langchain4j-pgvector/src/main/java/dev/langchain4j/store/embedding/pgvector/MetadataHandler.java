@@ -69,5 +69,13 @@ interface MetadataHandler {
      */
     void setMetadata(PreparedStatement upsertStmt, Integer parameterInitialIndex, Metadata metadata);
 
+    /**
+     * Metadata values in text form, following metadata definition, used to load rows with COPY.
+     * Values are in the order of {@link #columnsNames()}, a null value stands for SQL NULL.
+     *
+     * @param metadata metadata values
+     * @return the text values of metadata columns
+     */
+    List<String> copyValues(Metadata metadata);
 
 }
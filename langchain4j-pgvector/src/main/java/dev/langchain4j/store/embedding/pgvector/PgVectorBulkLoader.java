@@ -0,0 +1,352 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import lombok.Builder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrEmpty;
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.internal.ValidationUtils.ensureTrue;
+import static java.lang.String.join;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Bulk loader of a {@link PgVectorEmbeddingStore}, for initial ingestion and backfills.
+ * <p>
+ * Rows are streamed with {@code COPY ... FROM STDIN (FORMAT BINARY)}, which is much faster than
+ * the batched {@code INSERT ... ON CONFLICT} statements used by {@link PgVectorEmbeddingStore#addAll(List)}.
+ * <ul>
+ * <li>With {@code upsert} (default), rows are copied into a temporary staging table, then merged into the
+ * embeddings table with {@code INSERT ... SELECT ... ON CONFLICT DO UPDATE}, in the same transaction.
+ * Ids must be unique within one call.
+ * <li>Without {@code upsert}, rows are copied directly into the embeddings table, and loading an existing id fails.
+ * When metadata columns are not text, json or jsonb, rows still go through a staging table,
+ * so that metadata values are converted to the column types.
+ * </ul>
+ * With {@code deferIndexBuild}, the vector index of the store is dropped before the first load
+ * and built again on {@link #close()}, which is much faster than maintaining the index row by row.
+ * Searches are not using the index in the meantime.
+ */
+public class PgVectorBulkLoader implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PgVectorBulkLoader.class);
+
+    private static final byte[] COPY_SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte JSONB_VERSION = 1;
+
+    private final PgVectorEmbeddingStore embeddingStore;
+    private final boolean upsert;
+    private final boolean deferIndexBuild;
+    private final String stagingTable;
+
+    private Map<String, String> columnTypes;
+    private boolean indexDropped;
+
+    /**
+     * Constructor for PgVectorBulkLoader Class
+     *
+     * @param embeddingStore  The store to load embeddings into
+     * @param upsert          Should update rows with existing ids, through a staging table. Default value: true
+     * @param deferIndexBuild Should drop the vector index before loading and build it again on {@link #close()}.
+     *                        Default value: false
+     */
+    @Builder
+    public PgVectorBulkLoader(PgVectorEmbeddingStore embeddingStore, Boolean upsert, Boolean deferIndexBuild) {
+        this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        this.upsert = getOrDefault(upsert, true);
+        this.deferIndexBuild = getOrDefault(deferIndexBuild, false);
+        this.stagingTable = embeddingStore.table.replaceAll("\\W", "_") + "_staging";
+    }
+
+    /**
+     * Adds multiple embeddings to the store.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @return A list of auto-generated IDs associated with the added embeddings.
+     */
+    public List<String> addAll(List<Embedding> embeddings) {
+        List<String> ids = embeddings.stream().map(ignored -> randomUUID()).collect(toList());
+        addAll(ids, embeddings, null);
+        return ids;
+    }
+
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store.
+     *
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     * @return A list of auto-generated IDs associated with the added embeddings.
+     */
+    public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
+        List<String> ids = embeddings.stream().map(ignored -> randomUUID()).collect(toList());
+        addAll(ids, embeddings, embedded);
+        return ids;
+    }
+
+    /**
+     * Adds multiple embeddings with the given ids, and their corresponding contents, to the store.
+     * All rows are loaded in a single transaction.
+     *
+     * @param ids        A list of unique identifiers for the embeddings to be added.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded. Optional.
+     */
+    public synchronized void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        if (isNullOrEmpty(ids) || isNullOrEmpty(embeddings)) {
+            log.info("Empty embeddings - no ops");
+            return;
+        }
+        ensureTrue(ids.size() == embeddings.size(), "ids size is not equal to embeddings size");
+        ensureTrue(embedded == null || embeddings.size() == embedded.size(),
+                "embeddings size is not equal to embedded size");
+
+        try (Connection connection = embeddingStore.getConnection()) {
+            dropIndexIfDeferred(connection);
+            Map<String, String> types = columnTypes(connection);
+            boolean staging = upsert || !directCopySupported(types);
+
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                if (staging) {
+                    statement.executeUpdate(createStagingTableQuery());
+                }
+                copy(connection, staging ? stagingTable : embeddingStore.table, staging, types,
+                        ids, embeddings, embedded);
+                if (staging) {
+                    statement.executeUpdate(insertFromStagingQuery(types));
+                }
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Builds the vector index again, when it was dropped for loading.
+     */
+    @Override
+    public synchronized void close() {
+        if (!indexDropped) {
+            return;
+        }
+        String query = embeddingStore.createIndexQuery(embeddingStore.indexListSize);
+        try (Connection connection = embeddingStore.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(query);
+            indexDropped = false;
+        } catch (SQLException e) {
+            throw new RuntimeException(String.format("Failed to execute '%s'", query), e);
+        }
+    }
+
+    private void dropIndexIfDeferred(Connection connection) throws SQLException {
+        if (!deferIndexBuild || !embeddingStore.useIndex || indexDropped) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(String.format("DROP INDEX IF EXISTS %s", embeddingStore.indexName()));
+        }
+        indexDropped = true;
+    }
+
+    private Map<String, String> columnTypes(Connection connection) throws SQLException {
+        if (columnTypes == null) {
+            Map<String, String> types = new HashMap<>();
+            String query = "SELECT attname, format_type(atttypid, atttypmod) AS type FROM pg_attribute " +
+                    "WHERE attrelid = CAST(? AS regclass) AND attnum > 0 AND NOT attisdropped";
+            try (PreparedStatement statement = connection.prepareStatement(query)) {
+                statement.setString(1, embeddingStore.table);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        types.put(resultSet.getString("attname"), resultSet.getString("type"));
+                    }
+                }
+            }
+            columnTypes = types;
+        }
+        return columnTypes;
+    }
+
+    private String metadataColumnType(Map<String, String> types, String column) {
+        String type = getOrDefault(types.get(column), types.get(column.toLowerCase()));
+        if (type == null) {
+            throw new RuntimeException(String.format("Column %s not found in table %s", column, embeddingStore.table));
+        }
+        return type;
+    }
+
+    private boolean directCopySupported(Map<String, String> types) {
+        return embeddingStore.metadataHandler.columnsNames().stream()
+                .map(column -> metadataColumnType(types, column))
+                .allMatch(type -> type.equals("text") || type.equals("json") || type.equals("jsonb")
+                        || type.startsWith("character varying"));
+    }
+
+    private String createStagingTableQuery() {
+        List<String> columns = new ArrayList<>();
+        columns.add("embedding_id UUID");
+        columns.add("embedding " + embeddingStore.vectorType());
+        columns.add("text TEXT");
+        embeddingStore.metadataHandler.columnsNames().forEach(column -> columns.add(column + " TEXT"));
+        return String.format("CREATE TEMP TABLE %s (%s) ON COMMIT DROP", stagingTable, join(", ", columns));
+    }
+
+    private String insertFromStagingQuery(Map<String, String> types) {
+        List<String> metadataColumns = embeddingStore.metadataHandler.columnsNames();
+        List<String> metadataValues = metadataColumns.stream()
+                .map(column -> String.format("CAST(%s AS %s)", column, metadataColumnType(types, column)))
+                .collect(toList());
+        String query = String.format(
+                "INSERT INTO %s (embedding_id, embedding, text, %s) SELECT embedding_id, embedding, text, %s FROM %s",
+                embeddingStore.table, join(",", metadataColumns), join(",", metadataValues), stagingTable);
+        if (upsert) {
+            query += " ON CONFLICT (embedding_id) DO UPDATE SET " +
+                    "embedding = EXCLUDED.embedding," +
+                    "text = EXCLUDED.text," +
+                    embeddingStore.metadataHandler.insertClause();
+        }
+        return query;
+    }
+
+    private void copy(Connection connection, String table, boolean staging, Map<String, String> types,
+                      List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded)
+            throws SQLException, IOException {
+        List<String> metadataColumns = embeddingStore.metadataHandler.columnsNames();
+        boolean[] jsonb = new boolean[metadataColumns.size()];
+        for (int i = 0; i < jsonb.length; i++) {
+            // staging columns are all text, only a direct copy into jsonb columns needs the jsonb binary format
+            jsonb[i] = !staging && metadataColumnType(types, metadataColumns.get(i)).equals("jsonb");
+        }
+        String query = String.format("COPY %s (embedding_id, embedding, text, %s) FROM STDIN (FORMAT BINARY)",
+                table, join(",", metadataColumns));
+
+        PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), query);
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(copyStream, BUFFER_SIZE));
+            out.write(COPY_SIGNATURE);
+            out.writeInt(0); // flags
+            out.writeInt(0); // header extension length
+            for (int i = 0; i < ids.size(); i++) {
+                TextSegment segment = embedded == null ? null : embedded.get(i);
+                out.writeShort(3 + metadataColumns.size());
+                writeUuid(out, UUID.fromString(ids.get(i)));
+                writeVector(out, embeddings.get(i).vector(), embeddingStore.useHalfvec);
+                writeText(out, segment == null ? null : segment.text(), false);
+                List<String> metadataValues = segment == null ? null
+                        : embeddingStore.metadataHandler.copyValues(segment.metadata());
+                for (int j = 0; j < metadataColumns.size(); j++) {
+                    writeText(out, metadataValues == null ? null : metadataValues.get(j), jsonb[j]);
+                }
+            }
+            out.writeShort(-1); // trailer
+            out.flush();
+            copyStream.endCopy();
+        } finally {
+            if (copyStream.isActive()) {
+                copyStream.cancelCopy();
+            }
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeInt(16);
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static void writeVector(DataOutputStream out, float[] vector, boolean halfvec) throws IOException {
+        // pgvector binary format: dimensions (int16), unused (int16), then the elements
+        out.writeInt(4 + vector.length * (halfvec ? 2 : 4));
+        out.writeShort(vector.length);
+        out.writeShort(0);
+        for (float element : vector) {
+            if (halfvec) {
+                out.writeShort(toHalf(element));
+            } else {
+                out.writeFloat(element);
+            }
+        }
+    }
+
+    private static void writeText(DataOutputStream out, String text, boolean jsonb) throws IOException {
+        if (text == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = text.getBytes(UTF_8);
+        if (jsonb) {
+            out.writeInt(bytes.length + 1);
+            out.writeByte(JSONB_VERSION);
+        } else {
+            out.writeInt(bytes.length);
+        }
+        out.write(bytes);
+    }
+
+    /**
+     * Converts a float to the bits of the nearest IEEE 754 half-precision float (round half to even).
+     */
+    static short toHalf(float value) {
+        int bits = Float.floatToIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = ((bits >>> 23) & 0xff) - 127 + 15;
+        int mantissa = bits & 0x7fffff;
+        if (exponent == 0xff - 127 + 15) {
+            // infinity or NaN
+            return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 : 0));
+        }
+        if (exponent >= 0x1f) {
+            // overflow to infinity
+            return (short) (sign | 0x7c00);
+        }
+        if (exponent <= 0) {
+            if (exponent < -10) {
+                // underflow to zero
+                return (short) sign;
+            }
+            // subnormal, the implicit leading bit becomes explicit
+            return (short) (sign | roundedShift(mantissa | 0x800000, 14 - exponent));
+        }
+        // rounding may carry into the exponent, which is still the correctly rounded value
+        return (short) (sign | roundedShift((exponent << 23) | mantissa, 13));
+    }
+
+    private static int roundedShift(int value, int shift) {
+        int result = value >> shift;
+        int remainder = value & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        if (remainder > halfway || (remainder == halfway && (result & 1) != 0)) {
+            result++;
+        }
+        return result;
+    }
+}
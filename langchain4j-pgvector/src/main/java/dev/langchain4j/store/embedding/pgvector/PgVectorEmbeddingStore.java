@@ -23,6 +23,7 @@ import java.util.stream.IntStream;
 import static dev.langchain4j.internal.Utils.*;
 import static dev.langchain4j.internal.ValidationUtils.*;
 import static java.lang.String.join;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.nCopies;
 import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
@@ -31,7 +32,11 @@ import static java.util.stream.Collectors.toList;
  * PGVector EmbeddingStore Implementation
  * <p>
  * Only cosine similarity is used.
- * Only ivfflat index is used.
+ * Either an ivfflat or an hnsw index can be used, see {@link PgVectorIndexType}.
+ * <p>
+ * The query vector, the minimum score and the maximum number of results are bound as statement parameters,
+ * so the search statement text stays the same from one query to another (for a given filter) and can be
+ * prepared server side by the PostgreSQL JDBC driver (see its {@code prepareThreshold} property).
  */
 @NoArgsConstructor(force = true) // Needed for inherited bean injection validation
 public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
@@ -48,6 +53,40 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * Metadata handler
      */
     final MetadataHandler metadataHandler;
+    /**
+     * Should create the vector index
+     */
+    final boolean useIndex;
+    /**
+     * IVFFlat number of lists
+     */
+    final Integer indexListSize;
+    /**
+     * Index type
+     */
+    final PgVectorIndexType indexType;
+    /**
+     * HNSW max number of connections per layer
+     */
+    final Integer hnswM;
+    /**
+     * HNSW size of the dynamic candidate list for constructing the graph
+     */
+    final Integer hnswEfConstruction;
+    /**
+     * HNSW size of the dynamic candidate list for search, set for each query
+     */
+    final Integer hnswEfSearch;
+    /**
+     * IVFFlat number of lists to probe, set for each query
+     */
+    final Integer ivfflatProbes;
+    /**
+     * Should store embeddings as half-precision vectors
+     */
+    final boolean useHalfvec;
+
+    private volatile boolean vectorExtensionCreated;
 
     /**
      * Constructor for PgVectorEmbeddingStore Class
@@ -60,6 +99,16 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param createTable           Should create table automatically
      * @param dropTableFirst        Should drop table first, usually for testing
      * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param indexType             The index type to create when {@code useIndex} is true. Default value: IVFFLAT
+     * @param hnswM                 The HNSW max number of connections per layer. Default value: 16
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list for constructing the graph.
+     *                              Default value: 64
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list for search ({@code hnsw.ef_search}),
+     *                              set for each query. Server default is used when not set.
+     * @param ivfflatProbes         The IVFFlat number of lists to probe ({@code ivfflat.probes}), set for each query.
+     *                              Server default is used when not set.
+     * @param useHalfvec            Should store embeddings as <a href="https://github.com/pgvector/pgvector#half-precision-vectors">halfvec</a>,
+     *                              halving storage and index size. Requires pgvector 0.7.0 or later.
      */
     @Builder(builderMethodName = "datasourceBuilder", builderClassName = "DatasourceBuilder")
     protected PgVectorEmbeddingStore(DataSource datasource,
@@ -69,16 +118,29 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
                                      Integer indexListSize,
                                      Boolean createTable,
                                      Boolean dropTableFirst,
-                                     MetadataStorageConfig metadataStorageConfig) {
+                                     MetadataStorageConfig metadataStorageConfig,
+                                     PgVectorIndexType indexType,
+                                     Integer hnswM,
+                                     Integer hnswEfConstruction,
+                                     Integer hnswEfSearch,
+                                     Integer ivfflatProbes,
+                                     Boolean useHalfvec) {
         this.datasource = ensureNotNull(datasource, "datasource");
         this.table = ensureNotBlank(table, "table");
         MetadataStorageConfig config = getOrDefault(metadataStorageConfig, DefaultMetadataStorageConfig.defaultConfig());
         this.metadataHandler = MetadataHandlerFactory.get(config);
-        useIndex = getOrDefault(useIndex, false);
+        this.indexType = getOrDefault(indexType, PgVectorIndexType.IVFFLAT);
+        this.hnswM = hnswM;
+        this.hnswEfConstruction = hnswEfConstruction;
+        this.hnswEfSearch = hnswEfSearch == null ? null : ensureGreaterThanZero(hnswEfSearch, "hnswEfSearch");
+        this.ivfflatProbes = ivfflatProbes == null ? null : ensureGreaterThanZero(ivfflatProbes, "ivfflatProbes");
+        this.useHalfvec = getOrDefault(useHalfvec, false);
+        this.useIndex = getOrDefault(useIndex, false);
+        this.indexListSize = indexListSize;
         createTable = getOrDefault(createTable, true);
         dropTableFirst = getOrDefault(dropTableFirst, false);
 
-        initTable(dropTableFirst, createTable, useIndex, dimension, indexListSize);
+        initTable(dropTableFirst, createTable, this.useIndex, dimension, indexListSize);
     }
 
     /**
@@ -97,6 +159,16 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      * @param createTable           Should create table automatically
      * @param dropTableFirst        Should drop table first, usually for testing
      * @param metadataStorageConfig The {@link MetadataStorageConfig} config.
+     * @param indexType             The index type to create when {@code useIndex} is true. Default value: IVFFLAT
+     * @param hnswM                 The HNSW max number of connections per layer. Default value: 16
+     * @param hnswEfConstruction    The HNSW size of the dynamic candidate list for constructing the graph.
+     *                              Default value: 64
+     * @param hnswEfSearch          The HNSW size of the dynamic candidate list for search ({@code hnsw.ef_search}),
+     *                              set for each query. Server default is used when not set.
+     * @param ivfflatProbes         The IVFFlat number of lists to probe ({@code ivfflat.probes}), set for each query.
+     *                              Server default is used when not set.
+     * @param useHalfvec            Should store embeddings as <a href="https://github.com/pgvector/pgvector#half-precision-vectors">halfvec</a>,
+     *                              halving storage and index size. Requires pgvector 0.7.0 or later.
      */
     @SuppressWarnings("unused")
     @Builder
@@ -112,10 +184,17 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             Integer indexListSize,
             Boolean createTable,
             Boolean dropTableFirst,
-            MetadataStorageConfig metadataStorageConfig
+            MetadataStorageConfig metadataStorageConfig,
+            PgVectorIndexType indexType,
+            Integer hnswM,
+            Integer hnswEfConstruction,
+            Integer hnswEfSearch,
+            Integer ivfflatProbes,
+            Boolean useHalfvec
     ) {
         this(createDataSource(host, port, user, password, database),
-                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig);
+                table, dimension, useIndex, indexListSize, createTable, dropTableFirst, metadataStorageConfig,
+                indexType, hnswM, hnswEfConstruction, hnswEfSearch, ivfflatProbes, useHalfvec);
     }
 
     private static DataSource createDataSource(String host, Integer port, String user, String password, String database) {
@@ -141,7 +220,7 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      *
      * @param dropTableFirst Should drop table first, usually for testing
      * @param createTable    Should create table automatically
-     * @param useIndex       Should use <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index
+     * @param useIndex       Should create the index configured by {@link PgVectorIndexType}
      * @param dimension      The vector dimension
      * @param indexListSize  The IVFFlat number of lists
      */
@@ -154,19 +233,14 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
             }
             if (createTable) {
                 query = String.format("CREATE TABLE IF NOT EXISTS %s (embedding_id UUID PRIMARY KEY, " +
-                                "embedding vector(%s), text TEXT NULL, %s )",
-                        table, ensureGreaterThanZero(dimension, "dimension"),
+                                "embedding %s(%s), text TEXT NULL, %s )",
+                        table, vectorType(), ensureGreaterThanZero(dimension, "dimension"),
                         metadataHandler.columnDefinitionsString());
                 statement.executeUpdate(query);
                 metadataHandler.createMetadataIndexes(statement, table);
             }
             if (useIndex) {
-                final String indexName = table + "_ivfflat_index";
-                query = String.format(
-                        "CREATE INDEX IF NOT EXISTS %s ON %s " +
-                                "USING ivfflat (embedding vector_cosine_ops) " +
-                                "WITH (lists = %s)",
-                        indexName, table, ensureGreaterThanZero(indexListSize, "indexListSize"));
+                query = createIndexQuery(indexListSize);
                 statement.executeUpdate(query);
             }
         } catch (SQLException e) {
@@ -174,6 +248,28 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         }
     }
 
+    String indexName() {
+        return table + (indexType == PgVectorIndexType.HNSW ? "_hnsw_index" : "_ivfflat_index");
+    }
+
+    String createIndexQuery(Integer indexListSize) {
+        String operatorClass = vectorType() + "_cosine_ops";
+        if (indexType == PgVectorIndexType.HNSW) {
+            return String.format(
+                    "CREATE INDEX IF NOT EXISTS %s ON %s " +
+                            "USING hnsw (embedding %s) " +
+                            "WITH (m = %s, ef_construction = %s)",
+                    indexName(), table, operatorClass,
+                    ensureGreaterThanZero(getOrDefault(hnswM, 16), "hnswM"),
+                    ensureGreaterThanZero(getOrDefault(hnswEfConstruction, 64), "hnswEfConstruction"));
+        }
+        return String.format(
+                "CREATE INDEX IF NOT EXISTS %s ON %s " +
+                        "USING ivfflat (embedding %s) " +
+                        "WITH (lists = %s)",
+                indexName(), table, operatorClass, ensureGreaterThanZero(indexListSize, "indexListSize"));
+    }
+
     /**
      * Adds a given embedding to the store.
      *
@@ -239,6 +335,19 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         return ids;
     }
 
+    /**
+     * Adds multiple embeddings and their corresponding contents that have been embedded to the store,
+     * under the provided IDs. Existing embeddings with the same IDs are replaced.
+     *
+     * @param ids        A list of IDs of the embeddings to be added to the store.
+     * @param embeddings A list of embeddings to be added to the store.
+     * @param embedded   A list of original contents that were embedded.
+     */
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) {
+        addAllInternal(ids, embeddings, embedded);
+    }
+
     @Override
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
@@ -288,43 +397,170 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        Embedding referenceEmbedding = request.queryEmbedding();
-        int maxResults = request.maxResults();
-        double minScore = request.minScore();
-        Filter filter = request.filter();
+        return search(request, hnswEfSearch, ivfflatProbes);
+    }
+
+    /**
+     * Searches for the most similar (closest in the embedding space) {@link Embedding}s,
+     * overriding the index search parameters configured for this store.
+     * <br>
+     * The parameters are applied with {@code SET LOCAL}, so they only affect the transaction running the query.
+     * When the connection is in auto-commit mode, the query is run in its own transaction.
+     *
+     * @param request       A request to search in an {@link EmbeddingStore}. Contains all search criteria.
+     * @param hnswEfSearch  The HNSW size of the dynamic candidate list for search. Server default is used when null.
+     * @param ivfflatProbes The IVFFlat number of lists to probe. Server default is used when null.
+     * @return An {@link EmbeddingSearchResult} containing all found {@link Embedding}s.
+     */
+    public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request,
+                                                     Integer hnswEfSearch,
+                                                     Integer ivfflatProbes) {
+        return searchAll(singletonList(request), hnswEfSearch, ivfflatProbes).get(0);
+    }
 
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+    /**
+     * Searches for the most similar (closest in the embedding space) {@link Embedding}s for multiple requests,
+     * with a single {@code UNION ALL} query.
+     *
+     * @param requests The requests to search in an {@link EmbeddingStore}. Each contains its own search criteria.
+     * @return A list of {@link EmbeddingSearchResult}s, in the same order as the requests.
+     */
+    @Override
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> requests) {
+        return searchAll(requests, hnswEfSearch, ivfflatProbes);
+    }
+
+    /**
+     * Searches for the most similar (closest in the embedding space) {@link Embedding}s for multiple requests,
+     * with a single {@code UNION ALL} query, overriding the index search parameters configured for this store.
+     *
+     * @param requests      The requests to search in an {@link EmbeddingStore}. Each contains its own search criteria.
+     * @param hnswEfSearch  The HNSW size of the dynamic candidate list for search. Server default is used when null.
+     * @param ivfflatProbes The IVFFlat number of lists to probe. Server default is used when null.
+     * @return A list of {@link EmbeddingSearchResult}s, in the same order as the requests.
+     * @see #search(EmbeddingSearchRequest, Integer, Integer)
+     */
+    public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> requests,
+                                                              Integer hnswEfSearch,
+                                                              Integer ivfflatProbes) {
+        if (isNullOrEmpty(requests)) {
+            return emptyList();
+        }
+
+        List<String> whereClauses = requests.stream()
+                .map(request -> request.filter() == null ? "" : metadataHandler.whereClause(request.filter()))
+                .collect(toList());
+        boolean batch = requests.size() > 1;
+        String query = batch ? batchSearchQuery(whereClauses) : searchQuery(whereClauses.get(0));
+        boolean tuned = hnswEfSearch != null || ivfflatProbes != null;
+
+        List<List<EmbeddingMatch<TextSegment>>> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(new ArrayList<>());
+        }
         try (Connection connection = getConnection()) {
-            String referenceVector = Arrays.toString(referenceEmbedding.vector());
-            String whereClause = (filter == null) ? "" : metadataHandler.whereClause(filter);
-            whereClause = (whereClause.isEmpty()) ? "" : "WHERE " + whereClause;
-            String query = String.format(
-                    "WITH temp AS (SELECT (2 - (embedding <=> '%s')) / 2 AS score, embedding_id, embedding, text, " +
-                            "%s FROM %s %s) SELECT * FROM temp WHERE score >= %s ORDER BY score desc LIMIT %s;",
-                    referenceVector, join(",", metadataHandler.columnsNames()), table, whereClause, minScore, maxResults);
-            try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
-                try (ResultSet resultSet = selectStmt.executeQuery()) {
-                    while (resultSet.next()) {
-                        double score = resultSet.getDouble("score");
-                        String embeddingId = resultSet.getString("embedding_id");
-
-                        PGvector vector = (PGvector) resultSet.getObject("embedding");
-                        Embedding embedding = new Embedding(vector.toArray());
-
-                        String text = resultSet.getString("text");
-                        TextSegment textSegment = null;
-                        if (isNotNullOrBlank(text)) {
-                            Metadata metadata = metadataHandler.fromResultSet(resultSet);
-                            textSegment = TextSegment.from(text, metadata);
+            boolean ownTransaction = tuned && connection.getAutoCommit();
+            if (ownTransaction) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                if (hnswEfSearch != null) {
+                    setLocal(connection, "hnsw.ef_search", ensureGreaterThanZero(hnswEfSearch, "hnswEfSearch"));
+                }
+                if (ivfflatProbes != null) {
+                    setLocal(connection, "ivfflat.probes", ensureGreaterThanZero(ivfflatProbes, "ivfflatProbes"));
+                }
+                try (PreparedStatement selectStmt = connection.prepareStatement(query)) {
+                    int parameterIndex = 1;
+                    for (EmbeddingSearchRequest request : requests) {
+                        selectStmt.setObject(parameterIndex++, new PGvector(request.queryEmbedding().vector()));
+                        selectStmt.setInt(parameterIndex++, request.maxResults());
+                        selectStmt.setDouble(parameterIndex++, request.minScore());
+                    }
+                    try (ResultSet resultSet = selectStmt.executeQuery()) {
+                        while (resultSet.next()) {
+                            int queryIndex = batch ? resultSet.getInt("query_index") : 0;
+                            results.get(queryIndex).add(toEmbeddingMatch(resultSet));
                         }
-                        result.add(new EmbeddingMatch<>(score, embeddingId, embedding, textSegment));
                     }
                 }
+            } finally {
+                if (ownTransaction) {
+                    // the transaction is read only, rolling it back also discards the local parameters
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
-        return new EmbeddingSearchResult<>(result);
+        return results.stream()
+                .map(EmbeddingSearchResult::new)
+                .collect(toList());
+    }
+
+    /**
+     * Builds the search query. The nearest neighbors are selected with {@code ORDER BY embedding <=> ? LIMIT ?}
+     * so that the vector index can be used, then matches below the minimum score are discarded.
+     * <br>
+     * Parameters: 1. query vector, 2. max results, 3. min score.
+     */
+    String searchQuery(String whereClause) {
+        String embeddingColumn = useHalfvec ? "embedding::vector AS embedding" : "embedding";
+        return String.format(
+                "SELECT (2 - distance) / 2 AS score, nearest.* FROM (" +
+                        "SELECT embedding <=> %s AS distance, embedding_id, %s, text, %s FROM %s%s " +
+                        "ORDER BY distance LIMIT ?) AS nearest " +
+                        "WHERE (2 - distance) / 2 >= ? ORDER BY distance",
+                vectorParameter(), embeddingColumn, join(",", metadataHandler.columnsNames()), table,
+                whereClause.isEmpty() ? "" : " WHERE " + whereClause);
+    }
+
+    /**
+     * Builds the query searching multiple requests at once: the {@link #searchQuery(String)} of each request,
+     * tagged with its index and combined with {@code UNION ALL}.
+     * <br>
+     * Parameters: query vector, max results and min score of each request, in order.
+     */
+    String batchSearchQuery(List<String> whereClauses) {
+        List<String> queries = new ArrayList<>(whereClauses.size());
+        for (int i = 0; i < whereClauses.size(); i++) {
+            queries.add(String.format("SELECT %d AS query_index, q%d.* FROM (%s) AS q%d",
+                    i, i, searchQuery(whereClauses.get(i)), i));
+        }
+        return join(" UNION ALL ", queries) + " ORDER BY query_index, distance";
+    }
+
+    private EmbeddingMatch<TextSegment> toEmbeddingMatch(ResultSet resultSet) throws SQLException {
+        double score = resultSet.getDouble("score");
+        String embeddingId = resultSet.getString("embedding_id");
+
+        PGvector vector = (PGvector) resultSet.getObject("embedding");
+        Embedding embedding = new Embedding(vector.toArray());
+
+        String text = resultSet.getString("text");
+        TextSegment textSegment = null;
+        if (isNotNullOrBlank(text)) {
+            Metadata metadata = metadataHandler.fromResultSet(resultSet);
+            textSegment = TextSegment.from(text, metadata);
+        }
+        return new EmbeddingMatch<>(score, embeddingId, embedding, textSegment);
+    }
+
+    private static void setLocal(Connection connection, String parameter, int value) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT set_config(?, ?, true)")) {
+            statement.setString(1, parameter);
+            statement.setString(2, String.valueOf(value));
+            statement.execute();
+        }
+    }
+
+    String vectorType() {
+        return useHalfvec ? "halfvec" : "vector";
+    }
+
+    private String vectorParameter() {
+        return useHalfvec ? "?::halfvec" : "?";
     }
 
     private void addInternal(String id, Embedding embedding, TextSegment embedded) {
@@ -346,12 +582,12 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
 
         try (Connection connection = getConnection()) {
             String query = String.format(
-                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, ?, ?, %s)" +
+                    "INSERT INTO %s (embedding_id, embedding, text, %s) VALUES (?, %s, ?, %s)" +
                             "ON CONFLICT (embedding_id) DO UPDATE SET " +
                             "embedding = EXCLUDED.embedding," +
                             "text = EXCLUDED.text," +
                             "%s;",
-                    table, join(",", metadataHandler.columnsNames()),
+                    table, join(",", metadataHandler.columnsNames()), vectorParameter(),
                     join(",", nCopies(metadataHandler.columnsNames().size(), "?")),
                     metadataHandler.insertClause());
             try (PreparedStatement upsertStmt = connection.prepareStatement(query)) {
@@ -384,7 +620,7 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
 
     /**
      * Datasource connection
-     * Creates the vector extension and add the vector type if it does not exist.
+     * Creates the vector extension (once per store) and add the vector type if it does not exist.
      * Could be overridden in case extension creation and adding type is done at datasource initialization step.
      *
      * @return Datasource connection
@@ -395,8 +631,11 @@ public class PgVectorEmbeddingStore implements EmbeddingStore<TextSegment> {
         // Find a way to do the following code in connection initialization.
         // Here we assume the datasource could handle a connection pool
         // and we should add the vector type on each connection
-        try (Statement statement = connection.createStatement()) {
-            statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+        if (!vectorExtensionCreated) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE EXTENSION IF NOT EXISTS vector");
+            }
+            vectorExtensionCreated = true;
         }
         PGvector.addVectorType(connection);
         return connection;
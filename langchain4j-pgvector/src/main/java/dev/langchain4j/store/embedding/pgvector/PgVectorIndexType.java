@@ -0,0 +1,23 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+/**
+ * Approximate nearest neighbor index type
+ * <ul>
+ * <li>IVFFLAT: divides vectors into lists, and then searches a subset of those lists that are closest to the query vector.
+ * <li>HNSW: creates a multilayer graph. Better query performance than IVFFlat (speed-recall tradeoff),
+ * but slower build times and uses more memory.
+ * </ul>
+ * <p>
+ * Default value: IVFFLAT
+ */
+public enum PgVectorIndexType {
+    /**
+     * <a href="https://github.com/pgvector/pgvector#ivfflat">IVFFlat</a> index, configured with the number of lists.
+     */
+    IVFFLAT,
+    /**
+     * <a href="https://github.com/pgvector/pgvector#hnsw">HNSW</a> index,
+     * configured with {@code m} and {@code ef_construction}.
+     */
+    HNSW
+}
@@ -0,0 +1,126 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Testcontainers
+class PgVectorBulkLoaderIT {
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg16");
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    List<TextSegment> segments = Arrays.asList(
+            TextSegment.from("I like football.", new Metadata().put("key", "football").put("age", 42)),
+            TextSegment.from("The weather is good today.", new Metadata().put("key", "weather")),
+            TextSegment.from("I like tennis.", new Metadata().put("key", "tennis").put("age", 18)));
+
+    List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+
+    @Test
+    void should_load_with_upsert_and_build_index_again() throws SQLException {
+        PgVectorEmbeddingStore embeddingStore = storeBuilder()
+                .useIndex(true)
+                .indexType(PgVectorIndexType.HNSW)
+                .build();
+
+        List<String> ids;
+        try (PgVectorBulkLoader loader = PgVectorBulkLoader.builder()
+                .embeddingStore(embeddingStore)
+                .deferIndexBuild(true)
+                .build()) {
+            ids = loader.addAll(embeddings, segments);
+            assertThat(indexCount(embeddingStore)).isZero();
+
+            loader.addAll(singletonList(ids.get(0)), singletonList(embeddings.get(0)),
+                    singletonList(TextSegment.from("I love football.", new Metadata().put("key", "football"))));
+        }
+        assertThat(indexCount(embeddingStore)).isEqualTo(1);
+
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddingStore, embeddings.get(0));
+        assertThat(matches).hasSize(3);
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(0));
+        assertThat(matches.get(0).embedded().text()).isEqualTo("I love football.");
+        assertThat(matches.get(0).embedded().metadata().getString("key")).isEqualTo("football");
+        assertThat(matches.get(0).embedding()).isEqualTo(embeddings.get(0));
+    }
+
+    @Test
+    void should_load_into_metadata_columns_without_upsert() {
+        PgVectorEmbeddingStore embeddingStore = storeBuilder()
+                .metadataStorageConfig(DefaultMetadataStorageConfig.builder()
+                        .storageMode(MetadataStorageMode.COLUMN_PER_KEY)
+                        .columnDefinitions(Arrays.asList("key text NULL", "age int NULL"))
+                        .build())
+                .useHalfvec(true)
+                .build();
+
+        try (PgVectorBulkLoader loader = PgVectorBulkLoader.builder()
+                .embeddingStore(embeddingStore)
+                .upsert(false)
+                .build()) {
+            List<String> ids = loader.addAll(embeddings, segments);
+
+            List<EmbeddingMatch<TextSegment>> matches = search(embeddingStore, embeddings.get(2));
+            assertThat(matches).hasSize(3);
+            assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(2));
+            assertThat(matches.get(0).embedded().metadata().getString("key")).isEqualTo("tennis");
+            assertThat(matches.get(0).embedded().metadata().getInteger("age")).isEqualTo(18);
+
+            assertThatThrownBy(() -> loader.addAll(ids, embeddings, segments))
+                    .isExactlyInstanceOf(RuntimeException.class)
+                    .hasCauseInstanceOf(SQLException.class);
+        }
+    }
+
+    private static PgVectorEmbeddingStore.PgVectorEmbeddingStoreBuilder storeBuilder() {
+        return PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test")
+                .dimension(384)
+                .dropTableFirst(true);
+    }
+
+    private static List<EmbeddingMatch<TextSegment>> search(PgVectorEmbeddingStore embeddingStore,
+                                                             Embedding embedding) {
+        return embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .maxResults(10)
+                .build()).matches();
+    }
+
+    private static int indexCount(PgVectorEmbeddingStore embeddingStore) throws SQLException {
+        try (Connection connection = embeddingStore.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT count(*) FROM pg_indexes WHERE indexname = 'test_hnsw_index'")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
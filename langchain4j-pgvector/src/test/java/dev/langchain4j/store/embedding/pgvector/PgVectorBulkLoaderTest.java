@@ -0,0 +1,25 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PgVectorBulkLoaderTest {
+
+    @Test
+    void should_convert_float_to_half_precision() {
+        assertThat(PgVectorBulkLoader.toHalf(0f)).isEqualTo((short) 0x0000);
+        assertThat(PgVectorBulkLoader.toHalf(-0f)).isEqualTo((short) 0x8000);
+        assertThat(PgVectorBulkLoader.toHalf(1f)).isEqualTo((short) 0x3c00);
+        assertThat(PgVectorBulkLoader.toHalf(-2f)).isEqualTo((short) 0xc000);
+        assertThat(PgVectorBulkLoader.toHalf(0.1f)).isEqualTo((short) 0x2e66);
+        assertThat(PgVectorBulkLoader.toHalf(65504f)).isEqualTo((short) 0x7bff);
+        assertThat(PgVectorBulkLoader.toHalf(1e6f)).isEqualTo((short) 0x7c00);
+        // smallest subnormal and rounding below it
+        assertThat(PgVectorBulkLoader.toHalf(5.9604645e-8f)).isEqualTo((short) 0x0001);
+        assertThat(PgVectorBulkLoader.toHalf(1e-9f)).isEqualTo((short) 0x0000);
+        // ties round to even
+        assertThat(PgVectorBulkLoader.toHalf(1.00048828125f)).isEqualTo((short) 0x3c00);
+        assertThat(PgVectorBulkLoader.toHalf(1.00146484375f)).isEqualTo((short) 0x3c02);
+    }
+}
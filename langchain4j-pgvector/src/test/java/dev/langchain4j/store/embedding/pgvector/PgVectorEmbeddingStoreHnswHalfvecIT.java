@@ -0,0 +1,55 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
+import org.junit.jupiter.api.BeforeEach;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Testcontainers
+public class PgVectorEmbeddingStoreHnswHalfvecIT extends EmbeddingStoreWithFilteringIT {
+
+    @Container
+    static PostgreSQLContainer<?> pgVector = new PostgreSQLContainer<>("pgvector/pgvector:pg16");
+
+    EmbeddingModel embeddingModel = new AllMiniLmL6V2QuantizedEmbeddingModel();
+
+    EmbeddingStore<TextSegment> embeddingStore;
+
+    @BeforeEach
+    void beforeEach() {
+        embeddingStore = PgVectorEmbeddingStore.builder()
+                .host(pgVector.getHost())
+                .port(pgVector.getFirstMappedPort())
+                .user("test")
+                .password("test")
+                .database("test")
+                .table("test")
+                .dimension(embeddingModel.dimension())
+                .useIndex(true)
+                .indexType(PgVectorIndexType.HNSW)
+                .hnswEfSearch(100)
+                .useHalfvec(true)
+                .dropTableFirst(true)
+                .build();
+    }
+
+    @Override
+    protected EmbeddingStore<TextSegment> embeddingStore() {
+        return embeddingStore;
+    }
+
+    @Override
+    protected EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
+    @Override
+    protected boolean assertEmbedding() {
+        return false; // embeddings are stored with half precision
+    }
+}
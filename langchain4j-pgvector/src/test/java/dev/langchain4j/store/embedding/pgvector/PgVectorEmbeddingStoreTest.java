@@ -0,0 +1,165 @@
+package dev.langchain4j.store.embedding.pgvector;
+
+import com.pgvector.PGvector;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.postgresql.PGConnection;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class PgVectorEmbeddingStoreTest {
+
+    DataSource dataSource;
+    Connection connection;
+    PreparedStatement preparedStatement;
+    List<String> updates = new ArrayList<>();
+    List<String> preparedQueries = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() throws SQLException {
+        dataSource = mock(DataSource.class);
+        connection = mock(Connection.class, withSettings().extraInterfaces(PGConnection.class));
+        Statement statement = mock(Statement.class);
+        preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.unwrap(PGConnection.class)).thenReturn((PGConnection) connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate(anyString()))
+                .thenAnswer(AdditionalAnswers.answerVoid(q -> updates.add((String) q)));
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            preparedQueries.add(invocation.getArgument(0));
+            return preparedStatement;
+        });
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    void should_bind_query_vector_and_search_criteria_as_parameters() throws SQLException {
+        PgVectorEmbeddingStore embeddingStore = PgVectorEmbeddingStore.datasourceBuilder()
+                .datasource(dataSource)
+                .table("embeddings")
+                .dimension(3)
+                .build();
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[]{0.1f, 0.2f, 0.3f}))
+                .maxResults(5)
+                .minScore(0.7)
+                .build();
+        embeddingStore.search(request);
+        embeddingStore.search(request);
+
+        assertThat(preparedQueries).hasSize(2);
+        assertThat(preparedQueries.get(0))
+                .isEqualTo(preparedQueries.get(1))
+                .isEqualTo("SELECT (2 - distance) / 2 AS score, nearest.* FROM (" +
+                        "SELECT embedding <=> ? AS distance, embedding_id, embedding, text, metadata FROM embeddings " +
+                        "ORDER BY distance LIMIT ?) AS nearest " +
+                        "WHERE (2 - distance) / 2 >= ? ORDER BY distance");
+        verify(preparedStatement, times(2)).setObject(eq(1), any(PGvector.class));
+        verify(preparedStatement, times(2)).setInt(2, 5);
+        verify(preparedStatement, times(2)).setDouble(3, 0.7);
+        verify(connection, never()).setAutoCommit(false);
+    }
+
+    @Test
+    void should_create_hnsw_index_on_halfvec_column() {
+        PgVectorEmbeddingStore.datasourceBuilder()
+                .datasource(dataSource)
+                .table("embeddings")
+                .dimension(3)
+                .useIndex(true)
+                .indexType(PgVectorIndexType.HNSW)
+                .hnswM(24)
+                .hnswEfConstruction(100)
+                .useHalfvec(true)
+                .build();
+
+        assertThat(updates).containsExactly(
+                "CREATE EXTENSION IF NOT EXISTS vector",
+                "CREATE TABLE IF NOT EXISTS embeddings (embedding_id UUID PRIMARY KEY, " +
+                        "embedding halfvec(3), text TEXT NULL, metadata JSON NULL )",
+                "CREATE INDEX IF NOT EXISTS embeddings_hnsw_index ON embeddings " +
+                        "USING hnsw (embedding halfvec_cosine_ops) WITH (m = 24, ef_construction = 100)");
+    }
+
+    @Test
+    void should_set_index_search_parameters_for_each_query() throws SQLException {
+        PgVectorEmbeddingStore embeddingStore = PgVectorEmbeddingStore.datasourceBuilder()
+                .datasource(dataSource)
+                .table("embeddings")
+                .dimension(3)
+                .hnswEfSearch(100)
+                .build();
+
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(Embedding.from(new float[]{0.1f, 0.2f, 0.3f}))
+                .build();
+        embeddingStore.search(request, null, 10);
+
+        assertThat(preparedQueries).hasSize(2);
+        assertThat(preparedQueries.get(0)).isEqualTo("SELECT set_config(?, ?, true)");
+        verify(preparedStatement).setString(1, "ivfflat.probes");
+        verify(preparedStatement).setString(2, "10");
+        verify(preparedStatement, never()).setString(1, "hnsw.ef_search");
+        verify(connection).setAutoCommit(false);
+        verify(connection).rollback();
+        verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void should_search_all_requests_with_a_single_query() throws SQLException {
+        PgVectorEmbeddingStore embeddingStore = PgVectorEmbeddingStore.datasourceBuilder()
+                .datasource(dataSource)
+                .table("embeddings")
+                .dimension(3)
+                .build();
+
+        List<EmbeddingSearchResult<TextSegment>> results = embeddingStore.searchAll(asList(
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[]{0.1f, 0.2f, 0.3f}))
+                        .maxResults(5)
+                        .minScore(0.7)
+                        .build(),
+                EmbeddingSearchRequest.builder()
+                        .queryEmbedding(Embedding.from(new float[]{0.3f, 0.2f, 0.1f}))
+                        .maxResults(2)
+                        .minScore(0.1)
+                        .build()));
+
+        assertThat(results).hasSize(2);
+        String searchQuery = "SELECT (2 - distance) / 2 AS score, nearest.* FROM (" +
+                "SELECT embedding <=> ? AS distance, embedding_id, embedding, text, metadata FROM embeddings " +
+                "ORDER BY distance LIMIT ?) AS nearest " +
+                "WHERE (2 - distance) / 2 >= ? ORDER BY distance";
+        assertThat(preparedQueries).containsExactly(
+                "SELECT 0 AS query_index, q0.* FROM (" + searchQuery + ") AS q0 UNION ALL " +
+                        "SELECT 1 AS query_index, q1.* FROM (" + searchQuery + ") AS q1 " +
+                        "ORDER BY query_index, distance");
+        verify(preparedStatement).setObject(eq(1), any(PGvector.class));
+        verify(preparedStatement).setInt(2, 5);
+        verify(preparedStatement).setDouble(3, 0.7);
+        verify(preparedStatement).setObject(eq(4), any(PGvector.class));
+        verify(preparedStatement).setInt(5, 2);
+        verify(preparedStatement).setDouble(6, 0.1);
+    }
+}
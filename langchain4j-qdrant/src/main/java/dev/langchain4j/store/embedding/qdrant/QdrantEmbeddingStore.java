@@ -11,17 +11,22 @@ import static java.util.Comparator.comparingDouble;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.AsyncEmbeddingStore;
 import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import io.qdrant.client.QdrantClient;
 import io.qdrant.client.QdrantGrpcClient;
 import io.qdrant.client.WithVectorsSelectorFactory;
 import io.qdrant.client.grpc.JsonWithInt.Value;
+import io.qdrant.client.grpc.Points.BatchResult;
 import io.qdrant.client.grpc.Points.DeletePoints;
 import io.qdrant.client.grpc.Points.Filter;
 import io.qdrant.client.grpc.Points.PointStruct;
@@ -34,14 +39,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
 
 /**
  * Represents a <a href="https://qdrant.tech/">Qdrant</a> collection as an embedding store. With
  * support for storing {@link dev.langchain4j.data.document.Metadata}.
+ *
+ * <p>The {@link AsyncEmbeddingStore} methods use the non-blocking GRPC client directly, without
+ * blocking a thread per request.
  */
-public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
+public class QdrantEmbeddingStore
+    implements EmbeddingStore<TextSegment>, AsyncEmbeddingStore<TextSegment> {
 
   private final QdrantClient client;
   private final String payloadTextKey;
@@ -124,6 +134,45 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     return ids;
   }
 
+  @Override
+  public void addAll(List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+    addAllInternal(ids, embeddings, textSegments);
+  }
+
+  @Override
+  public CompletableFuture<List<String>> addAllAsync(List<Embedding> embeddings) {
+    return addAllAsync(embeddings, null);
+  }
+
+  @Override
+  public CompletableFuture<List<String>> addAllAsync(
+      List<Embedding> embeddings, List<TextSegment> textSegments) {
+    try {
+      List<String> ids = embeddings.stream().map(ignored -> randomUUID()).collect(toList());
+      return toCompletableFuture(
+              client.upsertAsync(collectionName, toPoints(ids, embeddings, textSegments)))
+          .thenApply(ignored -> ids);
+    } catch (RuntimeException e) {
+      return AsyncEmbeddingStore.failedFuture(e);
+    }
+  }
+
+  @Override
+  public CompletableFuture<EmbeddingSearchResult<TextSegment>> searchAsync(
+      EmbeddingSearchRequest request) {
+    try {
+      Embedding referenceEmbedding = request.queryEmbedding();
+      return toCompletableFuture(
+              client.searchAsync(toSearchPoints(referenceEmbedding, request.maxResults())))
+          .thenApply(
+              results ->
+                  new EmbeddingSearchResult<>(
+                      toEmbeddingMatches(results, referenceEmbedding, request.minScore())));
+    } catch (RuntimeException e) {
+      return AsyncEmbeddingStore.failedFuture(e);
+    }
+  }
+
   private void addInternal(String id, Embedding embedding, TextSegment textSegment) {
     addAllInternal(
         singletonList(id),
@@ -134,6 +183,18 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
   private void addAllInternal(
       List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
 
+    List<PointStruct> points = toPoints(ids, embeddings, textSegments);
+
+    try {
+      client.upsertAsync(collectionName, points).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private List<PointStruct> toPoints(
+      List<String> ids, List<Embedding> embeddings, List<TextSegment> textSegments) {
+
     List<PointStruct> points = new ArrayList<>(embeddings.size());
 
     for (int i = 0; i < embeddings.size(); i++) {
@@ -157,25 +218,14 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       points.add(pointBuilder.build());
     }
 
-    try {
-      client.upsertAsync(collectionName, points).get();
-    } catch (InterruptedException | ExecutionException e) {
-      throw new RuntimeException(e);
-    }
+    return points;
   }
 
   @Override
   public List<EmbeddingMatch<TextSegment>> findRelevant(
       Embedding referenceEmbedding, int maxResults, double minScore) {
 
-    SearchPoints search =
-        SearchPoints.newBuilder()
-            .setCollectionName(collectionName)
-            .addAllVector(referenceEmbedding.vectorAsList())
-            .setWithVectors(WithVectorsSelectorFactory.enable(true))
-            .setWithPayload(enable(true))
-            .setLimit(maxResults)
-            .build();
+    SearchPoints search = toSearchPoints(referenceEmbedding, maxResults);
 
     List<ScoredPoint> results;
 
@@ -185,6 +235,60 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
       throw new RuntimeException(e);
     }
 
+    return toEmbeddingMatches(results, referenceEmbedding, minScore);
+  }
+
+  /**
+   * Runs all the searches in a single batch request.
+   *
+   * @param requests The requests to search in the collection.
+   * @return A list of {@link EmbeddingSearchResult}s, in the same order as the requests.
+   */
+  @Override
+  public List<EmbeddingSearchResult<TextSegment>> searchAll(List<EmbeddingSearchRequest> requests) {
+    if (requests.isEmpty()) {
+      return emptyList();
+    }
+
+    List<SearchPoints> searches =
+        requests.stream()
+            .map(request -> toSearchPoints(request.queryEmbedding(), request.maxResults()))
+            .collect(toList());
+
+    List<BatchResult> batchResults;
+
+    try {
+      batchResults = client.searchBatchAsync(collectionName, searches, null).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+
+    List<EmbeddingSearchResult<TextSegment>> results = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      EmbeddingSearchRequest request = requests.get(i);
+      results.add(
+          new EmbeddingSearchResult<>(
+              toEmbeddingMatches(
+                  batchResults.get(i).getResultList(),
+                  request.queryEmbedding(),
+                  request.minScore())));
+    }
+    return results;
+  }
+
+  private SearchPoints toSearchPoints(Embedding referenceEmbedding, int maxResults) {
+    return SearchPoints.newBuilder()
+        .setCollectionName(collectionName)
+        .addAllVector(referenceEmbedding.vectorAsList())
+        .setWithVectors(WithVectorsSelectorFactory.enable(true))
+        .setWithPayload(enable(true))
+        .setLimit(maxResults)
+        .build();
+  }
+
+  private List<EmbeddingMatch<TextSegment>> toEmbeddingMatches(
+      List<ScoredPoint> results, Embedding referenceEmbedding, double minScore) {
+
     if (results.isEmpty()) {
       return emptyList();
     }
@@ -220,6 +324,22 @@ public class QdrantEmbeddingStore implements EmbeddingStore<TextSegment> {
     }
   }
 
+  private static <T> CompletableFuture<T> toCompletableFuture(ListenableFuture<T> future) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    future.addListener(
+        () -> {
+          try {
+            result.complete(future.get());
+          } catch (ExecutionException e) {
+            result.completeExceptionally(e.getCause());
+          } catch (Exception e) {
+            result.completeExceptionally(e);
+          }
+        },
+        Runnable::run);
+    return result;
+  }
+
   /** Closes the underlying GRPC client. */
   public void close() {
     client.close();
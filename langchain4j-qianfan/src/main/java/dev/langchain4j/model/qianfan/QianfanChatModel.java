@@ -142,7 +142,7 @@ public class QianfanChatModel implements ChatLanguageModel {
             ChatCompletionRequest param = builder.build();
 
 
-           ChatCompletionResponse response = withRetry(() -> client.chatCompletion(param, endpoint).execute(), maxRetries);
+           ChatCompletionResponse response = withRetry(() -> client.chatCompletion(param, endpoint).execute(), maxRetries, baseUrl);
 
 
           return  Response.from(aiMessageFrom(response),
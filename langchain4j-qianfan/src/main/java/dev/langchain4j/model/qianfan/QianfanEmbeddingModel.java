@@ -88,7 +88,7 @@ public class QianfanEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .user(user)
                 .build();
 
-        EmbeddingResponse response = withRetry(() -> client.embedding(request, endpoint).execute(), maxRetries);
+        EmbeddingResponse response = withRetry(() -> client.embedding(request, endpoint).execute(), maxRetries, baseUrl);
 
         List<Embedding> embeddings = response.data().stream()
                 .map(openAiEmbedding -> Embedding.from(openAiEmbedding.embedding()))
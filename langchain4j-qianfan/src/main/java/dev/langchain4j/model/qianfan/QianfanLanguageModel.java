@@ -97,7 +97,7 @@ public class QianfanLanguageModel implements LanguageModel {
                 .build();
 
 
-        CompletionResponse response = withRetry(() -> client.completion(request,false,endpoint).execute(), maxRetries);
+        CompletionResponse response = withRetry(() -> client.completion(request,false,endpoint).execute(), maxRetries, baseUrl);
 
         return Response.from(
                 response.getResult(),
@@ -1,10 +1,18 @@
 package dev.langchain4j.model.qianfan.client;
 
-public class QianfanHttpException extends RuntimeException {
+import dev.langchain4j.internal.HttpException;
+
+import java.time.Duration;
+
+public class QianfanHttpException extends HttpException {
     private final int code;
 
     public QianfanHttpException(int code, String message) {
-        super(message);
+        this(code, message, null);
+    }
+
+    public QianfanHttpException(int code, String message, Duration retryAfter) {
+        super(code, message, retryAfter);
         this.code = code;
     }
 
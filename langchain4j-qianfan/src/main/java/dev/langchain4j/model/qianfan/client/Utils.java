@@ -3,15 +3,19 @@ package dev.langchain4j.model.qianfan.client;
 import retrofit2.Response;
 import java.io.IOException;
 
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
+
 public class Utils {
     Utils() {
     }
 
     static RuntimeException toException(Response<?> response) throws IOException {
-        return new QianfanHttpException(response.code(), response.errorBody().string());
+        return new QianfanHttpException(response.code(), response.errorBody().string(),
+                parseRetryAfter(response.headers().get("Retry-After")));
     }
 
     static RuntimeException toException(okhttp3.Response response) throws IOException {
-        return new QianfanHttpException(response.code(), response.body().string());
+        return new QianfanHttpException(response.code(), response.body().string(),
+                parseRetryAfter(response.header("Retry-After")));
     }
 }
\ No newline at end of file
@@ -3,16 +3,38 @@ package dev.langchain4j.store.memory.chat.redis;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ChatMessageDeserializer;
 import dev.langchain4j.data.message.ChatMessageSerializer;
-import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import lombok.Builder;
 import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.exceptions.JedisDataException;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static dev.langchain4j.internal.ValidationUtils.*;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
-public class RedisChatMemoryStore implements ChatMemoryStore {
+/**
+ * Stores the messages of each chat memory in a Redis list, one JSON-serialized message per element.
+ * <br>
+ * New messages are appended with {@code RPUSH} and evicted messages are removed with {@code LTRIM},
+ * so adding a message to a chat memory does not rewrite the whole conversation.
+ * <br>
+ * Chat memories stored as a single JSON string (by previous versions) are converted to a list on first read.
+ */
+public class RedisChatMemoryStore implements AppendableChatMemoryStore {
+
+    private static final String UPDATE_MESSAGES_SCRIPT =
+            "redis.call('DEL', KEYS[1]) " +
+                    "for i = 1, #ARGV do redis.call('RPUSH', KEYS[1], ARGV[i]) end";
+
+    private static final String EVICT_MESSAGES_SCRIPT =
+            "local fromIndex = tonumber(ARGV[1]) " +
+                    "local head = {} " +
+                    "if fromIndex > 0 then head = redis.call('LRANGE', KEYS[1], 0, fromIndex - 1) end " +
+                    "redis.call('LTRIM', KEYS[1], fromIndex + tonumber(ARGV[2]), -1) " +
+                    "for i = #head, 1, -1 do redis.call('LPUSH', KEYS[1], head[i]) end";
 
     private final JedisPooled client;
 
@@ -34,17 +56,39 @@ public class RedisChatMemoryStore implements ChatMemoryStore {
 
     @Override
     public List<ChatMessage> getMessages(Object memoryId) {
-        String json = client.get(toMemoryIdString(memoryId));
-        return json == null ? new ArrayList<>() : ChatMessageDeserializer.messagesFromJson(json);
+        String key = toMemoryIdString(memoryId);
+        List<String> jsons;
+        try {
+            jsons = client.lrange(key, 0, -1);
+        } catch (JedisDataException e) {
+            return migrateMessages(key, e);
+        }
+        List<ChatMessage> messages = new ArrayList<>(jsons.size());
+        for (String json : jsons) {
+            messages.add(ChatMessageDeserializer.messageFromJson(json));
+        }
+        return messages;
     }
 
     @Override
     public void updateMessages(Object memoryId, List<ChatMessage> messages) {
-        String json = ChatMessageSerializer.messagesToJson(ensureNotEmpty(messages, "messages"));
-        String res = client.set(toMemoryIdString(memoryId), json);
-        if (!"OK".equals(res)) {
-            throw new RedisChatMemoryStoreException("Set memory error, msg=" + res);
-        }
+        String key = toMemoryIdString(memoryId);
+        client.eval(UPDATE_MESSAGES_SCRIPT, singletonList(key), toJsons(ensureNotEmpty(messages, "messages")));
+    }
+
+    @Override
+    public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+        String key = toMemoryIdString(memoryId);
+        List<String> jsons = toJsons(ensureNotEmpty(messages, "messages"));
+        client.rpush(key, jsons.toArray(new String[0]));
+    }
+
+    @Override
+    public void evictMessages(Object memoryId, int fromIndex, int count) {
+        String key = toMemoryIdString(memoryId);
+        ensureBetween(fromIndex, 0, Integer.MAX_VALUE, "fromIndex");
+        ensureGreaterThanZero(count, "count");
+        client.eval(EVICT_MESSAGES_SCRIPT, singletonList(key), asList(String.valueOf(fromIndex), String.valueOf(count)));
     }
 
     @Override
@@ -52,6 +96,34 @@ public class RedisChatMemoryStore implements ChatMemoryStore {
         client.del(toMemoryIdString(memoryId));
     }
 
+    /**
+     * Converts a chat memory stored as a single JSON string into a list.
+     */
+    private List<ChatMessage> migrateMessages(String key, JedisDataException listException) {
+        String json;
+        try {
+            json = client.get(key);
+        } catch (JedisDataException e) {
+            throw listException;
+        }
+        if (json == null) {
+            return new ArrayList<>();
+        }
+        List<ChatMessage> messages = ChatMessageDeserializer.messagesFromJson(json);
+        if (!messages.isEmpty()) {
+            updateMessages(key, messages);
+        }
+        return messages;
+    }
+
+    private static List<String> toJsons(List<ChatMessage> messages) {
+        List<String> jsons = new ArrayList<>(messages.size());
+        for (ChatMessage message : messages) {
+            jsons.add(ChatMessageSerializer.messageToJson(message));
+        }
+        return jsons;
+    }
+
     private static String toMemoryIdString(Object memoryId) {
         boolean isNullOrEmpty = memoryId == null || memoryId.toString().trim().isEmpty();
         if (isNullOrEmpty) {
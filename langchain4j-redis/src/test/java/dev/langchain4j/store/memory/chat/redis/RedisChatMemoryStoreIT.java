@@ -16,6 +16,7 @@ import java.util.List;
 
 import static com.redis.testcontainers.RedisStackContainer.DEFAULT_IMAGE_NAME;
 import static com.redis.testcontainers.RedisStackContainer.DEFAULT_TAG;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -83,6 +84,34 @@ class RedisChatMemoryStoreIT {
         assertThat(messages).isEmpty();
     }
 
+    @Test
+    void should_append_and_evict_messages() {
+        // given
+        SystemMessage systemMessage = new SystemMessage("You are a large language model working with Langchain4j");
+        UserMessage userMessage1 = new UserMessage("first");
+        UserMessage userMessage2 = new UserMessage("second");
+        UserMessage userMessage3 = new UserMessage("third");
+        memoryStore.updateMessages(userId, asList(systemMessage, userMessage1));
+
+        // when
+        memoryStore.appendMessages(userId, asList(userMessage2, userMessage3));
+
+        // then
+        assertThat(memoryStore.getMessages(userId)).containsExactly(systemMessage, userMessage1, userMessage2, userMessage3);
+
+        // when
+        memoryStore.evictMessages(userId, 1, 2);
+
+        // then
+        assertThat(memoryStore.getMessages(userId)).containsExactly(systemMessage, userMessage3);
+
+        // when
+        memoryStore.evictMessages(userId, 0, 1);
+
+        // then
+        assertThat(memoryStore.getMessages(userId)).containsExactly(userMessage3);
+    }
+
     @Test
     void getMessages_memoryId_null() {
         assertThatThrownBy(() -> memoryStore.getMessages(null))
@@ -46,6 +46,7 @@ public class ZhipuAiChatModel implements ChatLanguageModel {
     private final Integer maxToken;
     private final List<String> stops;
     private final ZhipuAiClient client;
+    private final String baseUrl;
     private final List<ChatModelListener> listeners;
 
     @Builder
@@ -73,8 +74,9 @@ public class ZhipuAiChatModel implements ChatLanguageModel {
         this.maxRetries = getOrDefault(maxRetries, 3);
         this.maxToken = getOrDefault(maxToken, 512);
         this.listeners = listeners == null ? emptyList() : new ArrayList<>(listeners);
+        this.baseUrl = getOrDefault(baseUrl, "https://open.bigmodel.cn/");
         this.client = ZhipuAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://open.bigmodel.cn/"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .callTimeout(callTimeout)
                 .connectTimeout(connectTimeout)
@@ -127,7 +129,7 @@ public class ZhipuAiChatModel implements ChatLanguageModel {
             }
         }
 
-        ChatCompletionResponse response = withRetry(() -> client.chatCompletion(request), maxRetries);
+        ChatCompletionResponse response = withRetry(() -> client.chatCompletion(request), maxRetries, baseUrl);
 
         FinishReason finishReason = finishReasonFrom(response.getChoices().get(0).getFinishReason());
 
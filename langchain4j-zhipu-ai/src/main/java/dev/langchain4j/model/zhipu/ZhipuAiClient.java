@@ -2,6 +2,7 @@ package dev.langchain4j.model.zhipu;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.internal.HttpException;
 import dev.langchain4j.internal.Utils;
 import dev.langchain4j.model.StreamingResponseHandler;
 import dev.langchain4j.model.chat.listener.*;
@@ -30,6 +31,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
 
+import static dev.langchain4j.internal.RetryUtils.parseRetryAfter;
 import static dev.langchain4j.internal.Utils.isNullOrEmpty;
 import static dev.langchain4j.model.zhipu.DefaultZhipuAiHelper.*;
 import static dev.langchain4j.model.zhipu.Json.OBJECT_MAPPER;
@@ -247,7 +249,7 @@ public class ZhipuAiClient {
                     String errorBodyString = errorBody.string();
                     String errorMessage = String.format("status code: %s; body: %s", code, errorBodyString);
                     log.error("Error response: {}", errorMessage);
-                    return new RuntimeException(errorMessage);
+                    return new HttpException(code, errorMessage, parseRetryAfter(retrofitResponse.headers().get("Retry-After")));
                 }
             }
         }
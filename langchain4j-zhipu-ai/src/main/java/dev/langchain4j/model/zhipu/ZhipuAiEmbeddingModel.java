@@ -28,6 +28,7 @@ public class ZhipuAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Integer maxRetries;
     private final String model;
     private final ZhipuAiClient client;
+    private final String baseUrl;
     private final Integer dimensions;
 
     @Builder
@@ -47,8 +48,9 @@ public class ZhipuAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.model = getOrDefault(model, EMBEDDING_2.toString());
         this.dimensions = dimensions;
         this.maxRetries = getOrDefault(maxRetries, 3);
+        this.baseUrl = getOrDefault(baseUrl, "https://open.bigmodel.cn/");
         this.client = ZhipuAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://open.bigmodel.cn/"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .callTimeout(callTimeout)
                 .connectTimeout(connectTimeout)
@@ -76,7 +78,7 @@ public class ZhipuAiEmbeddingModel extends DimensionAwareEmbeddingModel {
                         .dimensions(this.dimensions)
                         .build()
                 )
-                .map(request -> withRetry(() -> client.embedAll(request), maxRetries))
+                .map(request -> withRetry(() -> client.embedAll(request), maxRetries, baseUrl))
                 .collect(toList());
 
         Usage usage = getEmbeddingUsage(embeddingRequests);
@@ -19,6 +19,7 @@ public class ZhipuAiImageModel implements ImageModel {
     private final String userId;
     private final Integer maxRetries;
     private final ZhipuAiClient client;
+    private final String baseUrl;
 
     /**
      * Instantiates ZhipuAi cogview-3 image processing model.
@@ -46,8 +47,9 @@ public class ZhipuAiImageModel implements ImageModel {
         this.model = getOrDefault(model, ImageModelName.COGVIEW_3.toString());
         this.maxRetries = getOrDefault(maxRetries, 3);
         this.userId = userId;
+        this.baseUrl = getOrDefault(baseUrl, "https://open.bigmodel.cn/");
         this.client = ZhipuAiClient.builder()
-                .baseUrl(getOrDefault(baseUrl, "https://open.bigmodel.cn/"))
+                .baseUrl(this.baseUrl)
                 .apiKey(apiKey)
                 .callTimeout(callTimeout)
                 .connectTimeout(connectTimeout)
@@ -65,7 +67,7 @@ public class ZhipuAiImageModel implements ImageModel {
                 .userId(this.userId)
                 .model(this.model)
                 .build();
-        ImageResponse response = withRetry(() -> client.imagesGeneration(request), maxRetries);
+        ImageResponse response = withRetry(() -> client.imagesGeneration(request), maxRetries, baseUrl);
         if (response == null) {
             return Response.from(Image.builder().build());
         }
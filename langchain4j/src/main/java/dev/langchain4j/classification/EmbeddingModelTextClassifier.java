@@ -96,12 +96,15 @@ public class EmbeddingModelTextClassifier<E extends Enum<E>> implements TextClas
         this.embeddingModel = ensureNotNull(embeddingModel, "embeddingModel");
         ensureNotNull(examplesByLabel, "examplesByLabel");
 
+        // example embeddings are normalized once here, so that classification only needs dot products
         this.exampleEmbeddingsByLabel = new HashMap<>();
         examplesByLabel.forEach((label, examples) ->
                 exampleEmbeddingsByLabel.put(label, embeddingModel.embedAll(
                     examples.stream()
                         .map(TextSegment::from)
-                        .collect(toList())).content()
+                        .collect(toList())).content().stream()
+                        .map(EmbeddingModelTextClassifier::normalized)
+                        .collect(toList())
                 )
         );
 
@@ -113,7 +116,7 @@ public class EmbeddingModelTextClassifier<E extends Enum<E>> implements TextClas
     @Override
     public List<E> classify(String text) {
 
-        Embedding textEmbedding = embeddingModel.embed(text).content();
+        Embedding textEmbedding = normalized(embeddingModel.embed(text).content());
 
         List<LabelWithScore> labelsWithScores = new ArrayList<>();
         exampleEmbeddingsByLabel.forEach((label, exampleEmbeddings) -> {
@@ -121,7 +124,7 @@ public class EmbeddingModelTextClassifier<E extends Enum<E>> implements TextClas
             double meanScore = 0;
             double maxScore = 0;
             for (Embedding exampleEmbedding : exampleEmbeddings) {
-                double cosineSimilarity = CosineSimilarity.between(textEmbedding, exampleEmbedding);
+                double cosineSimilarity = CosineSimilarity.betweenNormalized(textEmbedding, exampleEmbedding);
                 double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
                 meanScore += score;
                 maxScore = Math.max(score, maxScore);
@@ -140,6 +143,12 @@ public class EmbeddingModelTextClassifier<E extends Enum<E>> implements TextClas
                 .collect(toList());
     }
 
+    private static Embedding normalized(Embedding embedding) {
+        Embedding normalized = Embedding.from(embedding.vector().clone());
+        normalized.normalize();
+        return normalized;
+    }
+
     private double aggregatedScore(double meanScore, double maxScore) {
         return (meanToMaxScoreRatio * meanScore) + ((1 - meanToMaxScoreRatio) * maxScore);
     }
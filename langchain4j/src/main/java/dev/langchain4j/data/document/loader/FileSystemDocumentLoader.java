@@ -14,9 +14,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 import static dev.langchain4j.data.document.source.FileSystemSource.from;
@@ -25,6 +25,7 @@ import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
+import static java.util.stream.Collectors.toList;
 
 public class FileSystemDocumentLoader {
 
@@ -469,13 +470,127 @@ public class FileSystemDocumentLoader {
         return loadDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
     }
 
+    /**
+     * Recursively and lazily loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * Unlike {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)}, the directory tree is walked
+     * and each file is read and parsed only when the returned {@link Stream} reaches it.
+     * This allows processing (e.g., ingesting with {@code EmbeddingStoreIngestor.ingest(Stream)})
+     * directory trees that do not fit into memory.
+     * <br>
+     * The returned {@code Stream} must be closed (e.g., using try-with-resources) to release the directory handles.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser}.
+     * <br>
+     * Skips any {@code Document}s that fail to load.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param pathMatcher    Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                       See {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath,
+                                                              PathMatcher pathMatcher,
+                                                              DocumentParser documentParser) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        try {
+            return documents(Files.walk(directoryPath), pathMatcher, directoryPath, documentParser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Recursively and lazily loads matching {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @param pathMatcher   Only files whose paths match the provided {@link PathMatcher} will be loaded.
+     *                      See {@link #loadDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, PathMatcher pathMatcher) {
+        return streamDocumentsRecursively(directoryPath, pathMatcher, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Recursively and lazily loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the specified {@link DocumentParser}.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     *
+     * @param directoryPath  The path to the directory with files.
+     * @param documentParser The parser to be used for parsing text from each file.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath, DocumentParser documentParser) {
+        return streamDocumentsRecursively(directoryPath, (path) -> true, documentParser);
+    }
+
+    /**
+     * Recursively and lazily loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(Path directoryPath) {
+        return streamDocumentsRecursively(directoryPath, DEFAULT_DOCUMENT_PARSER);
+    }
+
+    /**
+     * Recursively and lazily loads {@link Document}s from the specified directory and its subdirectories.
+     * <br>
+     * The files are parsed using the default {@link DocumentParser}.
+     * The default {@code DocumentParser} is loaded through SPI (see {@link DocumentParserFactory}).
+     * If no {@code DocumentParserFactory} is available in the classpath, a {@link TextDocumentParser} is used.
+     * <br>
+     * See {@link #streamDocumentsRecursively(Path, PathMatcher, DocumentParser)} for details.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return stream of documents
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public static Stream<Document> streamDocumentsRecursively(String directoryPath) {
+        return streamDocumentsRecursively(Paths.get(directoryPath));
+    }
+
     private static List<Document> loadDocuments(Stream<Path> pathStream,
                                                 PathMatcher pathMatcher,
                                                 Path pathMatcherRoot,
                                                 DocumentParser documentParser) {
-        List<Document> documents = new ArrayList<>();
+        return documents(pathStream, pathMatcher, pathMatcherRoot, documentParser).collect(toList());
+    }
 
-        pathStream
+    /**
+     * Lazily loads documents from the files of the {@code pathStream}:
+     * each file is read and parsed only when the returned stream reaches it.
+     * Closing the returned stream closes the {@code pathStream}.
+     */
+    private static Stream<Document> documents(Stream<Path> pathStream,
+                                              PathMatcher pathMatcher,
+                                              Path pathMatcherRoot,
+                                              DocumentParser documentParser) {
+        return pathStream
                 .filter(Files::isRegularFile)
                 // converting absolute path into relative before using pathMatcher
                 // because patterns defined in pathMatcher are relative to pathMatcherRoot (directoryPath)
@@ -483,19 +598,20 @@ public class FileSystemDocumentLoader {
                 .filter(pathMatcher::matches)
                 // converting relative path back into absolute before loading document
                 .map(pathMatcherRoot::resolve)
-                .forEach(file -> {
-                    try {
-                        Document document = loadDocument(file, documentParser);
-                        documents.add(document);
-                    } catch (BlankDocumentException ignored) {
-                        // blank/empty documents are ignored
-                    } catch (Exception e) {
-                        String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
-                        log.warn("Failed to load '{}': {}", file, message);
-                    }
-                });
-
-        return documents;
+                .map(file -> loadDocumentOrNull(file, documentParser))
+                .filter(Objects::nonNull);
+    }
+
+    private static Document loadDocumentOrNull(Path file, DocumentParser documentParser) {
+        try {
+            return loadDocument(file, documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+        }
+        return null;
     }
 
     private static DocumentParser loadDocumentParser() {
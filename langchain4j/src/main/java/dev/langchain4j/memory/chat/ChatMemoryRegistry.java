@@ -0,0 +1,431 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Comparator.comparingLong;
+
+/**
+ * Holds the {@link ChatMemory} instances of an AI Service, one per memory ID.
+ * <br>
+ * By default, the registry is unbounded and holds every {@link ChatMemory} it has ever created.
+ * To limit the number of {@link ChatMemory} instances kept on the heap when there are many users/conversations,
+ * the registry can evict them:
+ * <ul>
+ *     <li>{@code maxSize}: when the registry is full, the least recently used {@link ChatMemory} instances are evicted,
+ *     an eighth of {@code maxSize} at a time.</li>
+ *     <li>{@code idleTimeout}: a {@link ChatMemory} that was not used for longer is evicted.</li>
+ *     <li>{@code softReferences}: {@link ChatMemory} instances are softly referenced,
+ *     so that they can be evicted by the garbage collector when the heap is running out.</li>
+ * </ul>
+ * An evicted {@link ChatMemory} is simply forgotten; its messages stay in its {@link ChatMemoryStore}.
+ * When the same memory ID is used again, a new {@link ChatMemory} is obtained from the {@link ChatMemoryProvider}
+ * and continues the conversation from the store.
+ * Therefore, eviction should be enabled only if the provided {@link ChatMemory} instances use a shared
+ * (usually persistent) {@link ChatMemoryStore}. Otherwise, the conversation history is lost on eviction.
+ * <br>
+ * This class is thread-safe. {@link ChatMemory} instances of different memory IDs are obtained concurrently,
+ * and evictions are done in batches, by a single thread at a time, so that callers never wait for each other.
+ */
+public class ChatMemoryRegistry {
+
+    private final Integer maxSize;
+    private final Long idleTimeoutNanos;
+    private final boolean softReferences;
+
+    private final ConcurrentHashMap<Object, Entry> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<ChatMemory> clearedReferences = new ReferenceQueue<>();
+    private final AtomicLong accessCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private volatile long nextIdleSweepNanos;
+    private final Map<Object, ChatMemory> mapView = new MapView();
+
+    /**
+     * Creates an unbounded registry that never evicts {@link ChatMemory} instances.
+     */
+    public ChatMemoryRegistry() {
+        this(null, null, null);
+    }
+
+    /**
+     * Creates a new registry.
+     *
+     * @param maxSize        The maximum number of {@link ChatMemory} instances to hold. Default value: unlimited.
+     * @param idleTimeout    The time after which a {@link ChatMemory} that was not used is evicted. Optional.
+     * @param softReferences Whether to hold {@link ChatMemory} instances via {@link SoftReference}s.
+     *                       Default value: false.
+     */
+    public ChatMemoryRegistry(Integer maxSize, Duration idleTimeout, Boolean softReferences) {
+        this.maxSize = maxSize == null ? null : ensureGreaterThanZero(maxSize, "maxSize");
+        this.idleTimeoutNanos = idleTimeout == null ? null : idleTimeout.toNanos();
+        this.softReferences = getOrDefault(softReferences, false);
+        this.nextIdleSweepNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the {@link ChatMemory} of the specified memory ID,
+     * obtaining a new one from the {@link ChatMemoryProvider} if there is none.
+     * <br>
+     * The provider is called at most once per memory ID, even when the same memory ID is used concurrently.
+     *
+     * @param memoryId The ID of the chat memory.
+     * @param provider The provider of a new {@link ChatMemory}.
+     * @return the {@link ChatMemory}.
+     */
+    public ChatMemory getOrCreate(Object memoryId, ChatMemoryProvider provider) {
+        ensureNotNull(provider, "chatMemoryProvider");
+        while (true) {
+            ChatMemory chatMemory = get(memoryId);
+            if (chatMemory != null) {
+                return chatMemory;
+            }
+            boolean[] created = {false};
+            Entry entry = entries.computeIfAbsent(memoryId, id -> {
+                created[0] = true;
+                Entry newEntry = newEntry(id, ensureNotNull(provider.get(id), "chatMemory"));
+                newEntry.touch(System.nanoTime());
+                return newEntry;
+            });
+            chatMemory = entry.chatMemory();
+            if (chatMemory != null) {
+                entry.touch(System.nanoTime());
+                if (created[0]) {
+                    evictIfNeeded(false);
+                }
+                return chatMemory;
+            }
+            // the new soft reference has already been cleared, or another thread holds a stale entry
+            evict(entry);
+        }
+    }
+
+    /**
+     * @param memoryId The ID of the chat memory.
+     * @return the {@link ChatMemory} of the specified memory ID, or {@code null} if there is none.
+     */
+    public ChatMemory get(Object memoryId) {
+        evictIfNeeded(false);
+        Entry entry = entries.get(memoryId);
+        if (entry == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        ChatMemory chatMemory = entry.chatMemory();
+        if (chatMemory == null || isIdle(entry, now)) {
+            evict(entry);
+            return null;
+        }
+        entry.touch(now);
+        return chatMemory;
+    }
+
+    /**
+     * Registers a {@link ChatMemory} for the specified memory ID, replacing the existing one, if any.
+     *
+     * @param memoryId   The ID of the chat memory.
+     * @param chatMemory The {@link ChatMemory}.
+     */
+    public void put(Object memoryId, ChatMemory chatMemory) {
+        ensureNotNull(chatMemory, "chatMemory");
+        Entry entry = newEntry(memoryId, chatMemory);
+        entry.touch(System.nanoTime());
+        entries.put(memoryId, entry);
+        evictIfNeeded(false);
+    }
+
+    /**
+     * Removes the {@link ChatMemory} of the specified memory ID from the registry.
+     * Its messages stay in its {@link ChatMemoryStore}.
+     *
+     * @param memoryId The ID of the chat memory.
+     */
+    public void remove(Object memoryId) {
+        entries.remove(memoryId);
+    }
+
+    /**
+     * Returns a live {@link Map} view of this registry.
+     * Reads, writes and removals go through the registry, so they are subject to the same eviction rules.
+     * {@link Map#computeIfAbsent} is atomic and calls the mapping function at most once per memory ID,
+     * like {@link #getOrCreate}.
+     *
+     * @return the {@link Map} view.
+     */
+    public Map<Object, ChatMemory> asMap() {
+        return mapView;
+    }
+
+    /**
+     * @return the number of {@link ChatMemory} instances currently held.
+     */
+    public int size() {
+        evictIfNeeded(true);
+        return entries.size();
+    }
+
+    /**
+     * @return the number of {@link ChatMemory} instances evicted so far
+     * (because the registry was full, they were idle, or they were reclaimed by the garbage collector).
+     */
+    public long evictionCount() {
+        evictIfNeeded(true);
+        return evictionCount.get();
+    }
+
+    private Entry newEntry(Object memoryId, ChatMemory chatMemory) {
+        if (softReferences) {
+            SoftChatMemoryReference reference = new SoftChatMemoryReference(chatMemory, clearedReferences);
+            Entry entry = new Entry(memoryId, null, reference);
+            reference.entry = entry;
+            return entry;
+        }
+        return new Entry(memoryId, chatMemory, null);
+    }
+
+    private boolean isIdle(Entry entry, long now) {
+        return idleTimeoutNanos != null && now - entry.lastAccessNanos > idleTimeoutNanos;
+    }
+
+    private void evict(Entry entry) {
+        if (entries.remove(entry.memoryId, entry)) {
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Evicts the entries reclaimed by the garbage collector, the idle ones and the least recently used ones.
+     * Idle entries are looked for at most twice per idle timeout (unless {@code force} is set),
+     * and when the registry is full, the least recently used entries are evicted
+     * so that an eighth of {@code maxSize} is available, which amortizes the cost of finding them.
+     * If another thread is already evicting, this method returns immediately.
+     */
+    private void evictIfNeeded(boolean force) {
+        long now = System.nanoTime();
+        boolean sweepIdle = idleTimeoutNanos != null && (force || now - nextIdleSweepNanos >= 0);
+        boolean full = maxSize != null && entries.size() > maxSize;
+        if (!sweepIdle && !full && !softReferences) {
+            return;
+        }
+        if (force) {
+            evictionLock.lock();
+        } else if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Object clearedReference;
+            while ((clearedReference = clearedReferences.poll()) != null) {
+                evict(((SoftChatMemoryReference) clearedReference).entry);
+            }
+            if (sweepIdle) {
+                nextIdleSweepNanos = now + idleTimeoutNanos / 2;
+                for (Entry entry : entries.values()) {
+                    if (isIdle(entry, now)) {
+                        evict(entry);
+                    }
+                }
+            }
+            if (maxSize != null && entries.size() > maxSize) {
+                List<Entry> leastRecentlyUsed = new ArrayList<>(entries.values());
+                leastRecentlyUsed.sort(comparingLong(entry -> entry.lastAccessOrder));
+                int toEvict = leastRecentlyUsed.size() - (maxSize - maxSize / 8);
+                for (int i = 0; i < toEvict && i < leastRecentlyUsed.size(); i++) {
+                    evict(leastRecentlyUsed.get(i));
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private class Entry {
+
+        private final Object memoryId;
+        private final ChatMemory chatMemory;
+        private final SoftChatMemoryReference softChatMemory;
+        private volatile long lastAccessNanos;
+        private volatile long lastAccessOrder;
+
+        private Entry(Object memoryId, ChatMemory chatMemory, SoftChatMemoryReference softChatMemory) {
+            this.memoryId = memoryId;
+            this.chatMemory = chatMemory;
+            this.softChatMemory = softChatMemory;
+        }
+
+        private ChatMemory chatMemory() {
+            return chatMemory != null ? chatMemory : softChatMemory.get();
+        }
+
+        private void touch(long now) {
+            lastAccessNanos = now;
+            lastAccessOrder = accessCount.incrementAndGet();
+        }
+    }
+
+    private class MapView extends AbstractMap<Object, ChatMemory> {
+
+        @Override
+        public ChatMemory get(Object memoryId) {
+            return ChatMemoryRegistry.this.get(memoryId);
+        }
+
+        @Override
+        public boolean containsKey(Object memoryId) {
+            return ChatMemoryRegistry.this.get(memoryId) != null;
+        }
+
+        @Override
+        public ChatMemory put(Object memoryId, ChatMemory chatMemory) {
+            ChatMemory previous = ChatMemoryRegistry.this.get(memoryId);
+            ChatMemoryRegistry.this.put(memoryId, chatMemory);
+            return previous;
+        }
+
+        @Override
+        public ChatMemory remove(Object memoryId) {
+            ChatMemoryRegistry.Entry entry = entries.remove(memoryId);
+            return entry == null ? null : entry.chatMemory();
+        }
+
+        @Override
+        public ChatMemory computeIfAbsent(Object memoryId,
+                                          Function<? super Object, ? extends ChatMemory> mappingFunction) {
+            return getOrCreate(memoryId, mappingFunction::apply);
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+
+        @Override
+        public int size() {
+            return ChatMemoryRegistry.this.size();
+        }
+
+        @Override
+        public Set<Map.Entry<Object, ChatMemory>> entrySet() {
+            return new AbstractSet<Map.Entry<Object, ChatMemory>>() {
+
+                @Override
+                public Iterator<Map.Entry<Object, ChatMemory>> iterator() {
+                    Iterator<ChatMemoryRegistry.Entry> iterator = entries.values().iterator();
+                    return new Iterator<Map.Entry<Object, ChatMemory>>() {
+
+                        private Map.Entry<Object, ChatMemory> next;
+                        private Object lastMemoryId;
+
+                        @Override
+                        public boolean hasNext() {
+                            while (next == null && iterator.hasNext()) {
+                                ChatMemoryRegistry.Entry entry = iterator.next();
+                                ChatMemory chatMemory = entry.chatMemory();
+                                if (chatMemory != null) {
+                                    next = new SimpleImmutableEntry<>(entry.memoryId, chatMemory);
+                                }
+                            }
+                            return next != null;
+                        }
+
+                        @Override
+                        public Map.Entry<Object, ChatMemory> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Map.Entry<Object, ChatMemory> current = next;
+                            next = null;
+                            lastMemoryId = current.getKey();
+                            return current;
+                        }
+
+                        @Override
+                        public void remove() {
+                            if (lastMemoryId == null) {
+                                throw new IllegalStateException();
+                            }
+                            entries.remove(lastMemoryId);
+                            lastMemoryId = null;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return MapView.this.size();
+                }
+            };
+        }
+    }
+
+    private class SoftChatMemoryReference extends SoftReference<ChatMemory> {
+
+        private Entry entry;
+
+        private SoftChatMemoryReference(ChatMemory chatMemory, ReferenceQueue<ChatMemory> queue) {
+            super(chatMemory, queue);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSize;
+        private Duration idleTimeout;
+        private Boolean softReferences;
+
+        /**
+         * @param maxSize The maximum number of {@link ChatMemory} instances to hold.
+         *                When the registry is full, the least recently used {@link ChatMemory} instances are evicted.
+         * @return builder
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param idleTimeout The time after which a {@link ChatMemory} that was not used is evicted.
+         * @return builder
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+            return this;
+        }
+
+        /**
+         * @param softReferences Whether to hold {@link ChatMemory} instances via {@link SoftReference}s,
+         *                       so that the garbage collector can evict them when the heap is running out.
+         * @return builder
+         */
+        public Builder softReferences(Boolean softReferences) {
+            this.softReferences = softReferences;
+            return this;
+        }
+
+        public ChatMemoryRegistry build() {
+            return new ChatMemoryRegistry(maxSize, idleTimeout, softReferences);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+
+import java.util.List;
+
+class ChatMemoryStores {
+
+    private ChatMemoryStores() {
+    }
+
+    /**
+     * Writes the new state of a chat memory to the store.
+     * <br>
+     * If the store is an {@link AppendableChatMemoryStore}, only the difference is written:
+     * the previous messages that are no longer present are evicted and the new messages are appended.
+     * Otherwise, all messages are replaced with {@link ChatMemoryStore#updateMessages(Object, List)}.
+     *
+     * @param store            the store.
+     * @param memoryId         the ID of the chat memory.
+     * @param previousMessages the messages as they were retrieved from the store.
+     * @param messages         the new messages. Previous messages (in their original order),
+     *                         followed by the newly added messages.
+     */
+    static void updateMessages(ChatMemoryStore store,
+                               Object memoryId,
+                               List<ChatMessage> previousMessages,
+                               List<ChatMessage> messages) {
+
+        if (!(store instanceof AppendableChatMemoryStore)) {
+            store.updateMessages(memoryId, messages);
+            return;
+        }
+        AppendableChatMemoryStore appendableStore = (AppendableChatMemoryStore) store;
+
+        int retainedCount = 0;
+        int evictedCount = 0;
+        int evictFromIndex = -1;
+        int previousMessagesCount = previousMessages.size();
+        for (int i = 0; i < previousMessagesCount; i++) {
+            boolean retained = retainedCount < messages.size()
+                    && previousMessages.get(i).equals(messages.get(retainedCount));
+            if (retained) {
+                retainedCount++;
+                if (evictFromIndex >= 0) {
+                    appendableStore.evictMessages(memoryId, evictFromIndex - evictedCount, i - evictFromIndex);
+                    evictedCount += i - evictFromIndex;
+                    evictFromIndex = -1;
+                }
+            } else if (evictFromIndex < 0) {
+                evictFromIndex = i;
+            }
+        }
+        if (evictFromIndex >= 0) {
+            appendableStore.evictMessages(memoryId, evictFromIndex - evictedCount, previousMessagesCount - evictFromIndex);
+        }
+
+        if (retainedCount < messages.size()) {
+            appendableStore.appendMessages(memoryId, messages.subList(retainedCount, messages.size()));
+        }
+    }
+}
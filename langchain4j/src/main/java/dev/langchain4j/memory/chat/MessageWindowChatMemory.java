@@ -6,12 +6,13 @@ import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -34,6 +35,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link InMemoryChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only new and evicted messages are written to it.
  */
 public class MessageWindowChatMemory implements ChatMemory {
 
@@ -56,7 +58,8 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new ArrayList<>(storedMessages);
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> systemMessage = findSystemMessage(messages);
             if (systemMessage.isPresent()) {
@@ -69,7 +72,7 @@ public class MessageWindowChatMemory implements ChatMemory {
         }
         messages.add(message);
         ensureCapacity(messages, maxMessages);
-        store.updateMessages(id, messages);
+        ChatMemoryStores.updateMessages(store, id, storedMessages, messages);
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
@@ -81,7 +84,7 @@ public class MessageWindowChatMemory implements ChatMemory {
 
     @Override
     public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
+        List<ChatMessage> messages = new ArrayList<>(store.getMessages(id));
         ensureCapacity(messages, maxMessages);
         return messages;
     }
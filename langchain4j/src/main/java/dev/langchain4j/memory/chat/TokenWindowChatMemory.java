@@ -7,17 +7,22 @@ import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.singletonList;
 
 /**
  * This chat memory operates as a sliding window of {@link #maxTokens} tokens.
@@ -36,6 +41,16 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
  * that prohibit sending orphan {@code ToolExecutionResultMessage}(s) in the request.
  * <p>
  * The state of chat memory is stored in {@link ChatMemoryStore} ({@link InMemoryChatMemoryStore} is used by default).
+ * If the store is an {@link AppendableChatMemoryStore}, only new and evicted messages are written to it.
+ * <p>
+ * The token count of each message is estimated only once and then cached,
+ * so each turn only needs to tokenize the new messages.
+ * The total token count of the messages last written to the store is kept as well,
+ * so it does not need to be summed again when the store returns the same list
+ * (as {@link InMemoryChatMemoryStore} does).
+ * <p>
+ * This class is thread-safe: {@link #add(ChatMessage)}, {@link #messages()} and {@link #clear()}
+ * are synchronized on the instance, so concurrent calls do not lose messages.
  */
 public class TokenWindowChatMemory implements ChatMemory {
 
@@ -46,6 +61,11 @@ public class TokenWindowChatMemory implements ChatMemory {
     private final Tokenizer tokenizer;
     private final ChatMemoryStore store;
 
+    // guarded by this
+    private final Map<ChatMessage, Integer> tokenCounts = new HashMap<>();
+    private Integer extraTokenCount;
+    private Window lastWindow;
+
     private TokenWindowChatMemory(Builder builder) {
         this.id = ensureNotNull(builder.id, "id");
         this.maxTokens = ensureGreaterThanZero(builder.maxTokens, "maxTokens");
@@ -59,8 +79,10 @@ public class TokenWindowChatMemory implements ChatMemory {
     }
 
     @Override
-    public void add(ChatMessage message) {
-        List<ChatMessage> messages = messages();
+    public synchronized void add(ChatMessage message) {
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new ArrayList<>(storedMessages);
+        int currentTokenCount = tokenCount(storedMessages);
         if (message instanceof SystemMessage) {
             Optional<SystemMessage> maybeSystemMessage = findSystemMessage(messages);
             if (maybeSystemMessage.isPresent()) {
@@ -68,12 +90,20 @@ public class TokenWindowChatMemory implements ChatMemory {
                     return; // do not add the same system message
                 } else {
                     messages.remove(maybeSystemMessage.get()); // need to replace existing system message
+                    currentTokenCount = messages.isEmpty()
+                            ? 0
+                            : currentTokenCount - tokenCount(maybeSystemMessage.get());
                 }
             }
         }
+        if (messages.isEmpty()) {
+            currentTokenCount = extraTokenCount(message);
+        }
         messages.add(message);
-        ensureCapacity(messages, maxTokens, tokenizer);
-        store.updateMessages(id, messages);
+        currentTokenCount += tokenCount(message);
+        currentTokenCount = ensureCapacity(messages, currentTokenCount);
+        lastWindow = new Window(messages, currentTokenCount);
+        ChatMemoryStores.updateMessages(store, id, storedMessages, messages);
     }
 
     private static Optional<SystemMessage> findSystemMessage(List<ChatMessage> messages) {
@@ -84,46 +114,122 @@ public class TokenWindowChatMemory implements ChatMemory {
     }
 
     @Override
-    public List<ChatMessage> messages() {
-        List<ChatMessage> messages = new LinkedList<>(store.getMessages(id));
-        ensureCapacity(messages, maxTokens, tokenizer);
+    public synchronized List<ChatMessage> messages() {
+        List<ChatMessage> storedMessages = store.getMessages(id);
+        List<ChatMessage> messages = new ArrayList<>(storedMessages);
+        ensureCapacity(messages, tokenCount(storedMessages));
         return messages;
     }
 
-    private static void ensureCapacity(List<ChatMessage> messages, int maxTokens, Tokenizer tokenizer) {
+    /**
+     * Returns the total token count of the stored messages:
+     * the running total if they are the messages last written to the store, otherwise the sum of the cached counts.
+     */
+    private int tokenCount(List<ChatMessage> storedMessages) {
+        if (lastWindow != null && lastWindow.messages == storedMessages && lastWindow.size == storedMessages.size()) {
+            return lastWindow.tokenCount;
+        }
+        if (storedMessages.isEmpty()) {
+            return 0;
+        }
+        int tokenCount = extraTokenCount(storedMessages.get(0));
+        for (ChatMessage message : storedMessages) {
+            tokenCount += tokenCount(message);
+        }
+        return tokenCount;
+    }
+
+    /**
+     * Evicts the oldest messages until the remaining ones fit into the window.
+     *
+     * @return the token count of the remaining messages.
+     */
+    private int ensureCapacity(List<ChatMessage> messages, int currentTokenCount) {
+
+        if (messages.isEmpty()) {
+            return 0;
+        }
 
-        int currentTokenCount = tokenizer.estimateTokenCountInMessages(messages);
+        // the oldest messages are evicted first, so the evicted messages are determined up front
+        // and then removed at once (the system message, if any, is always retained)
+        int systemMessageIndex = -1;
+        int evictToIndex = 0;
         while (currentTokenCount > maxTokens) {
 
-            int messageToEvictIndex = 0;
-            if (messages.get(0) instanceof SystemMessage) {
-                messageToEvictIndex = 1;
+            if (messages.get(evictToIndex) instanceof SystemMessage) {
+                systemMessageIndex = evictToIndex++;
             }
 
-            ChatMessage evictedMessage = messages.remove(messageToEvictIndex);
-            int tokenCountOfEvictedMessage = tokenizer.estimateTokenCountInMessage(evictedMessage);
+            ChatMessage evictedMessage = messages.get(evictToIndex++);
+            int tokenCountOfEvictedMessage = tokenCount(evictedMessage);
             log.trace("Evicting the following message ({} tokens) to comply with the capacity requirement: {}",
                     tokenCountOfEvictedMessage, evictedMessage);
             currentTokenCount -= tokenCountOfEvictedMessage;
 
             if (evictedMessage instanceof AiMessage && ((AiMessage) evictedMessage).hasToolExecutionRequests()) {
-                while (messages.size() > messageToEvictIndex
-                        && messages.get(messageToEvictIndex) instanceof ToolExecutionResultMessage) {
+                while (messages.size() > evictToIndex
+                        && messages.get(evictToIndex) instanceof ToolExecutionResultMessage) {
                     // Some LLMs (e.g. OpenAI) prohibit ToolExecutionResultMessage(s) without corresponding AiMessage,
                     // so we have to automatically evict orphan ToolExecutionResultMessage(s) if AiMessage was evicted
-                    ChatMessage orphanToolExecutionResultMessage = messages.remove(messageToEvictIndex);
+                    ChatMessage orphanToolExecutionResultMessage = messages.get(evictToIndex++);
                     log.trace("Evicting orphan {}", orphanToolExecutionResultMessage);
-                    currentTokenCount -= tokenizer.estimateTokenCountInMessage(orphanToolExecutionResultMessage);
+                    currentTokenCount -= tokenCount(orphanToolExecutionResultMessage);
                 }
             }
         }
+        if (systemMessageIndex >= 0) {
+            messages.subList(systemMessageIndex + 1, evictToIndex).clear();
+            messages.subList(0, systemMessageIndex).clear();
+        } else {
+            messages.subList(0, evictToIndex).clear();
+        }
+
+        if (tokenCounts.size() > 2 * messages.size()) {
+            // forget the token counts of evicted messages
+            tokenCounts.keySet().retainAll(new HashSet<>(messages));
+        }
+
+        return currentTokenCount;
+    }
+
+    private int tokenCount(ChatMessage message) {
+        return tokenCounts.computeIfAbsent(message, tokenizer::estimateTokenCountInMessage);
+    }
+
+    /**
+     * The number of tokens that {@link Tokenizer#estimateTokenCountInMessages(Iterable)} adds
+     * on top of the token counts of individual messages (e.g., 3 tokens that prime every reply for OpenAI models).
+     * It is determined once, using the first message seen.
+     */
+    private int extraTokenCount(ChatMessage message) {
+        if (extraTokenCount == null) {
+            extraTokenCount = tokenizer.estimateTokenCountInMessages(singletonList(message)) - tokenCount(message);
+        }
+        return extraTokenCount;
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
+        lastWindow = null;
         store.deleteMessages(id);
     }
 
+    /**
+     * The messages last written to the store and their total token count.
+     */
+    private static class Window {
+
+        private final List<ChatMessage> messages;
+        private final int size;
+        private final int tokenCount;
+
+        private Window(List<ChatMessage> messages, int tokenCount) {
+            this.messages = messages;
+            this.size = messages.size();
+            this.tokenCount = tokenCount;
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,267 @@
+package dev.langchain4j.model;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+/**
+ * A Reactive Streams {@link Publisher} of the tokens streamed by a language model.
+ * <br>
+ * Each subscription starts a new generation once the subscriber requests the first token.
+ * Tokens are delivered only as requested by the subscriber. Tokens that arrive while there is no demand
+ * are buffered, up to {@code bufferSize} tokens. When the buffer is full, the thread that delivers tokens
+ * (usually the HTTP client thread reading the response) is blocked until the subscriber requests more,
+ * so that a slow subscriber slows down reading of the response instead of causing unbounded buffering.
+ * The only exception is a model that streams synchronously in the thread requesting tokens:
+ * blocking it would deadlock, so its tokens are buffered until the subscriber requests them.
+ * <br>
+ * When the subscription is cancelled, {@link StreamingResponseHandler#isCancelled()} starts returning {@code true},
+ * which lets the model abort the underlying stream.
+ *
+ * @param <T> The type of the response.
+ */
+public class StreamingResponsePublisher<T> implements Publisher<String> {
+
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+
+    private final Consumer<StreamingResponseHandler<T>> generation;
+    private final Consumer<Response<T>> completionHandler;
+    private final int bufferSize;
+
+    /**
+     * Creates a new publisher.
+     *
+     * @param generation        Starts the generation, streaming the response into the provided handler.
+     * @param completionHandler Invoked with the complete response before the subscriber is completed. Optional.
+     * @param bufferSize        The maximum number of tokens to buffer while the subscriber has no demand.
+     *                          Default value: 256.
+     */
+    public StreamingResponsePublisher(Consumer<StreamingResponseHandler<T>> generation,
+                                      Consumer<Response<T>> completionHandler,
+                                      Integer bufferSize) {
+        this.generation = ensureNotNull(generation, "generation");
+        this.completionHandler = completionHandler;
+        this.bufferSize = ensureGreaterThanZero(getOrDefault(bufferSize, DEFAULT_BUFFER_SIZE), "bufferSize");
+    }
+
+    public StreamingResponsePublisher(Consumer<StreamingResponseHandler<T>> generation) {
+        this(generation, null, null);
+    }
+
+    /**
+     * Creates a publisher of the tokens generated by the provided streaming chat model.
+     *
+     * @param model    The streaming chat model.
+     * @param messages The messages to send to the model.
+     * @return the publisher.
+     */
+    public static StreamingResponsePublisher<AiMessage> from(StreamingChatLanguageModel model,
+                                                             List<ChatMessage> messages) {
+        ensureNotNull(model, "model");
+        ensureNotEmpty(messages, "messages");
+        return new StreamingResponsePublisher<>(handler -> model.generate(messages, handler));
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super String> subscriber) {
+        // as required by the Reactive Streams specification (rule 1.9)
+        Objects.requireNonNull(subscriber, "subscriber");
+        TokenSubscription subscription = new TokenSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private class TokenSubscription implements Subscription, StreamingResponseHandler<T> {
+
+        private final Logger log = LoggerFactory.getLogger(StreamingResponsePublisher.class);
+
+        private final Subscriber<? super String> subscriber;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final AtomicInteger drainers = new AtomicInteger();
+
+        // guarded by this
+        private final Queue<String> tokens = new ArrayDeque<>();
+        private long demand;
+        private boolean completed;
+        private Throwable error;
+        private boolean terminated;
+
+        private volatile boolean cancelled;
+        private volatile Thread requestingThread;
+
+        private TokenSubscription(Subscriber<? super String> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError(new IllegalArgumentException("The number of requested tokens must be positive, but was: " + n));
+                return;
+            }
+            synchronized (this) {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+            Thread previousRequestingThread = requestingThread;
+            requestingThread = Thread.currentThread();
+            try {
+                if (started.compareAndSet(false, true)) {
+                    try {
+                        generation.accept(this);
+                    } catch (Exception e) {
+                        onError(e);
+                    }
+                }
+                drain();
+            } finally {
+                requestingThread = previousRequestingThread;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                tokens.clear();
+                notifyAll();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void onNext(String token) {
+            synchronized (this) {
+                if (cancelled || completed || error != null) {
+                    return;
+                }
+                tokens.add(token);
+            }
+            drain();
+            if (Thread.currentThread() == requestingThread) {
+                // the model streams in the thread requesting tokens, which would never request more if blocked
+                return;
+            }
+            synchronized (this) {
+                while (tokens.size() >= bufferSize && !cancelled) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onComplete(Response<T> response) {
+            synchronized (this) {
+                if (cancelled || completed || error != null) {
+                    return;
+                }
+            }
+            if (completionHandler != null) {
+                try {
+                    completionHandler.accept(response);
+                } catch (Exception e) {
+                    onError(e);
+                    return;
+                }
+            }
+            synchronized (this) {
+                completed = true;
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            synchronized (this) {
+                if (cancelled || completed || this.error != null) {
+                    return;
+                }
+                // errors are signalled without waiting for demand, dropping the tokens not delivered yet
+                this.error = error;
+                tokens.clear();
+                notifyAll();
+            }
+            drain();
+        }
+
+        /**
+         * Delivers buffered tokens and terminal signals to the subscriber.
+         * Only one thread drains at a time, so that the subscriber is signalled serially,
+         * even when it requests more tokens from within {@link Subscriber#onNext}.
+         */
+        private void drain() {
+            if (drainers.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                while (true) {
+                    String token;
+                    boolean terminate = false;
+                    Throwable terminalError = null;
+                    synchronized (this) {
+                        if (cancelled || terminated) {
+                            return;
+                        }
+                        if (error != null || (completed && tokens.isEmpty())) {
+                            terminate = true;
+                            terminalError = error;
+                            terminated = true;
+                            token = null;
+                        } else if (!tokens.isEmpty() && demand > 0) {
+                            token = tokens.poll();
+                            if (demand != Long.MAX_VALUE) {
+                                demand--;
+                            }
+                            notifyAll();
+                        } else {
+                            break;
+                        }
+                    }
+                    if (terminate) {
+                        if (terminalError != null) {
+                            subscriber.onError(terminalError);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    try {
+                        subscriber.onNext(token);
+                    } catch (RuntimeException e) {
+                        log.warn("Subscriber failed to handle a token, cancelling the subscription", e);
+                        cancel();
+                        return;
+                    }
+                }
+                missed = drainers.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -4,14 +4,17 @@ import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.ChatMemoryRegistry;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.moderation.ModerationModel;
 import dev.langchain4j.rag.RetrievalAugmentor;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public class AiServiceContext {
@@ -24,15 +27,21 @@ public class AiServiceContext {
     public StreamingChatLanguageModel streamingChatModel;
 
     public Map</* id */ Object, ChatMemory> chatMemories;
+    public ChatMemoryRegistry chatMemoryRegistry;
     public ChatMemoryProvider chatMemoryProvider;
 
     public ModerationModel moderationModel;
 
     public List<ToolSpecification> toolSpecifications;
     public Map<String, ToolExecutor> toolExecutors;
+    public Executor toolExecutionExecutor;
+    public Duration toolExecutionTimeout;
+    public Map<String, Duration> toolExecutionTimeouts;
 
     public RetrievalAugmentor retrievalAugmentor;
 
+    public Executor asyncExecutor;
+
     public Function<Object, Optional<String>> systemMessageProvider = DEFAULT_MESSAGE_PROVIDER;
 
     public AiServiceContext(Class<?> aiServiceClass) {
@@ -44,6 +53,9 @@ public class AiServiceContext {
     }
 
     public ChatMemory chatMemory(Object memoryId) {
+        if (chatMemoryRegistry != null) {
+            return chatMemoryRegistry.getOrCreate(memoryId, chatMemoryProvider);
+        }
         return chatMemories.computeIfAbsent(memoryId, ignored -> chatMemoryProvider.get(memoryId));
     }
 }
@@ -0,0 +1,327 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.request.json.JsonSchema;
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.model.input.structured.StructuredPrompt;
+import dev.langchain4j.model.input.structured.StructuredPromptProcessor;
+import dev.langchain4j.service.output.ServiceOutputParser;
+
+import java.io.InputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static dev.langchain4j.exception.IllegalConfigurationException.illegalConfiguration;
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.service.output.JsonSchemas.jsonSchemaFrom;
+
+/**
+ * A precompiled method of an AI Service.
+ * <br>
+ * It is created once per method when the AI Service is built and holds everything that does not depend
+ * on the arguments of an invocation: the roles of the parameters, the parsed message templates
+ * and the output format of the return type.
+ * This way, annotations, templates and the return type are not analyzed again on every invocation.
+ * <br>
+ * The JSON schema and the output format instructions are resolved on first use,
+ * as only one of them is needed, depending on the capabilities of the model.
+ */
+class AiServiceMethod {
+
+    private final Method method;
+    private final Type returnType;
+    private final boolean async;
+    private final boolean moderated;
+
+    private final int memoryIdParameterIndex;
+    private final int userNameParameterIndex;
+    private final int userMessageParameterIndex;
+    private final boolean userMessageFromTheOnlyArgument;
+    private final int itParameterIndex;
+    private final String[] variableNames;
+
+    private final PromptTemplate systemMessageTemplate;
+    private final PromptTemplate userMessageTemplate;
+
+    private final ServiceOutputParser serviceOutputParser;
+    private volatile Optional<JsonSchema> jsonSchema;
+    private volatile String outputFormatInstructions;
+
+    /**
+     * @throws dev.langchain4j.exception.IllegalConfigurationException if the method is not a valid AI Service method.
+     */
+    AiServiceMethod(Method method, ServiceOutputParser serviceOutputParser) {
+        validateParameters(method);
+
+        this.method = method;
+        this.async = method.getReturnType() == CompletableFuture.class;
+        this.returnType = async
+                ? ((ParameterizedType) method.getGenericReturnType()).getActualTypeArguments()[0]
+                : method.getGenericReturnType();
+        this.moderated = method.isAnnotationPresent(Moderate.class);
+        this.serviceOutputParser = serviceOutputParser;
+
+        Parameter[] parameters = method.getParameters();
+        this.memoryIdParameterIndex = indexOfParameterAnnotatedWith(parameters, MemoryId.class);
+        this.userNameParameterIndex = indexOfParameterAnnotatedWith(parameters, UserName.class);
+        this.userMessageParameterIndex = indexOfParameterAnnotatedWith(parameters, dev.langchain4j.service.UserMessage.class);
+        this.userMessageFromTheOnlyArgument = parameters.length == 1 && parameters[0].getAnnotations().length == 0;
+        this.itParameterIndex = indexOfVariableIt(parameters);
+        this.variableNames = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            V annotation = parameters[i].getAnnotation(V.class);
+            if (annotation != null) {
+                variableNames[i] = annotation.value();
+            }
+        }
+
+        dev.langchain4j.service.SystemMessage systemMessage = method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
+        if (systemMessage != null) {
+            String template = getTemplate(method, "System", systemMessage.fromResource(), systemMessage.value(), systemMessage.delimiter());
+            ensureVariableItCanBeResolved(template);
+            this.systemMessageTemplate = PromptTemplate.from(template);
+        } else {
+            this.systemMessageTemplate = null;
+        }
+
+        dev.langchain4j.service.UserMessage userMessage = method.getAnnotation(dev.langchain4j.service.UserMessage.class);
+        if (userMessage != null && userMessageParameterIndex >= 0) {
+            throw illegalConfiguration(
+                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
+                    method.getName()
+            );
+        }
+        if (userMessage != null) {
+            String template = getTemplate(method, "User", userMessage.fromResource(), userMessage.value(), userMessage.delimiter());
+            ensureVariableItCanBeResolved(template);
+            this.userMessageTemplate = PromptTemplate.from(template);
+        } else if (userMessageParameterIndex >= 0 || userMessageFromTheOnlyArgument) {
+            this.userMessageTemplate = null;
+        } else {
+            throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
+        }
+    }
+
+    static void validateParameters(Method method) {
+        Parameter[] parameters = method.getParameters();
+        if (parameters == null || parameters.length < 2) {
+            return;
+        }
+
+        for (Parameter parameter : parameters) {
+            V v = parameter.getAnnotation(V.class);
+            dev.langchain4j.service.UserMessage userMessage = parameter.getAnnotation(dev.langchain4j.service.UserMessage.class);
+            MemoryId memoryId = parameter.getAnnotation(MemoryId.class);
+            UserName userName = parameter.getAnnotation(UserName.class);
+            if (v == null && userMessage == null && memoryId == null && userName == null) {
+                throw illegalConfiguration(
+                        "Parameter '%s' of method '%s' should be annotated with @V or @UserMessage " +
+                                "or @UserName or @MemoryId", parameter.getName(), method.getName()
+                );
+            }
+        }
+    }
+
+    /**
+     * @return the return type of the method, or the type of the result if the method returns a {@link CompletableFuture}.
+     */
+    Type returnType() {
+        return returnType;
+    }
+
+    /**
+     * @return whether the method returns a {@link CompletableFuture}.
+     */
+    boolean isAsync() {
+        return async;
+    }
+
+    boolean isModerated() {
+        return moderated;
+    }
+
+    Optional<Object> memoryId(Object[] args) {
+        if (memoryIdParameterIndex < 0) {
+            return Optional.empty();
+        }
+        Object memoryId = args[memoryIdParameterIndex];
+        if (memoryId == null) {
+            throw illegalArgument(
+                    "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
+                    method.getParameters()[memoryIdParameterIndex].getName(), method.getName()
+            );
+        }
+        return Optional.of(memoryId);
+    }
+
+    Optional<SystemMessage> systemMessage(Object memoryId,
+                                          Object[] args,
+                                          Function<Object, Optional<String>> systemMessageProvider) {
+        if (systemMessageTemplate != null) {
+            return Optional.of(apply(systemMessageTemplate, args).toSystemMessage());
+        }
+        return systemMessageProvider.apply(memoryId)
+                .map(template -> apply(PromptTemplate.from(template), args).toSystemMessage());
+    }
+
+    UserMessage userMessage(Object[] args) {
+        PromptTemplate template;
+        if (userMessageTemplate != null) {
+            template = userMessageTemplate;
+        } else if (userMessageParameterIndex >= 0) {
+            template = PromptTemplate.from(toString(args[userMessageParameterIndex]));
+        } else {
+            template = PromptTemplate.from(toString(args[0]));
+        }
+
+        Prompt prompt = apply(template, args);
+
+        if (userNameParameterIndex >= 0) {
+            return UserMessage.from(args[userNameParameterIndex].toString(), prompt.text());
+        }
+        return prompt.toUserMessage();
+    }
+
+    Optional<JsonSchema> jsonSchema() {
+        Optional<JsonSchema> jsonSchema = this.jsonSchema;
+        if (jsonSchema == null) {
+            jsonSchema = jsonSchemaFrom(returnType);
+            this.jsonSchema = jsonSchema;
+        }
+        return jsonSchema;
+    }
+
+    String outputFormatInstructions() {
+        String outputFormatInstructions = this.outputFormatInstructions;
+        if (outputFormatInstructions == null) {
+            outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+            this.outputFormatInstructions = outputFormatInstructions;
+        }
+        return outputFormatInstructions;
+    }
+
+    private Prompt apply(PromptTemplate template, Object[] args) {
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i] != null) {
+                variables.put(variableNames[i], args[i]);
+            }
+        }
+
+        if (template.template().contains("{{it}}") && !variables.containsKey("it")) {
+            ensureVariableItCanBeResolved(template.template());
+            variables.put("it", toString(args[itParameterIndex]));
+        }
+
+        return template.apply(variables);
+    }
+
+    private void ensureVariableItCanBeResolved(String template) {
+        if (template.contains("{{it}}") && itParameterIndex < 0) {
+            throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
+        }
+    }
+
+    private static int indexOfVariableIt(Parameter[] parameters) {
+        if (parameters.length == 1) {
+            Parameter parameter = parameters[0];
+            if (!parameter.isAnnotationPresent(MemoryId.class)
+                    && !parameter.isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
+                    && !parameter.isAnnotationPresent(UserName.class)
+                    && (!parameter.isAnnotationPresent(V.class) || isAnnotatedWithIt(parameter))) {
+                return 0;
+            }
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+            if (isAnnotatedWithIt(parameters[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isAnnotatedWithIt(Parameter parameter) {
+        V annotation = parameter.getAnnotation(V.class);
+        return annotation != null && "it".equals(annotation.value());
+    }
+
+    private static int indexOfParameterAnnotatedWith(Parameter[] parameters,
+                                                     Class<? extends java.lang.annotation.Annotation> annotation) {
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(annotation)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
+        String messageTemplate;
+        if (!resource.trim().isEmpty()) {
+            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
+            if (messageTemplate == null) {
+                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
+            }
+        } else {
+            messageTemplate = String.join(delimiter, value);
+        }
+        if (messageTemplate.trim().isEmpty()) {
+            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
+        }
+        return messageTemplate;
+    }
+
+    private static String getResourceText(Class<?> clazz, String resource) {
+        InputStream inputStream = clazz.getResourceAsStream(resource);
+        if (inputStream == null) {
+            inputStream = clazz.getResourceAsStream("/" + resource);
+        }
+        return getText(inputStream);
+    }
+
+    private static String getText(InputStream inputStream) {
+        if (inputStream == null) {
+            return null;
+        }
+        try (Scanner scanner = new Scanner(inputStream);
+             Scanner s = scanner.useDelimiter("\\A")) {
+            return s.hasNext() ? s.next() : "";
+        }
+    }
+
+    private static String toString(Object arg) {
+        if (arg.getClass().isArray()) {
+            return arrayToString(arg);
+        } else if (arg.getClass().isAnnotationPresent(StructuredPrompt.class)) {
+            return StructuredPromptProcessor.toPrompt(arg).text();
+        } else {
+            return arg.toString();
+        }
+    }
+
+    private static String arrayToString(Object arg) {
+        StringBuilder sb = new StringBuilder("[");
+        int length = Array.getLength(arg);
+        for (int i = 0; i < length; i++) {
+            sb.append(toString(Array.get(arg, i)));
+            if (i < length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
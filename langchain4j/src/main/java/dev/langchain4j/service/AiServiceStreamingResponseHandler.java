@@ -1,7 +1,5 @@
 package dev.langchain4j.service;
 
-import dev.langchain4j.agent.tool.ToolExecutionRequest;
-import dev.langchain4j.service.tool.ToolExecutor;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
@@ -13,6 +11,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
@@ -31,6 +30,7 @@ class AiServiceStreamingResponseHandler implements StreamingResponseHandler<AiMe
     private final Consumer<String> tokenHandler;
     private final Consumer<Response<AiMessage>> completionHandler;
     private final Consumer<Throwable> errorHandler;
+    private final BooleanSupplier cancellation;
 
     private final List<ChatMessage> temporaryMemory;
     private final TokenUsage tokenUsage;
@@ -42,12 +42,24 @@ class AiServiceStreamingResponseHandler implements StreamingResponseHandler<AiMe
                                       Consumer<Throwable> errorHandler,
                                       List<ChatMessage> temporaryMemory,
                                       TokenUsage tokenUsage) {
+        this(context, memoryId, tokenHandler, completionHandler, errorHandler, () -> false, temporaryMemory, tokenUsage);
+    }
+
+    AiServiceStreamingResponseHandler(AiServiceContext context,
+                                      Object memoryId,
+                                      Consumer<String> tokenHandler,
+                                      Consumer<Response<AiMessage>> completionHandler,
+                                      Consumer<Throwable> errorHandler,
+                                      BooleanSupplier cancellation,
+                                      List<ChatMessage> temporaryMemory,
+                                      TokenUsage tokenUsage) {
         this.context = ensureNotNull(context, "context");
         this.memoryId = ensureNotNull(memoryId, "memoryId");
 
         this.tokenHandler = ensureNotNull(tokenHandler, "tokenHandler");
         this.completionHandler = completionHandler;
         this.errorHandler = errorHandler;
+        this.cancellation = ensureNotNull(cancellation, "cancellation");
 
         this.temporaryMemory = new ArrayList<>(temporaryMemory);
         this.tokenUsage = ensureNotNull(tokenUsage, "tokenUsage");
@@ -62,16 +74,16 @@ class AiServiceStreamingResponseHandler implements StreamingResponseHandler<AiMe
     public void onComplete(Response<AiMessage> response) {
 
         AiMessage aiMessage = response.content();
+        if (aiMessage.hasToolExecutionRequests() && isCancelled()) {
+            // tools are not executed, so the request to execute them should not be stored either
+            return;
+        }
         addToMemory(aiMessage);
 
         if (aiMessage.hasToolExecutionRequests()) {
-            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                ToolExecutor toolExecutor = context.toolExecutors.get(toolExecutionRequest.name());
-                String toolExecutionResult = toolExecutor.execute(toolExecutionRequest, memoryId);
-                ToolExecutionResultMessage toolExecutionResultMessage = ToolExecutionResultMessage.from(
-                        toolExecutionRequest,
-                        toolExecutionResult
-                );
+            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                    ToolExecutions.execute(context, aiMessage.toolExecutionRequests(), memoryId);
+            for (ToolExecutionResultMessage toolExecutionResultMessage : toolExecutionResultMessages) {
                 addToMemory(toolExecutionResultMessage);
             }
 
@@ -84,6 +96,7 @@ class AiServiceStreamingResponseHandler implements StreamingResponseHandler<AiMe
                             tokenHandler,
                             completionHandler,
                             errorHandler,
+                            cancellation,
                             temporaryMemory,
                             TokenUsage.sum(tokenUsage, response.tokenUsage())
                     )
@@ -113,6 +126,11 @@ class AiServiceStreamingResponseHandler implements StreamingResponseHandler<AiMe
                 : temporaryMemory;
     }
 
+    @Override
+    public boolean isCancelled() {
+        return cancellation.getAsBoolean();
+    }
+
     @Override
     public void onError(Throwable error) {
         if (errorHandler != null) {
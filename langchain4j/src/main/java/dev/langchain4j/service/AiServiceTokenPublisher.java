@@ -0,0 +1,154 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.StreamingResponsePublisher;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.service.AiServices.verifyModerationIfNeeded;
+import static java.util.Collections.emptyList;
+
+/**
+ * A Reactive Streams {@link org.reactivestreams.Publisher} of the tokens streamed for an AI Service method.
+ * The final {@link AiMessage} (and the results of tool executions, if any) is stored in the chat memory
+ * before the subscriber is completed.
+ * When the method is moderated, the model streams while the moderation runs, but no token is delivered
+ * before the moderation completes: if the input is flagged, the subscriber receives a {@link ModerationException}
+ * instead of any token.
+ * Cancelling the subscription aborts the underlying stream of the model.
+ *
+ * @see StreamingResponsePublisher
+ */
+public class AiServiceTokenPublisher extends StreamingResponsePublisher<AiMessage> {
+
+    public AiServiceTokenPublisher(List<ChatMessage> messagesToSend, AiServiceContext context, Object memoryId) {
+        this(messagesToSend, context, memoryId, null);
+    }
+
+    /**
+     * @param moderationFuture The moderation of the messages to send, verified before the first token is delivered.
+     *                         Can be {@code null} if the method is not moderated.
+     */
+    public AiServiceTokenPublisher(List<ChatMessage> messagesToSend,
+                                   AiServiceContext context,
+                                   Object memoryId,
+                                   CompletableFuture<Moderation> moderationFuture) {
+        super(generation(messagesToSend, context, memoryId, moderationFuture));
+    }
+
+    private static Consumer<StreamingResponseHandler<AiMessage>> generation(List<ChatMessage> messagesToSend,
+                                                                           AiServiceContext context,
+                                                                           Object memoryId,
+                                                                           CompletableFuture<Moderation> moderationFuture) {
+        ensureNotEmpty(messagesToSend, "messagesToSend");
+        ensureNotNull(context, "context");
+        ensureNotNull(memoryId, "memoryId");
+        ensureNotNull(context.streamingChatModel, "streamingChatModel");
+
+        return publisherHandler -> {
+
+            StreamingResponseHandler<AiMessage> handler = new AiServiceStreamingResponseHandler(
+                    context,
+                    memoryId,
+                    publisherHandler::onNext,
+                    publisherHandler::onComplete,
+                    publisherHandler::onError,
+                    publisherHandler::isCancelled,
+                    context.hasChatMemory() ? emptyList() : new ArrayList<>(messagesToSend),
+                    new TokenUsage()
+            );
+            if (moderationFuture != null) {
+                handler = new ModeratedResponseHandler(moderationFuture, handler);
+            }
+
+            if (context.toolSpecifications != null) {
+                context.streamingChatModel.generate(messagesToSend, context.toolSpecifications, handler);
+            } else {
+                context.streamingChatModel.generate(messagesToSend, handler);
+            }
+        };
+    }
+
+    /**
+     * Holds back the tokens and the response until the moderation completes,
+     * so that nothing is delivered, stored in the chat memory or executed for a flagged input.
+     * The model thread is never blocked waiting for the moderation: the signals received in the meantime
+     * are released (or dropped, if the input is flagged) once the moderation future completes.
+     */
+    private static class ModeratedResponseHandler implements StreamingResponseHandler<AiMessage> {
+
+        private final CompletableFuture<Moderation> moderationFuture;
+        private final StreamingResponseHandler<AiMessage> delegate;
+
+        // guarded by this
+        private final List<Runnable> pendingSignals = new ArrayList<>();
+        private boolean released;
+
+        private volatile boolean rejected;
+
+        private ModeratedResponseHandler(CompletableFuture<Moderation> moderationFuture,
+                                         StreamingResponseHandler<AiMessage> delegate) {
+            this.moderationFuture = moderationFuture;
+            this.delegate = delegate;
+            moderationFuture.whenComplete((moderation, e) -> release());
+        }
+
+        @Override
+        public void onNext(String token) {
+            signal(() -> delegate.onNext(token));
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            signal(() -> delegate.onComplete(response));
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            signal(() -> delegate.onError(error));
+        }
+
+        @Override
+        public boolean isCancelled() {
+            // a flagged input is never delivered, so there is no point in streaming the rest of the response
+            return rejected || delegate.isCancelled();
+        }
+
+        private void signal(Runnable signal) {
+            synchronized (this) {
+                if (!released) {
+                    pendingSignals.add(signal);
+                    return;
+                }
+            }
+            if (!rejected) {
+                signal.run();
+            }
+        }
+
+        private synchronized void release() {
+            try {
+                // does not block: the moderation is complete
+                verifyModerationIfNeeded(moderationFuture);
+            } catch (RuntimeException e) {
+                rejected = true;
+                delegate.onError(e);
+            }
+            if (!rejected) {
+                pendingSignals.forEach(Runnable::run);
+            }
+            pendingSignals.clear();
+            released = true;
+        }
+    }
+}
@@ -10,6 +10,7 @@ import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.memory.chat.ChatMemoryProvider;
+import dev.langchain4j.memory.chat.ChatMemoryRegistry;
 import dev.langchain4j.model.chat.ChatLanguageModel;
 import dev.langchain4j.model.chat.StreamingChatLanguageModel;
 import dev.langchain4j.model.input.structured.StructuredPrompt;
@@ -23,11 +24,13 @@ import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.content.retriever.EmbeddingStoreContentRetriever;
 import dev.langchain4j.retriever.Retriever;
 import dev.langchain4j.spi.services.AiServicesFactory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.function.Function;
 
@@ -54,7 +57,7 @@ import static java.util.stream.Collectors.toList;
  * - RAG, configured via {@link #contentRetriever(ContentRetriever)} or {@link #retrievalAugmentor(RetrievalAugmentor)}
  * - Tools, configured via {@link #tools(List)} or {@link #tools(Object...)} and methods annotated with @{@link Tool}
  * - Various method return types (output parsers), see more details below
- * - Streaming (use {@link TokenStream} as a return type)
+ * - Streaming (use {@link TokenStream} or {@code org.reactivestreams.Publisher<String>} as a return type)
  * - Structured prompts as method arguments (see @{@link StructuredPrompt})
  * - Auto-moderation, configured via @{@link Moderate} annotation
  * </pre>
@@ -82,6 +85,7 @@ import static java.util.stream.Collectors.toList;
  * - many default Java types: {@code Date}, {@code LocalDateTime}, {@code BigDecimal}, etc., if you want to use the LLM for data extraction
  * - any custom POJO, if you want to use the LLM for data extraction.
  * - Result&lt;T&gt; if you want to access {@link TokenUsage} or sources ({@link Content}s retrieved during RAG), aside from T, which can be of any type listed above. For example: Result&lt;String&gt;, Result&lt;MyCustomPojo&gt;
+ * - CompletableFuture&lt;T&gt; if you want the method to return immediately and to be invoked asynchronously, where T can be of any type listed above. For example: CompletableFuture&lt;String&gt;, CompletableFuture&lt;Result&lt;MyCustomPojo&gt;&gt;
  * For POJOs, it is advisable to use the "json mode" feature if the LLM provider supports it. For OpenAI, this can be enabled by calling {@code responseFormat("json_object")} during model construction.
  *
  * </pre>
@@ -246,8 +250,9 @@ public abstract class AiServices<T> {
      * @return builder
      */
     public AiServices<T> chatMemory(ChatMemory chatMemory) {
-        context.chatMemories = new ConcurrentHashMap<>();
-        context.chatMemories.put(DEFAULT, chatMemory);
+        context.chatMemoryRegistry = new ChatMemoryRegistry();
+        context.chatMemoryRegistry.put(DEFAULT, chatMemory);
+        context.chatMemories = context.chatMemoryRegistry.asMap();
         return this;
     }
 
@@ -268,11 +273,40 @@ public abstract class AiServices<T> {
      * <p>
      * Either a {@link ChatMemory} or a {@link ChatMemoryProvider} can be configured, but not both simultaneously.
      *
+     * <p>
+     * The obtained {@link ChatMemory} instances are never evicted,
+     * use {@link #chatMemoryProvider(ChatMemoryProvider, ChatMemoryRegistry)} to limit their number.
+     *
      * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new user/conversation.
      * @return builder
      */
     public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider) {
-        context.chatMemories = new ConcurrentHashMap<>();
+        return chatMemoryProvider(chatMemoryProvider, new ChatMemoryRegistry());
+    }
+
+    /**
+     * Configures the chat memory provider, which provides a dedicated instance of {@link ChatMemory} for each user/conversation,
+     * and the registry that holds the provided instances.
+     * <p>
+     * The registry can evict {@link ChatMemory} instances of inactive users/conversations, for example:
+     * <pre>
+     * ChatMemoryRegistry.builder()
+     *         .maxSize(10_000)
+     *         .idleTimeout(Duration.ofMinutes(30))
+     *         .build()
+     * </pre>
+     * When an evicted memory ID is used again, a new {@link ChatMemory} is obtained from the {@link ChatMemoryProvider}.
+     * Therefore, the provided {@link ChatMemory} instances should use a shared {@link ChatMemoryStore},
+     * otherwise the conversation history is lost on eviction.
+     *
+     * @param chatMemoryProvider The provider of a {@link ChatMemory} for each new user/conversation.
+     * @param chatMemoryRegistry The registry of the provided {@link ChatMemory} instances.
+     * @return builder
+     * @see #chatMemoryProvider(ChatMemoryProvider)
+     */
+    public AiServices<T> chatMemoryProvider(ChatMemoryProvider chatMemoryProvider, ChatMemoryRegistry chatMemoryRegistry) {
+        context.chatMemoryRegistry = ensureNotNull(chatMemoryRegistry, "chatMemoryRegistry");
+        context.chatMemories = chatMemoryRegistry.asMap();
         context.chatMemoryProvider = chatMemoryProvider;
         return this;
     }
@@ -366,6 +400,87 @@ public abstract class AiServices<T> {
         return this;
     }
 
+    /**
+     * Configures the executor on which methods returning a {@link java.util.concurrent.CompletableFuture} are invoked.
+     * The whole invocation (retrieval augmentation, moderation, calls to the LLM, tool executions
+     * and output parsing) runs on this executor, so the calling thread is never blocked.
+     * <br>
+     * By default, an executor shared by all AI Services is used: it runs on virtual threads when they are available
+     * (Java 21+), otherwise on a cached pool of daemon threads, and never needs to be shut down.
+     *
+     * @param asyncExecutor The executor to invoke asynchronous methods on.
+     * @return builder
+     */
+    public AiServices<T> asyncExecutor(Executor asyncExecutor) {
+        context.asyncExecutor = ensureNotNull(asyncExecutor, "asyncExecutor");
+        return this;
+    }
+
+    /**
+     * Enables concurrent execution of the tools requested by the LLM in a single response.
+     * Tools are executed on virtual threads when they are available (Java 21+), otherwise on a cached pool
+     * of daemon threads. This executor is shared by all AI Services and never needs to be shut down.
+     * <br>
+     * The results of the tool executions are added to the chat memory in the order of the requests.
+     * <br>
+     * By default, tools are executed sequentially on the calling thread.
+     *
+     * @return builder
+     * @see #executeToolsConcurrently(Executor)
+     */
+    public AiServices<T> executeToolsConcurrently() {
+        return executeToolsConcurrently(ToolExecutions.defaultExecutor());
+    }
+
+    /**
+     * Enables concurrent execution of the tools requested by the LLM in a single response.
+     * <br>
+     * The results of the tool executions are added to the chat memory in the order of the requests.
+     * <br>
+     * By default, tools are executed sequentially on the calling thread.
+     *
+     * @param executor The executor on which the tools are executed.
+     * @return builder
+     */
+    public AiServices<T> executeToolsConcurrently(Executor executor) {
+        context.toolExecutionExecutor = ensureNotNull(executor, "executor");
+        return this;
+    }
+
+    /**
+     * Configures the maximum duration of a single tool execution.
+     * When a tool does not complete in time, its thread is interrupted
+     * and the LLM receives a message saying that the tool execution timed out.
+     * <br>
+     * Requires concurrent tool execution, see {@link #executeToolsConcurrently()}.
+     *
+     * @param timeout The timeout for all tools, unless overridden by {@link #toolExecutionTimeout(String, Duration)}.
+     * @return builder
+     */
+    public AiServices<T> toolExecutionTimeout(Duration timeout) {
+        context.toolExecutionTimeout = ensureNotNull(timeout, "timeout");
+        return this;
+    }
+
+    /**
+     * Configures the maximum duration of a single execution of the specified tool.
+     * When the tool does not complete in time, its thread is interrupted
+     * and the LLM receives a message saying that the tool execution timed out.
+     * <br>
+     * Requires concurrent tool execution, see {@link #executeToolsConcurrently()}.
+     *
+     * @param toolName The name of the tool.
+     * @param timeout  The timeout for the tool.
+     * @return builder
+     */
+    public AiServices<T> toolExecutionTimeout(String toolName, Duration timeout) {
+        if (context.toolExecutionTimeouts == null) {
+            context.toolExecutionTimeouts = new HashMap<>();
+        }
+        context.toolExecutionTimeouts.put(ensureNotNull(toolName, "toolName"), ensureNotNull(timeout, "timeout"));
+        return this;
+    }
+
     /**
      * Deprecated. Use {@link #contentRetriever(ContentRetriever)}
      * (e.g. {@link EmbeddingStoreContentRetriever}) instead.
@@ -440,6 +555,12 @@ public abstract class AiServices<T> {
         if (context.chatModel == null && context.streamingChatModel == null) {
             throw illegalConfiguration("Please specify either chatLanguageModel or streamingChatLanguageModel");
         }
+
+        if ((context.toolExecutionTimeout != null || context.toolExecutionTimeouts != null)
+                && context.toolExecutionExecutor == null) {
+            throw illegalConfiguration("Tool execution timeouts require concurrent tool execution, " +
+                    "please enable it with executeToolsConcurrently()");
+        }
     }
 
     public static List<ChatMessage> removeToolMessages(List<ChatMessage> messages) {
@@ -1,6 +1,5 @@
 package dev.langchain4j.service;
 
-import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
@@ -11,10 +10,6 @@ import dev.langchain4j.model.chat.request.ChatRequest;
 import dev.langchain4j.model.chat.request.ResponseFormat;
 import dev.langchain4j.model.chat.request.json.JsonSchema;
 import dev.langchain4j.model.chat.response.ChatResponse;
-import dev.langchain4j.model.input.Prompt;
-import dev.langchain4j.model.input.PromptTemplate;
-import dev.langchain4j.model.input.structured.StructuredPrompt;
-import dev.langchain4j.model.input.structured.StructuredPromptProcessor;
 import dev.langchain4j.model.moderation.Moderation;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
@@ -22,13 +17,10 @@ import dev.langchain4j.rag.AugmentationRequest;
 import dev.langchain4j.rag.AugmentationResult;
 import dev.langchain4j.rag.query.Metadata;
 import dev.langchain4j.service.output.ServiceOutputParser;
-import dev.langchain4j.service.tool.ToolExecutor;
+import org.reactivestreams.Publisher;
 
-import java.io.InputStream;
-import java.lang.reflect.Array;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
@@ -36,20 +28,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 
 import static dev.langchain4j.exception.IllegalConfigurationException.illegalConfiguration;
-import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Exceptions.runtime;
 import static dev.langchain4j.internal.Utils.isNotNullOrBlank;
 import static dev.langchain4j.model.chat.Capability.RESPONSE_FORMAT_JSON_SCHEMA;
 import static dev.langchain4j.model.chat.request.ResponseFormatType.JSON;
 import static dev.langchain4j.service.TypeUtils.typeHasRawClass;
-import static dev.langchain4j.service.output.JsonSchemas.jsonSchemaFrom;
 
 class DefaultAiServices<T> extends AiServices<T> {
 
@@ -61,30 +51,12 @@ class DefaultAiServices<T> extends AiServices<T> {
         super(context);
     }
 
-    static void validateParameters(Method method) {
-        Parameter[] parameters = method.getParameters();
-        if (parameters == null || parameters.length < 2) {
-            return;
-        }
-
-        for (Parameter parameter : parameters) {
-            V v = parameter.getAnnotation(V.class);
-            dev.langchain4j.service.UserMessage userMessage = parameter.getAnnotation(dev.langchain4j.service.UserMessage.class);
-            MemoryId memoryId = parameter.getAnnotation(MemoryId.class);
-            UserName userName = parameter.getAnnotation(UserName.class);
-            if (v == null && userMessage == null && memoryId == null && userName == null) {
-                throw illegalConfiguration(
-                        "Parameter '%s' of method '%s' should be annotated with @V or @UserMessage " +
-                                "or @UserName or @MemoryId", parameter.getName(), method.getName()
-                );
-            }
-        }
-    }
-
     public T build() {
 
         performBasicValidation();
 
+        Map<Method, AiServiceMethod> methods = new HashMap<>();
+        Map<Method, RuntimeException> invalidMethods = new HashMap<>();
         for (Method method : context.aiServiceClass.getMethods()) {
             if (method.isAnnotationPresent(Moderate.class) && context.moderationModel == null) {
                 throw illegalConfiguration("The @Moderate annotation is present, but the moderationModel is not set up. " +
@@ -92,10 +64,25 @@ class DefaultAiServices<T> extends AiServices<T> {
             }
             if (method.getReturnType() == Result.class ||
                     method.getReturnType() == List.class ||
-                    method.getReturnType() == Set.class) {
+                    method.getReturnType() == Set.class ||
+                    method.getReturnType() == CompletableFuture.class ||
+                    method.getReturnType() == Publisher.class) {
                 TypeUtils.validateReturnTypesAreProperlyParametrized(method.getName(), method.getGenericReturnType());
             }
+            try {
+                methods.put(method, new AiServiceMethod(method, serviceOutputParser));
+            } catch (RuntimeException e) {
+                // the AI Service can still be used, invalid methods fail only when they are invoked
+                invalidMethods.put(method, e);
+            }
+        }
+
+        Executor asyncExecutor = context.asyncExecutor;
+        if (asyncExecutor == null && methods.values().stream().anyMatch(AiServiceMethod::isAsync)) {
+            // shared by all AI Services, so that building a service does not create threads
+            asyncExecutor = ToolExecutions.defaultExecutor();
         }
+        Executor finalAsyncExecutor = asyncExecutor;
 
         Object proxyInstance = Proxy.newProxyInstance(
                 context.aiServiceClass.getClassLoader(),
@@ -112,12 +99,24 @@ class DefaultAiServices<T> extends AiServices<T> {
                             return method.invoke(this, args);
                         }
 
-                        validateParameters(method);
+                        AiServiceMethod aiServiceMethod = methods.get(method);
+                        if (aiServiceMethod == null) {
+                            throw invalidMethods.get(method);
+                        }
 
-                        Object memoryId = findMemoryId(method, args).orElse(DEFAULT);
+                        if (aiServiceMethod.isAsync()) {
+                            return CompletableFuture.supplyAsync(() -> invoke(aiServiceMethod, args), finalAsyncExecutor);
+                        }
+                        return invoke(aiServiceMethod, args);
+                    }
 
-                        Optional<SystemMessage> systemMessage = prepareSystemMessage(memoryId, method, args);
-                        UserMessage userMessage = prepareUserMessage(method, args);
+                    private Object invoke(AiServiceMethod aiServiceMethod, Object[] args) {
+
+                        Object memoryId = aiServiceMethod.memoryId(args).orElse(DEFAULT);
+
+                        Optional<SystemMessage> systemMessage =
+                                aiServiceMethod.systemMessage(memoryId, args, context.systemMessageProvider);
+                        UserMessage userMessage = aiServiceMethod.userMessage(args);
                         AugmentationResult augmentationResult = null;
                         if (context.retrievalAugmentor != null) {
                             List<ChatMessage> chatMemory = context.hasChatMemory()
@@ -130,17 +129,17 @@ class DefaultAiServices<T> extends AiServices<T> {
                         }
 
                         // TODO give user ability to provide custom OutputParser
-                        Type returnType = method.getGenericReturnType();
+                        Type returnType = aiServiceMethod.returnType();
 
                         boolean supportsJsonSchema = supportsJsonSchema();
                         Optional<JsonSchema> jsonSchema = Optional.empty();
                         if (supportsJsonSchema) {
-                            jsonSchema = jsonSchemaFrom(returnType);
+                            jsonSchema = aiServiceMethod.jsonSchema();
                         }
 
                         if (!supportsJsonSchema || !jsonSchema.isPresent()) {
                             // TODO append after storing in the memory?
-                            userMessage = appendOutputFormatInstructions(returnType, userMessage);
+                            userMessage = appendOutputFormatInstructions(aiServiceMethod.outputFormatInstructions(), userMessage);
                         }
 
                         if (context.hasChatMemory()) {
@@ -158,12 +157,16 @@ class DefaultAiServices<T> extends AiServices<T> {
                             messages.add(userMessage);
                         }
 
-                        Future<Moderation> moderationFuture = triggerModerationIfNeeded(method, messages);
+                        CompletableFuture<Moderation> moderationFuture = triggerModerationIfNeeded(aiServiceMethod, messages);
 
                         if (returnType == TokenStream.class) {
                             return new AiServiceTokenStream(messages, context, memoryId); // TODO moderation
                         }
 
+                        if (typeHasRawClass(returnType, Publisher.class)) {
+                            return new AiServiceTokenPublisher(messages, context, memoryId, moderationFuture);
+                        }
+
                         Response<AiMessage> response;
                         if (supportsJsonSchema && jsonSchema.isPresent()) {
                             ChatRequest chatRequest = ChatRequest.builder()
@@ -214,13 +217,9 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 break;
                             }
 
-                            for (ToolExecutionRequest toolExecutionRequest : aiMessage.toolExecutionRequests()) {
-                                ToolExecutor toolExecutor = context.toolExecutors.get(toolExecutionRequest.name());
-                                String toolExecutionResult = toolExecutor.execute(toolExecutionRequest, memoryId);
-                                ToolExecutionResultMessage toolExecutionResultMessage = ToolExecutionResultMessage.from(
-                                        toolExecutionRequest,
-                                        toolExecutionResult
-                                );
+                            List<ToolExecutionResultMessage> toolExecutionResultMessages =
+                                    ToolExecutions.execute(context, aiMessage.toolExecutionRequests(), memoryId);
+                            for (ToolExecutionResultMessage toolExecutionResultMessage : toolExecutionResultMessages) {
                                 if (context.hasChatMemory()) {
                                     context.chatMemory(memoryId).add(toolExecutionResultMessage);
                                 } else {
@@ -257,8 +256,7 @@ class DefaultAiServices<T> extends AiServices<T> {
                                 && context.chatModel.supportedCapabilities().contains(RESPONSE_FORMAT_JSON_SCHEMA);
                     }
 
-                    private UserMessage appendOutputFormatInstructions(Type returnType, UserMessage userMessage) {
-                        String outputFormatInstructions = serviceOutputParser.outputFormatInstructions(returnType);
+                    private UserMessage appendOutputFormatInstructions(String outputFormatInstructions, UserMessage userMessage) {
                         String text = userMessage.singleText() + outputFormatInstructions;
                         if (isNotNullOrBlank(userMessage.name())) {
                             userMessage = UserMessage.from(userMessage.name(), text);
@@ -268,12 +266,12 @@ class DefaultAiServices<T> extends AiServices<T> {
                         return userMessage;
                     }
 
-                    private Future<Moderation> triggerModerationIfNeeded(Method method, List<ChatMessage> messages) {
-                        if (method.isAnnotationPresent(Moderate.class)) {
-                            return executor.submit(() -> {
+                    private CompletableFuture<Moderation> triggerModerationIfNeeded(AiServiceMethod method, List<ChatMessage> messages) {
+                        if (method.isModerated()) {
+                            return CompletableFuture.supplyAsync(() -> {
                                 List<ChatMessage> messagesToModerate = removeToolMessages(messages);
                                 return context.moderationModel.moderate(messagesToModerate).content();
-                            });
+                            }, executor);
                         }
                         return null;
                     }
@@ -281,209 +279,4 @@ class DefaultAiServices<T> extends AiServices<T> {
 
         return (T) proxyInstance;
     }
-
-    private Optional<SystemMessage> prepareSystemMessage(Object memoryId, Method method, Object[] args) {
-        return findSystemMessageTemplate(memoryId, method)
-                .map(systemMessageTemplate -> PromptTemplate.from(systemMessageTemplate)
-                        .apply(findTemplateVariables(systemMessageTemplate, method, args))
-                        .toSystemMessage());
-    }
-
-    private Optional<String> findSystemMessageTemplate(Object memoryId, Method method) {
-        dev.langchain4j.service.SystemMessage annotation = method.getAnnotation(dev.langchain4j.service.SystemMessage.class);
-        if (annotation != null) {
-            return Optional.of(getTemplate(method, "System", annotation.fromResource(), annotation.value(), annotation.delimiter()));
-        }
-
-        return context.systemMessageProvider.apply(memoryId);
-    }
-
-    private static Map<String, Object> findTemplateVariables(String template, Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-
-        Map<String, Object> variables = new HashMap<>();
-        for (int i = 0; i < parameters.length; i++) {
-            V annotation = parameters[i].getAnnotation(V.class);
-            if (annotation != null) {
-                String variableName = annotation.value();
-                Object variableValue = args[i];
-                variables.put(variableName, variableValue);
-            }
-        }
-
-        if (template.contains("{{it}}") && !variables.containsKey("it")) {
-            String itValue = getValueOfVariableIt(parameters, args);
-            variables.put("it", itValue);
-        }
-
-        return variables;
-    }
-
-    private static String getValueOfVariableIt(Parameter[] parameters, Object[] args) {
-        if (parameters.length == 1) {
-            Parameter parameter = parameters[0];
-            if (!parameter.isAnnotationPresent(dev.langchain4j.service.MemoryId.class)
-                    && !parameter.isAnnotationPresent(dev.langchain4j.service.UserMessage.class)
-                    && !parameter.isAnnotationPresent(dev.langchain4j.service.UserName.class)
-                    && (!parameter.isAnnotationPresent(dev.langchain4j.service.V.class) || isAnnotatedWithIt(parameter))) {
-                return toString(args[0]);
-            }
-        }
-
-        for (int i = 0; i < parameters.length; i++) {
-            if (isAnnotatedWithIt(parameters[i])) {
-                return toString(args[i]);
-            }
-        }
-
-        throw illegalConfiguration("Error: cannot find the value of the prompt template variable \"{{it}}\".");
-    }
-
-    private static boolean isAnnotatedWithIt(Parameter parameter) {
-        V annotation = parameter.getAnnotation(V.class);
-        return annotation != null && "it".equals(annotation.value());
-    }
-
-    private static UserMessage prepareUserMessage(Method method, Object[] args) {
-
-        String template = getUserMessageTemplate(method, args);
-        Map<String, Object> variables = findTemplateVariables(template, method, args);
-
-        Prompt prompt = PromptTemplate.from(template).apply(variables);
-
-        Optional<String> maybeUserName = findUserName(method.getParameters(), args);
-        return maybeUserName.map(userName -> UserMessage.from(userName, prompt.text()))
-                .orElseGet(prompt::toUserMessage);
-    }
-
-    private static String getUserMessageTemplate(Method method, Object[] args) {
-
-        Optional<String> templateFromMethodAnnotation = findUserMessageTemplateFromMethodAnnotation(method);
-        Optional<String> templateFromParameterAnnotation = findUserMessageTemplateFromAnnotatedParameter(method.getParameters(), args);
-
-        if (templateFromMethodAnnotation.isPresent() && templateFromParameterAnnotation.isPresent()) {
-            throw illegalConfiguration(
-                    "Error: The method '%s' has multiple @UserMessage annotations. Please use only one.",
-                    method.getName()
-            );
-        }
-
-        if (templateFromMethodAnnotation.isPresent()) {
-            return templateFromMethodAnnotation.get();
-        }
-        if (templateFromParameterAnnotation.isPresent()) {
-            return templateFromParameterAnnotation.get();
-        }
-
-        Optional<String> templateFromTheOnlyArgument = findUserMessageTemplateFromTheOnlyArgument(method.getParameters(), args);
-        if (templateFromTheOnlyArgument.isPresent()) {
-            return templateFromTheOnlyArgument.get();
-        }
-
-        throw illegalConfiguration("Error: The method '%s' does not have a user message defined.", method.getName());
-    }
-
-    private static Optional<String> findUserMessageTemplateFromMethodAnnotation(Method method) {
-        return Optional.ofNullable(method.getAnnotation(dev.langchain4j.service.UserMessage.class))
-                .map(a -> getTemplate(method, "User", a.fromResource(), a.value(), a.delimiter()));
-    }
-
-    private static Optional<String> findUserMessageTemplateFromAnnotatedParameter(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(dev.langchain4j.service.UserMessage.class)) {
-                return Optional.of(toString(args[i]));
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserMessageTemplateFromTheOnlyArgument(Parameter[] parameters, Object[] args) {
-        if (parameters != null && parameters.length == 1 && parameters[0].getAnnotations().length == 0) {
-            return Optional.of(toString(args[0]));
-        }
-        return Optional.empty();
-    }
-
-    private static Optional<String> findUserName(Parameter[] parameters, Object[] args) {
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(UserName.class)) {
-                return Optional.of(args[i].toString());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static String getTemplate(Method method, String type, String resource, String[] value, String delimiter) {
-        String messageTemplate;
-        if (!resource.trim().isEmpty()) {
-            messageTemplate = getResourceText(method.getDeclaringClass(), resource);
-            if (messageTemplate == null) {
-                throw illegalConfiguration("@%sMessage's resource '%s' not found", type, resource);
-            }
-        } else {
-            messageTemplate = String.join(delimiter, value);
-        }
-        if (messageTemplate.trim().isEmpty()) {
-            throw illegalConfiguration("@%sMessage's template cannot be empty", type);
-        }
-        return messageTemplate;
-    }
-
-    private static String getResourceText(Class<?> clazz, String resource) {
-        InputStream inputStream = clazz.getResourceAsStream(resource);
-        if (inputStream == null) {
-            inputStream = clazz.getResourceAsStream("/" + resource);
-        }
-        return getText(inputStream);
-    }
-
-    private static String getText(InputStream inputStream) {
-        if (inputStream == null) {
-            return null;
-        }
-        try (Scanner scanner = new Scanner(inputStream);
-             Scanner s = scanner.useDelimiter("\\A")) {
-            return s.hasNext() ? s.next() : "";
-        }
-    }
-
-    private static Optional<Object> findMemoryId(Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        for (int i = 0; i < parameters.length; i++) {
-            if (parameters[i].isAnnotationPresent(MemoryId.class)) {
-                Object memoryId = args[i];
-                if (memoryId == null) {
-                    throw illegalArgument(
-                            "The value of parameter '%s' annotated with @MemoryId in method '%s' must not be null",
-                            parameters[i].getName(), method.getName()
-                    );
-                }
-                return Optional.of(memoryId);
-            }
-        }
-        return Optional.empty();
-    }
-
-    private static String toString(Object arg) {
-        if (arg.getClass().isArray()) {
-            return arrayToString(arg);
-        } else if (arg.getClass().isAnnotationPresent(StructuredPrompt.class)) {
-            return StructuredPromptProcessor.toPrompt(arg).text();
-        } else {
-            return arg.toString();
-        }
-    }
-
-    private static String arrayToString(Object arg) {
-        StringBuilder sb = new StringBuilder("[");
-        int length = Array.getLength(arg);
-        for (int i = 0; i < length; i++) {
-            sb.append(toString(Array.get(arg, i)));
-            if (i < length - 1) {
-                sb.append(", ");
-            }
-        }
-        sb.append("]");
-        return sb.toString();
-    }
 }
@@ -0,0 +1,131 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.service.tool.ToolExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * Executes the tools requested by the LLM in a single {@link dev.langchain4j.data.message.AiMessage}.
+ * <br>
+ * When {@link AiServiceContext#toolExecutionExecutor} is set, all tools are executed concurrently on it,
+ * otherwise they are executed sequentially on the calling thread.
+ * In both cases, the results are returned in the order of the requests.
+ */
+class ToolExecutions {
+
+    private ToolExecutions() {
+    }
+
+    static List<ToolExecutionResultMessage> execute(AiServiceContext context,
+                                                    List<ToolExecutionRequest> toolExecutionRequests,
+                                                    Object memoryId) {
+        List<ToolExecutionResultMessage> toolExecutionResultMessages = new ArrayList<>(toolExecutionRequests.size());
+
+        if (context.toolExecutionExecutor == null) {
+            for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+                ToolExecutor toolExecutor = context.toolExecutors.get(toolExecutionRequest.name());
+                String toolExecutionResult = toolExecutor.execute(toolExecutionRequest, memoryId);
+                toolExecutionResultMessages.add(ToolExecutionResultMessage.from(toolExecutionRequest, toolExecutionResult));
+            }
+            return toolExecutionResultMessages;
+        }
+
+        List<FutureTask<String>> tasks = new ArrayList<>(toolExecutionRequests.size());
+        long startTime = System.nanoTime();
+        for (ToolExecutionRequest toolExecutionRequest : toolExecutionRequests) {
+            ToolExecutor toolExecutor = context.toolExecutors.get(toolExecutionRequest.name());
+            FutureTask<String> task = new FutureTask<>(() -> toolExecutor.execute(toolExecutionRequest, memoryId));
+            context.toolExecutionExecutor.execute(task);
+            tasks.add(task);
+        }
+
+        for (int i = 0; i < toolExecutionRequests.size(); i++) {
+            ToolExecutionRequest toolExecutionRequest = toolExecutionRequests.get(i);
+            String toolExecutionResult = await(tasks.get(i), timeout(context, toolExecutionRequest.name()), startTime);
+            toolExecutionResultMessages.add(ToolExecutionResultMessage.from(toolExecutionRequest, toolExecutionResult));
+        }
+        return toolExecutionResultMessages;
+    }
+
+    /**
+     * Returns the executor shared by all AI Services for concurrent tool execution.
+     * It uses virtual threads when they are available (Java 21+), otherwise a cached pool of daemon threads.
+     * It is created on first use and never needs to be shut down.
+     */
+    static Executor defaultExecutor() {
+        return DefaultExecutorHolder.INSTANCE;
+    }
+
+    private static Duration timeout(AiServiceContext context, String toolName) {
+        if (context.toolExecutionTimeouts != null && context.toolExecutionTimeouts.containsKey(toolName)) {
+            return context.toolExecutionTimeouts.get(toolName);
+        }
+        return context.toolExecutionTimeout;
+    }
+
+    private static String await(FutureTask<String> task, Duration timeout, long startTime) {
+        try {
+            if (timeout == null) {
+                return task.get();
+            }
+            long remainingNanos = startTime + timeout.toNanos() - System.nanoTime();
+            try {
+                return task.get(remainingNanos, NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.cancel(true);
+                return String.format("Tool execution timed out after %s ms", timeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private static class DefaultExecutorHolder {
+
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+        private static final Executor INSTANCE = createExecutor();
+
+        private static Executor createExecutor() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return new ThreadPoolExecutor(
+                        0, Integer.MAX_VALUE,
+                        60, SECONDS,
+                        new SynchronousQueue<>(),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "ai-service-" + THREAD_COUNT.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                );
+            }
+        }
+    }
+}
@@ -5,6 +5,7 @@ import dev.langchain4j.internal.Json;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.structured.Description;
 import dev.langchain4j.service.*;
+import org.reactivestreams.Publisher;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
@@ -79,6 +80,7 @@ public class ServiceOutputParser {
         if (rawClass == String.class
                 || rawClass == AiMessage.class
                 || rawClass == TokenStream.class
+                || rawClass == Publisher.class
                 || rawClass == Response.class) {
             return "";
         }
@@ -0,0 +1,392 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * An in-memory HNSW (Hierarchical Navigable Small World) graph over the entries of an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * See "Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs"
+ * by Yu. A. Malkov and D. A. Yashunin.
+ * <p>
+ * Removed entries are only marked as deleted: they stay in the graph to keep it navigable,
+ * but are never returned. Once deleted nodes outnumber the live ones, the graph is rebuilt from scratch.
+ * <p>
+ * This class is thread-safe: searches can run concurrently, modifications are exclusive.
+ */
+class HnswIndex<Embedded> {
+
+    private static final Comparator<Candidate> BEST_FIRST = comparingDouble((Candidate c) -> c.similarity).reversed();
+    private static final Comparator<Candidate> WORST_FIRST = comparingDouble(c -> c.similarity);
+
+    private final HnswIndexConfig config;
+    private final boolean normalized;
+    private final double levelMultiplier;
+    private final Random random = new Random();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<Node<Embedded>> nodes = new ArrayList<>();
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+    private int deletedCount = 0;
+
+    /**
+     * @param normalized whether all embeddings (including queries) are normalized to unit length,
+     *                   in which case cosine similarity is calculated as a dot product.
+     */
+    HnswIndex(HnswIndexConfig config, boolean normalized) {
+        this.config = ensureNotNull(config, "config");
+        this.normalized = normalized;
+        this.levelMultiplier = 1 / Math.log(Math.max(config.m(), 2));
+    }
+
+    HnswIndexConfig config() {
+        return config;
+    }
+
+    void add(InMemoryEmbeddingStore.Entry<Embedded> entry) {
+        lock.writeLock().lock();
+        try {
+            insert(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void addAll(List<InMemoryEmbeddingStore.Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                insert(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeIf(Predicate<InMemoryEmbeddingStore.Entry<Embedded>> predicate) {
+        lock.writeLock().lock();
+        try {
+            for (Node<Embedded> node : nodes) {
+                if (!node.deleted && predicate.test(node.entry)) {
+                    node.deleted = true;
+                    deletedCount++;
+                }
+            }
+            if (deletedCount > nodes.size() - deletedCount) {
+                rebuild();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            reset();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size() - deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Finds up to {@code maxResults} entries most similar to the {@code query}
+     * among the entries accepted by the {@code filter}.
+     *
+     * @return the matches, ordered from the most to the least similar.
+     */
+    List<Match<Embedded>> search(Embedding query, int maxResults, Predicate<InMemoryEmbeddingStore.Entry<Embedded>> filter) {
+        lock.readLock().lock();
+        try {
+            if (entryPoint < 0) {
+                return Collections.emptyList();
+            }
+
+            Candidate current = new Candidate(entryPoint, similarity(query, entryPoint));
+            for (int level = maxLevel; level > 0; level--) {
+                current = closest(searchLayer(query, current, 1, level, node -> true));
+            }
+
+            int ef = Math.max(config.efSearch(), maxResults);
+            PriorityQueue<Candidate> found = searchLayer(query, current, ef, 0,
+                    node -> !node.deleted && filter.test(node.entry));
+
+            List<Candidate> candidates = new ArrayList<>(found);
+            candidates.sort(BEST_FIRST);
+
+            List<Match<Embedded>> matches = new ArrayList<>(Math.min(maxResults, candidates.size()));
+            for (Candidate candidate : candidates) {
+                if (matches.size() == maxResults) {
+                    break;
+                }
+                matches.add(new Match<>(nodes.get(candidate.node).entry, candidate.similarity));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(InMemoryEmbeddingStore.Entry<Embedded> entry) {
+        int level = randomLevel();
+        int id = nodes.size();
+        Node<Embedded> node = new Node<>(entry, level, config.m());
+        nodes.add(node);
+
+        if (entryPoint < 0) {
+            entryPoint = id;
+            maxLevel = level;
+            return;
+        }
+
+        Embedding embedding = entry.embedding;
+        Candidate current = new Candidate(entryPoint, similarity(embedding, entryPoint));
+        for (int l = maxLevel; l > level; l--) {
+            current = closest(searchLayer(embedding, current, 1, l, n -> true));
+        }
+
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            List<Candidate> candidates = new ArrayList<>(searchLayer(embedding, current, config.efConstruction(), l, n -> true));
+            candidates.sort(BEST_FIRST);
+
+            List<Candidate> neighbours = selectNeighbours(candidates, config.m());
+            for (Candidate neighbour : neighbours) {
+                node.connect(l, neighbour.node);
+                connect(neighbour.node, id, l);
+            }
+
+            current = candidates.get(0);
+        }
+
+        if (level > maxLevel) {
+            entryPoint = id;
+            maxLevel = level;
+        }
+    }
+
+    private void connect(int from, int to, int level) {
+        Node<Embedded> node = nodes.get(from);
+        if (node.sizes[level] < node.connections[level].length) {
+            node.connect(level, to);
+            return;
+        }
+
+        // the node is full, keep only the most diverse connections
+        List<Candidate> candidates = new ArrayList<>(node.sizes[level] + 1);
+        for (int i = 0; i < node.sizes[level]; i++) {
+            int neighbour = node.connections[level][i];
+            candidates.add(new Candidate(neighbour, similarity(node, nodes.get(neighbour))));
+        }
+        candidates.add(new Candidate(to, similarity(node, nodes.get(to))));
+        candidates.sort(BEST_FIRST);
+
+        List<Candidate> selected = selectNeighbours(candidates, node.connections[level].length);
+        node.sizes[level] = 0;
+        for (Candidate candidate : selected) {
+            node.connect(level, candidate.node);
+        }
+    }
+
+    /**
+     * The neighbour selection heuristic: a candidate is preferred when it is closer to the base
+     * than to any of the already selected neighbours. This keeps the graph navigable across clusters.
+     * Pruned candidates are used to fill up the remaining slots.
+     *
+     * @param candidates candidates ordered from the most to the least similar to the base.
+     */
+    private List<Candidate> selectNeighbours(List<Candidate> candidates, int max) {
+        List<Candidate> selected = new ArrayList<>(max);
+        List<Candidate> pruned = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= max) {
+                break;
+            }
+            Node<Embedded> candidateNode = nodes.get(candidate.node);
+            boolean diverse = true;
+            for (Candidate alreadySelected : selected) {
+                if (similarity(candidateNode, nodes.get(alreadySelected.node)) > candidate.similarity) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                pruned.add(candidate);
+            }
+        }
+        for (Candidate candidate : pruned) {
+            if (selected.size() >= max) {
+                break;
+            }
+            selected.add(candidate);
+        }
+        return selected;
+    }
+
+    /**
+     * Greedy best-first search within a single layer.
+     * All reachable nodes are traversed, but only nodes accepted by {@code accept} are collected as results.
+     *
+     * @return up to {@code ef} results, the least similar at the head of the queue.
+     */
+    private PriorityQueue<Candidate> searchLayer(Embedding query,
+                                                 Candidate entryPoint,
+                                                 int ef,
+                                                 int level,
+                                                 Predicate<Node<Embedded>> accept) {
+        BitSet visited = new BitSet(nodes.size());
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BEST_FIRST);
+        PriorityQueue<Candidate> results = new PriorityQueue<>(WORST_FIRST);
+
+        visited.set(entryPoint.node);
+        candidates.add(entryPoint);
+        if (accept.test(nodes.get(entryPoint.node))) {
+            results.add(entryPoint);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.similarity < results.peek().similarity) {
+                break;
+            }
+
+            Node<Embedded> node = nodes.get(current.node);
+            int[] connections = node.connections[level];
+            for (int i = 0; i < node.sizes[level]; i++) {
+                int neighbour = connections[i];
+                if (visited.get(neighbour)) {
+                    continue;
+                }
+                visited.set(neighbour);
+
+                double similarity = similarity(query, neighbour);
+                if (results.size() < ef || similarity > results.peek().similarity) {
+                    Candidate candidate = new Candidate(neighbour, similarity);
+                    candidates.add(candidate);
+                    if (accept.test(nodes.get(neighbour))) {
+                        results.add(candidate);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        return results;
+    }
+
+    private void rebuild() {
+        List<InMemoryEmbeddingStore.Entry<Embedded>> live = new ArrayList<>(nodes.size() - deletedCount);
+        for (Node<Embedded> node : nodes) {
+            if (!node.deleted) {
+                live.add(node.entry);
+            }
+        }
+        reset();
+        for (InMemoryEmbeddingStore.Entry<Embedded> entry : live) {
+            insert(entry);
+        }
+    }
+
+    private void reset() {
+        nodes.clear();
+        entryPoint = -1;
+        maxLevel = -1;
+        deletedCount = 0;
+    }
+
+    private int randomLevel() {
+        return (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    }
+
+    private double similarity(Embedding query, int node) {
+        return similarity(query, nodes.get(node).entry.embedding);
+    }
+
+    private double similarity(Node<?> a, Node<?> b) {
+        return similarity(a.entry.embedding, b.entry.embedding);
+    }
+
+    private double similarity(Embedding a, Embedding b) {
+        return normalized ? CosineSimilarity.betweenNormalized(a, b) : CosineSimilarity.between(a, b);
+    }
+
+    private static Candidate closest(PriorityQueue<Candidate> candidates) {
+        Candidate closest = null;
+        for (Candidate candidate : candidates) {
+            if (closest == null || candidate.similarity > closest.similarity) {
+                closest = candidate;
+            }
+        }
+        return closest;
+    }
+
+    static class Match<Embedded> {
+
+        final InMemoryEmbeddingStore.Entry<Embedded> entry;
+        final double cosineSimilarity;
+
+        Match(InMemoryEmbeddingStore.Entry<Embedded> entry, double cosineSimilarity) {
+            this.entry = entry;
+            this.cosineSimilarity = cosineSimilarity;
+        }
+    }
+
+    private static class Node<Embedded> {
+
+        final InMemoryEmbeddingStore.Entry<Embedded> entry;
+        final int[][] connections;
+        final int[] sizes;
+        boolean deleted;
+
+        Node(InMemoryEmbeddingStore.Entry<Embedded> entry, int level, int m) {
+            this.entry = entry;
+            this.connections = new int[level + 1][];
+            this.sizes = new int[level + 1];
+            for (int l = 0; l <= level; l++) {
+                this.connections[l] = new int[l == 0 ? 2 * m : m];
+            }
+        }
+
+        void connect(int level, int node) {
+            connections[level][sizes[level]++] = node;
+        }
+    }
+
+    private static class Candidate {
+
+        final int node;
+        final double similarity;
+
+        Candidate(int node, double similarity) {
+            this.node = node;
+            this.similarity = similarity;
+        }
+    }
+}
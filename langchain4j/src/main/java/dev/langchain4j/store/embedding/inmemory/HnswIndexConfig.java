@@ -0,0 +1,109 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import java.util.Objects;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+/**
+ * Configuration of the HNSW (Hierarchical Navigable Small World) index
+ * that can be used by {@link InMemoryEmbeddingStore} to speed up searches.
+ * <p>
+ * HNSW is an approximate nearest neighbour algorithm: searches are much faster than a brute force scan,
+ * but they might occasionally miss some of the best matches.
+ * Higher values of {@code m}, {@code efConstruction} and {@code efSearch}
+ * improve recall at the cost of memory, indexing time and search latency respectively.
+ */
+public class HnswIndexConfig {
+
+    static final int DEFAULT_M = 16;
+    static final int DEFAULT_EF_CONSTRUCTION = 200;
+    static final int DEFAULT_EF_SEARCH = 64;
+
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+
+    /**
+     * Creates a new HNSW index configuration.
+     *
+     * @param m              The maximum number of connections each node has per layer (level 0 allows {@code 2 * m}).
+     *                       Default value: {@value #DEFAULT_M}.
+     * @param efConstruction The size of the dynamic candidate list used while inserting new nodes.
+     *                       Default value: {@value #DEFAULT_EF_CONSTRUCTION}.
+     * @param efSearch       The size of the dynamic candidate list used while searching.
+     *                       It is automatically raised to {@code maxResults} when needed.
+     *                       Default value: {@value #DEFAULT_EF_SEARCH}.
+     */
+    public HnswIndexConfig(Integer m, Integer efConstruction, Integer efSearch) {
+        this.m = ensureGreaterThanZero(getOrDefault(m, DEFAULT_M), "m");
+        this.efConstruction = ensureGreaterThanZero(getOrDefault(efConstruction, DEFAULT_EF_CONSTRUCTION), "efConstruction");
+        this.efSearch = ensureGreaterThanZero(getOrDefault(efSearch, DEFAULT_EF_SEARCH), "efSearch");
+    }
+
+    public int m() {
+        return m;
+    }
+
+    public int efConstruction() {
+        return efConstruction;
+    }
+
+    public int efSearch() {
+        return efSearch;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HnswIndexConfig that = (HnswIndexConfig) o;
+        return this.m == that.m
+                && this.efConstruction == that.efConstruction
+                && this.efSearch == that.efSearch;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(m, efConstruction, efSearch);
+    }
+
+    @Override
+    public String toString() {
+        return "HnswIndexConfig {" +
+                " m = " + m +
+                ", efConstruction = " + efConstruction +
+                ", efSearch = " + efSearch +
+                " }";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer m;
+        private Integer efConstruction;
+        private Integer efSearch;
+
+        public Builder m(Integer m) {
+            this.m = m;
+            return this;
+        }
+
+        public Builder efConstruction(Integer efConstruction) {
+            this.efConstruction = efConstruction;
+            return this;
+        }
+
+        public Builder efSearch(Integer efSearch) {
+            this.efSearch = efSearch;
+            return this;
+        }
+
+        public HnswIndexConfig build() {
+            return new HnswIndexConfig(m, efConstruction, efSearch);
+        }
+    }
+}
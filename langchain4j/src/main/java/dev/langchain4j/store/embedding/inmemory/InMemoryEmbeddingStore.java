@@ -13,8 +13,12 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 import java.util.stream.IntStream;
 
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.randomUUID;
 import static dev.langchain4j.internal.ValidationUtils.*;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
@@ -27,11 +31,20 @@ import static java.util.stream.Collectors.toList;
 /**
  * An {@link EmbeddingStore} that stores embeddings in memory.
  * <p>
- * Uses a brute force approach by iterating over all embeddings to find the best matches.
+ * By default, uses a brute force approach by iterating over all embeddings to find the best matches.
+ * Optionally, an HNSW index can be configured (see {@link Builder#hnswIndex(HnswIndexConfig)})
+ * to find approximate best matches much faster in large stores.
+ * The index is kept up to date on every addition and removal. It is not persisted.
+ * <p>
+ * By default, each entry keeps its own {@link Embedding}. For large stores, vectors can instead be packed
+ * into contiguous on-heap or off-heap blocks (see {@link Builder#vectorStorage(VectorStorage)}).
  * <p>
  * This store can be persisted using the {@link #serializeToJson()} and {@link #serializeToFile(Path)} methods.
  * <p>
  * It can also be recreated from JSON or a file using the {@link #fromJson(String)} and {@link #fromFile(Path)} methods.
+ * <p>
+ * For large stores, a compact binary snapshot can be used instead
+ * (see {@link #serializeToBinaryFile(Path)} and {@link #fromBinaryFile(Path, boolean)}).
  *
  * @param <Embedded> The class of the object that has been embedded.
  *                   Typically, it is {@link dev.langchain4j.data.segment.TextSegment}.
@@ -39,13 +52,43 @@ import static java.util.stream.Collectors.toList;
 public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
 
     final CopyOnWriteArrayList<Entry<Embedded>> entries;
+    private final transient HnswIndex<Embedded> index;
+    private final transient VectorMatrix<Embedded> matrix;
+    private final transient boolean normalizeEmbeddings;
 
     public InMemoryEmbeddingStore() {
         this.entries = new CopyOnWriteArrayList<>();
+        this.index = null;
+        this.matrix = null;
+        this.normalizeEmbeddings = false;
     }
 
-    private InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
+    InMemoryEmbeddingStore(Collection<Entry<Embedded>> entries) {
         this.entries = new CopyOnWriteArrayList<>(entries);
+        this.index = null;
+        this.matrix = null;
+        this.normalizeEmbeddings = false;
+    }
+
+    InMemoryEmbeddingStore(VectorMatrix<Embedded> matrix) {
+        this.entries = new CopyOnWriteArrayList<>();
+        this.index = null;
+        this.matrix = ensureNotNull(matrix, "matrix");
+        this.normalizeEmbeddings = false;
+    }
+
+    private InMemoryEmbeddingStore(HnswIndexConfig hnswIndexConfig,
+                                   VectorStorage vectorStorage,
+                                   boolean normalizeEmbeddings) {
+        if (hnswIndexConfig != null && vectorStorage != VectorStorage.OBJECTS) {
+            throw illegalArgument("HNSW index is supported only with %s vector storage", VectorStorage.OBJECTS);
+        }
+        this.entries = new CopyOnWriteArrayList<>();
+        this.index = hnswIndexConfig == null ? null : new HnswIndex<>(hnswIndexConfig, normalizeEmbeddings);
+        this.matrix = vectorStorage == VectorStorage.OBJECTS
+                ? null
+                : new VectorMatrix<>(vectorStorage == VectorStorage.OFF_HEAP_MATRIX, normalizeEmbeddings);
+        this.normalizeEmbeddings = normalizeEmbeddings;
     }
 
     @Override
@@ -68,14 +111,22 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     }
 
     public void add(String id, Embedding embedding, Embedded embedded) {
-        entries.add(new Entry<>(id, embedding, embedded));
+        Entry<Embedded> entry = new Entry<>(id, normalizeIfNeeded(embedding), embedded);
+        if (matrix != null) {
+            matrix.add(entry);
+            return;
+        }
+        entries.add(entry);
+        if (index != null) {
+            index.add(entry);
+        }
     }
 
     @Override
     public List<String> addAll(List<Embedding> embeddings) {
 
         List<Entry<Embedded>> newEntries = embeddings.stream()
-                .map(embedding -> new Entry<Embedded>(randomUUID(), embedding))
+                .map(embedding -> new Entry<Embedded>(randomUUID(), normalizeIfNeeded(embedding)))
                 .collect(toList());
 
         return add(newEntries);
@@ -88,15 +139,39 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         }
 
         List<Entry<Embedded>> newEntries = IntStream.range(0, embeddings.size())
-                .mapToObj(i -> new Entry<>(randomUUID(), embeddings.get(i), embedded.get(i)))
+                .mapToObj(i -> new Entry<>(randomUUID(), normalizeIfNeeded(embeddings.get(i)), embedded.get(i)))
                 .collect(toList());
 
         return add(newEntries);
     }
 
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        if (ids.size() != embeddings.size() || (embedded != null && embedded.size() != embeddings.size())) {
+            throw new IllegalArgumentException("The lists of ids, embeddings and embedded must have the same size");
+        }
+
+        Set<String> newIds = new HashSet<>(ids);
+        removeIf((id, ignored) -> newIds.contains(id));
+
+        List<Entry<Embedded>> newEntries = IntStream.range(0, embeddings.size())
+                .mapToObj(i -> new Entry<>(ids.get(i), normalizeIfNeeded(embeddings.get(i)),
+                        embedded == null ? null : embedded.get(i)))
+                .collect(toList());
+
+        add(newEntries);
+    }
+
     private List<String> add(List<Entry<Embedded>> newEntries) {
 
-        entries.addAll(newEntries);
+        if (matrix != null) {
+            matrix.addAll(newEntries);
+        } else {
+            entries.addAll(newEntries);
+            if (index != null) {
+                index.addAll(newEntries);
+            }
+        }
 
         return newEntries.stream()
                 .map(entry -> entry.id)
@@ -107,17 +182,17 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
     public void removeAll(Collection<String> ids) {
         ensureNotEmpty(ids, "ids");
 
-        entries.removeIf(entry -> ids.contains(entry.id));
+        removeIf((id, embedded) -> ids.contains(id));
     }
 
     @Override
     public void removeAll(Filter filter) {
         ensureNotNull(filter, "filter");
 
-        entries.removeIf(entry -> {
-            if (entry.embedded instanceof TextSegment) {
-                return filter.test(((TextSegment) entry.embedded).metadata());
-            } else if (entry.embedded == null) {
+        removeIf((id, embedded) -> {
+            if (embedded instanceof TextSegment) {
+                return filter.test(((TextSegment) embedded).metadata());
+            } else if (embedded == null) {
                 return false;
             } else {
                 throw new UnsupportedOperationException("Not supported yet.");
@@ -125,29 +200,96 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         });
     }
 
+    private void removeIf(BiPredicate<String, Embedded> predicate) {
+        if (matrix != null) {
+            matrix.removeIf(predicate);
+            return;
+        }
+        Predicate<Entry<Embedded>> entryPredicate = entry -> predicate.test(entry.id, entry.embedded);
+        entries.removeIf(entryPredicate);
+        if (index != null) {
+            index.removeIf(entryPredicate);
+        }
+    }
+
     @Override
     public void removeAll() {
         entries.clear();
+        if (index != null) {
+            index.clear();
+        }
+        if (matrix != null) {
+            matrix.clear();
+        }
     }
 
     @Override
     public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest embeddingSearchRequest) {
+        if (index != null) {
+            return indexedSearch(embeddingSearchRequest);
+        }
+        if (matrix != null) {
+            return matrixSearch(embeddingSearchRequest);
+        }
+        return exactSearch(embeddingSearchRequest);
+    }
+
+    private EmbeddingSearchResult<Embedded> matrixSearch(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        Filter filter = embeddingSearchRequest.filter();
+
+        List<EmbeddingMatch<Embedded>> matches = matrix.search(
+                normalizeIfNeeded(embeddingSearchRequest.queryEmbedding()),
+                embeddingSearchRequest.maxResults(),
+                embeddingSearchRequest.minScore(),
+                embedded -> matches(filter, embedded)
+        );
+
+        return new EmbeddingSearchResult<>(matches);
+    }
+
+    private EmbeddingSearchResult<Embedded> indexedSearch(EmbeddingSearchRequest embeddingSearchRequest) {
+
+        Filter filter = embeddingSearchRequest.filter();
+
+        List<HnswIndex.Match<Embedded>> found = index.search(
+                normalizeIfNeeded(embeddingSearchRequest.queryEmbedding()),
+                embeddingSearchRequest.maxResults(),
+                entry -> matches(filter, entry.embedded)
+        );
+
+        List<EmbeddingMatch<Embedded>> result = new ArrayList<>(found.size());
+        for (HnswIndex.Match<Embedded> match : found) {
+            double score = RelevanceScore.fromCosineSimilarity(match.cosineSimilarity);
+            if (score >= embeddingSearchRequest.minScore()) {
+                result.add(new EmbeddingMatch<>(score, match.entry.id, match.entry.embedding, match.entry.embedded));
+            }
+        }
+
+        return new EmbeddingSearchResult<>(result);
+    }
+
+    /**
+     * Searches by comparing the query embedding with every stored embedding.
+     * Used when no index is configured. Always returns the exact best matches.
+     */
+    private EmbeddingSearchResult<Embedded> exactSearch(EmbeddingSearchRequest embeddingSearchRequest) {
 
         Comparator<EmbeddingMatch<Embedded>> comparator = comparingDouble(EmbeddingMatch::score);
         PriorityQueue<EmbeddingMatch<Embedded>> matches = new PriorityQueue<>(comparator);
 
         Filter filter = embeddingSearchRequest.filter();
+        Embedding queryEmbedding = normalizeIfNeeded(embeddingSearchRequest.queryEmbedding());
 
         for (Entry<Embedded> entry : entries) {
 
-            if (filter != null && entry.embedded instanceof TextSegment) {
-                Metadata metadata = ((TextSegment) entry.embedded).metadata();
-                if (!filter.test(metadata)) {
-                    continue;
-                }
+            if (!matches(filter, entry.embedded)) {
+                continue;
             }
 
-            double cosineSimilarity = CosineSimilarity.between(entry.embedding, embeddingSearchRequest.queryEmbedding());
+            double cosineSimilarity = normalizeEmbeddings
+                    ? CosineSimilarity.betweenNormalized(entry.embedding, queryEmbedding)
+                    : CosineSimilarity.between(entry.embedding, queryEmbedding);
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
             if (score >= embeddingSearchRequest.minScore()) {
                 matches.add(new EmbeddingMatch<>(score, entry.id, entry.embedding, entry.embedded));
@@ -164,7 +306,38 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return new EmbeddingSearchResult<>(result);
     }
 
+    /**
+     * Returns a normalized copy of the given embedding when {@link Builder#normalizeEmbeddings(Boolean)} is enabled.
+     * The given embedding is never modified, as it might still be used by the caller.
+     */
+    private Embedding normalizeIfNeeded(Embedding embedding) {
+        if (!normalizeEmbeddings || embedding == null) {
+            return embedding;
+        }
+        Embedding normalized = Embedding.from(embedding.vector().clone());
+        normalized.normalize();
+        return normalized;
+    }
+
+    private static boolean matches(Filter filter, Object embedded) {
+        if (filter != null && embedded instanceof TextSegment) {
+            Metadata metadata = ((TextSegment) embedded).metadata();
+            return filter.test(metadata);
+        }
+        return true;
+    }
+
+    /**
+     * Returns all entries of this store, regardless of the {@link VectorStorage} used.
+     */
+    List<Entry<Embedded>> allEntries() {
+        return matrix != null ? matrix.toEntries() : entries;
+    }
+
     public String serializeToJson() {
+        if (matrix != null) {
+            return loadCodec().toJson(new InMemoryEmbeddingStore<>(allEntries()));
+        }
         return loadCodec().toJson(this);
     }
 
@@ -181,6 +354,33 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         serializeToFile(Paths.get(filePath));
     }
 
+    /**
+     * Serializes this store into a compact, versioned binary snapshot.
+     * <p>
+     * Unlike {@link #serializeToFile(Path)}, the store is streamed into the file,
+     * never building the whole serialized form in memory, and vectors are stored as raw floats.
+     * Only {@link TextSegment}s (or no embedded objects) are supported.
+     * <p>
+     * The snapshot can be loaded with {@link #fromBinaryFile(Path)} or {@link #fromBinaryFile(Path, boolean)}.
+     *
+     * @param filePath the file to write the snapshot to. It is overwritten if it already exists.
+     */
+    public void serializeToBinaryFile(Path filePath) {
+        try {
+            if (matrix != null) {
+                matrix.serialize(filePath);
+            } else {
+                InMemoryEmbeddingStoreBinaryCodec.write(InMemoryEmbeddingStoreBinaryCodec.rowsOf(new ArrayList<>(entries)), filePath);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToBinaryFile(String filePath) {
+        serializeToBinaryFile(Paths.get(filePath));
+    }
+
     public static InMemoryEmbeddingStore<TextSegment> fromJson(String json) {
         return loadCodec().fromJson(json);
     }
@@ -198,6 +398,41 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return fromFile(Paths.get(filePath));
     }
 
+    /**
+     * Loads a store from a binary snapshot created by {@link #serializeToBinaryFile(Path)}.
+     * All vectors are copied onto the heap.
+     *
+     * @param filePath the snapshot file.
+     * @return the loaded store.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath) {
+        return fromBinaryFile(filePath, false);
+    }
+
+    /**
+     * Loads a store from a binary snapshot created by {@link #serializeToBinaryFile(Path)}.
+     *
+     * @param filePath          the snapshot file.
+     * @param keepVectorsMapped if {@code true}, vectors are not copied onto the heap.
+     *                          Instead, the returned store reads them directly from the memory-mapped file,
+     *                          which makes loading large stores almost instantaneous.
+     *                          The store stays fully modifiable: modifications are kept in memory
+     *                          and are never written back to the file.
+     *                          The file must not be modified while the store is in use.
+     * @return the loaded store.
+     */
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(Path filePath, boolean keepVectorsMapped) {
+        try {
+            return InMemoryEmbeddingStoreBinaryCodec.read(filePath, keepVectorsMapped);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static InMemoryEmbeddingStore<TextSegment> fromBinaryFile(String filePath) {
+        return fromBinaryFile(Paths.get(filePath));
+    }
+
     /**
      * Merges given {@code InMemoryEmbeddingStore}s into a single {@code InMemoryEmbeddingStore},
      * copying all entries from each store.
@@ -206,7 +441,7 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         ensureNotNull(stores, "stores");
         List<Entry<Embedded>> entries = new ArrayList<>();
         for (InMemoryEmbeddingStore<Embedded> store : stores) {
-            entries.addAll(store.entries);
+            entries.addAll(store.allEntries());
         }
         return new InMemoryEmbeddingStore<>(entries);
     }
@@ -220,7 +455,70 @@ public class InMemoryEmbeddingStore<Embedded> implements EmbeddingStore<Embedded
         return merge(asList(first, second));
     }
 
-    private static class Entry<Embedded> {
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private HnswIndexConfig hnswIndexConfig;
+        private VectorStorage vectorStorage;
+        private Boolean normalizeEmbeddings;
+
+        /**
+         * Enables the HNSW index. Optional.
+         * When not set, every search compares the query with all stored embeddings.
+         *
+         * @param hnswIndexConfig the configuration of the HNSW index.
+         * @return {@code this}
+         */
+        public Builder hnswIndex(HnswIndexConfig hnswIndexConfig) {
+            this.hnswIndexConfig = hnswIndexConfig;
+            return this;
+        }
+
+        /**
+         * Sets how embedding vectors are kept in memory. Optional.
+         * Default value: {@link VectorStorage#OBJECTS}.
+         * <p>
+         * {@link VectorStorage#HEAP_MATRIX} and {@link VectorStorage#OFF_HEAP_MATRIX}
+         * cannot be combined with {@link #hnswIndex(HnswIndexConfig)}.
+         *
+         * @param vectorStorage the vector storage.
+         * @return {@code this}
+         */
+        public Builder vectorStorage(VectorStorage vectorStorage) {
+            this.vectorStorage = vectorStorage;
+            return this;
+        }
+
+        /**
+         * Whether to normalize embeddings to unit length once, when they are added to the store. Optional.
+         * Default value: {@code false}.
+         * <p>
+         * When enabled, the query embedding is also normalized once per search,
+         * and cosine similarity is calculated as a plain dot product, which makes searches considerably faster.
+         * Scores and rankings stay the same (up to floating point rounding),
+         * but the embeddings returned in {@link EmbeddingMatch}es are the normalized ones.
+         *
+         * @param normalizeEmbeddings whether to normalize embeddings.
+         * @return {@code this}
+         */
+        public Builder normalizeEmbeddings(Boolean normalizeEmbeddings) {
+            this.normalizeEmbeddings = normalizeEmbeddings;
+            return this;
+        }
+
+        public <Embedded> InMemoryEmbeddingStore<Embedded> build() {
+            return new InMemoryEmbeddingStore<>(
+                    hnswIndexConfig,
+                    getOrDefault(vectorStorage, VectorStorage.OBJECTS),
+                    getOrDefault(normalizeEmbeddings, false)
+            );
+        }
+    }
+
+    static class Entry<Embedded> {
 
         String id;
         Embedding embedding;
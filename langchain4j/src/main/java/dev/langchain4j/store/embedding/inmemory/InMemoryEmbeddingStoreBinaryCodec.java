@@ -0,0 +1,335 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Reads and writes {@link InMemoryEmbeddingStore} snapshots in a compact binary format.
+ * <p>
+ * Unlike the JSON format, a snapshot is written and read in a streaming fashion,
+ * never holding the whole store as a single {@code String}.
+ * Vectors are stored as raw little-endian floats, so they can be memory-mapped on load.
+ * <p>
+ * Format (version 1):
+ * <pre>
+ * header   (32 bytes): magic, version, dimension, number of entries, reserved (all ints)
+ * vectors  (entries * dimension floats), one row per entry
+ * records  (one per entry, in the same order as vectors): id, embedded object
+ * </pre>
+ * Strings are written as an int length followed by UTF-8 bytes.
+ * The embedded object is either absent or a {@link TextSegment} with its {@link Metadata},
+ * whose values are written together with their type.
+ */
+class InMemoryEmbeddingStoreBinaryCodec {
+
+    static final int MAGIC = 0x4C344A45; // "L4JE"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 32;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private static final byte NO_EMBEDDED = 0;
+    private static final byte TEXT_SEGMENT = 1;
+
+    private static final byte STRING = 1;
+    private static final byte UUID_VALUE = 2;
+    private static final byte INTEGER = 3;
+    private static final byte LONG = 4;
+    private static final byte FLOAT = 5;
+    private static final byte DOUBLE = 6;
+
+    private InMemoryEmbeddingStoreBinaryCodec() {
+    }
+
+    /**
+     * A read-only view over the entries of a store being written.
+     */
+    interface Rows {
+
+        int size();
+
+        int dimension();
+
+        String id(int row);
+
+        Object embedded(int row);
+
+        /**
+         * Puts the vector of the given row into the {@code target} buffer.
+         */
+        void vector(int row, FloatBuffer target);
+    }
+
+    static Rows rowsOf(List<? extends InMemoryEmbeddingStore.Entry<?>> entries) {
+        int dimension = entries.isEmpty() ? 0 : entries.get(0).embedding.dimension();
+        return new Rows() {
+
+            @Override
+            public int size() {
+                return entries.size();
+            }
+
+            @Override
+            public int dimension() {
+                return dimension;
+            }
+
+            @Override
+            public String id(int row) {
+                return entries.get(row).id;
+            }
+
+            @Override
+            public Object embedded(int row) {
+                return entries.get(row).embedded;
+            }
+
+            @Override
+            public void vector(int row, FloatBuffer target) {
+                float[] vector = entries.get(row).embedding.vector();
+                if (vector.length != dimension) {
+                    throw illegalArgument("All embeddings in the store must have the same dimension (%s), but got %s",
+                            dimension, vector.length);
+                }
+                target.put(vector);
+            }
+        };
+    }
+
+    static void write(Rows rows, Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, CREATE, WRITE, TRUNCATE_EXISTING)) {
+
+            int size = rows.size();
+            int dimension = rows.dimension();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(dimension).putInt(size);
+            header.clear();
+            writeFully(channel, header);
+
+            if (dimension > 0) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(WRITE_BUFFER_SIZE, dimension * Float.BYTES))
+                        .order(LITTLE_ENDIAN);
+                FloatBuffer floats = buffer.asFloatBuffer();
+                for (int row = 0; row < size; row++) {
+                    if (floats.remaining() < dimension) {
+                        flush(channel, buffer, floats);
+                    }
+                    rows.vector(row, floats);
+                }
+                flush(channel, buffer, floats);
+            }
+
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)));
+            for (int row = 0; row < size; row++) {
+                writeString(out, rows.id(row));
+                writeEmbedded(out, rows.embedded(row));
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Reads a snapshot.
+     *
+     * @param keepVectorsMapped if {@code true}, vectors are not copied onto the heap:
+     *                          the returned store reads them directly from the memory-mapped file.
+     *                          Blocks of vectors are copied into memory only once they are modified.
+     */
+    static InMemoryEmbeddingStore<TextSegment> read(Path filePath, boolean keepVectorsMapped) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, READ)) {
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw illegalArgument("'%s' is not an InMemoryEmbeddingStore binary snapshot", filePath);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw illegalArgument("'%s' is not an InMemoryEmbeddingStore binary snapshot", filePath);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw illegalArgument("Unsupported InMemoryEmbeddingStore binary snapshot version: %s", version);
+            }
+            int dimension = header.getInt();
+            int size = header.getInt();
+
+            List<FloatBuffer> blocks = new ArrayList<>();
+            long rowSize = (long) dimension * Float.BYTES;
+            for (int firstRow = 0; firstRow < size; firstRow += VectorMatrix.ROWS_PER_BLOCK) {
+                int rows = Math.min(VectorMatrix.ROWS_PER_BLOCK, size - firstRow);
+                ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + firstRow * rowSize, rows * rowSize);
+                blocks.add(mapped.order(LITTLE_ENDIAN).asFloatBuffer());
+            }
+
+            channel.position(HEADER_SIZE + size * rowSize);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            List<String> ids = new ArrayList<>(size);
+            List<TextSegment> embedded = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                ids.add(readString(in));
+                embedded.add(readEmbedded(in));
+            }
+
+            if (keepVectorsMapped) {
+                return new InMemoryEmbeddingStore<>(new VectorMatrix<>(blocks, dimension, ids, embedded));
+            }
+
+            List<InMemoryEmbeddingStore.Entry<TextSegment>> entries = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                FloatBuffer block = blocks.get(row / VectorMatrix.ROWS_PER_BLOCK).duplicate();
+                block.position((row % VectorMatrix.ROWS_PER_BLOCK) * dimension);
+                float[] vector = new float[dimension];
+                block.get(vector);
+                entries.add(new InMemoryEmbeddingStore.Entry<>(ids.get(row), Embedding.from(vector), embedded.get(row)));
+            }
+            return new InMemoryEmbeddingStore<>(entries);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, FloatBuffer floats) throws IOException {
+        buffer.limit(floats.position() * Float.BYTES);
+        buffer.position(0);
+        writeFully(channel, buffer);
+        buffer.clear();
+        floats.clear();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void writeEmbedded(DataOutputStream out, Object embedded) throws IOException {
+        if (embedded == null) {
+            out.writeByte(NO_EMBEDDED);
+        } else if (embedded instanceof TextSegment) {
+            TextSegment segment = (TextSegment) embedded;
+            out.writeByte(TEXT_SEGMENT);
+            writeString(out, segment.text());
+            writeMetadata(out, segment.metadata());
+        } else {
+            throw illegalArgument("Only %s can be written to a binary snapshot, but got %s",
+                    TextSegment.class.getSimpleName(), embedded.getClass().getName());
+        }
+    }
+
+    private static TextSegment readEmbedded(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        if (type == NO_EMBEDDED) {
+            return null;
+        } else if (type == TEXT_SEGMENT) {
+            String text = readString(in);
+            return TextSegment.from(text, readMetadata(in));
+        }
+        throw illegalArgument("Unknown embedded type: %s", type);
+    }
+
+    private static void writeMetadata(DataOutputStream out, Metadata metadata) throws IOException {
+        Map<String, Object> map = metadata.toMap();
+        out.writeInt(map.size());
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString(out, (String) value);
+            } else if (value instanceof UUID) {
+                out.writeByte(UUID_VALUE);
+                out.writeLong(((UUID) value).getMostSignificantBits());
+                out.writeLong(((UUID) value).getLeastSignificantBits());
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else {
+                throw illegalArgument("Unsupported metadata value type: %s", value.getClass().getName());
+            }
+        }
+    }
+
+    private static Metadata readMetadata(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        Map<String, Object> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            byte type = in.readByte();
+            switch (type) {
+                case STRING:
+                    map.put(key, readString(in));
+                    break;
+                case UUID_VALUE:
+                    map.put(key, new UUID(in.readLong(), in.readLong()));
+                    break;
+                case INTEGER:
+                    map.put(key, in.readInt());
+                    break;
+                case LONG:
+                    map.put(key, in.readLong());
+                    break;
+                case FLOAT:
+                    map.put(key, in.readFloat());
+                    break;
+                case DOUBLE:
+                    map.put(key, in.readDouble());
+                    break;
+                default:
+                    throw illegalArgument("Unknown metadata value type: %s", type);
+            }
+        }
+        return Metadata.from(map);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new EOFException("Corrupted binary snapshot: negative string length");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}
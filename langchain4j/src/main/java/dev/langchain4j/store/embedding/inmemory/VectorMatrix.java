@@ -0,0 +1,352 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.RelevanceScore;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static java.util.Comparator.comparingDouble;
+
+/**
+ * Columnar storage of the entries of an {@link InMemoryEmbeddingStore}.
+ * <p>
+ * Vectors are packed row by row into fixed-size blocks of {@value #ROWS_PER_BLOCK} rows,
+ * either on the Java heap or in direct buffers. Adding a vector never copies existing ones:
+ * a new block is allocated when the last one is full.
+ * Ids and embedded objects are kept in parallel lists.
+ * <p>
+ * Removal moves the last row into the freed slot, so the order of the rows is not preserved.
+ * <p>
+ * Blocks can also be read-only views of a memory-mapped snapshot (see {@link InMemoryEmbeddingStoreBinaryCodec}).
+ * Such a block is copied into memory the first time one of its rows is modified.
+ * <p>
+ * This class is thread-safe: searches can run concurrently, modifications are exclusive.
+ */
+class VectorMatrix<Embedded> {
+
+    static final int ROWS_PER_BLOCK = 1024;
+
+    private static final Comparator<Candidate> WORST_FIRST = comparingDouble(c -> c.score);
+
+    private final boolean offHeap;
+    private final boolean normalized;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<FloatBuffer> blocks = new ArrayList<>();
+    private final List<String> ids = new ArrayList<>();
+    private final List<Embedded> embedded = new ArrayList<>();
+    private int dimension = -1;
+
+    /**
+     * @param offHeap    whether to store vectors in direct buffers.
+     * @param normalized whether all embeddings (including queries) are normalized to unit length,
+     *                   in which case cosine similarity is calculated as a dot product.
+     */
+    VectorMatrix(boolean offHeap, boolean normalized) {
+        this.offHeap = offHeap;
+        this.normalized = normalized;
+    }
+
+    /**
+     * Creates a matrix over existing (possibly read-only and memory-mapped) blocks.
+     * New blocks are allocated off-heap.
+     */
+    VectorMatrix(List<FloatBuffer> blocks, int dimension, List<String> ids, List<Embedded> embedded) {
+        this(true, false);
+        this.blocks.addAll(blocks);
+        this.ids.addAll(ids);
+        this.embedded.addAll(embedded);
+        this.dimension = ids.isEmpty() ? -1 : dimension;
+    }
+
+    void add(InMemoryEmbeddingStore.Entry<Embedded> entry) {
+        lock.writeLock().lock();
+        try {
+            append(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void addAll(List<InMemoryEmbeddingStore.Entry<Embedded>> entries) {
+        lock.writeLock().lock();
+        try {
+            for (InMemoryEmbeddingStore.Entry<Embedded> entry : entries) {
+                append(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeIf(BiPredicate<String, Embedded> predicate) {
+        lock.writeLock().lock();
+        try {
+            int row = 0;
+            while (row < ids.size()) {
+                if (predicate.test(ids.get(row), embedded.get(row))) {
+                    removeRow(row);
+                } else {
+                    row++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void clear() {
+        lock.writeLock().lock();
+        try {
+            blocks.clear();
+            ids.clear();
+            embedded.clear();
+            dimension = -1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<InMemoryEmbeddingStore.Entry<Embedded>> toEntries() {
+        lock.readLock().lock();
+        try {
+            List<InMemoryEmbeddingStore.Entry<Embedded>> entries = new ArrayList<>(ids.size());
+            for (int row = 0; row < ids.size(); row++) {
+                entries.add(new InMemoryEmbeddingStore.Entry<>(ids.get(row), Embedding.from(readRow(row)), embedded.get(row)));
+            }
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    void serialize(Path filePath) throws IOException {
+        lock.readLock().lock();
+        try {
+            InMemoryEmbeddingStoreBinaryCodec.write(new InMemoryEmbeddingStoreBinaryCodec.Rows() {
+
+                @Override
+                public int size() {
+                    return ids.size();
+                }
+
+                @Override
+                public int dimension() {
+                    return Math.max(dimension, 0);
+                }
+
+                @Override
+                public String id(int row) {
+                    return ids.get(row);
+                }
+
+                @Override
+                public Object embedded(int row) {
+                    return embedded.get(row);
+                }
+
+                @Override
+                public void vector(int row, FloatBuffer target) {
+                    FloatBuffer block = blocks.get(row / ROWS_PER_BLOCK).duplicate();
+                    int offset = (row % ROWS_PER_BLOCK) * dimension;
+                    block.limit(offset + dimension);
+                    block.position(offset);
+                    target.put(block);
+                }
+            }, filePath);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scans all rows sequentially and returns up to {@code maxResults} best matches
+     * with a score of at least {@code minScore} among the rows accepted by the {@code filter}.
+     *
+     * @return the matches, ordered from the most to the least relevant.
+     */
+    List<EmbeddingMatch<Embedded>> search(Embedding query, int maxResults, double minScore, Predicate<Embedded> filter) {
+        lock.readLock().lock();
+        try {
+            int size = ids.size();
+            if (size == 0) {
+                return new ArrayList<>();
+            }
+
+            float[] queryVector = query.vector();
+            if (queryVector.length != dimension) {
+                throw illegalArgument("Length of vector a (%s) must be equal to the length of vector b (%s)",
+                        dimension, queryVector.length);
+            }
+
+            FloatBuffer queryBuffer = FloatBuffer.wrap(queryVector);
+            double queryNorm = Math.sqrt(CosineSimilarity.dotProduct(queryVector, queryVector));
+
+            PriorityQueue<Candidate> candidates = new PriorityQueue<>(WORST_FIRST);
+            for (int row = 0; row < size; row++) {
+
+                if (!filter.test(embedded.get(row))) {
+                    continue;
+                }
+
+                FloatBuffer block = blocks.get(row / ROWS_PER_BLOCK);
+                int offset = (row % ROWS_PER_BLOCK) * dimension;
+                double cosineSimilarity = dotProduct(block, offset, queryBuffer, 0);
+                if (!normalized) {
+                    double norm = Math.sqrt(dotProduct(block, offset, block, offset));
+                    cosineSimilarity /= Math.max(norm * queryNorm, CosineSimilarity.EPSILON);
+                }
+
+                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+                if (score >= minScore) {
+                    candidates.add(new Candidate(row, score));
+                    if (candidates.size() > maxResults) {
+                        candidates.poll();
+                    }
+                }
+            }
+
+            List<Candidate> sorted = new ArrayList<>(candidates);
+            sorted.sort(WORST_FIRST.reversed());
+
+            List<EmbeddingMatch<Embedded>> matches = new ArrayList<>(sorted.size());
+            for (Candidate candidate : sorted) {
+                matches.add(new EmbeddingMatch<>(
+                        candidate.score,
+                        ids.get(candidate.row),
+                        Embedding.from(readRow(candidate.row)),
+                        embedded.get(candidate.row)
+                ));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void append(InMemoryEmbeddingStore.Entry<Embedded> entry) {
+        float[] vector = entry.embedding.vector();
+        if (dimension < 0) {
+            dimension = vector.length;
+        } else if (vector.length != dimension) {
+            throw illegalArgument("All embeddings in the store must have the same dimension (%s), but got %s",
+                    dimension, vector.length);
+        }
+
+        int row = ids.size();
+        if (row % ROWS_PER_BLOCK == 0) {
+            blocks.add(allocateBlock());
+        }
+        writeRow(row, vector);
+        ids.add(entry.id);
+        embedded.add(entry.embedded);
+    }
+
+    private void removeRow(int row) {
+        int last = ids.size() - 1;
+        if (row != last) {
+            writeRow(row, readRow(last));
+            ids.set(row, ids.get(last));
+            embedded.set(row, embedded.get(last));
+        }
+        ids.remove(last);
+        embedded.remove(last);
+        if (last % ROWS_PER_BLOCK == 0) {
+            blocks.remove(blocks.size() - 1);
+        }
+        if (ids.isEmpty()) {
+            dimension = -1;
+        }
+    }
+
+    private FloatBuffer allocateBlock() {
+        int capacity = ROWS_PER_BLOCK * dimension;
+        if (offHeap) {
+            return ByteBuffer.allocateDirect(capacity * Float.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asFloatBuffer();
+        }
+        return FloatBuffer.wrap(new float[capacity]);
+    }
+
+    private void writeRow(int row, float[] vector) {
+        FloatBuffer block = writableBlock(row / ROWS_PER_BLOCK).duplicate();
+        block.position((row % ROWS_PER_BLOCK) * dimension);
+        block.put(vector);
+    }
+
+    /**
+     * Returns the block with the given index, first replacing it with a full-size writable copy
+     * if it is a read-only (e.g., memory-mapped) one.
+     */
+    private FloatBuffer writableBlock(int index) {
+        FloatBuffer block = blocks.get(index);
+        if (!block.isReadOnly() && block.capacity() == ROWS_PER_BLOCK * dimension) {
+            return block;
+        }
+        FloatBuffer copy = allocateBlock();
+        FloatBuffer source = block.duplicate();
+        source.clear();
+        copy.put(source);
+        copy.clear();
+        blocks.set(index, copy);
+        return copy;
+    }
+
+    private float[] readRow(int row) {
+        FloatBuffer block = blocks.get(row / ROWS_PER_BLOCK).duplicate();
+        block.position((row % ROWS_PER_BLOCK) * dimension);
+        float[] vector = new float[dimension];
+        block.get(vector);
+        return vector;
+    }
+
+    /**
+     * Calculates dot product of the vectors stored in the given buffers at the given offsets,
+     * reading the backing arrays directly when both buffers have one.
+     */
+    private double dotProduct(FloatBuffer vectorA, int offsetA, FloatBuffer vectorB, int offsetB) {
+        if (vectorA.hasArray() && vectorB.hasArray()) {
+            return CosineSimilarity.dotProduct(
+                    vectorA.array(), vectorA.arrayOffset() + offsetA,
+                    vectorB.array(), vectorB.arrayOffset() + offsetB,
+                    dimension);
+        }
+        return CosineSimilarity.dotProduct(vectorA, offsetA, vectorB, offsetB, dimension);
+    }
+
+    private static class Candidate {
+
+        final int row;
+        final double score;
+
+        Candidate(int row, double score) {
+            this.row = row;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+/**
+ * Defines how {@link InMemoryEmbeddingStore} keeps embedding vectors in memory.
+ */
+public enum VectorStorage {
+
+    /**
+     * Each entry keeps its own {@link dev.langchain4j.data.embedding.Embedding} object.
+     * This is the default.
+     */
+    OBJECTS,
+
+    /**
+     * All vectors are packed into large contiguous {@code float} blocks on the Java heap,
+     * with ids and embedded objects kept in parallel arrays.
+     * This avoids a per-vector object overhead, keeps vectors close to each other in memory
+     * (which makes the brute force search a cache-friendly sequential scan)
+     * and does not copy existing vectors when new ones are added.
+     */
+    HEAP_MATRIX,
+
+    /**
+     * Same as {@link #HEAP_MATRIX}, but vectors are stored in direct (off-heap) buffers.
+     * This keeps large stores out of the garbage collector's way.
+     */
+    OFF_HEAP_MATRIX
+}
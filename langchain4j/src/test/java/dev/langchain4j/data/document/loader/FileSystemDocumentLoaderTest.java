@@ -13,6 +13,7 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.nio.file.*;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static dev.langchain4j.data.document.loader.FileSystemDocumentLoader.*;
 import static java.util.stream.Collectors.toList;
@@ -255,6 +256,33 @@ class FileSystemDocumentLoaderTest implements WithAssertions {
         assertThat(loadDocumentsRecursively(resourceDirectory.toString(), pathMatcher)).isEqualTo(documents);
     }
 
+    @Test
+    void should_recursively_stream_documents() {
+
+        // given
+        Path resourceDirectory = resourceDirectory();
+        PathMatcher pathMatcher = FileSystems.getDefault().getPathMatcher("glob:**.banana");
+
+        // when
+        List<Document> documents;
+        try (Stream<Document> stream = streamDocumentsRecursively(resourceDirectory, new TextDocumentParser())) {
+            documents = stream.collect(toList());
+        }
+        List<Document> matchingDocuments;
+        try (Stream<Document> stream = streamDocumentsRecursively(resourceDirectory, pathMatcher)) {
+            matchingDocuments = stream.collect(toList());
+        }
+
+        // then
+        assertThat(documents).containsExactlyInAnyOrderElementsOf(loadDocumentsRecursively(resourceDirectory));
+        assertThat(matchingDocuments).containsExactlyInAnyOrderElementsOf(
+                loadDocumentsRecursively(resourceDirectory, pathMatcher));
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> streamDocumentsRecursively(Paths.get("bad_directory")))
+                .withMessageContaining("'bad_directory' is not a directory");
+    }
+
     private static Path resourceDirectory() {
         String userDir = System.getProperty("user.dir");
         Path resourceDirectory = Paths.get(userDir, "langchain4j/src/test/resources");
@@ -0,0 +1,184 @@
+package dev.langchain4j.memory.chat;
+
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+class ChatMemoryRegistryTest implements WithAssertions {
+
+    private final ChatMemoryStore store = new InMemoryChatMemoryStore();
+    private final List<Object> providedMemoryIds = new ArrayList<>();
+    private final ChatMemoryProvider provider = memoryId -> {
+        providedMemoryIds.add(memoryId);
+        return MessageWindowChatMemory.builder()
+                .id(memoryId)
+                .maxMessages(10)
+                .chatMemoryStore(store)
+                .build();
+    };
+
+    @Test
+    void should_create_chat_memory_once_per_memory_id() {
+
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+
+        ChatMemory first = registry.getOrCreate("a", provider);
+        ChatMemory second = registry.getOrCreate("a", provider);
+
+        assertThat(second).isSameAs(first);
+        assertThat(providedMemoryIds).containsExactly("a");
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.evictionCount()).isZero();
+    }
+
+    @Test
+    void should_evict_least_recently_used_chat_memory_when_full() {
+
+        ChatMemoryRegistry registry = ChatMemoryRegistry.builder()
+                .maxSize(2)
+                .build();
+
+        registry.getOrCreate("a", provider).add(userMessage("hello"));
+        registry.getOrCreate("b", provider);
+        registry.getOrCreate("a", provider);
+        registry.getOrCreate("c", provider);
+
+        assertThat(registry.size()).isEqualTo(2);
+        assertThat(registry.evictionCount()).isEqualTo(1);
+        assertThat(registry.get("b")).isNull();
+        assertThat(registry.get("a")).isNotNull();
+
+        // evicted chat memory is created again and its messages are retained in the store
+        registry.getOrCreate("a", provider);
+        registry.getOrCreate("b", provider);
+        registry.getOrCreate("d", provider);
+        assertThat(registry.getOrCreate("a", provider).messages()).containsExactly(userMessage("hello"));
+        assertThat(providedMemoryIds).containsExactly("a", "b", "c", "b", "d", "a");
+    }
+
+    @Test
+    void should_evict_idle_chat_memories() throws InterruptedException {
+
+        ChatMemoryRegistry registry = ChatMemoryRegistry.builder()
+                .idleTimeout(Duration.ofMillis(100))
+                .build();
+
+        registry.getOrCreate("a", provider);
+        Thread.sleep(200);
+        registry.getOrCreate("b", provider);
+
+        assertThat(registry.get("a")).isNull();
+        assertThat(registry.size()).isEqualTo(1);
+        assertThat(registry.evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void should_hold_chat_memories_via_soft_references() {
+
+        ChatMemoryRegistry registry = ChatMemoryRegistry.builder()
+                .softReferences(true)
+                .build();
+
+        ChatMemory chatMemory = registry.getOrCreate("a", provider);
+
+        assertThat(registry.getOrCreate("a", provider)).isSameAs(chatMemory);
+        assertThat(providedMemoryIds).containsExactly("a");
+    }
+
+    @Test
+    void should_not_block_other_memory_ids_while_creating_chat_memory() throws Exception {
+
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+        CountDownLatch creatingA = new CountDownLatch(1);
+        CountDownLatch releaseA = new CountDownLatch(1);
+        ChatMemoryProvider slowProvider = memoryId -> {
+            creatingA.countDown();
+            try {
+                releaseA.await();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return provider.get(memoryId);
+        };
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ChatMemory> a = executor.submit(() -> registry.getOrCreate("a", slowProvider));
+            assertThat(creatingA.await(10, SECONDS)).isTrue();
+
+            assertThat(registry.getOrCreate("b", provider)).isNotNull();
+
+            releaseA.countDown();
+            assertThat(a.get(10, SECONDS)).isSameAs(registry.get("a"));
+        } finally {
+            releaseA.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_create_chat_memory_once_per_memory_id_when_used_concurrently() throws Exception {
+
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+        AtomicInteger providedCount = new AtomicInteger();
+        ChatMemoryProvider countingProvider = memoryId -> {
+            providedCount.incrementAndGet();
+            return MessageWindowChatMemory.withMaxMessages(10);
+        };
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int memoryId = 0; memoryId < 1000; memoryId++) {
+                        registry.getOrCreate(memoryId, countingProvider);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(providedCount.get()).isEqualTo(1000);
+        assertThat(registry.size()).isEqualTo(1000);
+    }
+
+    @Test
+    void should_expose_chat_memories_as_map() {
+
+        ChatMemoryRegistry registry = new ChatMemoryRegistry();
+        Map<Object, ChatMemory> chatMemories = registry.asMap();
+
+        ChatMemory a = chatMemories.computeIfAbsent("a", provider::get);
+        ChatMemory b = registry.getOrCreate("b", provider);
+
+        assertThat(chatMemories.computeIfAbsent("a", provider::get)).isSameAs(a);
+        assertThat(providedMemoryIds).containsExactly("a", "b");
+        assertThat(chatMemories).hasSize(2);
+        assertThat(chatMemories).containsEntry("a", a).containsEntry("b", b);
+
+        assertThat(chatMemories.remove("a")).isSameAs(a);
+        assertThat(registry.get("a")).isNull();
+        assertThat(chatMemories).containsOnlyKeys("b");
+    }
+}
@@ -2,13 +2,20 @@ package dev.langchain4j.memory.chat;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.ToolExecutionResultMessage;
 import dev.langchain4j.data.message.UserMessage;
 import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.store.memory.chat.AppendableChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import static dev.langchain4j.data.message.AiMessage.aiMessage;
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
@@ -469,4 +476,82 @@ class MessageWindowChatMemoryTest implements WithAssertions {
         // then orphan toolExecutionResultMessage1 and toolExecutionResultMessage2 are evicted together with aiMessage
         assertThat(chatMemory.messages()).containsExactly(systemMessage, aiMessage2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_write_only_new_and_evicted_messages_to_appendable_store() {
+
+        // given
+        RecordingAppendableChatMemoryStore store = new RecordingAppendableChatMemoryStore();
+        ChatMemory chatMemory = MessageWindowChatMemory.builder()
+                .maxMessages(3)
+                .chatMemoryStore(store)
+                .build();
+
+        SystemMessage systemMessage = systemMessage("Be concise");
+        UserMessage firstUserMessage = userMessage("hello");
+        AiMessage firstAiMessage = aiMessage("hi");
+        UserMessage secondUserMessage = userMessage("sup");
+
+        // when
+        chatMemory.add(systemMessage);
+        chatMemory.add(firstUserMessage);
+        chatMemory.add(firstAiMessage);
+        chatMemory.add(secondUserMessage);
+
+        // then
+        assertThat(store.operations).containsExactly(
+                "append [" + systemMessage + "]",
+                "append [" + firstUserMessage + "]",
+                "append [" + firstAiMessage + "]",
+                "evict 1..2",
+                "append [" + secondUserMessage + "]"
+        );
+        assertThat(store.getMessages("default")).containsExactly(systemMessage, firstAiMessage, secondUserMessage);
+
+        // when
+        SystemMessage newSystemMessage = systemMessage("Be verbose");
+        chatMemory.add(newSystemMessage);
+
+        // then
+        assertThat(store.operations).endsWith(
+                "evict 0..1",
+                "append [" + newSystemMessage + "]"
+        );
+        assertThat(store.getMessages("default")).containsExactly(firstAiMessage, secondUserMessage, newSystemMessage);
+    }
+
+    private static class RecordingAppendableChatMemoryStore implements AppendableChatMemoryStore {
+
+        private final Map<Object, List<ChatMessage>> messagesByMemoryId = new HashMap<>();
+        private final List<String> operations = new ArrayList<>();
+
+        @Override
+        public List<ChatMessage> getMessages(Object memoryId) {
+            return new ArrayList<>(messagesByMemoryId.getOrDefault(memoryId, new ArrayList<>()));
+        }
+
+        @Override
+        public void updateMessages(Object memoryId, List<ChatMessage> messages) {
+            operations.add("update " + messages);
+            messagesByMemoryId.put(memoryId, new ArrayList<>(messages));
+        }
+
+        @Override
+        public void appendMessages(Object memoryId, List<ChatMessage> messages) {
+            operations.add("append " + messages);
+            messagesByMemoryId.computeIfAbsent(memoryId, ignored -> new ArrayList<>()).addAll(messages);
+        }
+
+        @Override
+        public void evictMessages(Object memoryId, int fromIndex, int count) {
+            operations.add("evict " + fromIndex + ".." + (fromIndex + count));
+            messagesByMemoryId.get(memoryId).subList(fromIndex, fromIndex + count).clear();
+        }
+
+        @Override
+        public void deleteMessages(Object memoryId) {
+            operations.add("delete");
+            messagesByMemoryId.remove(memoryId);
+        }
+    }
+}
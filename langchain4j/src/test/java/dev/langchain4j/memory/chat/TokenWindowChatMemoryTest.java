@@ -1,18 +1,29 @@
 package dev.langchain4j.memory.chat;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.*;
 import dev.langchain4j.memory.ChatMemory;
 import dev.langchain4j.model.Tokenizer;
 import dev.langchain4j.model.openai.OpenAiTokenizer;
+import dev.langchain4j.store.memory.chat.ChatMemoryStore;
+import dev.langchain4j.store.memory.chat.InMemoryChatMemoryStore;
 import org.assertj.core.api.WithAssertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static dev.langchain4j.data.message.SystemMessage.systemMessage;
 import static dev.langchain4j.data.message.UserMessage.userMessage;
 import static dev.langchain4j.internal.TestUtils.*;
 import static dev.langchain4j.model.openai.OpenAiModelName.GPT_3_5_TURBO;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 class TokenWindowChatMemoryTest implements WithAssertions {
 
@@ -609,4 +620,141 @@ class TokenWindowChatMemoryTest implements WithAssertions {
                 .isEqualTo(EXTRA_TOKENS_PER_REQUEST + systemMessageTokens + aiMessage2Tokens)
                 .isEqualTo(32);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_estimate_token_count_of_each_message_only_once() {
+
+        // given
+        CountingTokenizer tokenizer = new CountingTokenizer(TOKENIZER);
+
+        ChatMessage systemMessage = systemMessage("You are a helpful assistant");
+        ChatMessage m1 = userMessage("hello");
+        ChatMessage m2 = AiMessage.from("hi");
+        ChatMessage m3 = userMessage("how are you?");
+        ChatMessage m4 = AiMessage.from("fine, thanks");
+
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(EXTRA_TOKENS_PER_REQUEST
+                        + TOKENIZER.estimateTokenCountInMessage(systemMessage)
+                        + TOKENIZER.estimateTokenCountInMessage(m3)
+                        + TOKENIZER.estimateTokenCountInMessage(m4), tokenizer)
+                .build();
+
+        // when
+        chatMemory.add(systemMessage);
+        chatMemory.add(m1);
+        chatMemory.add(m2);
+        chatMemory.add(m3);
+        chatMemory.add(m4);
+        List<ChatMessage> messages = chatMemory.messages();
+
+        // then
+        assertThat(messages).containsExactly(systemMessage, m3, m4);
+        assertThat(tokenizer.estimatedMessages).containsExactly(systemMessage, m1, m2, m3, m4);
+    }
+
+    @Test
+    void should_estimate_token_count_of_each_message_only_once_when_used_concurrently() throws Exception {
+
+        // given
+        CountingTokenizer tokenizer = new CountingTokenizer(TOKENIZER);
+
+        List<ChatMessage> storedMessages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            storedMessages.add(userMessage("message " + i));
+        }
+        ChatMemoryStore store = new InMemoryChatMemoryStore();
+        store.updateMessages("default", storedMessages);
+
+        ChatMemory chatMemory = TokenWindowChatMemory.builder()
+                .maxTokens(1000, tokenizer)
+                .chatMemoryStore(store)
+                .build();
+
+        // when
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<List<ChatMessage>>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(chatMemory::messages));
+            }
+
+            // then
+            for (Future<List<ChatMessage>> future : futures) {
+                assertThat(future.get(10, SECONDS)).isEqualTo(storedMessages);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(tokenizer.estimatedMessages).containsExactlyInAnyOrderElementsOf(storedMessages);
+    }
+
+    @Test
+    void should_not_lose_messages_when_added_concurrently() throws Exception {
+
+        // given
+        ChatMemory chatMemory = TokenWindowChatMemory.withMaxTokens(100_000, TOKENIZER);
+
+        int threads = 8;
+        int messagesPerThread = 50;
+        List<ChatMessage> addedMessages = new ArrayList<>();
+        for (int i = 0; i < threads * messagesPerThread; i++) {
+            addedMessages.add(userMessage("message " + i));
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                List<ChatMessage> messages = addedMessages.subList(i * messagesPerThread, (i + 1) * messagesPerThread);
+                futures.add(executor.submit(() -> messages.forEach(chatMemory::add)));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        assertThat(chatMemory.messages()).containsExactlyInAnyOrderElementsOf(addedMessages);
+    }
+
+    private static class CountingTokenizer implements Tokenizer {
+
+        private final Tokenizer delegate;
+        private final List<ChatMessage> estimatedMessages = synchronizedList(new ArrayList<>());
+
+        CountingTokenizer(Tokenizer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return delegate.estimateTokenCountInText(text);
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            estimatedMessages.add(message);
+            return delegate.estimateTokenCountInMessage(message);
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            return delegate.estimateTokenCountInMessages(messages);
+        }
+
+        @Override
+        public int estimateTokenCountInToolSpecifications(Iterable<ToolSpecification> toolSpecifications) {
+            return delegate.estimateTokenCountInToolSpecifications(toolSpecifications);
+        }
+
+        @Override
+        public int estimateTokenCountInToolExecutionRequests(Iterable<ToolExecutionRequest> toolExecutionRequests) {
+            return delegate.estimateTokenCountInToolExecutionRequests(toolExecutionRequests);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiServicesAsyncTest {
+
+    static class BlockingChatModel implements ChatLanguageModel {
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        volatile String threadName;
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            threadName = Thread.currentThread().getName();
+            try {
+                latch.await(10, SECONDS);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return Response.from(AiMessage.from("Berlin"), new TokenUsage(1, 2));
+        }
+    }
+
+    static class ChatModelRecordingThread implements ChatLanguageModel {
+
+        volatile Thread thread;
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            thread = Thread.currentThread();
+            return Response.from(AiMessage.from("Hello"));
+        }
+    }
+
+    interface Assistant {
+
+        CompletableFuture<String> chat(String userMessage);
+
+        CompletableFuture<Result<String>> chatWithResult(String userMessage);
+    }
+
+    @Test
+    void should_return_future_without_blocking_and_complete_it_on_executor() throws Exception {
+
+        BlockingChatModel chatModel = new BlockingChatModel();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ai-service"));
+        try {
+            Assistant assistant = AiServices.builder(Assistant.class)
+                    .chatLanguageModel(chatModel)
+                    .asyncExecutor(executor)
+                    .build();
+
+            CompletableFuture<String> future = assistant.chat("What is the capital of Germany?");
+            assertThat(future).isNotDone();
+
+            chatModel.latch.countDown();
+
+            assertThat(future.get(10, SECONDS)).isEqualTo("Berlin");
+            assertThat(chatModel.threadName).isEqualTo("ai-service");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_complete_future_with_result() throws Exception {
+
+        BlockingChatModel chatModel = new BlockingChatModel();
+        chatModel.latch.countDown();
+
+        Assistant assistant = AiServices.create(Assistant.class, chatModel);
+
+        Result<String> result = assistant.chatWithResult("What is the capital of Germany?").get(10, SECONDS);
+
+        assertThat(result.content()).isEqualTo("Berlin");
+        assertThat(result.tokenUsage()).isEqualTo(new TokenUsage(1, 2));
+    }
+
+    @Test
+    void should_invoke_on_shared_daemon_threads_by_default() throws Exception {
+
+        ChatModelRecordingThread chatModel = new ChatModelRecordingThread();
+
+        AiServices.create(Assistant.class, chatModel).chat("Hi").get(10, SECONDS);
+        Thread firstThread = chatModel.thread;
+        AiServices.create(Assistant.class, chatModel).chat("Hi").get(10, SECONDS);
+        Thread secondThread = chatModel.thread;
+
+        assertThat(firstThread.isDaemon()).isTrue();
+        assertThat(secondThread.isDaemon()).isTrue();
+    }
+
+    @Test
+    void should_complete_future_exceptionally_when_invocation_fails() {
+
+        ChatLanguageModel chatModel = messages -> {
+            throw new IllegalStateException("model is unavailable");
+        };
+
+        Assistant assistant = AiServices.create(Assistant.class, chatModel);
+
+        assertThatThrownBy(() -> assistant.chat("Hi").get(10, SECONDS))
+                .isExactlyInstanceOf(ExecutionException.class)
+                .hasRootCauseExactlyInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("model is unavailable");
+    }
+}
@@ -0,0 +1,154 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.exception.IllegalConfigurationException;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiServicesWithConcurrentToolsTest {
+
+    static class SlowTools {
+
+        @Tool
+        String first() throws InterruptedException {
+            Thread.sleep(500);
+            return "first result";
+        }
+
+        @Tool
+        String second() throws InterruptedException {
+            Thread.sleep(300);
+            return "second result";
+        }
+
+        @Tool
+        String third() {
+            return "third result";
+        }
+    }
+
+    static class ToolCallingChatModel implements ChatLanguageModel {
+
+        final List<List<ChatMessage>> requests = new ArrayList<>();
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            return generate(messages, (List<ToolSpecification>) null);
+        }
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+            requests.add(new ArrayList<>(messages));
+            if (requests.size() == 1) {
+                return Response.from(AiMessage.from(
+                        ToolExecutionRequest.builder().id("1").name("first").arguments("{}").build(),
+                        ToolExecutionRequest.builder().id("2").name("second").arguments("{}").build(),
+                        ToolExecutionRequest.builder().id("3").name("third").arguments("{}").build()
+                ));
+            }
+            return Response.from(AiMessage.from("done"));
+        }
+    }
+
+    interface Assistant {
+
+        String chat(String userMessage);
+    }
+
+    @Test
+    void should_execute_tools_concurrently_and_keep_results_in_request_order() {
+
+        ToolCallingChatModel chatModel = new ToolCallingChatModel();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Assistant assistant = AiServices.builder(Assistant.class)
+                    .chatLanguageModel(chatModel)
+                    .chatMemory(MessageWindowChatMemory.withMaxMessages(10))
+                    .tools(new SlowTools())
+                    .executeToolsConcurrently(executor)
+                    .build();
+
+            long start = System.currentTimeMillis();
+            String answer = assistant.chat("call all tools");
+            long duration = System.currentTimeMillis() - start;
+
+            assertThat(answer).isEqualTo("done");
+            assertThat(duration).isLessThan(800);
+            assertThat(toolResults(chatModel.requests.get(1)))
+                    .containsExactly("first result", "second result", "third result");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_return_timeout_message_when_tool_execution_times_out() {
+
+        ToolCallingChatModel chatModel = new ToolCallingChatModel();
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .chatLanguageModel(chatModel)
+                .tools(new SlowTools())
+                .executeToolsConcurrently()
+                .toolExecutionTimeout(Duration.ofSeconds(10))
+                .toolExecutionTimeout("first", Duration.ofMillis(100))
+                .build();
+
+        assistant.chat("call all tools");
+
+        assertThat(toolResults(chatModel.requests.get(1))).containsExactly(
+                "Tool execution timed out after 100 ms",
+                "second result",
+                "third result"
+        );
+    }
+
+    @Test
+    void should_fail_when_tool_execution_timeout_is_configured_without_concurrent_execution() {
+
+        assertThatThrownBy(() -> AiServices.builder(Assistant.class)
+                .chatLanguageModel(new ToolCallingChatModel())
+                .tools(new SlowTools())
+                .toolExecutionTimeout(Duration.ofSeconds(1))
+                .build())
+                .isExactlyInstanceOf(IllegalConfigurationException.class);
+    }
+
+    @Test
+    void should_share_default_executor_between_ai_services() throws Exception {
+
+        Executor executor = ToolExecutions.defaultExecutor();
+        assertThat(ToolExecutions.defaultExecutor()).isSameAs(executor);
+
+        CompletableFuture<Boolean> daemon = new CompletableFuture<>();
+        executor.execute(() -> daemon.complete(Thread.currentThread().isDaemon()));
+        assertThat(daemon.get(10, SECONDS)).isTrue();
+    }
+
+    private static List<String> toolResults(List<ChatMessage> messages) {
+        return messages.stream()
+                .filter(message -> message instanceof ToolExecutionResultMessage)
+                .map(message -> ((ToolExecutionResultMessage) message).text())
+                .collect(toList());
+    }
+}
@@ -0,0 +1,328 @@
+package dev.langchain4j.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.memory.ChatMemory;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.StreamingResponsePublisher;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.moderation.Moderation;
+import dev.langchain4j.model.moderation.ModerationModel;
+import dev.langchain4j.model.output.Response;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StreamingAiServicesWithPublisherTest {
+
+    static class StreamingChatModel implements StreamingChatLanguageModel {
+
+        final List<String> tokens;
+        final AtomicInteger streamedTokens = new AtomicInteger();
+        final CountDownLatch finished = new CountDownLatch(1);
+        volatile boolean cancelled;
+
+        StreamingChatModel(String... tokens) {
+            this.tokens = asList(tokens);
+        }
+
+        @Override
+        public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+            new Thread(() -> {
+                StringBuilder text = new StringBuilder();
+                for (String token : tokens) {
+                    if (handler.isCancelled()) {
+                        cancelled = true;
+                        finished.countDown();
+                        return;
+                    }
+                    streamedTokens.incrementAndGet();
+                    text.append(token);
+                    handler.onNext(token);
+                }
+                handler.onComplete(Response.from(AiMessage.from(text.toString())));
+                finished.countDown();
+            }).start();
+        }
+    }
+
+    static class TestSubscriber implements Subscriber<String> {
+
+        final List<String> tokens = new ArrayList<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch failed = new CountDownLatch(1);
+        volatile Subscription subscription;
+        volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public synchronized void onNext(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            failed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        synchronized List<String> tokens() {
+            return new ArrayList<>(tokens);
+        }
+    }
+
+    interface Assistant {
+
+        Publisher<String> chat(String userMessage);
+    }
+
+    interface ModeratedAssistant {
+
+        @Moderate
+        Publisher<String> chat(String userMessage);
+    }
+
+    @Test
+    void should_deliver_tokens_only_on_demand_and_store_final_message_in_memory() throws Exception {
+
+        StreamingChatModel model = new StreamingChatModel("Ber", "l", "in");
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .streamingChatLanguageModel(model)
+                .chatMemory(chatMemory)
+                .build();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        assistant.chat("What is the capital of Germany?").subscribe(subscriber);
+        assertThat(model.streamedTokens).hasValue(0);
+
+        subscriber.subscription.request(1);
+        Thread.sleep(100);
+        assertThat(subscriber.tokens()).containsExactly("Ber");
+        assertThat(subscriber.completed.getCount()).isEqualTo(1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.completed.await(10, SECONDS)).isTrue();
+
+        assertThat(subscriber.tokens()).containsExactly("Ber", "l", "in");
+        assertThat(chatMemory.messages()).containsExactly(
+                userMessage("What is the capital of Germany?"),
+                AiMessage.from("Berlin")
+        );
+    }
+
+    @Test
+    void should_block_model_when_buffer_is_full() throws Exception {
+
+        StreamingChatModel model = new StreamingChatModel("1", "2", "3", "4", "5", "6", "7", "8");
+        StreamingResponsePublisher<AiMessage> publisher = new StreamingResponsePublisher<>(
+                handler -> model.generate(singletonList(userMessage("Count to 8")), handler), null, 2);
+
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        // one token is delivered, two are buffered, and the model is blocked until more tokens are requested
+        Thread.sleep(200);
+        assertThat(subscriber.tokens()).containsExactly("1");
+        assertThat(model.streamedTokens).hasValue(3);
+        assertThat(model.finished.getCount()).isEqualTo(1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.completed.await(10, SECONDS)).isTrue();
+        assertThat(subscriber.tokens()).containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+        assertThat(model.cancelled).isFalse();
+    }
+
+    @Test
+    void should_deliver_all_tokens_when_subscriber_requests_one_token_at_a_time() throws Exception {
+
+        StreamingChatModel model = new StreamingChatModel("1", "2", "3", "4", "5", "6", "7", "8");
+        StreamingResponsePublisher<AiMessage> publisher = new StreamingResponsePublisher<>(
+                handler -> model.generate(singletonList(userMessage("Count to 8")), handler), null, 1);
+
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        for (int i = 1; i <= 8; i++) {
+            subscriber.subscription.request(1);
+            while (subscriber.tokens().size() < i) {
+                Thread.sleep(1);
+            }
+        }
+        subscriber.subscription.request(1);
+
+        assertThat(subscriber.completed.await(10, SECONDS)).isTrue();
+        assertThat(subscriber.tokens()).containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+        assertThat(subscriber.failed.getCount()).isEqualTo(1);
+        assertThat(model.cancelled).isFalse();
+    }
+
+    @Test
+    void should_not_block_model_streaming_in_requesting_thread() {
+
+        List<String> tokens = asList("1", "2", "3", "4");
+        StreamingResponsePublisher<AiMessage> publisher = new StreamingResponsePublisher<>(handler -> {
+            tokens.forEach(handler::onNext);
+            handler.onComplete(Response.from(AiMessage.from("1234")));
+        });
+
+        TestSubscriber subscriber = new TestSubscriber();
+        publisher.subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.tokens()).containsExactly("1");
+        assertThat(subscriber.completed.getCount()).isEqualTo(1);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(subscriber.tokens()).containsExactly("1", "2", "3", "4");
+        assertThat(subscriber.completed.getCount()).isZero();
+    }
+
+    @Test
+    void should_reject_null_subscriber() {
+
+        StreamingResponsePublisher<AiMessage> publisher = new StreamingResponsePublisher<>(handler -> {
+        });
+
+        assertThatThrownBy(() -> publisher.subscribe(null))
+                .isExactlyInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_not_deliver_tokens_when_input_is_flagged_by_moderation() throws Exception {
+
+        StreamingChatModel model = new StreamingChatModel("Ber", "l", "in");
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+        ModerationModel moderationModel = new ModerationModel() {
+
+            @Override
+            public Response<Moderation> moderate(String text) {
+                return Response.from(Moderation.flagged(text));
+            }
+
+            @Override
+            public Response<Moderation> moderate(List<ChatMessage> messages) {
+                return moderate(messages.get(messages.size() - 1).text());
+            }
+        };
+
+        ModeratedAssistant assistant = AiServices.builder(ModeratedAssistant.class)
+                .streamingChatLanguageModel(model)
+                .chatMemory(chatMemory)
+                .moderationModel(moderationModel)
+                .build();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        assistant.chat("What is the capital of Germany?").subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.failed.await(10, SECONDS)).isTrue();
+        assertThat(subscriber.error).isExactlyInstanceOf(ModerationException.class);
+        assertThat(subscriber.tokens()).isEmpty();
+
+        assertThat(model.finished.await(10, SECONDS)).isTrue();
+        assertThat(chatMemory.messages()).containsExactly(userMessage("What is the capital of Germany?"));
+    }
+
+    @Test
+    void should_deliver_tokens_once_moderation_passes() throws Exception {
+
+        StreamingChatModel model = new StreamingChatModel("Ber", "l", "in");
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+        CountDownLatch moderated = new CountDownLatch(1);
+        ModerationModel moderationModel = new ModerationModel() {
+
+            @Override
+            public Response<Moderation> moderate(String text) {
+                try {
+                    // the model streams the whole response before the moderation completes
+                    assertThat(model.finished.await(10, SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                moderated.countDown();
+                return Response.from(Moderation.notFlagged());
+            }
+
+            @Override
+            public Response<Moderation> moderate(List<ChatMessage> messages) {
+                return moderate(messages.get(messages.size() - 1).text());
+            }
+        };
+
+        ModeratedAssistant assistant = AiServices.builder(ModeratedAssistant.class)
+                .streamingChatLanguageModel(model)
+                .chatMemory(chatMemory)
+                .moderationModel(moderationModel)
+                .build();
+
+        TestSubscriber subscriber = new TestSubscriber();
+        assistant.chat("What is the capital of Germany?").subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.completed.await(10, SECONDS)).isTrue();
+        assertThat(moderated.getCount()).isZero();
+        assertThat(subscriber.tokens()).containsExactly("Ber", "l", "in");
+        assertThat(chatMemory.messages()).containsExactly(
+                userMessage("What is the capital of Germany?"),
+                AiMessage.from("Berlin")
+        );
+    }
+
+    @Test
+    void should_propagate_cancellation_to_model() throws Exception {
+
+        StreamingChatModel model = new StreamingChatModel("1", "2", "3", "4", "5", "6", "7", "8");
+        ChatMemory chatMemory = MessageWindowChatMemory.withMaxMessages(10);
+
+        Assistant assistant = AiServices.builder(Assistant.class)
+                .streamingChatLanguageModel(model)
+                .chatMemory(chatMemory)
+                .build();
+
+        TestSubscriber subscriber = new TestSubscriber() {
+
+            @Override
+            public synchronized void onNext(String token) {
+                super.onNext(token);
+                if (tokens.size() == 2) {
+                    subscription.cancel();
+                }
+            }
+        };
+        assistant.chat("Count to 8").subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertThat(model.finished.await(10, SECONDS)).isTrue();
+        assertThat(model.cancelled).isTrue();
+        assertThat(subscriber.tokens()).containsExactly("1", "2");
+        assertThat(subscriber.completed.getCount()).isEqualTo(1);
+        assertThat(chatMemory.messages()).containsExactly(userMessage("Count to 8"));
+    }
+}
@@ -0,0 +1,118 @@
+package dev.langchain4j.store.embedding.inmemory;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares recall of the {@link InMemoryEmbeddingStore} with an HNSW index
+ * against the exact (brute force) search on synthetic embeddings.
+ */
+class InMemoryEmbeddingStoreHnswRecallTest {
+
+    private static final int DIMENSION = 64;
+    private static final int STORE_SIZE = 3_000;
+    private static final int QUERIES = 100;
+    private static final int MAX_RESULTS = 10;
+
+    private static final double MIN_RECALL = 0.9;
+
+    private final Random random = new Random(42);
+
+    private InMemoryEmbeddingStore<TextSegment> exactStore;
+    private InMemoryEmbeddingStore<TextSegment> hnswStore;
+
+    @BeforeEach
+    void beforeEach() {
+        exactStore = new InMemoryEmbeddingStore<>();
+        hnswStore = InMemoryEmbeddingStore.builder()
+                .hnswIndex(HnswIndexConfig.builder()
+                        .m(16)
+                        .efConstruction(200)
+                        .efSearch(100)
+                        .build())
+                .build();
+
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < STORE_SIZE; i++) {
+            embeddings.add(randomEmbedding());
+            segments.add(TextSegment.from("segment " + i, new Metadata().put("group", i % 4)));
+        }
+
+        exactStore.addAll(embeddings, segments);
+        hnswStore.addAll(embeddings, segments);
+    }
+
+    @Test
+    void should_find_approximately_the_same_matches_as_exact_search() {
+
+        assertRecall(null);
+    }
+
+    @Test
+    void should_find_approximately_the_same_matches_as_exact_search_with_filter() {
+
+        assertRecall(metadataKey("group").isEqualTo(1));
+    }
+
+    @Test
+    void should_find_approximately_the_same_matches_as_exact_search_after_removal() {
+
+        Filter removed = metadataKey("group").isIn(0, 1);
+        exactStore.removeAll(removed);
+        hnswStore.removeAll(removed);
+
+        assertRecall(null);
+    }
+
+    private void assertRecall(Filter filter) {
+
+        int found = 0;
+
+        for (int i = 0; i < QUERIES; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding())
+                    .maxResults(MAX_RESULTS)
+                    .filter(filter)
+                    .build();
+
+            List<EmbeddingMatch<TextSegment>> exactMatches = exactStore.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> hnswMatches = hnswStore.search(request).matches();
+
+            if (filter != null) {
+                hnswMatches.forEach(match -> assertThat(filter.test(match.embedded().metadata())).isTrue());
+            }
+
+            Set<TextSegment> expected = exactMatches.stream().map(EmbeddingMatch::embedded).collect(toSet());
+            found += (int) hnswMatches.stream().map(EmbeddingMatch::embedded).filter(expected::contains).count();
+        }
+
+        double recall = (double) found / (QUERIES * MAX_RESULTS);
+        assertThat(recall)
+                .as("recall@%s", MAX_RESULTS)
+                .isGreaterThanOrEqualTo(MIN_RECALL);
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -6,18 +6,28 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.EmbeddingStoreWithFilteringIT;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.within;
+import static java.util.stream.Collectors.toList;
 
 class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
 
@@ -132,6 +142,214 @@ class InMemoryEmbeddingStoreTest extends EmbeddingStoreWithFilteringIT {
         assertThat(matches.get(1).embedded()).isEqualTo(segment2);
     }
 
+    @Test
+    void should_serialize_matrix_store_to_json() {
+
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = createEmbeddingStore();
+        InMemoryEmbeddingStore<TextSegment> matrixEmbeddingStore = InMemoryEmbeddingStore.builder()
+                .vectorStorage(VectorStorage.OFF_HEAP_MATRIX)
+                .build();
+        originalEmbeddingStore.entries.forEach(entry ->
+                matrixEmbeddingStore.add(entry.id, entry.embedding, entry.embedded));
+
+        String json = matrixEmbeddingStore.serializeToJson();
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromJson(json);
+
+        assertThat(deserializedEmbeddingStore.entries).isEqualTo(originalEmbeddingStore.entries);
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorStorage.class)
+    void should_serialize_to_and_deserialize_from_binary_file(VectorStorage vectorStorage) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = InMemoryEmbeddingStore.builder()
+                .vectorStorage(vectorStorage)
+                .build();
+        Random random = new Random(42);
+        for (int i = 0; i < VectorMatrix.ROWS_PER_BLOCK + 1; i++) {
+            Metadata metadata = new Metadata()
+                    .put("string", "value " + i)
+                    .put("uuid", new UUID(i, i))
+                    .put("integer", i)
+                    .put("long", (long) i)
+                    .put("float", (float) i)
+                    .put("double", (double) i);
+            originalEmbeddingStore.add(String.valueOf(i), randomEmbedding(random),
+                    i % 10 == 0 ? null : TextSegment.from("segment " + i, metadata));
+        }
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+
+        // when
+        originalEmbeddingStore.serializeToBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> deserializedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath);
+        InMemoryEmbeddingStore<TextSegment> mappedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath, true);
+
+        // then
+        assertThat(deserializedEmbeddingStore.entries).isEqualTo(originalEmbeddingStore.allEntries());
+        assertThat(mappedEmbeddingStore.allEntries()).isEqualTo(originalEmbeddingStore.allEntries());
+    }
+
+    @Test
+    void should_modify_store_loaded_from_mapped_binary_file() {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> originalEmbeddingStore = new InMemoryEmbeddingStore<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 2 * VectorMatrix.ROWS_PER_BLOCK + 1; i++) {
+            originalEmbeddingStore.add(String.valueOf(i), randomEmbedding(random), TextSegment.from("segment " + i));
+        }
+        Path filePath = temporaryDirectory.resolve("embedding-store.bin");
+        originalEmbeddingStore.serializeToBinaryFile(filePath.toString());
+        InMemoryEmbeddingStore<TextSegment> mappedEmbeddingStore = InMemoryEmbeddingStore.fromBinaryFile(filePath, true);
+
+        // when
+        List<String> idsToRemove = asList("0", "1500", "2048");
+        originalEmbeddingStore.removeAll(idsToRemove);
+        mappedEmbeddingStore.removeAll(idsToRemove);
+        Embedding embedding = randomEmbedding(random);
+        TextSegment segment = TextSegment.from("new segment");
+        originalEmbeddingStore.add("new", embedding, segment);
+        mappedEmbeddingStore.add("new", embedding, segment);
+
+        // then
+        for (int i = 0; i < 10; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(20)
+                    .build();
+
+            assertThat(mappedEmbeddingStore.search(request).matches())
+                    .isEqualTo(originalEmbeddingStore.search(request).matches());
+        }
+    }
+
+    @Test
+    void should_fail_to_deserialize_from_non_binary_file() {
+
+        InMemoryEmbeddingStore<TextSegment> embeddingStore = createEmbeddingStore();
+        Path filePath = temporaryDirectory.resolve("embedding-store.json");
+        embeddingStore.serializeToFile(filePath);
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.fromBinaryFile(filePath))
+                .withMessageContaining("is not an InMemoryEmbeddingStore binary snapshot");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = VectorStorage.class, names = {"HEAP_MATRIX", "OFF_HEAP_MATRIX"})
+    void should_find_same_matches_with_matrix_storage(VectorStorage vectorStorage) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> objectsStore = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> matrixStore = InMemoryEmbeddingStore.builder()
+                .vectorStorage(vectorStorage)
+                .build();
+
+        Random random = new Random(42);
+        List<String> idsToRemove = new ArrayList<>();
+        for (int i = 0; i < 2 * VectorMatrix.ROWS_PER_BLOCK + 1; i++) {
+            String id = String.valueOf(i);
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("segment " + i, new Metadata().put("even", i % 2 == 0 ? "yes" : "no"));
+            objectsStore.add(id, embedding, segment);
+            matrixStore.add(id, embedding, segment);
+            if (i % 3 == 0) {
+                idsToRemove.add(id);
+            }
+        }
+
+        // when
+        objectsStore.removeAll(idsToRemove);
+        matrixStore.removeAll(idsToRemove);
+
+        // then
+        for (int i = 0; i < 10; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .filter(metadataKey("even").isEqualTo("yes"))
+                    .maxResults(20)
+                    .build();
+
+            assertThat(matrixStore.search(request).matches())
+                    .isEqualTo(objectsStore.search(request).matches());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(VectorStorage.class)
+    void should_find_same_matches_with_normalized_embeddings(VectorStorage vectorStorage) {
+
+        // given
+        InMemoryEmbeddingStore<TextSegment> store = new InMemoryEmbeddingStore<>();
+        InMemoryEmbeddingStore<TextSegment> normalizedStore = InMemoryEmbeddingStore.builder()
+                .vectorStorage(vectorStorage)
+                .normalizeEmbeddings(true)
+                .build();
+
+        Random random = new Random(42);
+        for (int i = 0; i < 500; i++) {
+            String id = String.valueOf(i);
+            Embedding embedding = randomEmbedding(random);
+            TextSegment segment = TextSegment.from("segment " + i);
+            store.add(id, embedding, segment);
+            normalizedStore.add(id, embedding, segment);
+        }
+
+        for (int i = 0; i < 10; i++) {
+            EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                    .queryEmbedding(randomEmbedding(random))
+                    .maxResults(20)
+                    .build();
+
+            // when
+            List<EmbeddingMatch<TextSegment>> matches = store.search(request).matches();
+            List<EmbeddingMatch<TextSegment>> normalizedMatches = normalizedStore.search(request).matches();
+
+            // then
+            assertThat(normalizedMatches).extracting(EmbeddingMatch::embeddingId)
+                    .containsExactlyElementsOf(matches.stream().map(EmbeddingMatch::embeddingId).collect(toList()));
+            for (int j = 0; j < matches.size(); j++) {
+                assertThat(normalizedMatches.get(j).score()).isCloseTo(matches.get(j).score(), within(1e-6));
+            }
+        }
+    }
+
+    @Test
+    void should_not_modify_added_embeddings_when_normalizing() {
+
+        InMemoryEmbeddingStore<TextSegment> store = InMemoryEmbeddingStore.builder()
+                .normalizeEmbeddings(true)
+                .build();
+        Embedding embedding = Embedding.from(new float[]{3, 4});
+
+        store.add(embedding);
+
+        assertThat(embedding.vector()).containsExactly(3, 4);
+        assertThat(store.search(EmbeddingSearchRequest.builder().queryEmbedding(embedding).build()).matches())
+                .extracting(EmbeddingMatch::embedding)
+                .containsExactly(Embedding.from(new float[]{0.6f, 0.8f}));
+    }
+
+    @Test
+    void should_fail_when_hnsw_index_is_combined_with_matrix_storage() {
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> InMemoryEmbeddingStore.builder()
+                        .hnswIndex(HnswIndexConfig.builder().build())
+                        .vectorStorage(VectorStorage.HEAP_MATRIX)
+                        .build())
+                .withMessage("HNSW index is supported only with OBJECTS vector storage");
+    }
+
+    private static Embedding randomEmbedding(Random random) {
+        float[] vector = new float[32];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+
     private InMemoryEmbeddingStore<TextSegment> createEmbeddingStore() {
 
         InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();